@@ -0,0 +1,201 @@
+package dev.berlinbruno.PodPirateBackendApplication.benchmark;
+
+import dev.berlinbruno.PodPirateBackendApplication.model.AppUser;
+import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
+import dev.berlinbruno.PodPirateBackendApplication.repository.AppUserRepository;
+import dev.berlinbruno.PodPirateBackendApplication.repository.PodcastRepository;
+import dev.berlinbruno.PodPirateBackendApplication.search.MongoPodcastSearchStrategy;
+import dev.berlinbruno.PodPirateBackendApplication.service.LookupService.CreatorTotals;
+import dev.berlinbruno.PodPirateBackendApplication.service.impl.LookupServiceImpl;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Admin user listing and detail against 100k seeded users, comparing one count query per row (the previous
+ * mapper) with a single {@code $group} over the page's podcasts, and loading every podcast of a creator with
+ * a projected, limited summary query. MongoTemplate and the repositories answer from the seeded data and
+ * pause {@code roundTripMicros} per call, so the result is dominated by round trips once the latency is
+ * realistic; with zero latency it shows the remaining CPU and allocation cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AdminUserListingBenchmark {
+
+    private static final int USERS = 100_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int RECENT_PODCAST_LIMIT = 5;
+
+    /** Simulated latency of each Mongo round trip. */
+    @Param({"0", "300"})
+    private int roundTripMicros;
+
+    /** Podcasts owned by the creator whose detail is requested. */
+    @Param({"5", "200"})
+    private int creatorPodcasts;
+
+    private final Map<String, long[]> totalsByUser = new HashMap<>();
+    private List<AppUser> users;
+    private List<Podcast> creatorPodcastList;
+    private String creatorId;
+    private PodcastRepository podcastRepository;
+    private LookupServiceImpl lookupService;
+    private int page;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            AppUser user = BenchmarkData.user(i);
+            users.add(user);
+            int podcasts = random.nextInt(4);
+            totalsByUser.put(user.getId(), new long[]{podcasts, podcasts * (long) random.nextInt(50)});
+        }
+
+        creatorId = users.get(0).getId();
+        creatorPodcastList = new ArrayList<>(creatorPodcasts);
+        for (int i = 0; i < creatorPodcasts; i++) {
+            Podcast podcast = BenchmarkData.podcast(random, i, creatorId);
+            podcast.setTotalEpisodeCount(random.nextInt(100));
+            creatorPodcastList.add(podcast);
+        }
+        totalsByUser.put(creatorId, new long[]{creatorPodcasts,
+                creatorPodcastList.stream().mapToLong(Podcast::getTotalEpisodeCount).sum()});
+
+        AppUserRepository appUserRepository = BenchmarkData.stub(AppUserRepository.class);
+        when(appUserRepository.findById(anyString())).thenAnswer(invocation -> {
+            roundTrip();
+            return Optional.of(users.get(0));
+        });
+
+        podcastRepository = BenchmarkData.stub(PodcastRepository.class);
+        when(podcastRepository.countByUserId(anyString())).thenAnswer(invocation -> {
+            roundTrip();
+            return totalsByUser.get((String) invocation.getArgument(0))[0];
+        });
+        when(podcastRepository.findAllByUserId(anyString())).thenAnswer(invocation -> {
+            roundTrip();
+            return creatorPodcastList;
+        });
+
+        MongoTemplate mongoTemplate = BenchmarkData.stub(MongoTemplate.class);
+        when(mongoTemplate.find(any(Query.class), eq(AppUser.class))).thenAnswer(invocation -> {
+            Query query = invocation.getArgument(0);
+            roundTrip();
+            int from = (int) query.getSkip();
+            return users.subList(from, Math.min(from + query.getLimit(), USERS));
+        });
+        when(mongoTemplate.count(any(Query.class), eq(AppUser.class))).thenAnswer(invocation -> {
+            roundTrip();
+            return (long) USERS;
+        });
+        when(mongoTemplate.estimatedCount(AppUser.class)).thenReturn((long) USERS);
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(Podcast.class), eq(Document.class)))
+                .thenAnswer(invocation -> group(invocation.getArgument(0)));
+        when(mongoTemplate.find(any(Query.class), eq(Podcast.class))).thenAnswer(invocation -> {
+            roundTrip();
+            return creatorPodcastList.stream().limit(RECENT_PODCAST_LIMIT).map(AdminUserListingBenchmark::summary).toList();
+        });
+
+        MongoPodcastSearchStrategy searchStrategy = new MongoPodcastSearchStrategy(mongoTemplate);
+        lookupService = new LookupServiceImpl(appUserRepository, podcastRepository, mongoTemplate,
+                searchStrategy, searchStrategy);
+    }
+
+    @Benchmark
+    public Map<String, Long> listingPerRowCounts() {
+        Page<AppUser> appUsers = nextPage();
+        Map<String, Long> counts = new HashMap<>();
+        for (AppUser appUser : appUsers) {
+            counts.put(appUser.getId(), podcastRepository.countByUserId(appUser.getId()));
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public Map<String, CreatorTotals> listingPageAggregation() {
+        Page<AppUser> appUsers = nextPage();
+        return lookupService.getCreatorTotals(appUsers.getContent().stream().map(AppUser::getId).toList());
+    }
+
+    @Benchmark
+    public long detailLoadAllPodcasts() {
+        AppUser appUser = lookupService.getById(creatorId);
+        List<Podcast> podcasts = podcastRepository.findAllByUserId(appUser.getId());
+        long episodes = podcasts.stream().mapToLong(Podcast::getTotalEpisodeCount).sum();
+        long podcastCount = podcastRepository.countByUserId(appUser.getId());
+        return episodes + podcastCount + podcasts.stream().limit(RECENT_PODCAST_LIMIT).count();
+    }
+
+    @Benchmark
+    public long detailProjected() {
+        AppUser appUser = lookupService.getById(creatorId);
+        CreatorTotals totals = lookupService.getCreatorTotals(List.of(appUser.getId()))
+                .getOrDefault(appUser.getId(), CreatorTotals.NONE);
+        List<Podcast> recent = lookupService.getRecentPodcastSummaries(appUser.getId(), RECENT_PODCAST_LIMIT);
+        return totals.episodeCount() + totals.podcastCount() + recent.size();
+    }
+
+    private Page<AppUser> nextPage() {
+        page = (page + 1) % (USERS / PAGE_SIZE);
+        return lookupService.searchUsers(null, null, null, null, null, null, page, PAGE_SIZE);
+    }
+
+    /**
+     * Renders the pipeline as the driver would and answers the {@code $group} from the seeded totals.
+     */
+    private AggregationResults<Document> group(Aggregation aggregation) {
+        List<Document> pipeline = aggregation.toPipeline(Aggregation.DEFAULT_CONTEXT);
+        Document match = pipeline.get(0).get("$match", Document.class);
+        Collection<?> userIds = (Collection<?>) match.get("userId", Document.class).get("$in");
+        roundTrip();
+
+        List<Document> results = new ArrayList<>(userIds.size());
+        for (Object userId : userIds) {
+            long[] totals = totalsByUser.get((String) userId);
+            if (totals != null && totals[0] > 0) {
+                results.add(new Document("_id", userId)
+                        .append("podcastCount", (int) totals[0])
+                        .append("episodeCount", totals[1]));
+            }
+        }
+        return new AggregationResults<>(results, new Document());
+    }
+
+    private static Podcast summary(Podcast podcast) {
+        return Podcast.builder()
+                .id(podcast.getId())
+                .title(podcast.getTitle())
+                .totalEpisodeCount(podcast.getTotalEpisodeCount())
+                .createdAt(podcast.getCreatedAt())
+                .build();
+    }
+
+    private void roundTrip() {
+        if (roundTripMicros > 0) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package dev.berlinbruno.PodPirateBackendApplication.benchmark;
+
+import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.BlobServiceClient;
+import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.blob.batch.BlobBatchClientBuilder;
+import com.azure.storage.blob.sas.BlobSasPermission;
+import com.azure.storage.blob.sas.BlobServiceSasSignatureValues;
+import com.azure.storage.common.StorageSharedKeyCredential;
+import dev.berlinbruno.PodPirateBackendApplication.cache.SignedUrlCache;
+import dev.berlinbruno.PodPirateBackendApplication.properties.AzureBlobClientProperties;
+import dev.berlinbruno.PodPirateBackendApplication.properties.SignedUrlProperties;
+import dev.berlinbruno.PodPirateBackendApplication.service.impl.AzureBlobServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares download URL signing with a client built per call, with the shared client and a cached blob
+ * handle signing on every call, and with the service's bucketed URL cache (which signs with the account
+ * key only on a miss). Signing is purely local, so no storage account is needed to run this.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AzureBlobClientBenchmark {
+
+    private static final String CONNECTION_STRING =
+            "DefaultEndpointsProtocol=https;AccountName=benchaccount;AccountKey=YmVuY2hrZXk=;EndpointSuffix=core.windows.net";
+    private static final String CONTAINER = "bench-container";
+    private static final BlobSasPermission READ_PERMISSION = BlobSasPermission.parse("r");
+
+    @Param({"1", "25"})
+    private int distinctBlobs;
+
+    private String[] blobPaths;
+    private int cursor;
+    private BlobContainerClient containerClient;
+    private AzureBlobServiceImpl pooledService;
+
+    @Setup
+    public void setUp() {
+        blobPaths = new String[distinctBlobs];
+        for (int i = 0; i < distinctBlobs; i++) {
+            blobPaths[i] = "media/podcasts/bench/cover/" + i + ".JPG";
+        }
+
+        BlobServiceClient serviceClient = new BlobServiceClientBuilder()
+                .connectionString(CONNECTION_STRING)
+                .buildClient();
+        containerClient = serviceClient.getBlobContainerClient(CONTAINER);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        pooledService = new AzureBlobServiceImpl(
+                containerClient,
+                new BlobBatchClientBuilder(serviceClient).buildClient(),
+                new AzureBlobClientProperties(64, 60, 30, 10_000),
+                meterRegistry,
+                StorageSharedKeyCredential.fromConnectionString(CONNECTION_STRING),
+                new SignedUrlCache(new SignedUrlProperties(1440, 100_000), meterRegistry, 30));
+    }
+
+    private String nextPath() {
+        String path = blobPaths[cursor];
+        cursor = (cursor + 1) % blobPaths.length;
+        return path;
+    }
+
+    @Benchmark
+    public String freshClientPerCall() {
+        BlobClient blobClient = new BlobServiceClientBuilder()
+                .connectionString(CONNECTION_STRING)
+                .buildClient()
+                .getBlobContainerClient(CONTAINER)
+                .getBlobClient(nextPath());
+        String sas = blobClient.generateSas(
+                new BlobServiceSasSignatureValues(OffsetDateTime.now().plusDays(1), READ_PERMISSION));
+        return blobClient.getBlobUrl() + "?" + sas;
+    }
+
+    @Benchmark
+    public String sharedClientSignPerCall() {
+        BlobClient blobClient = containerClient.getBlobClient(nextPath());
+        String sas = blobClient.generateSas(
+                new BlobServiceSasSignatureValues(OffsetDateTime.now().plusDays(1), READ_PERMISSION));
+        return blobClient.getBlobUrl() + "?" + sas;
+    }
+
+    @Benchmark
+    public String bucketedUrlCache() {
+        return pooledService.generateSignedUrlForDownload(nextPath());
+    }
+}
@@ -0,0 +1,118 @@
+package dev.berlinbruno.PodPirateBackendApplication.benchmark;
+
+import dev.berlinbruno.PodPirateBackendApplication.model.AppUser;
+import dev.berlinbruno.PodPirateBackendApplication.model.Episode;
+import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
+import dev.berlinbruno.PodPirateBackendApplication.service.CloudBlobService;
+import dev.berlinbruno.PodPirateBackendApplication.types.EpisodeStatus;
+import dev.berlinbruno.PodPirateBackendApplication.types.PodcastStatus;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Deterministic fixtures and stubbed collaborators shared by the service-level benchmarks.
+ */
+final class BenchmarkData {
+
+    private static final String[] WORDS = {
+            "technology", "history", "science", "comedy", "business", "interview", "weekly", "news",
+            "music", "sports", "culture", "startup", "design", "health", "politics", "travel"
+    };
+    private static final long EPOCH = 1_600_000_000_000L;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Stub-only mocks skip invocation recording, so they stay flat in memory across long runs.
+     */
+    static <T> T stub(Class<T> type) {
+        return Mockito.mock(type, Mockito.withSettings().stubOnly());
+    }
+
+    /**
+     * Blob service that returns a SAS-shaped URL without touching Azure, so mappers pay for string
+     * building but not for signing.
+     */
+    static CloudBlobService signingStub() {
+        CloudBlobService cloudBlobService = stub(CloudBlobService.class);
+        when(cloudBlobService.generateSignedUrlForDownload(anyString())).thenAnswer(invocation ->
+                "https://benchaccount.blob.core.windows.net/bench/" + invocation.getArgument(0)
+                        + "?sv=2023-11-03&se=2030-01-01T00%3A00%3A00Z&sr=b&sp=r&sig=c2lnbmF0dXJl");
+        return cloudBlobService;
+    }
+
+    static AppUser user(int i) {
+        AppUser user = new AppUser();
+        user.setId("user-" + i);
+        user.setUsername("creator" + i);
+        user.setEmail("creator" + i + "@example.com");
+        user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoO5Xb1ZxYZ3p0Q7c8s0J6Z4kC2lQz6zO.");
+        user.setRoles(Set.of("USER"));
+        user.setBio("Host of " + i + " weekly shows");
+        user.setProfileUrl("media/users/user-" + i + "/profile.JPG");
+        user.setCreatedAt(new Date(EPOCH));
+        user.setEmailVerified(true);
+        return user;
+    }
+
+    static Podcast podcast(Random random, int i, String userId) {
+        return Podcast.builder()
+                .id("podcast-" + i)
+                .userId(userId)
+                .title(sentence(random, 5))
+                .description(sentence(random, 30))
+                .category("technology")
+                .coverUrl("media/podcasts/podcast-" + i + "/cover/cover.JPG")
+                .bannerUrl("media/podcasts/podcast-" + i + "/banner/banner.JPG")
+                .podcastStatus(PodcastStatus.PUBLISHED)
+                .createdAt(new Date(EPOCH))
+                .lastModifiedAt(new Date(EPOCH))
+                .publishedAt(new Date(EPOCH + i * 1000L))
+                .build();
+    }
+
+    static List<Episode> episodes(Random random, String podcastId, int count) {
+        List<Episode> episodes = new ArrayList<>(count);
+        for (int e = 0; e < count; e++) {
+            Episode episode = new Episode();
+            episode.setId(podcastId + "-episode-" + e);
+            episode.setPodcastId(podcastId);
+            episode.setEpisodeNumber((long) e);
+            episode.setTitle(sentence(random, 4));
+            episode.setDescription(sentence(random, 20));
+            episode.setImageUrl("media/podcasts/" + podcastId + "/episodes/" + e + "/image.JPG");
+            episode.setAudioUrl("media/podcasts/" + podcastId + "/episodes/" + e + "/audio.MP3");
+            episode.setDurationSeconds(600L + random.nextInt(3000));
+            episode.setEpisodeStatus(EpisodeStatus.PUBLISHED);
+            episode.setCreatedAt(new Date(EPOCH + e * 60_000L));
+            episode.setUpdatedAt(new Date(EPOCH + e * 60_000L));
+            episode.setPublishedAt(new Date(EPOCH + e * 60_000L));
+            episodes.add(episode);
+        }
+        return episodes;
+    }
+
+    static void aggregate(Podcast podcast, List<Episode> episodes) {
+        podcast.setTotalEpisodeCount(episodes.size());
+        podcast.setPublishedEpisodeCount(episodes.size());
+        podcast.setLastEpisodePublishedAt(episodes.isEmpty() ? null : episodes.get(episodes.size() - 1).getPublishedAt());
+        podcast.setTotalDurationSeconds(episodes.stream().mapToLong(Episode::getDurationSeconds).sum());
+    }
+
+    static String sentence(Random random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int w = 0; w < words; w++) {
+            builder.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return builder.toString().trim();
+    }
+}
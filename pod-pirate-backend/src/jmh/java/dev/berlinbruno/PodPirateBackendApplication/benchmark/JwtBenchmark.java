@@ -0,0 +1,59 @@
+package dev.berlinbruno.PodPirateBackendApplication.benchmark;
+
+import dev.berlinbruno.PodPirateBackendApplication.model.AppUser;
+import dev.berlinbruno.PodPirateBackendApplication.model.JwtPrincipal;
+import dev.berlinbruno.PodPirateBackendApplication.properties.JwtProperties;
+import dev.berlinbruno.PodPirateBackendApplication.utils.JWTUtils;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification costs on the request path: every authenticated request parses
+ * one access token, every sign-in issues an access and a refresh token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JWTUtils jwtUtils;
+    private AppUser user;
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        String secret = Base64.getEncoder().encodeToString("pod-pirate-benchmark-secret-0123456789abcdef".getBytes());
+        jwtUtils = new JWTUtils(new JwtProperties(1, 2, 10, secret));
+        user = BenchmarkData.user(1);
+        accessToken = jwtUtils.generateToken(user);
+        refreshToken = jwtUtils.generateRefreshToken(user);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtils.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtUtils.generateRefreshToken(user);
+    }
+
+    @Benchmark
+    public JwtPrincipal parseAccessToken() {
+        Claims claims = jwtUtils.parseClaims(accessToken);
+        return jwtUtils.toPrincipal(claims);
+    }
+
+    @Benchmark
+    public boolean validateRefreshToken() {
+        return jwtUtils.isRefreshTokenValid(refreshToken, user);
+    }
+}
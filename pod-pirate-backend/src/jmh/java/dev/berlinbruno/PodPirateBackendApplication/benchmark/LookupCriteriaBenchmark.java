@@ -0,0 +1,96 @@
+package dev.berlinbruno.PodPirateBackendApplication.benchmark;
+
+import dev.berlinbruno.PodPirateBackendApplication.model.AppUser;
+import dev.berlinbruno.PodPirateBackendApplication.model.Episode;
+import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
+import dev.berlinbruno.PodPirateBackendApplication.repository.AppUserRepository;
+import dev.berlinbruno.PodPirateBackendApplication.repository.PodcastRepository;
+import dev.berlinbruno.PodPirateBackendApplication.search.MongoPodcastSearchStrategy;
+import dev.berlinbruno.PodPirateBackendApplication.search.PodcastSearchQuery;
+import dev.berlinbruno.PodPirateBackendApplication.service.LookupService;
+import dev.berlinbruno.PodPirateBackendApplication.service.impl.LookupServiceImpl;
+import dev.berlinbruno.PodPirateBackendApplication.types.AccountRoles;
+import dev.berlinbruno.PodPirateBackendApplication.types.EpisodeStatus;
+import dev.berlinbruno.PodPirateBackendApplication.types.PodcastStatus;
+import dev.berlinbruno.PodPirateBackendApplication.utils.CursorCodec;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Criteria and query document construction in LookupServiceImpl and the Mongo search strategy.
+ * MongoTemplate is stubbed to render the query document (as the driver would) and return nothing,
+ * so the result is the CPU and allocation cost spent before a request reaches Mongo. The distinct
+ * episode lookups return {@code matchingPodcasts} ids to show the cost of large {@code $in} lists.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LookupCriteriaBenchmark {
+
+    @Param({"10", "1000"})
+    private int matchingPodcasts;
+
+    private LookupServiceImpl lookupService;
+    private MongoPodcastSearchStrategy searchStrategy;
+    private PodcastSearchQuery publicSearch;
+    private String cursor;
+
+    @Setup
+    public void setUp() {
+        List<String> podcastIds = new ArrayList<>(matchingPodcasts);
+        for (int i = 0; i < matchingPodcasts; i++) {
+            podcastIds.add("podcast-" + i);
+        }
+
+        MongoTemplate mongoTemplate = BenchmarkData.stub(MongoTemplate.class);
+        when(mongoTemplate.findDistinct(any(Query.class), eq("podcastId"), eq(Episode.class), eq(String.class)))
+                .thenReturn(podcastIds);
+        when(mongoTemplate.find(any(Query.class), eq(Podcast.class))).thenAnswer(invocation -> render(invocation.getArgument(0)));
+        when(mongoTemplate.find(any(Query.class), eq(AppUser.class))).thenAnswer(invocation -> render(invocation.getArgument(0)));
+
+        searchStrategy = new MongoPodcastSearchStrategy(mongoTemplate);
+        lookupService = new LookupServiceImpl(
+                BenchmarkData.stub(AppUserRepository.class), BenchmarkData.stub(PodcastRepository.class),
+                mongoTemplate, searchStrategy, searchStrategy);
+
+        publicSearch = new PodcastSearchQuery(null, "technology", null, PodcastStatus.PUBLISHED,
+                EpisodeStatus.PUBLISHED, "pirate history", null, null);
+        cursor = CursorCodec.encode(new Date(1_600_000_000_000L), "65f1c0ffee0000000000beef");
+    }
+
+    private static List<Object> render(Query query) {
+        Document document = query.getQueryObject();
+        document.size();
+        query.getSortObject();
+        return List.of();
+    }
+
+    @Benchmark
+    public Document publicSearchCriteria() {
+        return searchStrategy.buildCriteria(publicSearch).getCriteriaObject();
+    }
+
+    @Benchmark
+    public Object scrollPublishedPodcasts() {
+        return lookupService.scrollPodcasts(null, "technology", null, PodcastStatus.PUBLISHED,
+                EpisodeStatus.PUBLISHED, null, LookupService.SORT_PUBLISHED_AT, cursor, 20, false);
+    }
+
+    @Benchmark
+    public Object scrollUsersWithKeyword() {
+        return lookupService.scrollUsers(AccountRoles.USER, false, true, "pirate", cursor, 20, false);
+    }
+}
@@ -0,0 +1,69 @@
+package dev.berlinbruno.PodPirateBackendApplication.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.berlinbruno.PodPirateBackendApplication.dto.podcast.PodcastPublicResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of the public podcast listing. The application serializes pages via
+ * {@link PagedModel} ({@code PageSerializationMode.VIA_DTO}), with an ObjectMapper built the way
+ * Spring Boot builds its default one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private PagedModel<PodcastPublicResponse> pagedModel;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        Random random = new Random(42);
+        List<PodcastPublicResponse> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            String cover = "https://benchaccount.blob.core.windows.net/bench/media/podcasts/podcast-" + i
+                    + "/cover/cover.JPG?sv=2023-11-03&se=2030-01-01T00%3A00%3A00Z&sr=b&sp=r&sig=c2lnbmF0dXJl";
+            content.add(PodcastPublicResponse.builder()
+                    .podcastId("podcast-" + i)
+                    .title(BenchmarkData.sentence(random, 5))
+                    .description(BenchmarkData.sentence(random, 30))
+                    .category("technology")
+                    .coverUrl(cover)
+                    .bannerUrl(cover.replace("cover", "banner"))
+                    .creatorId("user-" + i)
+                    .creatorName("creator" + i)
+                    .episodeCount(random.nextInt(500))
+                    .publishedDate(new Date(1_600_000_000_000L + i * 1000L))
+                    .lastEpisodeDate(new Date(1_700_000_000_000L + i * 1000L))
+                    .build());
+        }
+        Page<PodcastPublicResponse> page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+        pagedModel = new PagedModel<>(page);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pagedModel);
+    }
+}
@@ -0,0 +1,126 @@
+package dev.berlinbruno.PodPirateBackendApplication.benchmark;
+
+import dev.berlinbruno.PodPirateBackendApplication.dto.admin.AdminPodcastDetailResponse;
+import dev.berlinbruno.PodPirateBackendApplication.dto.admin.AdminPodcastResponse;
+import dev.berlinbruno.PodPirateBackendApplication.dto.episode.EpisodeDetailResponse;
+import dev.berlinbruno.PodPirateBackendApplication.dto.podcast.PodcastPublicDetailResponse;
+import dev.berlinbruno.PodPirateBackendApplication.dto.podcast.PodcastPublicResponse;
+import dev.berlinbruno.PodPirateBackendApplication.model.AppUser;
+import dev.berlinbruno.PodPirateBackendApplication.model.Episode;
+import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
+import dev.berlinbruno.PodPirateBackendApplication.repository.AppUserRepository;
+import dev.berlinbruno.PodPirateBackendApplication.repository.EpisodeRepository;
+import dev.berlinbruno.PodPirateBackendApplication.repository.PodcastRepository;
+import dev.berlinbruno.PodPirateBackendApplication.service.AuthValidationService;
+import dev.berlinbruno.PodPirateBackendApplication.service.DeletionService;
+import dev.berlinbruno.PodPirateBackendApplication.service.LookupService;
+import dev.berlinbruno.PodPirateBackendApplication.service.PlaybackService;
+import dev.berlinbruno.PodPirateBackendApplication.service.PodcastAggregateService;
+import dev.berlinbruno.PodPirateBackendApplication.service.impl.AdminServiceImpl;
+import dev.berlinbruno.PodPirateBackendApplication.service.impl.MediaServiceImpl;
+import dev.berlinbruno.PodPirateBackendApplication.service.impl.PodcastServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Response mapping in PodcastServiceImpl and AdminServiceImpl for podcasts of growing size.
+ * Repositories and lookups are stubbed, so the numbers cover mapping, URL building and
+ * allocation only. Listing and detail mappers read the episode aggregates stored on the podcast, so
+ * they should stay flat as episodes grow; the admin episode listing maps every episode and scales
+ * linearly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PodcastMapperBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"10", "100", "1000", "5000"})
+    private int episodeCount;
+
+    private PodcastServiceImpl podcastService;
+    private AdminServiceImpl adminService;
+    private String podcastId;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        AppUser creator = BenchmarkData.user(1);
+
+        List<Podcast> podcasts = new ArrayList<>(PAGE_SIZE);
+        List<Episode> episodes = List.of();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Podcast podcast = BenchmarkData.podcast(random, i, creator.getId());
+            episodes = BenchmarkData.episodes(random, podcast.getId(), episodeCount);
+            BenchmarkData.aggregate(podcast, episodes);
+            podcasts.add(podcast);
+        }
+        Podcast podcast = podcasts.get(PAGE_SIZE - 1);
+        podcastId = podcast.getId();
+        Page<Podcast> page = new PageImpl<>(podcasts, PageRequest.of(0, PAGE_SIZE), 10_000);
+
+        LookupService lookupService = BenchmarkData.stub(LookupService.class);
+        when(lookupService.searchPodcasts(any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
+                .thenReturn(page);
+        when(lookupService.getCreatorsByIds(anyCollection())).thenReturn(Map.of(creator.getId(), creator));
+        when(lookupService.getPodcastById(podcastId)).thenReturn(podcast);
+        when(lookupService.getPublishedPodcastById(podcastId)).thenReturn(podcast);
+        when(lookupService.getById(creator.getId())).thenReturn(creator);
+
+        EpisodeRepository episodeRepository = BenchmarkData.stub(EpisodeRepository.class);
+        when(episodeRepository.findAllByPodcastIdOrderByEpisodeNumberAsc(podcastId)).thenReturn(episodes);
+
+        MediaServiceImpl mediaService = new MediaServiceImpl(BenchmarkData.signingStub());
+        PodcastRepository podcastRepository = BenchmarkData.stub(PodcastRepository.class);
+        DeletionService deletionService = BenchmarkData.stub(DeletionService.class);
+
+        podcastService = new PodcastServiceImpl(
+                podcastRepository, episodeRepository, BenchmarkData.signingStub(), lookupService, mediaService,
+                BenchmarkData.stub(AuthValidationService.class), deletionService,
+                BenchmarkData.stub(PlaybackService.class), BenchmarkData.stub(ApplicationEventPublisher.class),
+                BenchmarkData.stub(MongoTemplate.class));
+        adminService = new AdminServiceImpl(
+                BenchmarkData.stub(AppUserRepository.class), episodeRepository, deletionService,
+                lookupService, mediaService, BenchmarkData.stub(ApplicationEventPublisher.class),
+                BenchmarkData.stub(PodcastAggregateService.class), BenchmarkData.stub(MongoTemplate.class));
+    }
+
+    @Benchmark
+    public Page<PodcastPublicResponse> publicListingPage() {
+        return podcastService.getAllPublishedPodcasts(null, null, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public PodcastPublicDetailResponse publicDetail() {
+        return podcastService.getPublishedPodcastDetailsById(podcastId, null);
+    }
+
+    @Benchmark
+    public Page<AdminPodcastResponse> adminListingPage() {
+        return adminService.getAllPodcasts(null, null, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public AdminPodcastDetailResponse adminDetail() {
+        return adminService.getPodcastDetails(podcastId);
+    }
+
+    @Benchmark
+    public List<EpisodeDetailResponse> adminEpisodeListing() {
+        return adminService.getPodcastEpisodes(podcastId);
+    }
+}
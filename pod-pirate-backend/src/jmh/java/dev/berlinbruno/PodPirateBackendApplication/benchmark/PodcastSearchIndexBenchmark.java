@@ -0,0 +1,108 @@
+package dev.berlinbruno.PodPirateBackendApplication.benchmark;
+
+import dev.berlinbruno.PodPirateBackendApplication.model.Episode;
+import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
+import dev.berlinbruno.PodPirateBackendApplication.search.PodcastSearchIndex;
+import dev.berlinbruno.PodPirateBackendApplication.search.PodcastSearchQuery;
+import dev.berlinbruno.PodPirateBackendApplication.types.EpisodeStatus;
+import dev.berlinbruno.PodPirateBackendApplication.types.PodcastStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keyword search latency of the inverted index as the catalog grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PodcastSearchIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "technology", "history", "science", "comedy", "business", "interview", "weekly", "news",
+            "music", "sports", "culture", "startup", "design", "health", "politics", "travel",
+            "cooking", "gaming", "finance", "education", "space", "ocean", "pirates", "stories"
+    };
+    private static final String[] CATEGORIES = {"technology", "arts", "business", "comedy", "education"};
+
+    @Param({"1000", "10000", "100000"})
+    private int collectionSize;
+
+    private PodcastSearchIndex index;
+    private PodcastSearchQuery singleTermQuery;
+    private PodcastSearchQuery filteredQuery;
+    private PodcastSearchQuery prefixQuery;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new PodcastSearchIndex();
+        for (int i = 0; i < collectionSize; i++) {
+            Podcast podcast = randomPodcast(random, i);
+            index.index(podcast, randomEpisodes(random, podcast.getId()));
+        }
+
+        singleTermQuery = new PodcastSearchQuery(null, null, null, PodcastStatus.PUBLISHED,
+                EpisodeStatus.PUBLISHED, "history", null, null);
+        filteredQuery = new PodcastSearchQuery(null, "technology", false, PodcastStatus.PUBLISHED,
+                EpisodeStatus.PUBLISHED, "startup interviews", null, null);
+        prefixQuery = new PodcastSearchQuery(null, null, null, null, null, "pira", null, null);
+    }
+
+    @Benchmark
+    public List<PodcastSearchIndex.Hit> singleTerm() {
+        return index.search(singleTermQuery);
+    }
+
+    @Benchmark
+    public List<PodcastSearchIndex.Hit> multiTermWithFilters() {
+        return index.search(filteredQuery);
+    }
+
+    @Benchmark
+    public List<PodcastSearchIndex.Hit> prefix() {
+        return index.search(prefixQuery);
+    }
+
+    private Podcast randomPodcast(Random random, int i) {
+        return Podcast.builder()
+                .id("podcast-" + i)
+                .userId("user-" + random.nextInt(Math.max(1, collectionSize / 10)))
+                .category(CATEGORIES[random.nextInt(CATEGORIES.length)])
+                .title(sentence(random, 5))
+                .description(sentence(random, 30))
+                .podcastStatus(random.nextInt(4) == 0 ? PodcastStatus.DRAFT : PodcastStatus.PUBLISHED)
+                .publishedAt(new Date(1_600_000_000_000L + random.nextInt(1_000_000) * 1000L))
+                .build();
+    }
+
+    private List<Episode> randomEpisodes(Random random, String podcastId) {
+        List<Episode> episodes = new ArrayList<>();
+        int episodeCount = 1 + random.nextInt(20);
+        for (int e = 0; e < episodeCount; e++) {
+            Episode episode = new Episode();
+            episode.setPodcastId(podcastId);
+            episode.setEpisodeNumber((long) e);
+            episode.setTitle(sentence(random, 4));
+            episode.setDescription(sentence(random, 20));
+            episode.setEpisodeStatus(random.nextBoolean() ? EpisodeStatus.PUBLISHED : EpisodeStatus.DRAFT);
+            episodes.add(episode);
+        }
+        return episodes;
+    }
+
+    private String sentence(Random random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int w = 0; w < words; w++) {
+            builder.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return builder.toString();
+    }
+}
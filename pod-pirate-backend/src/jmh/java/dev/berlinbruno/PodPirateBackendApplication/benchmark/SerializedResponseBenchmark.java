@@ -0,0 +1,113 @@
+package dev.berlinbruno.PodPirateBackendApplication.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.berlinbruno.PodPirateBackendApplication.cache.SerializedResponse;
+import dev.berlinbruno.PodPirateBackendApplication.cache.SerializedResponseCache;
+import dev.berlinbruno.PodPirateBackendApplication.cache.SerializedResponseCache.ResponseKind;
+import dev.berlinbruno.PodPirateBackendApplication.config.ByteBufferHttpMessageConverter;
+import dev.berlinbruno.PodPirateBackendApplication.dto.episode.EpisodePublicDetailResponse;
+import dev.berlinbruno.PodPirateBackendApplication.properties.CatalogCacheProperties;
+import dev.berlinbruno.PodPirateBackendApplication.properties.ResponseCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writing a published episode list per request: serializing (and gzipping, as server compression would) the
+ * response DTOs each time, against writing the bytes cached by {@link SerializedResponseCache}. Mapping and
+ * the Mongo lookup, which a hit also skips, are left out; run with the gc profiler to compare allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializedResponseBenchmark {
+
+    private static final String PODCAST_ID = "podcast-0";
+    private static final String ETAG = "\"p1-bench\"";
+
+    @Param({"20", "200"})
+    private int episodeCount;
+
+    private ObjectMapper objectMapper;
+    private List<EpisodePublicDetailResponse> episodes;
+    private SerializedResponseCache cache;
+    private ByteBufferHttpMessageConverter converter;
+    private HttpOutputMessage outputMessage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        Random random = new Random(42);
+        episodes = new ArrayList<>(episodeCount);
+        for (int i = 0; i < episodeCount; i++) {
+            String media = "https://benchaccount.blob.core.windows.net/bench/media/podcasts/" + PODCAST_ID
+                    + "/episodes/" + i + "/audio.mp3?sv=2023-11-03&se=2030-01-01T00%3A00%3A00Z&sr=b&sp=r&sig=c2lnbmF0dXJl";
+            episodes.add(EpisodePublicDetailResponse.builder()
+                    .episodeId(i + 1)
+                    .title(BenchmarkData.sentence(random, 6))
+                    .description(BenchmarkData.sentence(random, 60))
+                    .coverUrl(media.replace("audio.mp3", "cover.JPG"))
+                    .audioUrl(media)
+                    .durationSeconds(600 + random.nextInt(3600))
+                    .publishedDate(new Date(1_700_000_000_000L + i * 86_400_000L))
+                    .build());
+        }
+
+        cache = new SerializedResponseCache(
+                objectMapper,
+                new ResponseCacheProperties(true, 64, 4096, 1024),
+                new CatalogCacheProperties(true, 300, 2000, 10000, 2000, 10000, 0, 25),
+                new SimpleMeterRegistry());
+        converter = new ByteBufferHttpMessageConverter();
+        HttpHeaders headers = new HttpHeaders();
+        outputMessage = new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return OutputStream.nullOutputStream();
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        };
+    }
+
+    @Benchmark
+    public void serializePerRequest() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), episodes);
+    }
+
+    @Benchmark
+    public void serializeAndGzipPerRequest() throws IOException {
+        objectMapper.writeValue(new GZIPOutputStream(OutputStream.nullOutputStream()), episodes);
+    }
+
+    @Benchmark
+    public void writeCached() throws IOException {
+        SerializedResponse response = cache.get(ResponseKind.PUBLISHED_EPISODES, PODCAST_ID, ETAG, () -> episodes);
+        converter.write(response.body(false), MediaType.APPLICATION_JSON, outputMessage);
+    }
+
+    @Benchmark
+    public void writeCachedGzip() throws IOException {
+        SerializedResponse response = cache.get(ResponseKind.PUBLISHED_EPISODES, PODCAST_ID, ETAG, () -> episodes);
+        converter.write(response.body(true), MediaType.APPLICATION_JSON, outputMessage);
+    }
+}
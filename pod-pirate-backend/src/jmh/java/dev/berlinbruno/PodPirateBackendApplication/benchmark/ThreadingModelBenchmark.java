@@ -0,0 +1,67 @@
+package dev.berlinbruno.PodPirateBackendApplication.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load model of the request path: each request blocks on a Mongo call and a blob call, the shape of
+ * a typical detail or upload-URL request. 400 concurrent clients hit either a Tomcat-sized pool of
+ * 200 platform threads (the default server.tomcat.threads.max) or one virtual thread per request,
+ * which is what {@code spring.threads.virtual.enabled} switches between.
+ * <p>
+ * Throughput shows requests per second; sample mode reports p50/p99/p99.9 latency including time
+ * spent waiting for a free request thread. For an end-to-end comparison, run the application with
+ * VIRTUAL_THREADS_ENABLED=true and false under the same HTTP load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(400)
+@Fork(1)
+public class ThreadingModelBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    /** Simulated latency of each blocking call (Mongo query, then blob SDK call). */
+    @Param({"2", "10"})
+    private int ioMillis;
+
+    private ExecutorService requestExecutor;
+
+    @Setup
+    public void setUp() {
+        requestExecutor = "virtual".equals(mode)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        requestExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public long request() throws ExecutionException, InterruptedException {
+        return requestExecutor.submit(this::handle).get();
+    }
+
+    private long handle() throws InterruptedException {
+        Thread.sleep(ioMillis);                     // Mongo round trip
+        long checksum = ThreadLocalRandom.current().nextLong();
+        for (int i = 0; i < 1_000; i++) {           // mapping work between calls
+            checksum = checksum * 31 + i;
+        }
+        Thread.sleep(ioMillis);                     // blob SDK call (exists / sign / delete)
+        return checksum;
+    }
+}
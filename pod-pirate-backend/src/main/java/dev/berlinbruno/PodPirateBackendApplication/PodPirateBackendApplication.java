@@ -1,16 +1,55 @@
 package dev.berlinbruno.PodPirateBackendApplication;
 
+import dev.berlinbruno.PodPirateBackendApplication.properties.AzureBlobClientProperties;
+import dev.berlinbruno.PodPirateBackendApplication.properties.CatalogCacheProperties;
+import dev.berlinbruno.PodPirateBackendApplication.properties.DeletionProperties;
+import dev.berlinbruno.PodPirateBackendApplication.properties.EmailOutboxProperties;
+import dev.berlinbruno.PodPirateBackendApplication.properties.EpisodeMigrationProperties;
 import dev.berlinbruno.PodPirateBackendApplication.properties.FrontendProperties;
+import dev.berlinbruno.PodPirateBackendApplication.properties.HttpCacheProperties;
 import dev.berlinbruno.PodPirateBackendApplication.properties.JwtProperties;
+import dev.berlinbruno.PodPirateBackendApplication.properties.ListenerStatsProperties;
+import dev.berlinbruno.PodPirateBackendApplication.properties.LocalBlobStorageProperties;
+import dev.berlinbruno.PodPirateBackendApplication.properties.MediaUploadProperties;
+import dev.berlinbruno.PodPirateBackendApplication.properties.MetricsScrapeProperties;
+import dev.berlinbruno.PodPirateBackendApplication.properties.MongoIndexProperties;
+import dev.berlinbruno.PodPirateBackendApplication.properties.PlaybackProperties;
+import dev.berlinbruno.PodPirateBackendApplication.properties.PodcastAggregateProperties;
+import dev.berlinbruno.PodPirateBackendApplication.properties.ResponseCacheProperties;
+import dev.berlinbruno.PodPirateBackendApplication.properties.SignedUrlProperties;
+import dev.berlinbruno.PodPirateBackendApplication.properties.SitemapProperties;
+import dev.berlinbruno.PodPirateBackendApplication.properties.TokenRevocationProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableMongoAuditing
+@EnableScheduling
 @SpringBootApplication
-@EnableConfigurationProperties({JwtProperties.class, FrontendProperties.class})
+@EnableConfigurationProperties({
+        JwtProperties.class,
+        FrontendProperties.class,
+        AzureBlobClientProperties.class,
+        EpisodeMigrationProperties.class,
+        TokenRevocationProperties.class,
+        DeletionProperties.class,
+        MongoIndexProperties.class,
+        EmailOutboxProperties.class,
+        PodcastAggregateProperties.class,
+        HttpCacheProperties.class,
+        CatalogCacheProperties.class,
+        SitemapProperties.class,
+        LocalBlobStorageProperties.class,
+        MediaUploadProperties.class,
+        SignedUrlProperties.class,
+        PlaybackProperties.class,
+        ListenerStatsProperties.class,
+        ResponseCacheProperties.class,
+        MetricsScrapeProperties.class
+})
 @EnableSpringDataWebSupport(pageSerializationMode = EnableSpringDataWebSupport.PageSerializationMode.VIA_DTO)
 public class PodPirateBackendApplication {
 
@@ -0,0 +1,101 @@
+package dev.berlinbruno.PodPirateBackendApplication.cache;
+
+import dev.berlinbruno.PodPirateBackendApplication.dto.podcast.PodcastPublicDetailResponse;
+import dev.berlinbruno.PodPirateBackendApplication.dto.podcast.PodcastPublicResponse;
+import dev.berlinbruno.PodPirateBackendApplication.event.CreatorChangedEvent;
+import dev.berlinbruno.PodPirateBackendApplication.event.EpisodesChangedEvent;
+import dev.berlinbruno.PodPirateBackendApplication.event.PodcastChangedEvent;
+import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+/**
+ * Evicts cached public catalog responses affected by a domain event.
+ * <p>
+ * Point entries (podcast details, episode lists, creator profiles) are evicted in every version cached
+ * for the resource. This only releases memory early: they are keyed by version, so other nodes, which
+ * do not see the event, stop serving them as soon as the version moves. Discovery pages are evicted
+ * when they are unfiltered, filtered by one of the podcast's categories (its position or presence may
+ * have changed) or already contain the podcast.
+ */
+@Component
+@RequiredArgsConstructor
+public class PublicCatalogCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener
+    public void onPodcastChanged(PodcastChangedEvent event) {
+        evict(PublicCatalogCaches.PODCAST, event.podcastId());
+        evict(PublicCatalogCaches.EPISODES, event.podcastId());
+        // The profile shows the number of published podcasts
+        evict(PublicCatalogCaches.CREATOR, event.userId());
+        evictListings(event.podcastId(), event.categories());
+    }
+
+    @EventListener
+    public void onEpisodesChanged(EpisodesChangedEvent event) {
+        String podcastId = event.podcastId();
+        evict(PublicCatalogCaches.PODCAST, podcastId);
+        evict(PublicCatalogCaches.EPISODES, podcastId);
+
+        // Published episodes decide whether the podcast is listed at all, so its category matters
+        String category = findCategory(podcastId);
+        evictListings(podcastId, category != null ? Set.of(category) : Set.of());
+    }
+
+    @EventListener
+    public void onCreatorChanged(CreatorChangedEvent event) {
+        String userId = event.userId();
+        evict(PublicCatalogCaches.CREATOR, userId);
+        evictIf(PublicCatalogCaches.PODCAST, (key, value) ->
+                value instanceof PodcastPublicDetailResponse detail && userId.equals(detail.getCreatorId()));
+        evictIf(PublicCatalogCaches.PODCASTS, (key, value) -> value instanceof Page<?> page && page.stream()
+                .anyMatch(item -> item instanceof PodcastPublicResponse podcast && userId.equals(podcast.getCreatorId())));
+    }
+
+    // ==================== EVICTION ====================
+
+    private void evictListings(String podcastId, Set<String> categories) {
+        evictIf(PublicCatalogCaches.PODCASTS, (key, value) -> {
+            if (key instanceof PublicCatalogCaches.ListingKey listing
+                    && (listing.category() == null || categories.stream().anyMatch(listing.category()::equalsIgnoreCase))) {
+                return true;
+            }
+            return value instanceof Page<?> page && page.stream()
+                    .anyMatch(item -> item instanceof PodcastPublicResponse podcast && podcastId.equals(podcast.getPodcastId()));
+        });
+    }
+
+    private void evict(String cacheName, String id) {
+        if (id != null) {
+            evictIf(cacheName, (key, value) ->
+                    key instanceof PublicCatalogCaches.VersionedKey versioned && id.equals(versioned.id()));
+        }
+    }
+
+    private void evictIf(String cacheName, BiPredicate<Object, Object> predicate) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            nativeCache.asMap().entrySet().removeIf(entry -> predicate.test(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    private String findCategory(String podcastId) {
+        Query query = new Query(Criteria.where("_id").is(podcastId));
+        query.fields().include("category");
+        Podcast podcast = mongoTemplate.findOne(query, Podcast.class);
+        return podcast != null ? podcast.getCategory() : null;
+    }
+}
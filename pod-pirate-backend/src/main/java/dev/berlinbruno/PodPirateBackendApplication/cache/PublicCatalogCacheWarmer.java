@@ -0,0 +1,81 @@
+package dev.berlinbruno.PodPirateBackendApplication.cache;
+
+import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
+import dev.berlinbruno.PodPirateBackendApplication.properties.CatalogCacheProperties;
+import dev.berlinbruno.PodPirateBackendApplication.service.PodcastService;
+import dev.berlinbruno.PodPirateBackendApplication.types.PodcastStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Loads the first discovery page overall and of the most populated categories into the cache after
+ * startup, in the background, so the first visitors after a deploy do not all miss.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublicCatalogCacheWarmer {
+
+    private final PodcastService podcastService;
+    private final MongoTemplate mongoTemplate;
+    private final TaskExecutor taskExecutor;
+    private final CatalogCacheProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpInBackground() {
+        if (properties.enabled() && properties.warmUpCategories() > 0) {
+            taskExecutor.execute(this::warmUp);
+        }
+    }
+
+    /**
+     * Loads the warm-up pages and returns how many were loaded.
+     */
+    public int warmUp() {
+        long start = System.currentTimeMillis();
+        List<String> categories = new ArrayList<>();
+        categories.add(null);
+
+        int loaded = 0;
+        try {
+            categories.addAll(findTopCategories(properties.warmUpCategories()));
+            for (String category : categories) {
+                // Goes through the caching proxy, so the result is stored like a regular request's
+                podcastService.getAllPublishedPodcasts(null, category, 0, properties.warmUpPageSize());
+                loaded++;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Catalog cache warm-up stopped after {} pages", loaded, e);
+            return loaded;
+        }
+
+        log.info("Catalog cache warmed with {} pages in {} ms", loaded, System.currentTimeMillis() - start);
+        return loaded;
+    }
+
+    private List<String> findTopCategories(int limit) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("podcastStatus").is(PodcastStatus.PUBLISHED)),
+                Aggregation.group("category").count().as("count"),
+                Aggregation.sort(Sort.Direction.DESC, "count"),
+                Aggregation.limit(limit));
+
+        return mongoTemplate.aggregate(aggregation, Podcast.class, Document.class).getMappedResults().stream()
+                .map(result -> result.getString("_id"))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,44 @@
+package dev.berlinbruno.PodPirateBackendApplication.cache;
+
+import dev.berlinbruno.PodPirateBackendApplication.service.CatalogVersionService.CatalogVersion;
+
+/**
+ * Names and keys of the caches holding public catalog responses.
+ */
+public final class PublicCatalogCaches {
+
+    // Discovery pages, keyed by ListingKey
+    public static final String PODCASTS = "public-podcasts";
+    // Published podcast details, keyed by VersionedKey of the podcast ID
+    public static final String PODCAST = "public-podcast";
+    // Published episode lists, keyed by VersionedKey of the podcast ID
+    public static final String EPISODES = "public-episodes";
+    // Creator profiles, keyed by VersionedKey of the user ID
+    public static final String CREATOR = "public-creator";
+
+    private PublicCatalogCaches() {
+    }
+
+    /**
+     * Key of one discovery page. Used from the {@code @Cacheable} key expression so invalidation can
+     * inspect the category of cached pages.
+     */
+    public static ListingKey listingKey(String query, String category, int page, int size) {
+        return new ListingKey(query, category, page, size);
+    }
+
+    /**
+     * Key of a single resource at one {@link CatalogVersion}. The caches are local to each node and only
+     * evicted by changes made through it; keying by the version the response is tagged with keeps a body
+     * cached before a change on another node from being sent under the tag of the changed resource.
+     */
+    public static VersionedKey versionedKey(String id, CatalogVersion version) {
+        return new VersionedKey(id, version.etag());
+    }
+
+    public record ListingKey(String query, String category, int page, int size) {
+    }
+
+    public record VersionedKey(String id, String etag) {
+    }
+}
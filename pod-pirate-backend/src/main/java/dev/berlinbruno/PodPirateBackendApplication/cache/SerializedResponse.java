@@ -0,0 +1,25 @@
+package dev.berlinbruno.PodPirateBackendApplication.cache;
+
+import java.nio.ByteBuffer;
+
+/**
+ * JSON body of a public response, serialized once. {@code gzip} is null when compressing did not pay off.
+ * The buffers are shared between requests and must only be read through {@link #body(boolean)}.
+ */
+public record SerializedResponse(String etag, ByteBuffer identity, ByteBuffer gzip) {
+
+    public boolean hasGzip() {
+        return gzip != null;
+    }
+
+    /**
+     * Read-only view of the gzip or identity encoded body, positioned at its start.
+     */
+    public ByteBuffer body(boolean gzipEncoded) {
+        return (gzipEncoded ? gzip : identity).asReadOnlyBuffer();
+    }
+
+    int weight() {
+        return identity.capacity() + (gzip != null ? gzip.capacity() : 0);
+    }
+}
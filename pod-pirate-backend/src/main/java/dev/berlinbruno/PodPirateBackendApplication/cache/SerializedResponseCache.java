@@ -0,0 +1,209 @@
+package dev.berlinbruno.PodPirateBackendApplication.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.berlinbruno.PodPirateBackendApplication.event.EpisodesChangedEvent;
+import dev.berlinbruno.PodPirateBackendApplication.event.PodcastChangedEvent;
+import dev.berlinbruno.PodPirateBackendApplication.properties.CatalogCacheProperties;
+import dev.berlinbruno.PodPirateBackendApplication.properties.ResponseCacheProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized JSON bodies of the hottest public responses, kept in direct buffers in both identity and gzip
+ * encoding so a hit costs neither mapping, Jackson nor compression, and the cached bytes stay out of the
+ * heap the collector has to trace.
+ * <p>
+ * Entries are keyed by podcast and validated against the {@link
+ * dev.berlinbruno.PodPirateBackendApplication.service.CatalogVersionService CatalogVersion} tag the
+ * controller computes for conditional requests anyway: a body cached under another tag is rebuilt from
+ * current data, not from this node's object caches, so podcast, episode, creator and signed-URL changes
+ * are picked up on every node. Changes made through this node also evict the entry right away to release
+ * its memory. Both encodings share the tag, so the controller sends it as a weak ETag. The total size is
+ * bounded by weight; evicted buffers are released by the collector once no request is still writing them.
+ */
+@Component
+public class SerializedResponseCache {
+
+    private static final String CACHE_NAME = "serialized-responses";
+
+    public enum ResponseKind {
+        PODCAST_DETAIL,
+        PUBLISHED_EPISODES
+    }
+
+    private final Cache<Key, SerializedResponse> responses;
+    private final ObjectMapper objectMapper;
+    private final ResponseCacheProperties properties;
+
+    public SerializedResponseCache(ObjectMapper objectMapper,
+                                   ResponseCacheProperties properties,
+                                   CatalogCacheProperties catalogCacheProperties,
+                                   MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        // The TTL matches the object caches the bodies are built from, so it bounds staleness the same way
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(properties.maxSizeMb() * 1024 * 1024)
+                .weigher((Key key, SerializedResponse response) -> response.weight())
+                .expireAfterWrite(Duration.ofSeconds(catalogCacheProperties.ttlSeconds()))
+                .recordStats()
+                .build();
+
+        Gauge.builder("cache.hit.ratio", responses, c -> c.stats().hitRate())
+                .description("Share of cache lookups served from the cache since startup")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        Gauge.builder("cache.size", responses, Cache::estimatedSize)
+                .description("Estimated number of cached entries")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        Gauge.builder("cache.direct.bytes", responses, c -> c.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0))
+                        .orElse(0L))
+                .description("Direct memory held by cached response bodies")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * Returns the body of {@code kind} for {@code podcastId} cached under {@code etag}, building it from
+     * {@code body} when missing or cached under an older version. {@code body} must read current data; a
+     * result from a node-local cache could be stored under a tag it does not match.
+     */
+    public SerializedResponse get(ResponseKind kind, String podcastId, String etag, Supplier<?> body) {
+        if (!properties.enabled()) {
+            return serialize(body.get());
+        }
+
+        Key key = new Key(kind, podcastId);
+        SerializedResponse cached = responses.getIfPresent(key);
+        if (cached != null && cached.etag().equals(etag)) {
+            return cached;
+        }
+
+        // Concurrent misses may each build the body; they produce the same bytes and the last one stays
+        byte[] json = toJson(body.get());
+        if (json.length > properties.maxEntryKb() * 1024) {
+            return new SerializedResponse(etag, ByteBuffer.wrap(json), null);
+        }
+
+        byte[] gzip = json.length >= properties.gzipMinBytes() ? gzip(json) : null;
+        SerializedResponse response = new SerializedResponse(
+                etag,
+                direct(json),
+                gzip != null && gzip.length < json.length ? direct(gzip) : null);
+        responses.put(key, response);
+        return response;
+    }
+
+    /**
+     * Serializes a body that is not cached, such as one without a version.
+     */
+    public SerializedResponse serialize(Object body) {
+        return new SerializedResponse(null, ByteBuffer.wrap(toJson(body)), null);
+    }
+
+    /**
+     * Whether an {@code Accept-Encoding} header allows a gzip body.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            boolean accepted = true;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        accepted = Double.parseDouble(parameter.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        accepted = false;
+                    }
+                }
+            }
+            if (name.equalsIgnoreCase("gzip") || name.equalsIgnoreCase("x-gzip")) {
+                return accepted;
+            }
+            if (name.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    // ==================== INVALIDATION ====================
+
+    @EventListener
+    public void onPodcastChanged(PodcastChangedEvent event) {
+        evict(event.podcastId());
+    }
+
+    @EventListener
+    public void onEpisodesChanged(EpisodesChangedEvent event) {
+        evict(event.podcastId());
+    }
+
+    private void evict(String podcastId) {
+        for (ResponseKind kind : ResponseKind.values()) {
+            responses.invalidate(new Key(kind, podcastId));
+        }
+    }
+
+    // ==================== ENCODING ====================
+
+    private byte[] toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize response body", e);
+        }
+    }
+
+    /**
+     * Compresses at the highest level; the cost is paid once per version instead of per request.
+     */
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static ByteBuffer direct(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return buffer;
+    }
+
+    private record Key(ResponseKind kind, String podcastId) {
+    }
+}
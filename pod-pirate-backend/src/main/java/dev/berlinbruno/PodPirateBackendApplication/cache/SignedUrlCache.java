@@ -0,0 +1,83 @@
+package dev.berlinbruno.PodPirateBackendApplication.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.berlinbruno.PodPirateBackendApplication.properties.SignedUrlProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * Signed download URLs aligned to fixed time buckets. Every URL signed for a blob within one bucket gets
+ * the same expiry (the end of the bucket plus the read lifetime), so it is byte-for-byte identical and
+ * browsers, CDNs and the Next.js image cache can reuse it; it also stays valid for at least the full
+ * read lifetime. Signed URLs are kept in a bounded cache keyed by blob path and bucket, so each blob is
+ * signed about once per bucket per node.
+ */
+@Component
+public class SignedUrlCache {
+
+    private static final String CACHE_NAME = "signed-urls";
+
+    private final Cache<BucketKey, String> urls;
+    private final long bucketMillis;
+    private final Duration readLifetime;
+
+    public SignedUrlCache(SignedUrlProperties properties,
+                          MeterRegistry meterRegistry,
+                          @Value("${azure.signed-url.expiry.read:1}") int readExpiryDays) {
+        this.bucketMillis = Duration.ofMinutes(properties.bucketMinutes()).toMillis();
+        this.readLifetime = Duration.ofDays(readExpiryDays);
+        // Entries are useless after their bucket ends; the size bound protects the heap within a bucket
+        this.urls = Caffeine.newBuilder()
+                .maximumSize(properties.cacheSize())
+                .expireAfterWrite(Duration.ofMillis(bucketMillis))
+                .recordStats()
+                .build();
+
+        Gauge.builder("cache.hit.ratio", urls, c -> c.stats().hitRate())
+                .description("Share of cache lookups served from the cache since startup")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        Gauge.builder("cache.size", urls, Cache::estimatedSize)
+                .description("Estimated number of cached entries")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the download URL of {@code blobPath} for the current bucket, calling {@code signer} with the
+     * bucket's expiry on a miss.
+     */
+    public String get(String blobPath, Function<Instant, String> signer) {
+        long bucket = currentBucket();
+        return urls.get(new BucketKey(blobPath, bucket), key -> signer.apply(expiryOf(bucket)));
+    }
+
+    /**
+     * Index of the current bucket. Signed URLs change exactly when this does, so response versions that
+     * embed signed URLs include it.
+     */
+    public long currentBucket() {
+        return System.currentTimeMillis() / bucketMillis;
+    }
+
+    /**
+     * Start of {@code bucket} in epoch millis; for the current bucket, the last time signed URLs changed.
+     */
+    public long bucketStart(long bucket) {
+        return bucket * bucketMillis;
+    }
+
+    private Instant expiryOf(long bucket) {
+        return Instant.ofEpochMilli((bucket + 1) * bucketMillis).plus(readLifetime);
+    }
+
+    private record BucketKey(String blobPath, long bucket) {
+    }
+}
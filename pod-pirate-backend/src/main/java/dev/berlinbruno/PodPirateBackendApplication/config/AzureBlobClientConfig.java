@@ -0,0 +1,68 @@
+package dev.berlinbruno.PodPirateBackendApplication.config;
+
+import com.azure.core.http.HttpClient;
+import com.azure.core.util.HttpClientOptions;
+import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.BlobServiceClient;
+import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.blob.batch.BlobBatchClient;
+import com.azure.storage.blob.batch.BlobBatchClientBuilder;
+import com.azure.storage.common.StorageSharedKeyCredential;
+import dev.berlinbruno.PodPirateBackendApplication.properties.AzureBlobClientProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Builds the long-lived Azure Blob clients shared by the whole application.
+ * The connection string is parsed once and every request goes through a single pooled HTTP pipeline.
+ */
+@Configuration
+@ConditionalOnProperty(name = "storage.provider", havingValue = "azure", matchIfMissing = true)
+public class AzureBlobClientConfig {
+
+    @Value("${azure.storage.connection-string}")
+    private String connectionString;
+
+    @Value("${azure.storage.container-name}")
+    private String containerName;
+
+    @Bean("azureBlobHttpClient")
+    public HttpClient azureBlobHttpClient(AzureBlobClientProperties props) {
+        HttpClientOptions options = new HttpClientOptions()
+                .setMaximumConnectionPoolSize(props.maxConnections())
+                .setConnectionIdleTimeout(Duration.ofSeconds(props.idleTimeoutSeconds()))
+                .setResponseTimeout(Duration.ofSeconds(props.responseTimeoutSeconds()));
+        return HttpClient.createDefault(options);
+    }
+
+    @Bean
+    public BlobServiceClient blobServiceClient(@Qualifier("azureBlobHttpClient") HttpClient azureBlobHttpClient) {
+        return new BlobServiceClientBuilder()
+                .connectionString(connectionString)
+                .httpClient(azureBlobHttpClient)
+                .buildClient();
+    }
+
+    /**
+     * Account key parsed once from the connection string, so download URLs are signed locally without a client.
+     */
+    @Bean
+    public StorageSharedKeyCredential storageSharedKeyCredential() {
+        return StorageSharedKeyCredential.fromConnectionString(connectionString);
+    }
+
+    @Bean
+    public BlobContainerClient blobContainerClient(BlobServiceClient blobServiceClient) {
+        return blobServiceClient.getBlobContainerClient(containerName);
+    }
+
+    @Bean
+    public BlobBatchClient blobBatchClient(BlobServiceClient blobServiceClient) {
+        return new BlobBatchClientBuilder(blobServiceClient).buildClient();
+    }
+}
@@ -0,0 +1,56 @@
+package dev.berlinbruno.PodPirateBackendApplication.config;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes a {@link ByteBuffer} body as is, for responses that were serialized ahead of time. The remaining
+ * bytes go straight to the servlet output stream (direct buffers in transfer-sized chunks, without an
+ * intermediate copy of the whole body); the controller sets the content type and encoding.
+ * Spring Boot registers converter beans ahead of its defaults, so Jackson never sees these bodies.
+ */
+@Component
+public class ByteBufferHttpMessageConverter extends AbstractHttpMessageConverter<ByteBuffer> {
+
+    public ByteBufferHttpMessageConverter() {
+        super(MediaType.ALL);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ByteBuffer.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ByteBuffer readInternal(Class<? extends ByteBuffer> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ByteBuffer request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(ByteBuffer buffer, MediaType contentType) {
+        return (long) buffer.remaining();
+    }
+
+    @Override
+    protected void writeInternal(ByteBuffer buffer, HttpOutputMessage outputMessage) throws IOException {
+        ByteBuffer source = buffer.duplicate();
+        WritableByteChannel channel = Channels.newChannel(outputMessage.getBody());
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package dev.berlinbruno.PodPirateBackendApplication.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.berlinbruno.PodPirateBackendApplication.cache.PublicCatalogCaches;
+import dev.berlinbruno.PodPirateBackendApplication.properties.CatalogCacheProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * In-process caches for public catalog responses.
+ * <p>
+ * Each cache is a bounded Caffeine cache (W-TinyLFU admission, so one-off search queries do not push
+ * out popular pages) with a write TTL. Entries are evicted precisely by
+ * {@code PublicCatalogCacheInvalidator} when this node changes a podcast, its episodes or a creator.
+ * Single-resource entries are keyed by the version their response is tagged with, so changes made on
+ * other nodes are picked up as soon as the version moves; for discovery pages the TTL bounds how long
+ * such changes stay invisible. The TTL also keeps cached signed URLs far from expiry. Spring Boot
+ * binds the standard cache meters (gets by hit/miss, puts, evictions, size); a hit-ratio gauge per
+ * cache is added here.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(CatalogCacheProperties properties, MeterRegistry meterRegistry) {
+        if (!properties.enabled()) {
+            return new NoOpCacheManager();
+        }
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        register(cacheManager, meterRegistry, properties, PublicCatalogCaches.PODCASTS, properties.listingMaximumSize());
+        register(cacheManager, meterRegistry, properties, PublicCatalogCaches.PODCAST, properties.podcastMaximumSize());
+        register(cacheManager, meterRegistry, properties, PublicCatalogCaches.EPISODES, properties.episodesMaximumSize());
+        register(cacheManager, meterRegistry, properties, PublicCatalogCaches.CREATOR, properties.creatorMaximumSize());
+        return cacheManager;
+    }
+
+    private void register(CaffeineCacheManager cacheManager, MeterRegistry meterRegistry,
+                          CatalogCacheProperties properties, String name, long maximumSize) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(properties.ttlSeconds()))
+                .recordStats()
+                .build();
+        cacheManager.registerCustomCache(name, cache);
+
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Share of cache lookups served from the cache since startup")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+}
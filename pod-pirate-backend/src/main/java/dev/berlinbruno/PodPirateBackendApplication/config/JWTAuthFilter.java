@@ -1,8 +1,12 @@
 package dev.berlinbruno.PodPirateBackendApplication.config;
 
 
-import dev.berlinbruno.PodPirateBackendApplication.service.impl.OurUserDetailsService;
+import dev.berlinbruno.PodPirateBackendApplication.model.JwtPrincipal;
+import dev.berlinbruno.PodPirateBackendApplication.service.TokenRevocationService;
 import dev.berlinbruno.PodPirateBackendApplication.utils.JWTUtils;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,44 +15,67 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+/**
+ * Authenticates requests from access token claims alone; the user document is never loaded here.
+ * Revocation is enforced by comparing the token's security version with the user's current one.
+ */
 @Component
 @RequiredArgsConstructor
 public class JWTAuthFilter extends OncePerRequestFilter {
 
     private final JWTUtils jwtUtils;
-    private final OurUserDetailsService ourUserDetailsService;
+    private final TokenRevocationService tokenRevocationService;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
-        final String jwtToken;
-        final String userEmail;
-        if (authHeader == null || authHeader.isBlank()) {
+        // Already authenticated by an earlier filter (e.g. a metrics scrape token, which is not a JWT)
+        if (authHeader == null || authHeader.isBlank() || SecurityContextHolder.getContext().getAuthentication() != null) {
             filterChain.doFilter(request, response);
             return;
         }
-        jwtToken = authHeader.substring(7);
-        userEmail = jwtUtils.extractUsername(jwtToken);
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = ourUserDetailsService.loadUserByUsername(userEmail);
-
-            if (jwtUtils.isTokenValid(jwtToken, userDetails)) {
-                SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
-                UsernamePasswordAuthenticationToken token = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities()
-                );
-                token.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                securityContext.setAuthentication(token);
-                SecurityContextHolder.setContext(securityContext);
-            }
+
+        // Times token handling only, not the rest of the chain.
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "invalid";
+        try {
+            outcome = authenticate(request, authHeader.substring(7));
+        } finally {
+            sample.stop(Timer.builder("security.jwt.filter")
+                    .description("Time spent authenticating a request from its bearer token")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
         filterChain.doFilter(request, response);
     }
+
+    private String authenticate(HttpServletRequest request, String jwtToken) {
+        final Claims claims = jwtUtils.parseClaims(jwtToken);
+        final JwtPrincipal principal = jwtUtils.toPrincipal(claims);
+        if (principal == null) {
+            return "not-access-token";
+        }
+        if (SecurityContextHolder.getContext().getAuthentication() != null) {
+            return "already-authenticated";
+        }
+        if (tokenRevocationService.isRevoked(principal.userId(), principal.securityVersion())) {
+            return "revoked";
+        }
+
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        UsernamePasswordAuthenticationToken token = new UsernamePasswordAuthenticationToken(
+                principal, null, principal.getAuthorities()
+        );
+        token.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        securityContext.setAuthentication(token);
+        SecurityContextHolder.setContext(securityContext);
+        return "authenticated";
+    }
 }
@@ -0,0 +1,61 @@
+package dev.berlinbruno.PodPirateBackendApplication.config;
+
+import dev.berlinbruno.PodPirateBackendApplication.utils.PodcastSizeTag;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Metric wiring shared by the whole application.
+ * Service timers ({@code @Timed} on service classes) are tagged with the class, method and the
+ * endpoint pattern of the request that triggered them; HTTP server timers additionally carry the
+ * podcast size bucket recorded by the services. Mongo command timings come from the driver
+ * command listener that Spring Boot registers for Micrometer.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        // Typed parameter: TimedAspect also takes a Predicate<ProceedingJoinPoint> to skip join points
+        return new TimedAspect(meterRegistry, (ProceedingJoinPoint joinPoint) -> {
+            MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+            return Tags.of(
+                    "class", signature.getDeclaringType().getSimpleName(),
+                    "method", signature.getName(),
+                    "endpoint", currentEndpoint());
+        });
+    }
+
+    @Bean
+    public DefaultServerRequestObservationConvention serverRequestObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                Object bucket = context.getCarrier().getAttribute(PodcastSizeTag.ATTRIBUTE);
+                return super.getLowCardinalityKeyValues(context)
+                        .and(PodcastSizeTag.TAG, bucket != null ? bucket.toString() : PodcastSizeTag.NONE);
+            }
+        };
+    }
+
+    private static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return "none";
+        }
+        Object pattern = attributes.getAttribute(
+                HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return pattern != null ? pattern.toString() : "unknown";
+    }
+}
@@ -0,0 +1,61 @@
+package dev.berlinbruno.PodPirateBackendApplication.config;
+
+import dev.berlinbruno.PodPirateBackendApplication.properties.MetricsScrapeProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * Authenticates Prometheus scrapes with the static {@code metrics.scrape.token}, so the scraper does not
+ * depend on an admin access token that expires. The token is only checked on the scrape endpoint and
+ * only grants {@link #AUTHORITY}, which no other route accepts.
+ */
+@Component
+@RequiredArgsConstructor
+public class MetricsScrapeAuthFilter extends OncePerRequestFilter {
+
+    public static final String AUTHORITY = "METRICS_SCRAPE";
+    public static final String SCRAPE_PATH = "/actuator/prometheus";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final MetricsScrapeProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled()
+                || !SCRAPE_PATH.equals(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader != null && authHeader.startsWith(BEARER_PREFIX) && matches(authHeader.substring(BEARER_PREFIX.length()))) {
+            SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+            securityContext.setAuthentication(new UsernamePasswordAuthenticationToken(
+                    "metrics-scraper", null, List.of(new SimpleGrantedAuthority(AUTHORITY))));
+            SecurityContextHolder.setContext(securityContext);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean matches(String token) {
+        // Constant-time comparison, so response timing does not reveal how much of the token matched
+        return MessageDigest.isEqual(
+                token.getBytes(StandardCharsets.UTF_8),
+                properties.token().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -24,6 +24,7 @@ public class SecurityConfig {
 
     private final OurUserDetailsService ourUserDetailsService;
     private final JWTAuthFilter jwtAuthFIlter;
+    private final MetricsScrapeAuthFilter metricsScrapeAuthFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
@@ -32,12 +33,16 @@ public class SecurityConfig {
                 .authorizeHttpRequests(request -> request.requestMatchers("/api/auth/**", "/api/public/**").permitAll()
                         .requestMatchers("/api/admin/**").hasAnyAuthority("ADMIN")
                         .requestMatchers("/api/me/**").hasAnyAuthority("USER","ADMIN")
-                        .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html", "/actuator/**").permitAll()
+                        .requestMatchers(MetricsScrapeAuthFilter.SCRAPE_PATH).hasAnyAuthority("ADMIN", MetricsScrapeAuthFilter.AUTHORITY)
+                        .requestMatchers("/actuator/mongoindexes").hasAnyAuthority("ADMIN")
+                        .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html",
+                                "/actuator/health/**", "/actuator/info").permitAll()
                         .anyRequest().authenticated())
                 .sessionManagement(manager -> manager.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authenticationProvider(authenticationProvider()).addFilterBefore(
                         jwtAuthFIlter, UsernamePasswordAuthenticationFilter.class
-                );
+                )
+                .addFilterBefore(metricsScrapeAuthFilter, JWTAuthFilter.class);
         return httpSecurity.build();
     }
 
@@ -1,11 +1,17 @@
 package dev.berlinbruno.PodPirateBackendApplication.controller;
 
+import dev.berlinbruno.PodPirateBackendApplication.dto.CursorPage;
+import dev.berlinbruno.PodPirateBackendApplication.dto.SearchPage;
 import dev.berlinbruno.PodPirateBackendApplication.dto.admin.*;
 import dev.berlinbruno.PodPirateBackendApplication.dto.episode.EpisodeDetailResponse;
+import dev.berlinbruno.PodPirateBackendApplication.dto.stats.CreatorListenerStatsResponse;
+import dev.berlinbruno.PodPirateBackendApplication.dto.stats.PodcastListenerStatsResponse;
 import dev.berlinbruno.PodPirateBackendApplication.service.AdminService;
+import dev.berlinbruno.PodPirateBackendApplication.service.ListenerStatsService;
 import dev.berlinbruno.PodPirateBackendApplication.types.AccountRoles;
 import dev.berlinbruno.PodPirateBackendApplication.types.AccountStatus;
 import dev.berlinbruno.PodPirateBackendApplication.types.PodcastStatus;
+import dev.berlinbruno.PodPirateBackendApplication.types.StatsInterval;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,12 +23,14 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -48,6 +56,7 @@ import java.util.List;
 public class AdminController {
 
     private final AdminService adminService;
+    private final ListenerStatsService listenerStatsService;
 
     // ==================== USER MANAGEMENT ====================
 
@@ -100,6 +109,58 @@ public class AdminController {
         return ResponseEntity.ok(adminService.getAllUsers(q, roles, status, page, size));
     }
 
+    /**
+     * Scrolls through users using keyset pagination.
+     *
+     * @param q Optional search query to filter users by username or email
+     * @param status Optional filter by account status
+     * @param roles Optional filter by account role
+     * @param cursor Cursor returned by the previous slice, absent for the first slice
+     * @param size Number of items per slice
+     * @param includeTotal Whether to count all matches
+     * @return Slice of users with the cursor for the next slice
+     */
+    @Operation(
+            summary = "Scroll users",
+            description = "Cursor-based alternative to the paginated user listing, sorted by registration date (newest first). " +
+                    "Each slice continues right after the previous one, so deep slices are as fast as the first. " +
+                    "The total count is omitted unless includeTotal=true.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved users",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPage.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor or size"),
+                    @ApiResponse(responseCode = "401", description = "Authentication required"),
+                    @ApiResponse(responseCode = "403", description = "Admin authority required"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    @GetMapping("/users/scroll")
+    public ResponseEntity<CursorPage<AdminUserResponse>> scrollUsers(
+            @RequestParam(required = false)
+            @Parameter(description = "Search query to filter by username or email (optional)")
+            String q,
+            @RequestParam(required = false)
+            @Parameter(description = "Filter by account status: ACTIVE, LOCKED, or PENDING_VERIFICATION (optional)")
+            AccountStatus status,
+            @RequestParam(required = false)
+            @Parameter(description = "Filter by account role: USER, ADMIN, or CREATOR (optional)")
+            AccountRoles roles,
+            @RequestParam(required = false)
+            @Parameter(description = "Opaque cursor from the previous slice's nextCursor (omit for the first slice)")
+            String cursor,
+            @RequestParam(defaultValue = "25")
+            @Parameter(description = "Number of items per slice (default: 25, max: 100)")
+            @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "false")
+            @Parameter(description = "Whether to count the total number of matches (default: false)")
+            boolean includeTotal
+    ) {
+        return ResponseEntity.ok(adminService.scrollUsers(q, roles, status, cursor, size, includeTotal));
+    }
+
     /**
      * Retrieves detailed information about a specific user.
      *
@@ -276,6 +337,103 @@ public class AdminController {
         return ResponseEntity.ok(adminService.getAllPodcasts(q, status, page, size));
     }
 
+    /**
+     * Searches podcasts, returning the page with its total and per-category and per-status counts.
+     *
+     * @param q Optional search query to filter podcasts by title
+     * @param category Optional category filter
+     * @param status Optional filter by podcast status
+     * @param page Page number (zero-indexed)
+     * @param size Number of items per page
+     * @return Page of podcasts with the total and facet counts
+     */
+    @Operation(
+            summary = "Search podcasts",
+            description = "Paginated podcast search sorted by creation date (newest first) whose response also carries " +
+                    "the number of matching podcasts per category and per status, computed together with the page in a single query. " +
+                    "Each facet ignores its own filter so the other values remain selectable. " +
+                    "Flagged podcasts are counted under FLAGGED and are included when no status is given.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully searched podcasts",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = SearchPage.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Invalid status parameter or pagination values"),
+                    @ApiResponse(responseCode = "401", description = "Authentication required"),
+                    @ApiResponse(responseCode = "403", description = "Admin authority required"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    @GetMapping("/podcasts/search")
+    public ResponseEntity<SearchPage<AdminPodcastResponse>> searchPodcasts(
+            @RequestParam(required = false)
+            @Parameter(description = "Search query to filter by podcast title (optional)")
+            String q,
+            @RequestParam(required = false)
+            @Parameter(description = "Filter by podcast category (optional)")
+            String category,
+            @RequestParam(required = false)
+            @Parameter(description = "Filter by podcast status: DRAFT, PUBLISHED, ARCHIVED, or FLAGGED (optional)")
+            PodcastStatus status,
+            @RequestParam(defaultValue = "0")
+            @Parameter(description = "Page number (zero-indexed, default: 0)")
+            @Min(0) int page,
+            @RequestParam(defaultValue = "25")
+            @Parameter(description = "Number of items per page (default: 25, max: 100)")
+            @Min(1) @Max(100) int size
+    ) {
+        return ResponseEntity.ok(adminService.searchPodcasts(q, category, status, page, size));
+    }
+
+    /**
+     * Scrolls through podcasts using keyset pagination.
+     *
+     * @param q Optional search query to filter podcasts by title
+     * @param status Optional filter by podcast status
+     * @param cursor Cursor returned by the previous slice, absent for the first slice
+     * @param size Number of items per slice
+     * @param includeTotal Whether to count all matches
+     * @return Slice of podcasts with the cursor for the next slice
+     */
+    @Operation(
+            summary = "Scroll podcasts",
+            description = "Cursor-based alternative to the paginated podcast listing, sorted by creation date (newest first). " +
+                    "Each slice continues right after the previous one, so deep slices are as fast as the first. " +
+                    "The total count is omitted unless includeTotal=true.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved podcasts",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPage.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor, status or size"),
+                    @ApiResponse(responseCode = "401", description = "Authentication required"),
+                    @ApiResponse(responseCode = "403", description = "Admin authority required"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    @GetMapping("/podcasts/scroll")
+    public ResponseEntity<CursorPage<AdminPodcastResponse>> scrollPodcasts(
+            @RequestParam(required = false)
+            @Parameter(description = "Search query to filter by podcast title (optional)")
+            String q,
+            @RequestParam(required = false)
+            @Parameter(description = "Filter by podcast status: DRAFT, PUBLISHED, ARCHIVED, or FLAGGED (optional)")
+            PodcastStatus status,
+            @RequestParam(required = false)
+            @Parameter(description = "Opaque cursor from the previous slice's nextCursor (omit for the first slice)")
+            String cursor,
+            @RequestParam(defaultValue = "25")
+            @Parameter(description = "Number of items per slice (default: 25, max: 100)")
+            @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "false")
+            @Parameter(description = "Whether to count the total number of matches (default: false)")
+            boolean includeTotal
+    ) {
+        return ResponseEntity.ok(adminService.scrollPodcasts(q, status, cursor, size, includeTotal));
+    }
+
     /**
      * Retrieves detailed information about a specific podcast.
      *
@@ -483,4 +641,101 @@ public class AdminController {
         adminService.deleteEpisode(podcastId, episodeId);
         return ResponseEntity.noContent().build();
     }
+
+
+    // ==================== STATISTICS ====================
+
+    /**
+     * Retrieves listener statistics of any podcast.
+     *
+     * @param podcastId Podcast ID to report on
+     * @param from First day of the range
+     * @param to Last day of the range
+     * @param interval Period of the series entries
+     * @return Unique listeners, plays and listening time of the podcast and its episodes
+     */
+    @Operation(
+            summary = "Get podcast listener statistics",
+            description = "Retrieve estimated unique listeners of any podcast over a date range, as a total, " +
+                    "as a daily, weekly or monthly series, and per episode, together with plays and listening time. " +
+                    "Unique listener counts are HyperLogLog estimates with about 2% error.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved podcast statistics",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = PodcastListenerStatsResponse.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Invalid podcast ID or date range"),
+                    @ApiResponse(responseCode = "401", description = "Authentication required"),
+                    @ApiResponse(responseCode = "403", description = "Admin authority required"),
+                    @ApiResponse(responseCode = "404", description = "Podcast not found"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    @GetMapping("/podcasts/{podcastId}/stats")
+    public ResponseEntity<PodcastListenerStatsResponse> getPodcastStats(
+            @PathVariable
+            @Parameter(description = "Unique podcast identifier", required = true)
+            String podcastId,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @Parameter(description = "First day of the range, UTC (default: 30 days before the end)")
+            LocalDate from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @Parameter(description = "Last day of the range, UTC (default: today)")
+            LocalDate to,
+            @RequestParam(defaultValue = "DAY")
+            @Parameter(description = "Period of the series entries: DAY, WEEK or MONTH (default: DAY)")
+            StatsInterval interval
+    ) {
+        return ResponseEntity.ok(listenerStatsService.getPodcastStatsForAdmin(podcastId, from, to, interval));
+    }
+
+    /**
+     * Retrieves the unique listeners across all podcasts of a creator.
+     *
+     * @param userId Creator user ID
+     * @param from First day of the range
+     * @param to Last day of the range
+     * @param interval Period of the series entries
+     * @return Unique listeners of the creator's podcasts
+     */
+    @Operation(
+            summary = "Get creator listener statistics",
+            description = "Retrieve estimated unique listeners across all podcasts of a creator over a date range, " +
+                    "as a total and as a daily, weekly or monthly series. " +
+                    "A listener of several of the creator's podcasts is counted once.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved creator statistics",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CreatorListenerStatsResponse.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Invalid user ID or date range"),
+                    @ApiResponse(responseCode = "401", description = "Authentication required"),
+                    @ApiResponse(responseCode = "403", description = "Admin authority required"),
+                    @ApiResponse(responseCode = "404", description = "User not found"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    @GetMapping("/users/{userId}/stats")
+    public ResponseEntity<CreatorListenerStatsResponse> getCreatorStats(
+            @PathVariable
+            @Parameter(description = "Unique user identifier", required = true)
+            String userId,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @Parameter(description = "First day of the range, UTC (default: 30 days before the end)")
+            LocalDate from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @Parameter(description = "Last day of the range, UTC (default: today)")
+            LocalDate to,
+            @RequestParam(defaultValue = "DAY")
+            @Parameter(description = "Period of the series entries: DAY, WEEK or MONTH (default: DAY)")
+            StatsInterval interval
+    ) {
+        return ResponseEntity.ok(listenerStatsService.getCreatorStatsForAdmin(userId, from, to, interval));
+    }
 }
@@ -0,0 +1,210 @@
+package dev.berlinbruno.PodPirateBackendApplication.controller;
+
+import dev.berlinbruno.PodPirateBackendApplication.dto.GeneralResponse;
+import dev.berlinbruno.PodPirateBackendApplication.exception.InvalidResourceException;
+import dev.berlinbruno.PodPirateBackendApplication.service.impl.LocalBlobServiceImpl;
+import dev.berlinbruno.PodPirateBackendApplication.types.AppMessage;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Serves the signed upload and download URLs issued by {@link LocalBlobServiceImpl} when blobs are stored
+ * on the local filesystem. Downloads support single byte ranges so audio players can seek, and are handed
+ * to Tomcat's sendfile when the connector supports it, so file bytes go from the page cache to the socket
+ * without passing through the JVM. Only registered when {@code storage.provider} is {@code local}.
+ *
+ * @author Pod Pirate Team
+ * @version 1.0
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("/api/public/blobs")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.provider", havingValue = "local")
+@Tag(
+        name = "Local Blob Storage",
+        description = "Targets of the signed media URLs when blobs are stored on the backend's filesystem. " +
+                "Access is granted by the URL signature, not by authentication."
+)
+public class LocalBlobController {
+
+    // Request attributes understood by Tomcat's NIO/NIO2 connectors (see org.apache.catalina.Globals)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // Below this size a plain channel copy is cheaper than setting up sendfile
+    private static final long SENDFILE_MIN_BYTES = 48 * 1024;
+
+    private final LocalBlobServiceImpl localBlobService;
+
+    /**
+     * Downloads a blob through a signed read URL, honouring a single {@code Range} header.
+     */
+    @Operation(
+            summary = "Download file",
+            description = "Stream a file through a signed download URL. A single byte range may be requested " +
+                    "with the Range header.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Whole file"),
+                    @ApiResponse(responseCode = "206", description = "Requested byte range"),
+                    @ApiResponse(responseCode = "403", description = "Signature invalid or expired"),
+                    @ApiResponse(responseCode = "404", description = "File not found"),
+                    @ApiResponse(responseCode = "416", description = "Range outside the file")
+            }
+    )
+    @GetMapping("/{*path}")
+    public void download(
+            @PathVariable String path,
+            @RequestParam("sp") String permission,
+            @RequestParam("se") long expiresAt,
+            @RequestParam("sig") String signature,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        Path file = localBlobService.authorizeRead(blobPath(path), permission, expiresAt, signature);
+        long length = Files.size(file);
+        long start = 0;
+        long end = length - 1;
+
+        List<HttpRange> ranges = parseRanges(request.getHeader(HttpHeaders.RANGE));
+        if (ranges.size() == 1) {
+            HttpRange range = ranges.get(0);
+            if (!isSatisfiable(range, length)) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                throw rangeNotSatisfiable();
+            }
+            start = range.getRangeStart(length);
+            end = range.getRangeEnd(length);
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        // Several ranges would need a multipart/byteranges body; players only ask for one, so answer with the whole file.
+
+        long count = end - start + 1;
+        response.setContentType(MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, Files.getLastModifiedTime(file).toMillis());
+        response.setContentLengthLong(count);
+
+        if (HttpMethod.HEAD.matches(request.getMethod()) || count <= 0) {
+            return;
+        }
+        if (count >= SENDFILE_MIN_BYTES && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = in.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    /**
+     * Uploads a blob through a signed write URL. The body is streamed to disk, never buffered in memory.
+     */
+    @Operation(
+            summary = "Upload file",
+            description = "Store the request body as the file named by a signed upload URL, replacing any previous file.",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "File stored"),
+                    @ApiResponse(responseCode = "403", description = "Signature invalid or expired"),
+                    @ApiResponse(responseCode = "413", description = "File exceeds the maximum upload size")
+            }
+    )
+    @PutMapping("/{*path}")
+    public ResponseEntity<Void> upload(
+            @PathVariable String path,
+            @RequestParam("sp") String permission,
+            @RequestParam("se") long expiresAt,
+            @RequestParam("sig") String signature,
+            HttpServletRequest request
+    ) throws IOException {
+        localBlobService.write(blobPath(path), permission, expiresAt, signature,
+                request.getContentLengthLong(), request.getInputStream());
+        return ResponseEntity.status(HttpStatus.CREATED).build();
+    }
+
+    // ==================== HELPER METHODS ====================
+
+    /**
+     * The catch-all pattern captures the path with its leading slash.
+     */
+    private static String blobPath(String path) {
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+
+    private static List<HttpRange> parseRanges(String header) {
+        try {
+            return HttpRange.parseRanges(header);
+        } catch (IllegalArgumentException e) {
+            // A malformed Range header is ignored and the full file is returned
+            return List.of();
+        }
+    }
+
+    /**
+     * A range is satisfiable when it starts inside the file; an empty file satisfies none, suffix ranges included.
+     */
+    private static boolean isSatisfiable(HttpRange range, long length) {
+        if (length == 0) {
+            return false;
+        }
+        try {
+            return range.getRangeStart(length) < length;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static InvalidResourceException rangeNotSatisfiable() {
+        return new InvalidResourceException(
+                new GeneralResponse(
+                        HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE,
+                        AppMessage.FILE_RANGE_NOT_SATISFIABLE.getCode(),
+                        AppMessage.FILE_RANGE_NOT_SATISFIABLE.getMessage(),
+                        AppMessage.FILE_RANGE_NOT_SATISFIABLE.getDetail()
+                )
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package dev.berlinbruno.PodPirateBackendApplication.controller;
 
+import dev.berlinbruno.PodPirateBackendApplication.dto.CursorPage;
 import dev.berlinbruno.PodPirateBackendApplication.dto.appuser.RemoveUserRequest;
 import dev.berlinbruno.PodPirateBackendApplication.dto.appuser.UpdateUserRequest;
 import dev.berlinbruno.PodPirateBackendApplication.dto.appuser.UserProfileResponse;
@@ -8,11 +9,17 @@ import dev.berlinbruno.PodPirateBackendApplication.dto.media.AudioUploadRequest;
 import dev.berlinbruno.PodPirateBackendApplication.dto.media.AudioUploadResponse;
 import dev.berlinbruno.PodPirateBackendApplication.dto.media.ImageUploadRequest;
 import dev.berlinbruno.PodPirateBackendApplication.dto.media.ImageUploadResponse;
+import dev.berlinbruno.PodPirateBackendApplication.dto.media.MediaUploadResponse;
 import dev.berlinbruno.PodPirateBackendApplication.dto.podcast.*;
+import dev.berlinbruno.PodPirateBackendApplication.dto.stats.PodcastListenerStatsResponse;
 import dev.berlinbruno.PodPirateBackendApplication.service.AppUserService;
 import dev.berlinbruno.PodPirateBackendApplication.service.EpisodeService;
+import dev.berlinbruno.PodPirateBackendApplication.service.ListenerStatsService;
 import dev.berlinbruno.PodPirateBackendApplication.service.PodcastService;
+import dev.berlinbruno.PodPirateBackendApplication.types.AudioExtension;
+import dev.berlinbruno.PodPirateBackendApplication.types.ImageExtension;
 import dev.berlinbruno.PodPirateBackendApplication.types.PodcastStatus;
+import dev.berlinbruno.PodPirateBackendApplication.types.StatsInterval;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -27,6 +34,8 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -34,6 +43,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -64,6 +75,7 @@ public class MeController {
     private final AppUserService appUserService;
     private final PodcastService podcastService;
     private final EpisodeService episodeService;
+    private final ListenerStatsService listenerStatsService;
 
     // ==================== USER PROFILE ====================
 
@@ -296,6 +308,60 @@ public class MeController {
         return ResponseEntity.ok(podcastService.getAllPodcastsForUser(profile.getUserId(), q, status, page, size));
     }
 
+    /**
+     * Scrolls through the authenticated user's podcasts using keyset pagination.
+     *
+     * @param authentication Current user's authentication context
+     * @param q Optional search query to filter podcasts by title
+     * @param status Optional filter by podcast status
+     * @param cursor Cursor returned by the previous slice, absent for the first slice
+     * @param size Number of items per slice
+     * @param includeTotal Whether to count all matches
+     * @return Slice of user's podcasts with the cursor for the next slice
+     */
+    @Operation(
+            summary = "Scroll user's podcasts",
+            description = "Cursor-based alternative to the paginated podcast listing of the authenticated user, " +
+                    "sorted by creation date (newest first). " +
+                    "The total count is omitted unless includeTotal=true.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved podcasts",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPage.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor or size"),
+                    @ApiResponse(responseCode = "401", description = "Authentication required - invalid or missing token"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    @GetMapping("/podcasts/scroll")
+    public ResponseEntity<CursorPage<PodcastResponse>> scrollUserPodcasts(
+            Authentication authentication,
+            @RequestParam(required = false)
+            @Parameter(description = "Search query to filter by podcast title (optional)")
+            String q,
+            @RequestParam(required = false)
+            @Parameter(description = "Filter by podcast status: DRAFT, PUBLISHED, ARCHIVED, or FLAGGED (optional)")
+            PodcastStatus status,
+            @RequestParam(required = false)
+            @Parameter(description = "Opaque cursor from the previous slice's nextCursor (omit for the first slice)")
+            String cursor,
+            @RequestParam(defaultValue = "25")
+            @Parameter(description = "Number of items per slice (default: 25, max: 100)")
+            @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "false")
+            @Parameter(description = "Whether to count the total number of matches (default: false)")
+            boolean includeTotal
+    ) {
+        String email = authentication.getName();
+        log.info("Scrolling podcasts for user: {}", email);
+        UserProfileResponse profile = appUserService.getProfileByEmail(email);
+
+        return ResponseEntity.ok(podcastService.scrollPodcastsForUser(
+                profile.getUserId(), q, status, cursor, size, includeTotal));
+    }
+
     /**
      * Creates a new podcast for the authenticated user.
      *
@@ -585,6 +651,59 @@ public class MeController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Retrieves listener statistics of a podcast.
+     *
+     * @param authentication Current user's authentication context
+     * @param podcastId Podcast ID to report on
+     * @param from First day of the range
+     * @param to Last day of the range
+     * @param interval Period of the series entries
+     * @return Unique listeners, plays and listening time of the podcast and its episodes
+     */
+    @Operation(
+            summary = "Get podcast listener statistics",
+            description = "Retrieve estimated unique listeners of a podcast over a date range, as a total, " +
+                    "as a daily, weekly or monthly series, and per episode, together with plays and listening time. " +
+                    "Unique listener counts are HyperLogLog estimates with about 2% error. " +
+                    "Listening from the last minute may not be included yet. " +
+                    "Ownership is automatically verified.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved podcast statistics",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = PodcastListenerStatsResponse.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Invalid podcast ID or date range"),
+                    @ApiResponse(responseCode = "401", description = "Authentication required - invalid or missing token"),
+                    @ApiResponse(responseCode = "403", description = "Not authorized to access this podcast - ownership verification failed"),
+                    @ApiResponse(responseCode = "404", description = "Podcast not found"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    @GetMapping("/podcasts/{podcastId}/stats")
+    public ResponseEntity<PodcastListenerStatsResponse> getPodcastStats(
+            Authentication authentication,
+            @PathVariable
+            @Parameter(description = "Unique podcast identifier", required = true)
+            @NotBlank String podcastId,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @Parameter(description = "First day of the range, UTC (default: 30 days before the end)")
+            LocalDate from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @Parameter(description = "Last day of the range, UTC (default: today)")
+            LocalDate to,
+            @RequestParam(defaultValue = "DAY")
+            @Parameter(description = "Period of the series entries: DAY, WEEK or MONTH (default: DAY)")
+            StatsInterval interval
+    ) {
+        String email = authentication.getName();
+        UserProfileResponse profile = appUserService.getProfileByEmail(email);
+        return ResponseEntity.ok(listenerStatsService.getPodcastStats(profile.getUserId(), podcastId, from, to, interval));
+    }
+
     // ==================== USER'S EPISODES ====================
 
     /**
@@ -824,6 +943,137 @@ public class MeController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Uploads episode image through the backend.
+     *
+     * @param authentication Current user's authentication context
+     * @param podcastId Podcast ID containing the episode
+     * @param episodeId Episode ID to upload image for
+     * @param extension Image file extension
+     * @param contentType Media type of the request body
+     * @param contentLength Size of the request body, if known
+     * @param body Raw image bytes
+     * @return Stored blob path, size and checksum
+     */
+    @Operation(
+            summary = "Upload episode image",
+            description = "Upload episode cover art through the backend instead of a pre-signed URL. " +
+                    "Send the raw file as the request body. It is streamed to storage in chunks and set as the " +
+                    "episode's image, replacing the previous one. " +
+                    "Ownership of parent podcast is automatically verified. " +
+                    "Supported formats: JPG, PNG, WebP. Max size: 5MB.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Image stored and set on the episode",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = MediaUploadResponse.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Invalid podcast/episode ID format or file extension"),
+                    @ApiResponse(responseCode = "401", description = "Authentication required - invalid or missing token"),
+                    @ApiResponse(responseCode = "403", description = "Not authorized to modify this episode - ownership verification failed"),
+                    @ApiResponse(responseCode = "404", description = "Podcast or episode not found"),
+                    @ApiResponse(responseCode = "413", description = "File exceeds the maximum image size"),
+                    @ApiResponse(responseCode = "503", description = "Too many uploads in progress - retry later"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    @PutMapping("/podcasts/{podcastId}/episodes/{episodeId}/episode-image")
+    public ResponseEntity<MediaUploadResponse> uploadEpisodeImage(
+            Authentication authentication,
+            @PathVariable
+            @Parameter(description = "Podcast ID containing the episode", required = true)
+            @NotBlank String podcastId,
+            @PathVariable
+            @Parameter(description = "Episode ID to upload image for", required = true)
+            @Min(0) Long episodeId,
+            @RequestParam
+            @Parameter(description = "Image file extension", required = true)
+            ImageExtension extension,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+            InputStream body
+    ) {
+        String email = authentication.getName();
+        log.info("Uploading episode image for episode {} in podcast {} by user: {}", episodeId, podcastId, email);
+        UserProfileResponse profile = appUserService.getProfileByEmail(email);
+        MediaUploadResponse response = episodeService.uploadEpisodeImage(
+                profile.getUserId(),
+                podcastId,
+                episodeId,
+                extension,
+                contentType,
+                contentLength != null ? contentLength : -1,
+                body
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Uploads episode audio through the backend.
+     *
+     * @param authentication Current user's authentication context
+     * @param podcastId Podcast ID containing the episode
+     * @param episodeId Episode ID to upload audio for
+     * @param extension Audio file extension
+     * @param contentType Media type of the request body
+     * @param contentLength Size of the request body, if known
+     * @param body Raw audio bytes
+     * @return Stored blob path, size and checksum
+     */
+    @Operation(
+            summary = "Upload episode audio",
+            description = "Upload episode audio through the backend instead of a pre-signed URL, for clients that " +
+                    "cannot complete direct uploads to cloud storage. Send the raw file as the request body. " +
+                    "It is streamed to storage in chunks, never held in memory or on disk, and set as the " +
+                    "episode's audio, replacing the previous file. The response carries the byte count and SHA-256. " +
+                    "Ownership of parent podcast is automatically verified. " +
+                    "Supported formats: MP3, M4A, AAC, WAV. Max size: 500MB.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Audio stored and set on the episode",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = MediaUploadResponse.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Invalid podcast/episode ID format or file extension"),
+                    @ApiResponse(responseCode = "401", description = "Authentication required - invalid or missing token"),
+                    @ApiResponse(responseCode = "403", description = "Not authorized to modify this episode - ownership verification failed"),
+                    @ApiResponse(responseCode = "404", description = "Podcast or episode not found"),
+                    @ApiResponse(responseCode = "413", description = "File exceeds the maximum audio size"),
+                    @ApiResponse(responseCode = "503", description = "Too many uploads in progress - retry later"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    @PutMapping("/podcasts/{podcastId}/episodes/{episodeId}/episode-audio")
+    public ResponseEntity<MediaUploadResponse> uploadEpisodeAudio(
+            Authentication authentication,
+            @PathVariable
+            @Parameter(description = "Podcast ID containing the episode", required = true)
+            @NotBlank String podcastId,
+            @PathVariable
+            @Parameter(description = "Episode ID to upload audio for", required = true)
+            @Min(0) Long episodeId,
+            @RequestParam
+            @Parameter(description = "Audio file extension", required = true)
+            AudioExtension extension,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+            InputStream body
+    ) {
+        String email = authentication.getName();
+        log.info("Uploading episode audio for episode {} in podcast {} by user: {}", episodeId, podcastId, email);
+        UserProfileResponse profile = appUserService.getProfileByEmail(email);
+        MediaUploadResponse response = episodeService.uploadEpisodeAudio(
+                profile.getUserId(),
+                podcastId,
+                episodeId,
+                extension,
+                contentType,
+                contentLength != null ? contentLength : -1,
+                body
+        );
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Updates episode metadata.
      *
@@ -0,0 +1,80 @@
+package dev.berlinbruno.PodPirateBackendApplication.controller;
+
+import dev.berlinbruno.PodPirateBackendApplication.dto.playback.PlaybackEventBatchRequest;
+import dev.berlinbruno.PodPirateBackendApplication.service.ListenerStatsService;
+import dev.berlinbruno.PodPirateBackendApplication.service.PlaybackService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller receiving playback events from players.
+ * Events are counted in memory and written to the database in periodic batches, so accepting
+ * them costs no database round trip.
+ *
+ * @author Pod Pirate Team
+ * @version 1.0
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("/api/public/playback")
+@RequiredArgsConstructor
+@Tag(
+        name = "Playback",
+        description = "Play and heartbeat events reported by players, used for play statistics and trending rankings. " +
+                "No authentication required."
+)
+public class PlaybackController {
+
+    private final PlaybackService playbackService;
+    private final ListenerStatsService listenerStatsService;
+
+    /**
+     * Records a batch of playback events.
+     *
+     * @param request Events to record
+     * @return 202 Accepted once the events are counted
+     */
+    @Operation(
+            summary = "Record playback events",
+            description = "Report that episodes started playing (PLAY) or are still playing (HEARTBEAT). " +
+                    "Up to 100 events may be sent at once. " +
+                    "Events are aggregated in memory and reach play statistics within a few seconds. " +
+                    "Players should send a stable anonymous listenerId so unique listeners can be estimated; " +
+                    "without it the client address identifies the listener. " +
+                    "No authentication required.",
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Events accepted"),
+                    @ApiResponse(responseCode = "400", description = "Invalid podcast ID, episode ID or event type"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    @PostMapping("/events")
+    public ResponseEntity<Void> recordEvents(
+            @Valid @RequestBody PlaybackEventBatchRequest request,
+            HttpServletRequest servletRequest
+    ) {
+        playbackService.recordEvents(request.getEvents());
+        listenerStatsService.recordListeners(listenerId(request, servletRequest), request.getEvents());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+    }
+
+    // ==================== HELPER METHODS ====================
+
+    private static String listenerId(PlaybackEventBatchRequest request, HttpServletRequest servletRequest) {
+        if (request.getListenerId() != null && !request.getListenerId().isBlank()) {
+            return request.getListenerId();
+        }
+        return servletRequest.getRemoteAddr() + "|" + servletRequest.getHeader(HttpHeaders.USER_AGENT);
+    }
+}
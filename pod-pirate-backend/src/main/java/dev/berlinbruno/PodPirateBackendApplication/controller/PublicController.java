@@ -1,12 +1,21 @@
 package dev.berlinbruno.PodPirateBackendApplication.controller;
 
+import dev.berlinbruno.PodPirateBackendApplication.cache.SerializedResponse;
+import dev.berlinbruno.PodPirateBackendApplication.cache.SerializedResponseCache;
+import dev.berlinbruno.PodPirateBackendApplication.cache.SerializedResponseCache.ResponseKind;
+import dev.berlinbruno.PodPirateBackendApplication.dto.CursorPage;
+import dev.berlinbruno.PodPirateBackendApplication.dto.SearchPage;
 import dev.berlinbruno.PodPirateBackendApplication.dto.creator.CreatorPublicResponse;
 import dev.berlinbruno.PodPirateBackendApplication.dto.episode.EpisodePublicDetailResponse;
 import dev.berlinbruno.PodPirateBackendApplication.dto.podcast.PodcastPublicDetailResponse;
 import dev.berlinbruno.PodPirateBackendApplication.dto.podcast.PodcastPublicResponse;
+import dev.berlinbruno.PodPirateBackendApplication.properties.HttpCacheProperties;
 import dev.berlinbruno.PodPirateBackendApplication.service.AppUserService;
+import dev.berlinbruno.PodPirateBackendApplication.service.CatalogVersionService;
+import dev.berlinbruno.PodPirateBackendApplication.service.CatalogVersionService.CatalogVersion;
 import dev.berlinbruno.PodPirateBackendApplication.service.EpisodeService;
 import dev.berlinbruno.PodPirateBackendApplication.service.PodcastService;
+import dev.berlinbruno.PodPirateBackendApplication.utils.IdStreams;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,16 +27,34 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Date;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * REST controller for public content discovery.
  * Provides unauthenticated access to published podcasts, episodes, and creator profiles.
  * All data excludes sensitive information and only shows published content.
+ * <p>
+ * Single-resource endpoints answer conditional requests: they send an ETag and Last-Modified taken
+ * from {@link CatalogVersionService} and return 304 Not Modified without building the body when
+ * the client's copy is still current. Podcast details and episode lists, the hottest of them, are
+ * written from {@link SerializedResponseCache}: JSON serialized and gzipped once per version.
  *
  * @author Pod Pirate Team
  * @version 1.0
@@ -47,6 +74,9 @@ public class PublicController {
     private final EpisodeService episodeService;
     private final PodcastService podcastService;
     private final AppUserService appUserService;
+    private final CatalogVersionService catalogVersionService;
+    private final HttpCacheProperties httpCacheProperties;
+    private final SerializedResponseCache serializedResponseCache;
 
     // ==================== PODCAST DISCOVERY ====================
 
@@ -94,6 +124,133 @@ public class PublicController {
         return ResponseEntity.ok(podcastService.getAllPublishedPodcasts(q,category,page, size));
     }
 
+    /**
+     * Scrolls through published podcasts using keyset pagination.
+     *
+     * @param q Optional search query to filter podcasts by title
+     * @param category Optional category filter
+     * @param cursor Cursor returned by the previous slice, absent for the first slice
+     * @param size Number of items per slice
+     * @param includeTotal Whether to count all matches
+     * @return Slice of published podcasts with the cursor for the next slice
+     */
+    @Operation(
+            summary = "Scroll published podcasts",
+            description = "Cursor-based alternative to the paginated podcast listing. " +
+                    "Each slice continues right after the previous one, so deep slices are as fast as the first. " +
+                    "Results are sorted by latest publication date. " +
+                    "The total count is omitted unless includeTotal=true. " +
+                    "No authentication required.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved published podcasts",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPage.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor or size"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    @GetMapping("/podcasts/scroll")
+    public ResponseEntity<CursorPage<PodcastPublicResponse>> scrollPublishedPodcasts(
+            @RequestParam(required = false)
+            @Parameter(description = "Search query to filter by podcast title (optional)")
+            String q,
+            @RequestParam(required = false)
+            @Parameter(description = "Filter by podcast category: e.g., Technology, Arts, Business, Comedy, Education (optional)")
+            String category,
+            @RequestParam(required = false)
+            @Parameter(description = "Opaque cursor from the previous slice's nextCursor (omit for the first slice)")
+            String cursor,
+            @RequestParam(defaultValue = "25")
+            @Parameter(description = "Number of items per slice (default: 25, max: 100)")
+            @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "false")
+            @Parameter(description = "Whether to count the total number of matches (default: false)")
+            boolean includeTotal
+    ) {
+        return ResponseEntity.ok(podcastService.scrollPublishedPodcasts(q, category, cursor, size, includeTotal));
+    }
+
+    /**
+     * Searches published podcasts, returning the page with its total and per-category counts.
+     *
+     * @param q Optional search query to filter podcasts by title
+     * @param category Optional category filter
+     * @param page Page number (zero-indexed)
+     * @param size Number of items per page
+     * @return Page of published podcasts with the total and category counts
+     */
+    @Operation(
+            summary = "Search published podcasts",
+            description = "Same filters and ordering as the podcast listing, but the response also carries the number " +
+                    "of matching podcasts per category, computed together with the page in a single query. " +
+                    "Category counts ignore the selected category so the other categories remain selectable. " +
+                    "No authentication required.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully searched published podcasts",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = SearchPage.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Invalid pagination parameters"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    @GetMapping("/podcasts/search")
+    public ResponseEntity<SearchPage<PodcastPublicResponse>> searchPublishedPodcasts(
+            @RequestParam(required = false)
+            @Parameter(description = "Search query to filter by podcast title (optional)")
+            String q,
+            @RequestParam(required = false)
+            @Parameter(description = "Filter by podcast category: e.g., Technology, Arts, Business, Comedy, Education (optional)")
+            String category,
+            @RequestParam(defaultValue = "0")
+            @Parameter(description = "Page number (zero-indexed, default: 0)")
+            @Min(0) int page,
+            @RequestParam(defaultValue = "25")
+            @Parameter(description = "Number of items per page (default: 25, max: 100)")
+            @Min(1) @Max(100) int size
+    ) {
+        return ResponseEntity.ok(podcastService.searchPublishedPodcasts(q, category, page, size));
+    }
+
+    /**
+     * Lists the podcasts with the most recent listening.
+     *
+     * @param category Optional category filter
+     * @param size Number of podcasts to return
+     * @return Trending published podcasts, best first
+     */
+    @Operation(
+            summary = "Get trending podcasts",
+            description = "Retrieve the published podcasts ranked by recent plays and listening time, " +
+                    "with older listening counting less the further it lies back. " +
+                    "Optionally restricted to one category. " +
+                    "Rankings are refreshed every few seconds. " +
+                    "No authentication required.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved trending podcasts",
+                            content = @Content(mediaType = "application/json")
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Invalid size"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    @GetMapping("/podcasts/trending")
+    public ResponseEntity<List<PodcastPublicResponse>> getTrendingPodcasts(
+            @RequestParam(required = false)
+            @Parameter(description = "Filter by podcast category: e.g., Technology, Arts, Business, Comedy, Education (optional)")
+            String category,
+            @RequestParam(defaultValue = "25")
+            @Parameter(description = "Number of podcasts (default: 25, max: 100)")
+            @Min(1) @Max(100) int size
+    ) {
+        return ResponseEntity.ok(podcastService.getTrendingPodcasts(category, size));
+    }
+
     /**
      * Retrieves detailed information about a published podcast.
      *
@@ -105,6 +262,7 @@ public class PublicController {
             description = "Retrieve comprehensive information about a specific published podcast including " +
                     "description, creator info, episode count, category, and cover images. " +
                     "Only accessible if podcast status is PUBLISHED. " +
+                    "Supports conditional requests via If-None-Match / If-Modified-Since. " +
                     "No authentication required.",
             responses = {
                     @ApiResponse(
@@ -112,18 +270,22 @@ public class PublicController {
                             description = "Successfully retrieved podcast details",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = PodcastPublicDetailResponse.class))
                     ),
+                    @ApiResponse(responseCode = "304", description = "Podcast unchanged since the client's copy"),
                     @ApiResponse(responseCode = "400", description = "Invalid podcast ID format"),
                     @ApiResponse(responseCode = "404", description = "Podcast not found or not published"),
                     @ApiResponse(responseCode = "500", description = "Internal server error")
             }
     )
     @GetMapping("/podcasts/{podcastId}")
-    public ResponseEntity<PodcastPublicDetailResponse> getPublishedPodcastDetails(
+    public ResponseEntity<ByteBuffer> getPublishedPodcastDetails(
             @PathVariable
             @Parameter(description = "Unique podcast identifier", required = true)
-            @NotBlank String podcastId
+            @NotBlank String podcastId,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(podcastService.getPublishedPodcastDetailsById(podcastId));
+        return conditionallySerialized(request, ResponseKind.PODCAST_DETAIL, podcastId,
+                catalogVersionService.getPodcastVersion(podcastId, true),
+                version -> podcastService.getPublishedPodcastDetailsById(podcastId, version));
     }
 
     // ==================== EPISODE DISCOVERY ====================
@@ -139,6 +301,7 @@ public class PublicController {
             description = "Retrieve all published episodes for a specific podcast. " +
                     "Episodes are ordered by episode number (oldest to newest). " +
                     "Only returns PUBLISHED episodes - drafts and archived episodes are excluded. " +
+                    "Supports conditional requests via If-None-Match / If-Modified-Since. " +
                     "No authentication required.",
             responses = {
                     @ApiResponse(
@@ -146,18 +309,22 @@ public class PublicController {
                             description = "Successfully retrieved published episodes",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = EpisodePublicDetailResponse.class))
                     ),
+                    @ApiResponse(responseCode = "304", description = "Episodes unchanged since the client's copy"),
                     @ApiResponse(responseCode = "400", description = "Invalid podcast ID format"),
                     @ApiResponse(responseCode = "404", description = "Podcast not found or not published"),
                     @ApiResponse(responseCode = "500", description = "Internal server error")
             }
     )
     @GetMapping("/podcasts/{podcastId}/episodes")
-    public ResponseEntity<List<EpisodePublicDetailResponse>> listPublishedEpisodes(
+    public ResponseEntity<ByteBuffer> listPublishedEpisodes(
             @PathVariable
             @Parameter(description = "Podcast ID to retrieve episodes from", required = true)
-            @NotBlank String podcastId
+            @NotBlank String podcastId,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(episodeService.getAllPublishedEpisodes(podcastId));
+        return conditionallySerialized(request, ResponseKind.PUBLISHED_EPISODES, podcastId,
+                catalogVersionService.getPodcastVersion(podcastId, false),
+                version -> episodeService.getAllPublishedEpisodes(podcastId, version));
     }
 
     /**
@@ -172,6 +339,7 @@ public class PublicController {
             description = "Retrieve comprehensive information about a specific published episode including " +
                     "title, description, audio URL, duration, and publication date. " +
                     "Only accessible if both podcast and episode status are PUBLISHED. " +
+                    "Supports conditional requests via If-None-Match / If-Modified-Since. " +
                     "No authentication required.",
             responses = {
                     @ApiResponse(
@@ -179,6 +347,7 @@ public class PublicController {
                             description = "Successfully retrieved episode details",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = EpisodePublicDetailResponse.class))
                     ),
+                    @ApiResponse(responseCode = "304", description = "Episode unchanged since the client's copy"),
                     @ApiResponse(responseCode = "400", description = "Invalid podcast or episode ID format"),
                     @ApiResponse(responseCode = "404", description = "Podcast or episode not found, or not published"),
                     @ApiResponse(responseCode = "500", description = "Internal server error")
@@ -191,60 +360,129 @@ public class PublicController {
             @NotBlank String podcastId,
             @PathVariable
             @Parameter(description = "Episode ID to retrieve", required = true)
-            @Min(1) Long episodeId
+            @Min(1) Long episodeId,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(episodeService.getPublishedEpisodeDetails(podcastId, episodeId));
+        // Episode changes move the podcast's version, so it covers the single episode too
+        return conditionally(request, catalogVersionService.getPodcastVersion(podcastId, false),
+                () -> episodeService.getPublishedEpisodeDetails(podcastId, episodeId));
+    }
+
+    /**
+     * Resolves an episode link created before public episode IDs were stable.
+     *
+     * @param podcastId Podcast ID containing the episode
+     * @param position Zero-based position among the podcast's published episodes
+     * @return Published episode details, carrying the episode's current episodeId
+     */
+    @Operation(
+            summary = "Get published episode by legacy position",
+            description = "Public episode IDs used to be the zero-based position of the episode among the podcast's " +
+                    "published episodes, so they shifted whenever an earlier episode was published or archived. " +
+                    "They are now stable episode numbers, and /podcasts/{podcastId}/episodes/{episodeId} expects those. " +
+                    "This endpoint resolves old position-based links; clients should switch to the returned episodeId. " +
+                    "No authentication required.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved episode details",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = EpisodePublicDetailResponse.class))
+                    ),
+                    @ApiResponse(responseCode = "304", description = "Episode unchanged since the client's copy"),
+                    @ApiResponse(responseCode = "400", description = "Invalid podcast ID or position"),
+                    @ApiResponse(responseCode = "404", description = "Podcast not found or not published, or no episode at this position"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    @GetMapping("/podcasts/{podcastId}/episodes/by-position/{position}")
+    public ResponseEntity<EpisodePublicDetailResponse> getPublishedEpisodeByLegacyPosition(
+            @PathVariable
+            @Parameter(description = "Podcast ID containing the episode", required = true)
+            @NotBlank String podcastId,
+            @PathVariable
+            @Parameter(description = "Zero-based position among the published episodes", required = true)
+            @Min(0) int position,
+            WebRequest request
+    ) {
+        return conditionally(request, catalogVersionService.getPodcastVersion(podcastId, false),
+                () -> episodeService.getPublishedEpisodeByLegacyPosition(podcastId, position));
     }
 
     // ==================== DISCOVERY UTILITIES ====================
 
     /**
-     * Retrieves all published podcast IDs.
+     * Streams all published podcast IDs.
      *
-     * @return List of all published podcast IDs
+     * @param updatedSince Optional lower bound on the podcast's last modification time
+     * @param accept Accept header, selects NDJSON or a JSON array
+     * @return Streamed published podcast IDs
      */
     @Operation(
             summary = "Get all published podcast IDs",
-            description = "Retrieve a list of all published podcast IDs on the platform. " +
-                    "Useful for indexing, sitemaps, or bulk operations. " +
-                    "Only returns IDs of PUBLISHED podcasts. " +
+            description = "Stream the IDs of all published podcasts on the platform. " +
+                    "Useful for indexing, sitemaps, static-site generation or bulk operations. " +
+                    "Returns a JSON array by default, or one JSON string per line with Accept: application/x-ndjson. " +
+                    "With updatedSince, only podcasts changed (including their episodes) at or after that time are returned; " +
+                    "removals are not reported, so a full listing is needed to detect them. " +
                     "No authentication required.",
             responses = {
                     @ApiResponse(
                             responseCode = "200",
-                            description = "Successfully retrieved podcast IDs",
-                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = List.class))
+                            description = "Successfully streamed podcast IDs",
+                            content = {
+                                    @Content(mediaType = "application/json", schema = @Schema(implementation = List.class)),
+                                    @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = String.class))
+                            }
                     ),
+                    @ApiResponse(responseCode = "400", description = "Invalid updatedSince timestamp"),
                     @ApiResponse(responseCode = "500", description = "Internal server error")
             }
     )
-    @GetMapping("/podcasts/ids")
-    public ResponseEntity<List<String>> getAllPublishedPodcastIds() {
-        return ResponseEntity.ok(podcastService.getAllPublishedPodcastIds());
+    @GetMapping(value = "/podcasts/ids", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> getAllPublishedPodcastIds(
+            @RequestParam(required = false)
+            @Parameter(description = "Only podcasts modified at or after this ISO-8601 instant (optional)")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date updatedSince,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        return streamIds(accept, () -> podcastService.streamPublishedPodcastIds(updatedSince));
     }
 
     /**
-     * Retrieves all creator IDs who have published podcasts.
+     * Streams all creator IDs who have published podcasts.
      *
-     * @return List of unique creator user IDs with published podcasts
+     * @param updatedSince Optional lower bound on the last modification time of the creator's podcasts
+     * @param accept Accept header, selects NDJSON or a JSON array
+     * @return Streamed unique creator user IDs with published podcasts
      */
     @Operation(
             summary = "Get all creator IDs with published podcasts",
-            description = "Retrieve a list of all unique creator user IDs who have at least one published podcast. " +
+            description = "Stream the unique IDs of all creators who have at least one published podcast. " +
                     "Useful for discovering active content creators on the platform. " +
+                    "Returns a JSON array by default, or one JSON string per line with Accept: application/x-ndjson. " +
+                    "With updatedSince, only creators with a published podcast changed at or after that time are returned. " +
                     "No authentication required.",
             responses = {
                     @ApiResponse(
                             responseCode = "200",
-                            description = "Successfully retrieved creator IDs",
-                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = List.class))
+                            description = "Successfully streamed creator IDs",
+                            content = {
+                                    @Content(mediaType = "application/json", schema = @Schema(implementation = List.class)),
+                                    @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = String.class))
+                            }
                     ),
+                    @ApiResponse(responseCode = "400", description = "Invalid updatedSince timestamp"),
                     @ApiResponse(responseCode = "500", description = "Internal server error")
             }
     )
-    @GetMapping("/creators/ids")
-    public ResponseEntity<List<String>> getAllCreatorIdsWithPublishedPodcasts() {
-        return ResponseEntity.ok(podcastService.getAllCreatorIdsWithPublishedPodcasts());
+    @GetMapping(value = "/creators/ids", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> getAllCreatorIdsWithPublishedPodcasts(
+            @RequestParam(required = false)
+            @Parameter(description = "Only creators with a podcast modified at or after this ISO-8601 instant (optional)")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date updatedSince,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        return streamIds(accept, () -> podcastService.streamCreatorIdsWithPublishedPodcasts(updatedSince));
     }
 
     // ==================== CREATOR PUBLIC PROFILES ====================
@@ -260,6 +498,7 @@ public class PublicController {
             description = "Retrieve public profile information for a podcast creator. " +
                     "Excludes sensitive information such as email address and account status. " +
                     "Includes display name, bio, profile image, and social links. " +
+                    "Supports conditional requests via If-None-Match / If-Modified-Since. " +
                     "No authentication required.",
             responses = {
                     @ApiResponse(
@@ -267,6 +506,7 @@ public class PublicController {
                             description = "Successfully retrieved creator profile",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = CreatorPublicResponse.class))
                     ),
+                    @ApiResponse(responseCode = "304", description = "Profile unchanged since the client's copy"),
                     @ApiResponse(responseCode = "400", description = "Invalid user ID format"),
                     @ApiResponse(responseCode = "404", description = "Creator not found or account inactive"),
                     @ApiResponse(responseCode = "500", description = "Internal server error")
@@ -276,9 +516,11 @@ public class PublicController {
     public ResponseEntity<CreatorPublicResponse> getCreatorPublicProfile(
             @PathVariable
             @Parameter(description = "Creator user identifier", required = true)
-            @NotBlank String userId
+            @NotBlank String userId,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(appUserService.getCreatorPublicProfile(userId));
+        CatalogVersion version = catalogVersionService.getCreatorVersion(userId);
+        return conditionally(request, version, () -> appUserService.getCreatorPublicProfile(userId, version));
     }
 
     /**
@@ -320,4 +562,77 @@ public class PublicController {
     ) {
         return ResponseEntity.ok(podcastService.getPublishedPodcastsByCreator(userId, page, size));
     }
+
+    // ==================== STREAMED RESPONSES ====================
+
+    private ResponseEntity<StreamingResponseBody> streamIds(String accept, Supplier<Stream<String>> ids) {
+        MediaType mediaType = IdStreams.negotiate(accept);
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .body(IdStreams.body(mediaType, ids));
+    }
+
+    // ==================== CONDITIONAL RESPONSES ====================
+
+    /**
+     * Returns 304 when the request's validators match {@code version}, otherwise the body from
+     * {@code body}. A null version (resource missing or unpublished) skips validation so the regular
+     * lookup produces its error response.
+     */
+    private <T> ResponseEntity<T> conditionally(WebRequest request, CatalogVersion version, Supplier<T> body) {
+        if (version == null) {
+            return ResponseEntity.ok(body.get());
+        }
+
+        CacheControl cacheControl = publicCacheControl();
+        if (request.checkNotModified(version.etag(), version.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().cacheControl(cacheControl).body(body.get());
+    }
+
+    /**
+     * Like {@link #conditionally}, but writes the body from {@link SerializedResponseCache}, gzip encoded
+     * when the client accepts it. {@code body} gets the version to cache the object under, or null when
+     * the serialized bytes are cached instead: they are then built from current data rather than from an
+     * object cached on this node, and only the version check decides whether they are reused.
+     */
+    private ResponseEntity<ByteBuffer> conditionallySerialized(WebRequest request, ResponseKind kind, String podcastId,
+                                                               CatalogVersion version, Function<CatalogVersion, ?> body) {
+        if (version == null) {
+            return serialized(ResponseEntity.ok(), serializedResponseCache.serialize(body.apply(null)), false);
+        }
+
+        // Both encodings of a version go out under one tag, which is only allowed for a weak tag
+        String etag = "W/" + version.etag();
+        CacheControl cacheControl = publicCacheControl();
+        if (request.checkNotModified(etag, version.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        CatalogVersion objectCacheVersion = serializedResponseCache.isEnabled() ? null : version;
+        SerializedResponse response = serializedResponseCache.get(kind, podcastId, version.etag(),
+                () -> body.apply(objectCacheVersion));
+        boolean gzip = response.hasGzip()
+                && SerializedResponseCache.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        return serialized(ResponseEntity.ok().cacheControl(cacheControl), response, gzip);
+    }
+
+    private static ResponseEntity<ByteBuffer> serialized(ResponseEntity.BodyBuilder builder,
+                                                         SerializedResponse response, boolean gzip) {
+        builder.contentType(MediaType.APPLICATION_JSON).varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(response.body(gzip));
+    }
+
+    private CacheControl publicCacheControl() {
+        return CacheControl
+                .maxAge(Duration.ofSeconds(httpCacheProperties.publicMaxAgeSeconds()))
+                .cachePublic()
+                .staleWhileRevalidate(Duration.ofSeconds(httpCacheProperties.staleWhileRevalidateSeconds()));
+    }
 }
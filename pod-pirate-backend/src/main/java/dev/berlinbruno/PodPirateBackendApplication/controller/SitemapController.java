@@ -0,0 +1,126 @@
+package dev.berlinbruno.PodPirateBackendApplication.controller;
+
+import dev.berlinbruno.PodPirateBackendApplication.properties.HttpCacheProperties;
+import dev.berlinbruno.PodPirateBackendApplication.service.SitemapService;
+import dev.berlinbruno.PodPirateBackendApplication.service.SitemapService.SitemapDocument;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.time.Duration;
+
+/**
+ * REST controller serving the precomputed XML sitemap of public podcast and creator pages.
+ * Responses are served from memory and answer conditional requests by ETag.
+ *
+ * @author Pod Pirate Team
+ * @version 1.0
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("/api/public")
+@RequiredArgsConstructor
+@Tag(
+        name = "Sitemap",
+        description = "XML sitemaps of public podcast and creator pages for search engines and static-site builds. " +
+                "No authentication required."
+)
+public class SitemapController {
+
+    private static final String SEGMENT_PATH = "/api/public/sitemaps";
+
+    private final SitemapService sitemapService;
+    private final HttpCacheProperties httpCacheProperties;
+
+    /**
+     * Retrieves the sitemap index.
+     *
+     * @return Sitemap index listing every sitemap segment
+     */
+    @Operation(
+            summary = "Get sitemap index",
+            description = "Retrieve the sitemap index, which lists every sitemap segment with its last modification time. " +
+                    "Each segment holds at most 50,000 URLs. " +
+                    "Supports conditional requests via If-None-Match / If-Modified-Since. " +
+                    "No authentication required.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved sitemap index",
+                            content = @Content(mediaType = "application/xml")
+                    ),
+                    @ApiResponse(responseCode = "304", description = "Index unchanged since the client's copy"),
+                    @ApiResponse(responseCode = "404", description = "Sitemap disabled"),
+                    @ApiResponse(responseCode = "503", description = "Sitemap not built yet; retry after the Retry-After delay"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    @GetMapping(value = "/sitemap.xml", produces = MediaType.APPLICATION_XML_VALUE)
+    public ResponseEntity<byte[]> getSitemapIndex(WebRequest request) {
+        String segmentBaseUrl = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path(SEGMENT_PATH)
+                .toUriString();
+        return conditionally(request, sitemapService.getIndex(segmentBaseUrl));
+    }
+
+    /**
+     * Retrieves one sitemap segment.
+     *
+     * @param name Segment name as listed in the index
+     * @return Sitemap segment
+     */
+    @Operation(
+            summary = "Get sitemap segment",
+            description = "Retrieve one sitemap segment listed in the sitemap index. " +
+                    "Segments are regenerated individually when the podcasts or creators they list change. " +
+                    "Supports conditional requests via If-None-Match / If-Modified-Since. " +
+                    "No authentication required.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved sitemap segment",
+                            content = @Content(mediaType = "application/xml")
+                    ),
+                    @ApiResponse(responseCode = "304", description = "Segment unchanged since the client's copy"),
+                    @ApiResponse(responseCode = "404", description = "No segment with this name"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    @GetMapping(value = "/sitemaps/{name}.xml", produces = MediaType.APPLICATION_XML_VALUE)
+    public ResponseEntity<byte[]> getSitemapSegment(
+            @PathVariable
+            @Parameter(description = "Segment name from the sitemap index, e.g. podcasts-0", required = true)
+            String name,
+            WebRequest request
+    ) {
+        return conditionally(request, sitemapService.getSegment(name));
+    }
+
+    // ==================== CONDITIONAL RESPONSES ====================
+
+    private ResponseEntity<byte[]> conditionally(WebRequest request, SitemapDocument document) {
+        CacheControl cacheControl = CacheControl
+                .maxAge(Duration.ofSeconds(httpCacheProperties.publicMaxAgeSeconds()))
+                .cachePublic();
+        if (request.checkNotModified(document.etag(), document.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_XML)
+                .cacheControl(cacheControl)
+                .body(document.content());
+    }
+}
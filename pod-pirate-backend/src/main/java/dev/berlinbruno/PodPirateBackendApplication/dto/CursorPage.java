@@ -0,0 +1,35 @@
+package dev.berlinbruno.PodPirateBackendApplication.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A keyset-paginated slice of results. Pass {@code nextCursor} back to fetch the following slice;
+ * it is null on the last slice. {@code totalElements} is only filled when requested.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    private Long totalElements;
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return CursorPage.<R>builder()
+                .content(content.stream().<R>map(mapper).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .totalElements(totalElements)
+                .build();
+    }
+}
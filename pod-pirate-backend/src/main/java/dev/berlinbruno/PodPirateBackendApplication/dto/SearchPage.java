@@ -0,0 +1,42 @@
+package dev.berlinbruno.PodPirateBackendApplication.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of search results together with the total and facet counts, all produced by a single query.
+ * Each facet counts the matches per value under every other filter, so a selected category still
+ * reports the counts of the other categories. Facets that were not requested are omitted.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SearchPage<T> {
+    private List<T> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    private List<FacetCount> categories;
+    private List<FacetCount> statuses;
+
+    public <R> SearchPage<R> map(Function<? super T, ? extends R> mapper) {
+        return SearchPage.<R>builder()
+                .content(content.stream().<R>map(mapper).toList())
+                .page(page)
+                .size(size)
+                .totalElements(totalElements)
+                .totalPages(totalPages)
+                .categories(categories)
+                .statuses(statuses)
+                .build();
+    }
+}
@@ -21,6 +21,7 @@ public class AdminUserResponse {
     private boolean isEmailVerified;
     private Set<String> roles;
     private long podcastCount;
+    private long totalEpisodeCount;
     private Date createdDate;
     private Date lastLoginDate;
 }
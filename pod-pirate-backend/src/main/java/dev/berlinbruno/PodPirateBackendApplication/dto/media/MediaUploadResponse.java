@@ -0,0 +1,16 @@
+package dev.berlinbruno.PodPirateBackendApplication.dto.media;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MediaUploadResponse {
+    private String blobPath;
+    private long sizeBytes;
+    private String sha256;
+}
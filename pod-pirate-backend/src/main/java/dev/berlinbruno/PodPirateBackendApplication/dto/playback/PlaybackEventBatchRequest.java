@@ -0,0 +1,25 @@
+package dev.berlinbruno.PodPirateBackendApplication.dto.playback;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaybackEventBatchRequest {
+
+    @NotEmpty(message = "At least one event is required")
+    @Size(max = 100, message = "At most 100 events can be sent at once")
+    private List<@Valid PlaybackEventRequest> events;
+
+    @Size(max = 64, message = "Listener ID must be at most 64 characters")
+    private String listenerId; // anonymous ID kept by the player; the client address is used when absent
+}
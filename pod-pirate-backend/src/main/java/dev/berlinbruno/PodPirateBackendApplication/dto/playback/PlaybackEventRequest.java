@@ -0,0 +1,28 @@
+package dev.berlinbruno.PodPirateBackendApplication.dto.playback;
+
+import dev.berlinbruno.PodPirateBackendApplication.types.PlaybackEventType;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaybackEventRequest {
+
+    @NotNull(message = "Podcast ID is required")
+    @Pattern(regexp = "^[0-9a-fA-F]{24}$", message = "Podcast ID is invalid")
+    private String podcastId;
+
+    @NotNull(message = "Episode ID is required")
+    @Min(value = 1, message = "Episode ID is invalid")
+    private Long episodeId;
+
+    @NotNull(message = "Event type is required")
+    private PlaybackEventType type; // PLAY when playback starts, HEARTBEAT while it continues
+}
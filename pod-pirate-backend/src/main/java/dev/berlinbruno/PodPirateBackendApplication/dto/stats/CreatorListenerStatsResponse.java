@@ -0,0 +1,23 @@
+package dev.berlinbruno.PodPirateBackendApplication.dto.stats;
+
+import dev.berlinbruno.PodPirateBackendApplication.types.StatsInterval;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreatorListenerStatsResponse {
+    private String userId;
+    private LocalDate from;
+    private LocalDate to;
+    private StatsInterval interval;
+    private long uniqueListeners; // estimated, about 2% error
+    private List<ListenerStatsPoint> series;
+}
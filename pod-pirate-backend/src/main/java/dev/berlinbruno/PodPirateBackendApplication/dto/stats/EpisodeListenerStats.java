@@ -0,0 +1,17 @@
+package dev.berlinbruno.PodPirateBackendApplication.dto.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EpisodeListenerStats {
+    private Long episodeId;
+    private long uniqueListeners;
+    private long plays;
+    private long listenSeconds;
+}
@@ -0,0 +1,17 @@
+package dev.berlinbruno.PodPirateBackendApplication.dto.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ListenerStatsPoint {
+    private LocalDate periodStart;
+    private long uniqueListeners;
+}
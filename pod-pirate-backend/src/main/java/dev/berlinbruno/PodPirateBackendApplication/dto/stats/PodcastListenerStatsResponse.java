@@ -0,0 +1,26 @@
+package dev.berlinbruno.PodPirateBackendApplication.dto.stats;
+
+import dev.berlinbruno.PodPirateBackendApplication.types.StatsInterval;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PodcastListenerStatsResponse {
+    private String podcastId;
+    private LocalDate from;
+    private LocalDate to;
+    private StatsInterval interval;
+    private long uniqueListeners; // estimated, about 2% error
+    private long plays;
+    private long listenSeconds;
+    private List<ListenerStatsPoint> series;
+    private List<EpisodeListenerStats> episodes;
+}
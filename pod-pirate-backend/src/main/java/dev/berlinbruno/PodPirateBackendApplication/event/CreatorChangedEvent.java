@@ -0,0 +1,7 @@
+package dev.berlinbruno.PodPirateBackendApplication.event;
+
+/**
+ * Published after a user's public profile (name, bio, picture) changed or the user was deleted.
+ */
+public record CreatorChangedEvent(String userId) {
+}
@@ -0,0 +1,9 @@
+package dev.berlinbruno.PodPirateBackendApplication.event;
+
+/**
+ * Published after episodes of a podcast were created, changed or removed.
+ * Episode writes do not touch the podcast document, so listeners that derive data
+ * from a podcast together with its episodes use this to refresh.
+ */
+public record EpisodesChangedEvent(String podcastId) {
+}
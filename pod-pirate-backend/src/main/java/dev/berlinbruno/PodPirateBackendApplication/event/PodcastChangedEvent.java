@@ -0,0 +1,24 @@
+package dev.berlinbruno.PodPirateBackendApplication.event;
+
+import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Published after a podcast was updated, published, archived, flagged, unflagged or deleted.
+ * Carries every category the podcast was listed under before and after the change, so listeners
+ * can tell which category listings are affected.
+ */
+public record PodcastChangedEvent(String podcastId, String userId, Set<String> categories) {
+
+    public static PodcastChangedEvent of(Podcast podcast, String... previousCategories) {
+        Set<String> categories = Stream.concat(Stream.of(podcast.getCategory()), Arrays.stream(previousCategories))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet());
+        return new PodcastChangedEvent(podcast.getId(), podcast.getUserId(), categories);
+    }
+}
@@ -5,6 +5,7 @@ import dev.berlinbruno.PodPirateBackendApplication.types.AppMessage;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -34,7 +35,14 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(ResourceUnavailableException.class)
     public ResponseEntity<GeneralResponse> handleResourceUnavailable(ResourceUnavailableException ex) {
-        return buildErrorResponse(ex.getErrorResponse());
+        ResponseEntity<GeneralResponse> response = buildErrorResponse(ex.getErrorResponse());
+        if (ex.getRetryAfter() == null) {
+            return response;
+        }
+        return ResponseEntity
+                .status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfter().toSeconds()))
+                .body(response.getBody());
     }
 
     @ExceptionHandler(ResourceNotFoundException.class)
@@ -3,12 +3,21 @@ package dev.berlinbruno.PodPirateBackendApplication.exception;
 import dev.berlinbruno.PodPirateBackendApplication.dto.GeneralResponse;
 import lombok.Getter;
 
+import java.time.Duration;
+
 @Getter
 public class ResourceUnavailableException extends RuntimeException {
     private final GeneralResponse errorResponse;
+    // Sent as Retry-After when set
+    private final Duration retryAfter;
 
     public ResourceUnavailableException(GeneralResponse errorResponse) {
+        this(errorResponse, null);
+    }
+
+    public ResourceUnavailableException(GeneralResponse errorResponse, Duration retryAfter) {
         super(errorResponse.getMessage());
         this.errorResponse = errorResponse;
+        this.retryAfter = retryAfter;
     }
 }
@@ -0,0 +1,180 @@
+package dev.berlinbruno.PodPirateBackendApplication.migration;
+
+import dev.berlinbruno.PodPirateBackendApplication.event.EpisodesChangedEvent;
+import dev.berlinbruno.PodPirateBackendApplication.model.Episode;
+import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
+import dev.berlinbruno.PodPirateBackendApplication.properties.EpisodeMigrationProperties;
+import dev.berlinbruno.PodPirateBackendApplication.service.PodcastAggregateService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Moves episodes embedded in podcast documents into the episode collection.
+ * <p>
+ * Runs in the background after startup while the application keeps serving. Podcasts that still
+ * carry an {@code episodes} array are streamed in cursor batches; for each one a block of episode
+ * numbers is reserved on the podcast, the episodes are upserted by (podcastId, episodeNumber) in one
+ * unordered bulk write per batch, and the embedded array is then removed. Numbers are assigned in
+ * embedded-list order starting at the podcast's counter (0 unless episodes were created before the
+ * podcast was migrated), so existing index-based episode links keep working.
+ * Podcast episode aggregates are recomputed for every migrated batch.
+ * <p>
+ * Every step is idempotent: an interrupted run resumes from the reserved base on the next start.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmbeddedEpisodeMigration {
+
+    private static final String LEGACY_FIELD = "episodes";
+    private static final String BASE_FIELD = "episodeMigrationBase";
+    private static final String COUNTER_FIELD = "nextEpisodeNumber";
+
+    private final MongoTemplate mongoTemplate;
+    private final EpisodeMigrationProperties properties;
+    private final TaskExecutor taskExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PodcastAggregateService podcastAggregateService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateInBackground() {
+        if (properties.enabled()) {
+            taskExecutor.execute(this::migrate);
+        }
+    }
+
+    /**
+     * Migrates all remaining embedded episodes and returns the number of podcasts processed.
+     */
+    public long migrate() {
+        String podcastCollection = mongoTemplate.getCollectionName(Podcast.class);
+        Query query = new Query(Criteria.where(LEGACY_FIELD).exists(true));
+        query.fields().include(LEGACY_FIELD, BASE_FIELD);
+        query.cursorBatchSize(properties.batchSize());
+
+        long start = System.currentTimeMillis();
+        long podcasts = 0;
+        long episodes = 0;
+
+        try (Stream<Document> stream = mongoTemplate.stream(query, Document.class, podcastCollection)) {
+            Iterator<Document> iterator = stream.iterator();
+            List<Document> batch = new ArrayList<>(properties.batchSize());
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() >= properties.batchSize() || !iterator.hasNext()) {
+                    episodes += migrateBatch(batch, podcastCollection);
+                    podcasts += batch.size();
+                    batch.clear();
+                    log.info("Episode migration progress: {} podcasts, {} episodes", podcasts, episodes);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Episode migration stopped after {} podcasts; it resumes on next start", podcasts, e);
+            return podcasts;
+        }
+
+        if (podcasts > 0) {
+            log.info("Episode migration finished: {} podcasts, {} episodes in {} ms",
+                    podcasts, episodes, System.currentTimeMillis() - start);
+        }
+        return podcasts;
+    }
+
+    private long migrateBatch(List<Document> batch, String podcastCollection) {
+        BulkOperations episodeOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Episode.class);
+        List<Object> podcastIds = new ArrayList<>(batch.size());
+        long episodeCount = 0;
+
+        for (Document podcast : batch) {
+            Object rawId = podcast.get("_id");
+            String podcastId = rawId.toString();
+            List<Document> embedded = podcast.getList(LEGACY_FIELD, Document.class, List.of());
+
+            podcastIds.add(rawId);
+            Long base = reserveEpisodeNumbers(podcast, embedded.size(), podcastCollection);
+            if (base == null) {
+                continue; // deleted or finished elsewhere meanwhile
+            }
+
+            for (int i = 0; i < embedded.size(); i++) {
+                Episode episode = mongoTemplate.getConverter().read(Episode.class, embedded.get(i));
+                episode.setId(null);
+                episode.setPodcastId(podcastId);
+                episode.setEpisodeNumber(base + i);
+
+                episodeOps.replaceOne(
+                        new Query(Criteria.where("podcastId").is(podcastId).and("episodeNumber").is(base + i)),
+                        episode,
+                        FindAndReplaceOptions.options().upsert());
+            }
+
+            episodeCount += embedded.size();
+        }
+
+        if (episodeCount > 0) {
+            episodeOps.execute();
+        }
+        mongoTemplate.updateMulti(
+                new Query(Criteria.where("_id").in(podcastIds)),
+                new Update().unset(LEGACY_FIELD).unset(BASE_FIELD),
+                podcastCollection);
+
+        List<String> migratedIds = podcastIds.stream().map(Object::toString).toList();
+        podcastAggregateService.recompute(migratedIds);
+        migratedIds.forEach(id -> eventPublisher.publishEvent(new EpisodesChangedEvent(id)));
+        return episodeCount;
+    }
+
+    /**
+     * Atomically records the current episode counter as the migration base and advances the counter
+     * past the embedded episodes. A base left behind by an interrupted run is reused as-is.
+     * Returns null when the podcast no longer needs migrating.
+     */
+    private Long reserveEpisodeNumbers(Document podcast, int count, String podcastCollection) {
+        if (podcast.get(BASE_FIELD) instanceof Number base) {
+            return base.longValue();
+        }
+
+        AggregationUpdate reserve = AggregationUpdate.update()
+                .set(BASE_FIELD).toValue(ConditionalOperators.ifNull(COUNTER_FIELD).then(0))
+                .set(COUNTER_FIELD).toValue(ArithmeticOperators
+                        .valueOf(ConditionalOperators.ifNull(COUNTER_FIELD).then(0))
+                        .add(count));
+
+        Document reserved = mongoTemplate.findAndModify(
+                new Query(Criteria.where("_id").is(podcast.get("_id")).and(BASE_FIELD).exists(false)),
+                reserve,
+                FindAndModifyOptions.options().returnNew(true),
+                Document.class,
+                podcastCollection);
+        if (reserved == null) {
+            // Reserved concurrently by another instance; the upserts are idempotent.
+            reserved = mongoTemplate.findById(podcast.get("_id"), Document.class, podcastCollection);
+        }
+        if (reserved == null || !(reserved.get(BASE_FIELD) instanceof Number base)) {
+            return null;
+        }
+        return base.longValue();
+    }
+}
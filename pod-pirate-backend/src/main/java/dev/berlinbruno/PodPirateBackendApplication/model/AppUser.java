@@ -9,6 +9,9 @@ import lombok.Data;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -20,6 +23,10 @@ import java.util.Set;
 
 @Data
 @Document(collection = "app_user")
+@CompoundIndexes({
+        @CompoundIndex(name = "created", def = "{'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "roles_created", def = "{'roles': 1, 'createdAt': -1, '_id': -1}")
+})
 public class AppUser implements UserDetails {
 
     @Id
@@ -39,10 +46,12 @@ public class AppUser implements UserDetails {
             regexp = "^(?:[a-z]*\\d){0,3}[a-z]*$",
             message = "Username can contain lowercase letters and up to 3 digits only"
     )
+    @Indexed(name = "username")
     private String username;
 
     @NotBlank(message = "Email should not be empty")
     @Email(message = "Invalid email format")
+    @Indexed(name = "email", unique = true)
     private String email;
 
     @NotBlank(message = "Password should not be empty")
@@ -60,8 +69,12 @@ public class AppUser implements UserDetails {
 
     private boolean isEmailVerified;
 
+    // Embedded in issued tokens; bumping it revokes every token issued before
+    private long securityVersion;
+
     public void lock() {
         this.isLocked = true;
+        revokeTokens();
     }
 
     public void unlock() {
@@ -76,6 +89,10 @@ public class AppUser implements UserDetails {
         this.isEmailVerified = false;
     }
 
+    public void revokeTokens() {
+        this.securityVersion++;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return roles.stream()
@@ -0,0 +1,36 @@
+package dev.berlinbruno.PodPirateBackendApplication.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * Blob waiting to be deleted from storage. Entries are written before the delete is attempted and
+ * removed once it succeeds, so deletes interrupted by a failure or restart are retried later.
+ * The blob path is the ID, which makes re-queuing the same blob idempotent.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "blob_deletion")
+@CompoundIndex(name = "attempts_next_attempt", def = "{'attempts': 1, 'nextAttemptAt': 1}")
+public class BlobDeletion {
+
+    @Id
+    private String path;
+
+    private int attempts;
+
+    private Date nextAttemptAt;
+
+    private String lastError;
+
+    private Date createdAt;
+}
@@ -0,0 +1,53 @@
+package dev.berlinbruno.PodPirateBackendApplication.model;
+
+import dev.berlinbruno.PodPirateBackendApplication.types.VerificationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * Email waiting to be delivered. Entries are written by the request that triggers the email and
+ * removed once the SMTP server accepted the message; failed sends stay with a backoff until they
+ * run out of attempts or their token expires, after which they are kept as dead letters until the
+ * TTL index purges them.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "email_outbox")
+@CompoundIndex(name = "attempts_next_attempt", def = "{'attempts': 1, 'nextAttemptAt': 1}")
+public class EmailOutbox {
+
+    @Id
+    private String id;
+
+    private String recipient;
+
+    private String token;
+
+    private VerificationType type;
+
+    private int attempts;
+
+    private Date nextAttemptAt;
+
+    // Set while a dispatcher run owns the entry
+    @Indexed(name = "claim", sparse = true)
+    private String claim;
+
+    private String lastError;
+
+    // The token in the message is useless after this
+    private Date expiresAt;
+
+    @Indexed(name = "created_ttl", expireAfter = "30d")
+    private Date createdAt;
+}
@@ -8,15 +8,38 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.Date;
 
-
+/**
+ * Episode of a podcast, stored in its own collection and referenced by {@code podcastId}.
+ * {@code episodeNumber} is the stable, per-podcast identifier exposed by the API as episodeId;
+ * numbers are handed out from {@link Podcast#getNextEpisodeNumber()} and never reused.
+ */
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
+@Document
+@CompoundIndexes({
+        @CompoundIndex(name = "podcast_episode_number", def = "{'podcastId': 1, 'episodeNumber': 1}", unique = true),
+        @CompoundIndex(name = "podcast_status_published", def = "{'podcastId': 1, 'episodeStatus': 1, 'publishedAt': -1}"),
+        @CompoundIndex(name = "status_podcast", def = "{'episodeStatus': 1, 'podcastId': 1}")
+})
 public class Episode {
 
+    @Id
+    private String id;
+
+    @NotBlank(message = "PodcastId should not be empty")
+    private String podcastId;
+
+    @NotNull(message = "Episode number should not be empty")
+    private Long episodeNumber;
+
     @NotBlank(message = "Title should not be empty")
     @Size(min = 3, max = 100, message = "Title should be between 3 and 100 characters")
     private String title;
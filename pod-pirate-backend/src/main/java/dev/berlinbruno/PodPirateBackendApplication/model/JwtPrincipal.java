@@ -0,0 +1,31 @@
+package dev.berlinbruno.PodPirateBackendApplication.model;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Authenticated user rebuilt from access token claims, without loading the {@link AppUser}.
+ * {@link #getName()} is the email, so {@code Authentication#getName()} is unchanged for controllers.
+ */
+public record JwtPrincipal(
+        String userId,
+        String email,
+        Set<String> roles,
+        long securityVersion
+) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return roles.stream()
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+}
@@ -0,0 +1,42 @@
+package dev.berlinbruno.PodPirateBackendApplication.model;
+
+import dev.berlinbruno.PodPirateBackendApplication.types.SketchScope;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * HyperLogLog sketch of the distinct listeners of one episode, podcast or creator on one UTC day.
+ * The owner is the podcast ID for episode and podcast sketches and the user ID for creator sketches.
+ * {@code registers} holds {@code HyperLogLog.toBytes()}; {@code version} is incremented by every
+ * write, so concurrent merges from several nodes are detected and retried.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "listener_sketches")
+@CompoundIndex(name = "scope_owner_day", def = "{'scope': 1, 'ownerId': 1, 'day': 1}")
+public class ListenerSketch {
+
+    @Id
+    private String id;
+
+    private SketchScope scope;
+
+    private String ownerId;
+
+    private Long episodeNumber;
+
+    private Date day;
+
+    private byte[] registers;
+
+    private long version;
+}
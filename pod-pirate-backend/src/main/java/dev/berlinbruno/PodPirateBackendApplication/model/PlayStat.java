@@ -0,0 +1,43 @@
+package dev.berlinbruno.PodPirateBackendApplication.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * Playback counts of one episode within one time bucket. Documents are only ever upserted with
+ * {@code $inc}, so flushes from several nodes into the same bucket add up.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "play_stats")
+@CompoundIndexes({
+        @CompoundIndex(name = "podcast_episode_bucket", def = "{'podcastId': 1, 'episodeNumber': 1, 'bucketStart': 1}", unique = true),
+        @CompoundIndex(name = "bucket_podcast", def = "{'bucketStart': 1, 'podcastId': 1}")
+})
+public class PlayStat {
+
+    @Id
+    private String id;
+
+    private String podcastId;
+
+    private Long episodeNumber;
+
+    private Date bucketStart;
+
+    private long plays;
+
+    private long heartbeats;
+
+    private long listenSeconds;
+}
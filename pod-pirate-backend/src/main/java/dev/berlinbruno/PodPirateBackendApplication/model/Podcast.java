@@ -1,7 +1,6 @@
 package dev.berlinbruno.PodPirateBackendApplication.model;
 
 import dev.berlinbruno.PodPirateBackendApplication.types.PodcastStatus;
-import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Builder;
@@ -9,14 +8,33 @@ import lombok.Data;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Indexes follow the query shapes in MongoPodcastSearchStrategy, LookupServiceImpl and PodcastRepository:
+ * equality fields first, then the sort key, with {@code _id} as the keyset tie-breaker.
+ */
 @Data
 @Builder
 @Document
+@CompoundIndexes({
+        @CompoundIndex(name = "status_published", def = "{'podcastStatus': 1, 'publishedAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "status_category_published", def = "{'podcastStatus': 1, 'category': 1, 'publishedAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "status_modified", def = "{'podcastStatus': 1, 'lastModifiedAt': 1, 'userId': 1, '_id': 1}"),
+        @CompoundIndex(name = "user_flagged_status_published", def = "{'userId': 1, 'flagged': 1, 'podcastStatus': 1, 'publishedAt': -1}"),
+        @CompoundIndex(name = "user_flagged_created", def = "{'userId': 1, 'flagged': 1, 'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "flagged_status_created", def = "{'flagged': 1, 'podcastStatus': 1, 'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "flagged_published", def = "{'flagged': 1, 'publishedAt': -1}"),
+        // Faceted admin search: status and category filters move into the $facet branches
+        @CompoundIndex(name = "created", def = "{'createdAt': -1, '_id': -1}")
+})
 public class Podcast {
 
     @Id
@@ -48,7 +66,25 @@ public class Podcast {
     @Size(min = 10, max = 300, message = "Description should be between 10 and 300 characters")
     private String description;
 
-    private List<@Valid Episode> episodes;
+    // Next episode number to hand out; episodes live in their own collection (see Episode)
+    private long nextEpisodeNumber;
+
+    // Episodes embedded by earlier versions; kept so saves don't drop them before EmbeddedEpisodeMigration runs
+    @Field("episodes")
+    private List<Map<String, Object>> legacyEpisodes;
+
+    // First episode number reserved for legacyEpisodes while they are being migrated
+    private Long episodeMigrationBase;
+
+    // Episode aggregates, maintained with targeted updates by PodcastAggregateService on every episode
+    // change; podcast edits are targeted updates too and never write these back
+    private long totalEpisodeCount;
+
+    private long publishedEpisodeCount;
+
+    private Date lastEpisodePublishedAt;
+
+    private long totalDurationSeconds;
 
     private boolean flagged;
 
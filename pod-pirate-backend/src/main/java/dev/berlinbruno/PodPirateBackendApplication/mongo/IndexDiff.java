@@ -0,0 +1,24 @@
+package dev.berlinbruno.PodPirateBackendApplication.mongo;
+
+import org.bson.Document;
+
+/**
+ * Result of comparing one declared or existing index with the database.
+ */
+public record IndexDiff(
+        String collection,
+        String name,
+        Status status,
+        Document declared,
+        Document actual
+) {
+
+    public enum Status {
+        OK,           // exists as declared
+        CREATED,      // was missing and has been created
+        FAILED,       // was missing and could not be created, e.g. a unique index over duplicate data
+        MISSING,      // declared but not present
+        MISMATCH,     // present under the declared name with different keys or options
+        UNDECLARED    // present in the database but not declared on any document
+    }
+}
@@ -0,0 +1,35 @@
+package dev.berlinbruno.PodPirateBackendApplication.mongo;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint ({@code /actuator/mongoindexes}) reporting the index diff and the query plan of
+ * every registered query shape. Read-only: missing indexes are reported, not created.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "mongoindexes")
+public class MongoIndexEndpoint {
+
+    private final MongoIndexVerifier mongoIndexVerifier;
+    private final QueryPlanInspector queryPlanInspector;
+
+    @ReadOperation
+    public Map<String, Object> report() {
+        List<IndexDiff> indexes = mongoIndexVerifier.verify(false);
+        List<QueryPlan> queryPlans = queryPlanInspector.explainAll();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("collectionScans", queryPlans.stream().filter(QueryPlan::collectionScan).map(QueryPlan::shape).toList());
+        report.put("indexes", indexes);
+        report.put("queryPlans", queryPlans);
+        return report;
+    }
+}
@@ -0,0 +1,199 @@
+package dev.berlinbruno.PodPirateBackendApplication.mongo;
+
+import dev.berlinbruno.PodPirateBackendApplication.properties.MongoIndexProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Compares the indexes declared on {@code @Document} classes with the ones in the database.
+ * <p>
+ * On startup every mapped collection is checked: missing indexes are created (unless disabled),
+ * indexes whose keys or options (unique, sparse, TTL, partial filter) differ from the declaration are
+ * reported as mismatches, and
+ * indexes nobody declared are listed so they can be dropped or declared. The report is logged as a
+ * single summary plus one line per difference, and is also served by the mongoindexes endpoint.
+ * <p>
+ * This is the only place indexes are created: Spring Data's {@code auto-index-creation} is off, so a
+ * declaration the database rejects shows up as FAILED in the report instead of aborting entity mapping.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoIndexVerifier {
+
+    private static final String ID_INDEX = "_id_";
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoIndexProperties properties;
+
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyOnStartup() {
+        if (!properties.verifyOnStartup()) {
+            return;
+        }
+
+        List<IndexDiff> report = verify(properties.createMissing());
+        logReport(report);
+
+        if (properties.failOnMismatch()
+                && report.stream().anyMatch(diff -> diff.status() == IndexDiff.Status.MISMATCH
+                        || diff.status() == IndexDiff.Status.FAILED)) {
+            throw new IllegalStateException("Mongo indexes do not match their declarations; see the index report above");
+        }
+    }
+
+    /**
+     * Diffs declared and existing indexes for every mapped collection.
+     *
+     * @param createMissing Whether to create declared indexes that do not exist.
+     */
+    public List<IndexDiff> verify(boolean createMissing) {
+        MongoMappingContext mappingContext = (MongoMappingContext) mongoTemplate.getConverter().getMappingContext();
+        IndexResolver resolver = IndexResolver.create(mappingContext);
+
+        List<IndexDiff> report = new ArrayList<>();
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)) {
+                continue;
+            }
+            report.addAll(verifyCollection(entity, resolver, createMissing));
+        }
+        return report;
+    }
+
+    private List<IndexDiff> verifyCollection(MongoPersistentEntity<?> entity, IndexResolver resolver,
+                                             boolean createMissing) {
+        String collection = entity.getCollection();
+        IndexOperations indexOps = mongoTemplate.indexOps(collection);
+
+        Map<String, IndexInfo> existing = new LinkedHashMap<>();
+        if (mongoTemplate.collectionExists(collection)) {
+            indexOps.getIndexInfo().forEach(info -> existing.put(info.getName(), info));
+        }
+
+        List<IndexDiff> diffs = new ArrayList<>();
+        Set<String> declaredNames = new HashSet<>();
+        for (IndexDefinition declared : resolver.resolveIndexFor(entity.getTypeInformation())) {
+            Document options = declared.getIndexOptions();
+            String name = options.getString("name");
+            declaredNames.add(name);
+            Document declaredSpec = spec(declared.getIndexKeys(), options);
+
+            IndexInfo actual = existing.get(name);
+            if (actual == null) {
+                if (createMissing) {
+                    diffs.add(create(indexOps, declared, collection, name, declaredSpec));
+                } else {
+                    diffs.add(new IndexDiff(collection, name, IndexDiff.Status.MISSING, declaredSpec, null));
+                }
+                continue;
+            }
+
+            Document actualSpec = spec(actual);
+            IndexDiff.Status status = declaredSpec.equals(actualSpec) ? IndexDiff.Status.OK : IndexDiff.Status.MISMATCH;
+            diffs.add(new IndexDiff(collection, name, status, declaredSpec, actualSpec));
+        }
+
+        existing.forEach((name, info) -> {
+            if (!ID_INDEX.equals(name) && !declaredNames.contains(name)) {
+                diffs.add(new IndexDiff(collection, name, IndexDiff.Status.UNDECLARED, null, spec(info)));
+            }
+        });
+        return diffs;
+    }
+
+    private IndexDiff create(IndexOperations indexOps, IndexDefinition declared, String collection, String name,
+                             Document declaredSpec) {
+        try {
+            indexOps.ensureIndex(declared);
+            return new IndexDiff(collection, name, IndexDiff.Status.CREATED, declaredSpec, null);
+        } catch (DataAccessException e) {
+            log.error("Could not create index {}.{}: {}", collection, name, e.getMostSpecificCause().getMessage());
+            return new IndexDiff(collection, name, IndexDiff.Status.FAILED, declaredSpec, null);
+        }
+    }
+
+    private Document spec(Document keys, Document options) {
+        Document normalizedKeys = new Document();
+        keys.forEach((field, direction) -> normalizedKeys.put(field,
+                direction instanceof Number number ? (Object) number.intValue() : direction));
+        Document partialFilter = options.get("partialFilterExpression", Document.class);
+        return withOptions(new Document("key", normalizedKeys),
+                options.getBoolean("unique", false),
+                options.getBoolean("sparse", false),
+                options.get("expireAfterSeconds") instanceof Number seconds ? seconds.longValue() : null,
+                partialFilter != null ? partialFilter.toJson() : null);
+    }
+
+    private Document spec(IndexInfo info) {
+        Document keys = new Document();
+        for (IndexField field : info.getIndexFields()) {
+            if (field.getDirection() != null) {
+                keys.put(field.getKey(), field.getDirection() == Sort.Direction.ASC ? 1 : -1);
+            } else {
+                keys.put(field.getKey(), field.isText() ? "text" : field.isGeo() ? "2dsphere" : "hashed");
+            }
+        }
+        return withOptions(new Document("key", keys),
+                info.isUnique(),
+                info.isSparse(),
+                info.getExpireAfter().map(Duration::getSeconds).orElse(null),
+                info.getPartialFilterExpression());
+    }
+
+    /**
+     * Adds the options that change what an index holds. Optional ones are only present when set, and
+     * the partial filter is re-parsed so declared and stored forms compare equal.
+     */
+    private Document withOptions(Document spec, boolean unique, boolean sparse, Long expireAfterSeconds,
+                                 String partialFilterJson) {
+        spec.append("unique", unique);
+        if (sparse) {
+            spec.append("sparse", true);
+        }
+        if (expireAfterSeconds != null) {
+            spec.append("expireAfterSeconds", expireAfterSeconds);
+        }
+        if (partialFilterJson != null) {
+            spec.append("partialFilterExpression", Document.parse(partialFilterJson));
+        }
+        return spec;
+    }
+
+    private void logReport(List<IndexDiff> report) {
+        Map<IndexDiff.Status, Long> counts = new EnumMap<>(IndexDiff.Status.class);
+        report.forEach(diff -> counts.merge(diff.status(), 1L, Long::sum));
+        log.info("Mongo index report: {}", counts);
+
+        for (IndexDiff diff : report) {
+            switch (diff.status()) {
+                case OK -> { }
+                case CREATED -> log.info("Created index {}.{} {}", diff.collection(), diff.name(), diff.declared().toJson());
+                case FAILED -> log.warn("Failed to create index {}.{} {}", diff.collection(), diff.name(), diff.declared().toJson());
+                case MISSING -> log.warn("Missing index {}.{} {}", diff.collection(), diff.name(), diff.declared().toJson());
+                case MISMATCH -> log.warn("Index {}.{} differs: declared {} but found {}", diff.collection(), diff.name(),
+                        diff.declared().toJson(), diff.actual().toJson());
+                case UNDECLARED -> log.warn("Undeclared index {}.{} {}", diff.collection(), diff.name(), diff.actual().toJson());
+            }
+        }
+    }
+}
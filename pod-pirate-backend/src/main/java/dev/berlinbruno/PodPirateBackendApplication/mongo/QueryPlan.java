@@ -0,0 +1,17 @@
+package dev.berlinbruno.PodPirateBackendApplication.mongo;
+
+import java.util.List;
+
+/**
+ * Winning plan summary for one query shape.
+ */
+public record QueryPlan(
+        String shape,
+        String collection,
+        List<String> stages,
+        List<String> indexes,
+        boolean collectionScan,
+        boolean inMemorySort,
+        String error
+) {
+}
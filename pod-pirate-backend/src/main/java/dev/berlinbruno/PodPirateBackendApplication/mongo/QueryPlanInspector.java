@@ -0,0 +1,94 @@
+package dev.berlinbruno.PodPirateBackendApplication.mongo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Runs {@code explain} (queryPlanner verbosity, so nothing is executed) for every registered query
+ * shape and summarises the winning plan: the stages it uses, the indexes it reads and whether it
+ * falls back to a collection scan or an in-memory sort.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryPlanInspector {
+
+    private static final int SAMPLE_LIMIT = 21;
+
+    private final MongoTemplate mongoTemplate;
+    private final QueryShapeRegistry queryShapeRegistry;
+
+    public List<QueryPlan> explainAll() {
+        QueryMapper queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        return queryShapeRegistry.shapes().stream()
+                .map(shape -> explain(shape, queryMapper))
+                .toList();
+    }
+
+    private QueryPlan explain(QueryShape shape, QueryMapper queryMapper) {
+        MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(shape.entityType());
+        String collection = entity.getCollection();
+
+        try {
+            Document filter = queryMapper.getMappedObject(shape.query().getQueryObject(), entity);
+            Document command;
+            if (shape.distinctKey() != null) {
+                command = new Document("distinct", collection)
+                        .append("key", shape.distinctKey())
+                        .append("query", filter);
+            } else {
+                command = new Document("find", collection)
+                        .append("filter", filter)
+                        .append("sort", queryMapper.getMappedSort(shape.query().getSortObject(), entity))
+                        .append("limit", SAMPLE_LIMIT);
+            }
+
+            Document result = mongoTemplate.getDb().runCommand(
+                    new Document("explain", command).append("verbosity", "queryPlanner"));
+            Document winningPlan = result.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+
+            Set<String> stages = new LinkedHashSet<>();
+            Set<String> indexes = new LinkedHashSet<>();
+            collectStages(winningPlan, stages, indexes);
+
+            boolean collectionScan = stages.contains("COLLSCAN");
+            if (collectionScan) {
+                log.warn("Query shape {} scans the whole {} collection", shape.name(), collection);
+            }
+            return new QueryPlan(shape.name(), collection, new ArrayList<>(stages), new ArrayList<>(indexes),
+                    collectionScan, stages.contains("SORT"), null);
+        } catch (RuntimeException e) {
+            log.warn("Could not explain query shape {}", shape.name(), e);
+            return new QueryPlan(shape.name(), collection, List.of(), List.of(), false, false, e.getMessage());
+        }
+    }
+
+    /**
+     * Walks the plan tree. Classic plans nest children under inputStage/inputStages; slot-based
+     * plans wrap the same tree in a queryPlan document, so every nested document is visited.
+     */
+    private void collectStages(Object node, Set<String> stages, Set<String> indexes) {
+        if (node instanceof Document document) {
+            if (document.get("stage") instanceof String stage) {
+                stages.add(stage);
+            }
+            if (document.get("indexName") instanceof String indexName) {
+                indexes.add(indexName);
+            }
+            document.values().forEach(value -> collectStages(value, stages, indexes));
+        } else if (node instanceof List<?> list) {
+            list.forEach(value -> collectStages(value, stages, indexes));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package dev.berlinbruno.PodPirateBackendApplication.mongo;
+
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * A query the application issues, with representative values, used to check which index serves it.
+ * {@code distinctKey} is set for distinct queries; otherwise the shape is a find with the query's sort.
+ */
+public record QueryShape(
+        String name,
+        Class<?> entityType,
+        Query query,
+        String distinctKey
+) {
+
+    public static QueryShape find(String name, Class<?> entityType, Query query) {
+        return new QueryShape(name, entityType, query, null);
+    }
+
+    public static QueryShape distinct(String name, Class<?> entityType, Query query, String key) {
+        return new QueryShape(name, entityType, query, key);
+    }
+}
@@ -0,0 +1,145 @@
+package dev.berlinbruno.PodPirateBackendApplication.mongo;
+
+import dev.berlinbruno.PodPirateBackendApplication.model.AppUser;
+import dev.berlinbruno.PodPirateBackendApplication.model.BlobDeletion;
+import dev.berlinbruno.PodPirateBackendApplication.model.Episode;
+import dev.berlinbruno.PodPirateBackendApplication.model.ListenerSketch;
+import dev.berlinbruno.PodPirateBackendApplication.model.PlayStat;
+import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
+import dev.berlinbruno.PodPirateBackendApplication.search.MongoPodcastSearchStrategy;
+import dev.berlinbruno.PodPirateBackendApplication.search.PodcastSearchQuery;
+import dev.berlinbruno.PodPirateBackendApplication.types.AccountRoles;
+import dev.berlinbruno.PodPirateBackendApplication.types.EpisodeStatus;
+import dev.berlinbruno.PodPirateBackendApplication.types.PodcastStatus;
+import dev.berlinbruno.PodPirateBackendApplication.types.SketchScope;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Query shapes issued by LookupServiceImpl, the search strategy and the repositories.
+ * Podcast filters are built with the production criteria builder so the shapes follow code changes;
+ * keyword and non-published episode conditions are left out because they resolve to an {@code _id $in} list first.
+ * Add a shape here whenever a new query is introduced, together with the index that serves it.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryShapeRegistry {
+
+    private static final String SAMPLE_USER_ID = "000000000000000000000000";
+    private static final String SAMPLE_PODCAST_ID = "000000000000000000000000";
+
+    private static final Sort PUBLISHED_DESC = Sort.by(Sort.Direction.DESC, "publishedAt", "_id");
+    private static final Sort CREATED_DESC = Sort.by(Sort.Direction.DESC, "createdAt", "_id");
+
+    private final MongoPodcastSearchStrategy mongoPodcastSearchStrategy;
+
+    public List<QueryShape> shapes() {
+        return List.of(
+                // ==================== PODCASTS ====================
+                QueryShape.find("podcast.public-listing", Podcast.class,
+                        podcastQuery(null, null, null, PodcastStatus.PUBLISHED, EpisodeStatus.PUBLISHED).with(PUBLISHED_DESC)),
+                QueryShape.find("podcast.public-listing-by-category", Podcast.class,
+                        podcastQuery(null, "technology", null, PodcastStatus.PUBLISHED, EpisodeStatus.PUBLISHED).with(PUBLISHED_DESC)),
+                QueryShape.find("podcast.creator-public-listing", Podcast.class,
+                        podcastQuery(SAMPLE_USER_ID, null, null, PodcastStatus.PUBLISHED, EpisodeStatus.PUBLISHED).with(PUBLISHED_DESC)),
+                QueryShape.find("podcast.user-listing", Podcast.class,
+                        podcastQuery(SAMPLE_USER_ID, null, false, null).with(CREATED_DESC)),
+                QueryShape.find("podcast.user-listing-by-status", Podcast.class,
+                        podcastQuery(SAMPLE_USER_ID, null, false, PodcastStatus.DRAFT).with(PUBLISHED_DESC)),
+                QueryShape.find("podcast.admin-listing-by-status", Podcast.class,
+                        podcastQuery(null, null, false, PodcastStatus.PUBLISHED).with(CREATED_DESC)),
+                QueryShape.find("podcast.admin-flagged", Podcast.class,
+                        podcastQuery(null, null, true, null).with(PUBLISHED_DESC)),
+                // Leading $match and $sort of the faceted searches; faceted filters are applied inside $facet
+                QueryShape.find("podcast.public-search", Podcast.class,
+                        podcastQuery(null, null, null, PodcastStatus.PUBLISHED, EpisodeStatus.PUBLISHED).with(PUBLISHED_DESC)),
+                QueryShape.find("podcast.admin-search", Podcast.class,
+                        podcastQuery(null, null, null, null).with(CREATED_DESC)),
+                QueryShape.find("podcast.by-user", Podcast.class,
+                        new Query(Criteria.where("userId").is(SAMPLE_USER_ID))),
+                QueryShape.find("podcast.creator-totals", Podcast.class,
+                        new Query(Criteria.where("userId").in(List.of(SAMPLE_USER_ID)))),
+                QueryShape.find("podcast.user-recent", Podcast.class,
+                        new Query(Criteria.where("userId").is(SAMPLE_USER_ID))
+                                .with(Sort.by(Sort.Direction.DESC, "createdAt", "_id"))
+                                .limit(5)),
+                QueryShape.find("podcast.published-by-ids", Podcast.class,
+                        new Query(Criteria.where("_id").in(List.of(SAMPLE_PODCAST_ID))
+                                .and("podcastStatus").is(PodcastStatus.PUBLISHED))),
+                QueryShape.find("podcast.published-ids-since", Podcast.class,
+                        new Query(Criteria.where("podcastStatus").is(PodcastStatus.PUBLISHED)
+                                .and("lastModifiedAt").gte(new Date(0)))),
+
+                // ==================== USERS ====================
+                QueryShape.find("user.by-email", AppUser.class,
+                        new Query(Criteria.where("email").is("someone@example.com"))),
+                QueryShape.find("user.by-username", AppUser.class,
+                        new Query(Criteria.where("username").is("someone"))),
+                QueryShape.find("user.admin-listing", AppUser.class,
+                        new Query().with(CREATED_DESC)),
+                QueryShape.find("user.admin-listing-by-role", AppUser.class,
+                        new Query(Criteria.where("roles").is(AccountRoles.ADMIN)).with(CREATED_DESC)),
+
+                // ==================== EPISODES ====================
+                QueryShape.find("episode.podcast-episodes", Episode.class,
+                        new Query(Criteria.where("podcastId").is(SAMPLE_PODCAST_ID))
+                                .with(Sort.by(Sort.Direction.ASC, "episodeNumber"))),
+                QueryShape.find("episode.published-episodes", Episode.class,
+                        new Query(Criteria.where("podcastId").is(SAMPLE_PODCAST_ID)
+                                .and("episodeStatus").is(EpisodeStatus.PUBLISHED))
+                                .with(Sort.by(Sort.Direction.ASC, "publishedAt"))),
+                QueryShape.find("episode.published-by-legacy-position", Episode.class,
+                        new Query(Criteria.where("podcastId").is(SAMPLE_PODCAST_ID)
+                                .and("episodeStatus").is(EpisodeStatus.PUBLISHED))
+                                .with(Sort.by(Sort.Direction.ASC, "episodeNumber"))
+                                .skip(3)
+                                .limit(1)),
+                QueryShape.find("episode.latest-published", Episode.class,
+                        new Query(Criteria.where("podcastId").is(SAMPLE_PODCAST_ID)
+                                .and("episodeStatus").is(EpisodeStatus.PUBLISHED))
+                                .with(Sort.by(Sort.Direction.DESC, "publishedAt"))
+                                .limit(1)),
+                QueryShape.distinct("episode.podcasts-with-draft-episodes", Episode.class,
+                        new Query(Criteria.where("episodeStatus").is(EpisodeStatus.DRAFT)), "podcastId"),
+
+                // ==================== PLAY STATS ====================
+                QueryShape.find("play-stats.bucket", PlayStat.class,
+                        new Query(Criteria.where("podcastId").is(SAMPLE_PODCAST_ID)
+                                .and("episodeNumber").is(1L)
+                                .and("bucketStart").is(new Date(0)))),
+                QueryShape.find("play-stats.since", PlayStat.class,
+                        new Query(Criteria.where("bucketStart").gte(new Date(0)))),
+
+                QueryShape.find("play-stats.podcast-range", PlayStat.class,
+                        new Query(Criteria.where("podcastId").is(SAMPLE_PODCAST_ID)
+                                .and("bucketStart").gte(new Date(0)).lt(new Date()))),
+
+                // ==================== LISTENER SKETCHES ====================
+                QueryShape.find("listener-sketch.owner-range", ListenerSketch.class,
+                        new Query(Criteria.where("scope").is(SketchScope.PODCAST)
+                                .and("ownerId").is(SAMPLE_PODCAST_ID)
+                                .and("day").gte(new Date(0)).lte(new Date()))),
+
+                // ==================== BLOB DELETION QUEUE ====================
+                QueryShape.find("blob-deletion.due", BlobDeletion.class,
+                        new Query(Criteria.where("attempts").lt(10).and("nextAttemptAt").lte(new Date()))
+                                .with(Sort.by(Sort.Direction.ASC, "nextAttemptAt")))
+        );
+    }
+
+    private Query podcastQuery(String userId, String category, Boolean flagged, PodcastStatus status) {
+        return podcastQuery(userId, category, flagged, status, null);
+    }
+
+    private Query podcastQuery(String userId, String category, Boolean flagged, PodcastStatus status,
+                               EpisodeStatus episodeStatus) {
+        return new Query(mongoPodcastSearchStrategy.buildCriteria(
+                new PodcastSearchQuery(userId, category, flagged, status, episodeStatus, null, null, null)));
+    }
+}
@@ -0,0 +1,28 @@
+package dev.berlinbruno.PodPirateBackendApplication.properties;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "azure.storage.client")
+public record AzureBlobClientProperties(
+
+        @Min(1)
+        @DefaultValue("64")
+        int maxConnections,          // shared HTTP connection pool size
+
+        @Min(1)
+        @DefaultValue("60")
+        long idleTimeoutSeconds,     // idle pooled connections are closed after this
+
+        @Min(1)
+        @DefaultValue("30")
+        long responseTimeoutSeconds,
+
+        @Min(1)
+        @DefaultValue("10000")
+        int blobHandleCacheSize      // max cached BlobClient handles
+) {
+}
@@ -0,0 +1,43 @@
+package dev.berlinbruno.PodPirateBackendApplication.properties;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "catalog.cache")
+public record CatalogCacheProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        @Min(1)
+        @DefaultValue("300")
+        long ttlSeconds,                 // upper bound on staleness; keep well below the signed read URL lifetime
+
+        @Min(1)
+        @DefaultValue("2000")
+        long listingMaximumSize,         // cached discovery pages (query, category, page, size)
+
+        @Min(1)
+        @DefaultValue("10000")
+        long podcastMaximumSize,         // cached podcast details
+
+        @Min(1)
+        @DefaultValue("2000")
+        long episodesMaximumSize,        // cached published episode lists
+
+        @Min(1)
+        @DefaultValue("10000")
+        long creatorMaximumSize,         // cached creator profiles
+
+        @Min(0)
+        @DefaultValue("10")
+        int warmUpCategories,            // most populated categories whose first page is loaded after startup
+
+        @Min(1)
+        @DefaultValue("25")
+        int warmUpPageSize               // page size used by the warm-up; match the discovery default
+) {
+}
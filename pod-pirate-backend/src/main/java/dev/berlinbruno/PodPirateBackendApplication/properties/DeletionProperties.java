@@ -0,0 +1,38 @@
+package dev.berlinbruno.PodPirateBackendApplication.properties;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "deletion")
+public record DeletionProperties(
+
+        @Min(1)
+        @DefaultValue("8")
+        int parallelism,                 // concurrent blob delete batches
+
+        @Min(1)
+        @Max(256)
+        @DefaultValue("256")
+        int batchSize,                   // blobs per storage batch request (Azure allows at most 256)
+
+        @Min(1)
+        @DefaultValue("10")
+        int maxAttempts,                 // attempts before a blob is left in the queue as dead
+
+        @Min(1)
+        @DefaultValue("30")
+        long retryBackoffSeconds,        // first retry delay, doubled on every failed attempt
+
+        @Min(1)
+        @DefaultValue("3600")
+        long maxRetryBackoffSeconds,
+
+        @Min(1)
+        @DefaultValue("1000")
+        int retryBatchSize               // queued blobs picked up per retry run
+) {
+}
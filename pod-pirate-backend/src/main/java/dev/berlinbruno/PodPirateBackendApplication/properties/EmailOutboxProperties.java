@@ -0,0 +1,44 @@
+package dev.berlinbruno.PodPirateBackendApplication.properties;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "email.outbox")
+public record EmailOutboxProperties(
+
+        @Min(1)
+        @DefaultValue("50")
+        int batchSize,                   // emails claimed per dispatcher run
+
+        @Min(1)
+        @DefaultValue("5")
+        int maxPerSecond,                // SMTP send rate per instance
+
+        @Min(100)
+        @DefaultValue("2000")
+        long pollIntervalMillis,         // delay between dispatcher runs when nothing wakes it earlier
+
+        @Min(1)
+        @DefaultValue("6")
+        int maxAttempts,                 // attempts before an email is kept as a dead letter
+
+        @Min(1)
+        @DefaultValue("10")
+        long retryBackoffSeconds,        // first retry delay, doubled on every failed attempt
+
+        @Min(1)
+        @DefaultValue("300")
+        long maxRetryBackoffSeconds,
+
+        @Min(1)
+        @DefaultValue("120")
+        long leaseSeconds,               // how long a claimed batch is hidden from other instances
+
+        @Min(1)
+        @DefaultValue("60")
+        long connectionIdleSeconds       // SMTP connection is closed after being idle this long
+) {
+}
@@ -0,0 +1,19 @@
+package dev.berlinbruno.PodPirateBackendApplication.properties;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "migration.embedded-episodes")
+public record EpisodeMigrationProperties(
+
+        @DefaultValue("true")
+        boolean enabled,             // run the migration in the background after startup
+
+        @Min(1)
+        @DefaultValue("200")
+        int batchSize                // podcasts per cursor batch and bulk write
+) {
+}
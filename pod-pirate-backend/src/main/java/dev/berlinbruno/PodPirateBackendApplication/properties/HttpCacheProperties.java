@@ -0,0 +1,20 @@
+package dev.berlinbruno.PodPirateBackendApplication.properties;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "http.cache")
+public record HttpCacheProperties(
+
+        @Min(0)
+        @DefaultValue("60")
+        long publicMaxAgeSeconds,               // how long clients and shared caches may reuse a public response
+
+        @Min(0)
+        @DefaultValue("300")
+        long staleWhileRevalidateSeconds        // how long a stale response may be served while revalidating
+) {
+}
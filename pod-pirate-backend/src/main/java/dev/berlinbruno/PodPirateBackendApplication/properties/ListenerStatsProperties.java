@@ -0,0 +1,30 @@
+package dev.berlinbruno.PodPirateBackendApplication.properties;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "listener-stats")
+public record ListenerStatsProperties(
+
+        @Min(1)
+        @DefaultValue("10000")
+        int maxTrackedSketches,      // episode sketches (4 KB each) held between flushes; further listens are dropped
+
+        @Min(1)
+        @DefaultValue("3")
+        int maxWriteAttempts,        // merges retried after concurrent writes from other nodes
+
+        @Min(1)
+        @Max(3660)
+        @DefaultValue("366")
+        int maxRangeDays,            // longest date range served by the stats endpoints
+
+        @Min(1)
+        @DefaultValue("30")
+        int defaultRangeDays         // range used when no start date is requested
+) {
+}
@@ -0,0 +1,28 @@
+package dev.berlinbruno.PodPirateBackendApplication.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "storage.local")
+public record LocalBlobStorageProperties(
+
+        @NotBlank
+        @DefaultValue("./data/blobs")
+        String rootDirectory,        // blob paths are resolved below this directory
+
+        @NotBlank
+        @DefaultValue("http://localhost:8080/")
+        String baseUrl,              // public URL of this backend with trailing slash, used in signed URLs
+
+        @DefaultValue("")
+        String signingKey,           // HMAC-SHA256 key; blank generates a random key on every start
+
+        @Min(1)
+        @DefaultValue("1024")
+        long maxUploadSizeMb
+) {
+}
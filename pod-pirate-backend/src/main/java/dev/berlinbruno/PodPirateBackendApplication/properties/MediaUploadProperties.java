@@ -0,0 +1,34 @@
+package dev.berlinbruno.PodPirateBackendApplication.properties;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "media.upload")
+public record MediaUploadProperties(
+
+        @Min(64)
+        @Max(102400)
+        @DefaultValue("4096")
+        int chunkSizeKb,             // bytes piped to storage per block; one pooled buffer of this size per upload
+
+        @Min(1)
+        @DefaultValue("16")
+        int maxConcurrentUploads,    // pooled buffers; heap used by uploads is capped at this times chunk-size-kb
+
+        @Min(0)
+        @DefaultValue("10")
+        long acquireTimeoutSeconds,  // wait for a free buffer before rejecting the upload with 503
+
+        @Min(1)
+        @DefaultValue("500")
+        long maxAudioSizeMb,
+
+        @Min(1)
+        @DefaultValue("5")
+        long maxImageSizeMb
+) {
+}
@@ -0,0 +1,18 @@
+package dev.berlinbruno.PodPirateBackendApplication.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "metrics.scrape")
+public record MetricsScrapeProperties(
+
+        @DefaultValue("")
+        String token                 // static bearer token accepted on /actuator/prometheus; blank = admin JWT only
+) {
+
+    public boolean enabled() {
+        return token != null && !token.isBlank();
+    }
+}
@@ -0,0 +1,18 @@
+package dev.berlinbruno.PodPirateBackendApplication.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "mongo.indexes")
+public record MongoIndexProperties(
+
+        @DefaultValue("true")
+        boolean verifyOnStartup,     // compare declared indexes with the database when the app starts
+
+        @DefaultValue("true")
+        boolean createMissing,       // create declared indexes that do not exist yet
+
+        @DefaultValue("false")
+        boolean failOnMismatch       // refuse to start when an index exists with a different definition
+) {
+}
@@ -0,0 +1,44 @@
+package dev.berlinbruno.PodPirateBackendApplication.properties;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "playback")
+public record PlaybackProperties(
+
+        @Min(1)
+        @Max(1440)
+        @DefaultValue("60")
+        int bucketMinutes,               // width of the play_stats time buckets
+
+        @Min(1)
+        @DefaultValue("100000")
+        int maxTrackedEpisodes,          // episode counters held between flushes; events for further episodes are dropped
+
+        @Min(1)
+        @DefaultValue("30")
+        int heartbeatSeconds,            // listening time represented by one heartbeat
+
+        @Min(1)
+        @DefaultValue("24")
+        int halfLifeHours,               // trending scores halve after this long without plays
+
+        @DecimalMin("0.0")
+        @DefaultValue("0.1")
+        double heartbeatWeight,          // trending score of a heartbeat relative to a play
+
+        @Min(1)
+        @Max(500)
+        @DefaultValue("100")
+        int rankingSize,                 // podcasts kept in the trending and per-category rankings
+
+        @Min(1)
+        @DefaultValue("7")
+        int seedDays                     // play_stats history replayed into the scores on startup and rebuild
+) {
+}
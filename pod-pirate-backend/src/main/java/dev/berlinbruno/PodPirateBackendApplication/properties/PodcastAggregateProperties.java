@@ -0,0 +1,19 @@
+package dev.berlinbruno.PodPirateBackendApplication.properties;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "podcast.aggregates")
+public record PodcastAggregateProperties(
+
+        @DefaultValue("true")
+        boolean repairOnStartup,     // recompute all aggregates in the background after startup
+
+        @Min(1)
+        @DefaultValue("500")
+        int repairBatchSize          // podcasts recomputed per aggregation and bulk write
+) {
+}
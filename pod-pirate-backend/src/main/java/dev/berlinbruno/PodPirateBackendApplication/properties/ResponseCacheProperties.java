@@ -0,0 +1,27 @@
+package dev.berlinbruno.PodPirateBackendApplication.properties;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "catalog.response-cache")
+public record ResponseCacheProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        @Min(1)
+        @DefaultValue("64")
+        long maxSizeMb,                  // direct memory held by cached bodies (identity + gzip); keep below -XX:MaxDirectMemorySize
+
+        @Min(1)
+        @DefaultValue("512")
+        int maxEntryKb,                  // larger bodies are serialized per request instead of cached
+
+        @Min(0)
+        @DefaultValue("1024")
+        int gzipMinBytes                 // smaller bodies are only kept uncompressed
+) {
+}
@@ -0,0 +1,20 @@
+package dev.berlinbruno.PodPirateBackendApplication.properties;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "azure.signed-url")
+public record SignedUrlProperties(
+
+        @Min(1)
+        @DefaultValue("1440")
+        long bucketMinutes,          // download URLs signed within one bucket share an expiry and are identical
+
+        @Min(1)
+        @DefaultValue("100000")
+        long cacheSize               // max cached download URLs (blob path + bucket)
+) {
+}
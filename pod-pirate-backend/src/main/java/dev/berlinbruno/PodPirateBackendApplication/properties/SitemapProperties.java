@@ -0,0 +1,30 @@
+package dev.berlinbruno.PodPirateBackendApplication.properties;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "sitemap")
+public record SitemapProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        @Min(1)
+        @Max(50000)
+        @DefaultValue("50000")
+        int segmentSize,             // URLs per sitemap file; the protocol allows at most 50,000
+
+        @NotBlank
+        @DefaultValue("podcasts?podcastId=")
+        String podcastPath,          // appended to app.frontend.base-url, followed by the podcast ID
+
+        @NotBlank
+        @DefaultValue("creators?creatorId=")
+        String creatorPath           // appended to app.frontend.base-url, followed by the creator ID
+) {
+}
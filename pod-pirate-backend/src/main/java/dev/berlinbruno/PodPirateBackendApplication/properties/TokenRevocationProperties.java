@@ -0,0 +1,20 @@
+package dev.berlinbruno.PodPirateBackendApplication.properties;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "jwt.revocation")
+public record TokenRevocationProperties(
+
+        @Min(1)
+        @DefaultValue("10000")
+        int cacheSize,               // max users whose security version is cached
+
+        @Min(1)
+        @DefaultValue("30")
+        long cacheTtlSeconds         // how long another node's lock/sign-out can go unnoticed
+) {
+}
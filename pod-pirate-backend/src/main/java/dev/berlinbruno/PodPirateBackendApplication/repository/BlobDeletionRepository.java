@@ -0,0 +1,20 @@
+package dev.berlinbruno.PodPirateBackendApplication.repository;
+
+import dev.berlinbruno.PodPirateBackendApplication.model.BlobDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface BlobDeletionRepository extends MongoRepository<BlobDeletion, String> {
+
+    List<BlobDeletion> findByAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+            int maxAttempts, Date now, Pageable pageable);
+
+    long countByAttemptsLessThan(int maxAttempts);
+
+    long countByAttemptsGreaterThanEqual(int maxAttempts);
+}
@@ -0,0 +1,22 @@
+package dev.berlinbruno.PodPirateBackendApplication.repository;
+
+import dev.berlinbruno.PodPirateBackendApplication.model.EmailOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends MongoRepository<EmailOutbox, String> {
+
+    List<EmailOutbox> findByAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+            int maxAttempts, Date now, Pageable pageable);
+
+    List<EmailOutbox> findByClaim(String claim);
+
+    long countByAttemptsLessThan(int maxAttempts);
+
+    long countByAttemptsGreaterThanEqual(int maxAttempts);
+}
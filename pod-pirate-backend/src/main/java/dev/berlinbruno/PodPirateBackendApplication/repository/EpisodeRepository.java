@@ -0,0 +1,46 @@
+package dev.berlinbruno.PodPirateBackendApplication.repository;
+
+import dev.berlinbruno.PodPirateBackendApplication.model.Episode;
+import dev.berlinbruno.PodPirateBackendApplication.types.EpisodeStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EpisodeRepository extends MongoRepository<Episode, String> {
+
+    Optional<Episode> findByPodcastIdAndEpisodeNumber(String podcastId, Long episodeNumber);
+
+    Optional<Episode> findByPodcastIdAndEpisodeNumberAndEpisodeStatus(String podcastId, Long episodeNumber,
+                                                                      EpisodeStatus episodeStatus);
+
+    List<Episode> findAllByPodcastIdOrderByEpisodeNumberAsc(String podcastId);
+
+    List<Episode> findAllByPodcastIdAndEpisodeStatusOrderByPublishedAtAsc(String podcastId, EpisodeStatus episodeStatus);
+
+    List<Episode> findByPodcastIdAndEpisodeStatus(String podcastId, EpisodeStatus episodeStatus, Pageable pageable);
+
+    boolean existsByPodcastId(String podcastId);
+
+    boolean existsByPodcastIdAndEpisodeStatus(String podcastId, EpisodeStatus episodeStatus);
+
+    @Query(value = "{ 'podcastId': ?0 }", fields = "{ 'imageUrl': 1, 'audioUrl': 1 }")
+    List<Episode> findMediaByPodcastId(String podcastId);
+
+    @Query(value = "{ 'podcastId': { '$in': ?0 } }", fields = "{ 'imageUrl': 1, 'audioUrl': 1 }")
+    List<Episode> findMediaByPodcastIdIn(Collection<String> podcastIds);
+
+    @Query("{ 'podcastId': ?0, 'episodeStatus': 'PUBLISHED' }")
+    @Update("{ '$set': { 'episodeStatus': 'ARCHIVED', 'publishedAt': null } }")
+    long archivePublishedByPodcastId(String podcastId);
+
+    long deleteByPodcastId(String podcastId);
+
+    long deleteByPodcastIdIn(Collection<String> podcastIds);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -22,7 +23,7 @@ public interface PodcastRepository extends MongoRepository<Podcast, String> {
 
     long countByUserIdAndPodcastStatus(String userId, PodcastStatus podcastStatus);
 
-    List<Podcast> findAllIdsByPodcastStatus(PodcastStatus podcastStatus);
-
-    List<Podcast> findAllUserIdsByPodcastStatus(PodcastStatus podcastStatus);
+    @Query("{ '_id': ?0 }")
+    @Update("{ '$set': { 'podcastStatus': ?1 } }")
+    long updatePodcastStatus(String podcastId, String podcastStatus);
 }
@@ -0,0 +1,144 @@
+package dev.berlinbruno.PodPirateBackendApplication.search;
+
+import dev.berlinbruno.PodPirateBackendApplication.event.EpisodesChangedEvent;
+import dev.berlinbruno.PodPirateBackendApplication.event.PodcastChangedEvent;
+import dev.berlinbruno.PodPirateBackendApplication.model.Episode;
+import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Keyword search backed by {@link PodcastSearchIndex}. Enabled with {@code search.strategy=inverted-index}.
+ * <p>
+ * The index is built from Mongo on startup and kept current from podcast insert/delete events,
+ * {@link PodcastChangedEvent}s and {@link EpisodesChangedEvent}s, so it reflects writes made through this node. Queries without a keyword (or whose keyword is only stop
+ * words) are delegated to {@link MongoPodcastSearchStrategy}.
+ */
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.strategy", havingValue = "inverted-index")
+public class InvertedIndexPodcastSearchStrategy extends AbstractMongoEventListener<Podcast>
+        implements PodcastSearchStrategy {
+
+    private final PodcastSearchIndex index = new PodcastSearchIndex();
+    private final MongoPodcastSearchStrategy mongoSearchStrategy;
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        long start = System.currentTimeMillis();
+        index.clear();
+
+        Map<String, List<Episode>> episodesByPodcast = new HashMap<>();
+        try (Stream<Episode> episodes = mongoTemplate.stream(episodeTextQuery(new Criteria()), Episode.class)) {
+            episodes.forEach(episode -> episodesByPodcast
+                    .computeIfAbsent(episode.getPodcastId(), id -> new ArrayList<>())
+                    .add(episode));
+        }
+        try (Stream<Podcast> podcasts = mongoTemplate.stream(new Query(), Podcast.class)) {
+            podcasts.forEach(podcast -> index.index(podcast, episodesByPodcast.remove(podcast.getId())));
+        }
+        log.info("Podcast search index built with {} podcasts in {} ms",
+                index.size(), System.currentTimeMillis() - start);
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Podcast> event) {
+        Podcast podcast = event.getSource();
+        index.index(podcast, findEpisodes(podcast.getId()));
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Podcast> event) {
+        Object id = event.getSource().get("_id");
+        if (id != null) {
+            index.remove(id.toString());
+        }
+    }
+
+    @EventListener
+    public void onPodcastChanged(PodcastChangedEvent event) {
+        // Podcast edits are targeted updates, which publish no mapping events
+        reindex(event.podcastId());
+    }
+
+    @EventListener
+    public void onEpisodesChanged(EpisodesChangedEvent event) {
+        reindex(event.podcastId());
+    }
+
+    /**
+     * Re-indexes a podcast after a write that bypassed repository saves (e.g. a targeted update).
+     */
+    public void reindex(String podcastId) {
+        Podcast podcast = mongoTemplate.findById(podcastId, Podcast.class);
+        if (podcast == null) {
+            index.remove(podcastId);
+        } else {
+            index.index(podcast, findEpisodes(podcastId));
+        }
+    }
+
+    private List<Episode> findEpisodes(String podcastId) {
+        return mongoTemplate.find(episodeTextQuery(Criteria.where("podcastId").is(podcastId)), Episode.class);
+    }
+
+    private Query episodeTextQuery(Criteria criteria) {
+        Query query = new Query(criteria);
+        query.fields().include("podcastId", "title", "description", "episodeStatus");
+        return query;
+    }
+
+    @Override
+    public Page<Podcast> search(PodcastSearchQuery query, int page, int size) {
+        if (!query.hasKeyword() || TextAnalyzer.analyze(query.keyword()).isEmpty()) {
+            return mongoSearchStrategy.search(query, page, size);
+        }
+
+        List<PodcastSearchIndex.Hit> hits = index.search(query);
+        int from = Math.min(page * size, hits.size());
+        int to = Math.min(from + size, hits.size());
+        List<String> pageIds = hits.subList(from, to).stream()
+                .map(PodcastSearchIndex.Hit::podcastId)
+                .toList();
+
+        return new PageImpl<>(loadInOrder(pageIds), PageRequest.of(page, size), hits.size());
+    }
+
+    private List<Podcast> loadInOrder(List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Integer> rank = new HashMap<>(ids.size() * 2);
+        for (int i = 0; i < ids.size(); i++) {
+            rank.put(ids.get(i), i);
+        }
+        return mongoTemplate.find(new Query(Criteria.where("_id").in(ids)), Podcast.class).stream()
+                .sorted(Comparator.comparingInt(podcast -> rank.get(podcast.getId())))
+                .toList();
+    }
+}
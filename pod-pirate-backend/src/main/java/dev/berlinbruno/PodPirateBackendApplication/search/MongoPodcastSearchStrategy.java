@@ -0,0 +1,311 @@
+package dev.berlinbruno.PodPirateBackendApplication.search;
+
+import dev.berlinbruno.PodPirateBackendApplication.dto.FacetCount;
+import dev.berlinbruno.PodPirateBackendApplication.dto.SearchPage;
+import dev.berlinbruno.PodPirateBackendApplication.model.Episode;
+import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
+import dev.berlinbruno.PodPirateBackendApplication.types.EpisodeStatus;
+import dev.berlinbruno.PodPirateBackendApplication.types.PodcastFacet;
+import dev.berlinbruno.PodPirateBackendApplication.types.PodcastStatus;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.ConvertOperators;
+import org.springframework.data.mongodb.core.aggregation.FacetOperation;
+import org.springframework.data.mongodb.core.aggregation.UnsetOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Default search strategy: translates the query into Mongo criteria.
+ * Keywords are matched with case-insensitive regexes on podcast and episode text.
+ * The published-episode condition uses the podcast's own publishedEpisodeCount. Other episode conditions
+ * are checked with a {@code $lookup} of one matching episode per podcast inside the search aggregation;
+ * {@link #buildCriteria} resolves them against the episode collection first and applies them as a podcast
+ * ID filter, for callers that need a plain query.
+ * Pages are read with one {@code $facet} aggregation returning the rows and the total together.
+ */
+@Component
+@RequiredArgsConstructor
+public class MongoPodcastSearchStrategy implements PodcastSearchStrategy {
+
+    private static final String SORT_PUBLISHED_AT = "publishedAt";
+    // Facet values beyond this many are left out; categories are a short, curated list
+    private static final int MAX_FACET_VALUES = 50;
+    private static final Sort FACET_ORDER = Sort.by(Sort.Direction.DESC, "count").and(Sort.by(Sort.Direction.ASC, "_id"));
+    // Temporary fields of the episode lookup; episodes reference their podcast by the string form of its ID
+    private static final String EPISODE_KEY = "episodeKey";
+    private static final String STATUS_EPISODES = "statusEpisodes";
+    private static final String KEYWORD_EPISODES = "keywordEpisodes";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Page<Podcast> search(PodcastSearchQuery searchQuery, int page, int size) {
+        SearchPage<Podcast> result = searchWithFacets(searchQuery, Set.of(), SORT_PUBLISHED_AT, page, size);
+        return new PageImpl<>(result.getContent(), PageRequest.of(page, size), result.getTotalElements());
+    }
+
+    /**
+     * Runs the page, the total and the requested facet counts as one {@code $facet} aggregation, so a
+     * browse page costs one round trip instead of a find, a count and a count per facet value.
+     * <p>
+     * The leading {@code $match} and {@code $sort} hold every podcast filter except those on faceted
+     * dimensions and are served by the same indexes as the plain listing. Episode conditions follow
+     * as a {@code $lookup} and {@code $match} on the sorted stream. Filters on faceted dimensions are
+     * applied inside the branches instead, so each facet counts its values under all the other filters.
+     */
+    public SearchPage<Podcast> searchWithFacets(PodcastSearchQuery searchQuery, Set<PodcastFacet> facets,
+                                                String sortField, int page, int size) {
+        boolean categoryFacet = facets.contains(PodcastFacet.CATEGORY);
+        boolean statusFacet = facets.contains(PodcastFacet.STATUS);
+
+        PodcastSearchQuery shared = new PodcastSearchQuery(
+                searchQuery.userId(),
+                categoryFacet ? null : searchQuery.category(),
+                statusFacet ? null : searchQuery.flagged(),
+                statusFacet ? null : searchQuery.podcastStatus(),
+                searchQuery.episodeStatus(),
+                searchQuery.keyword(),
+                searchQuery.publishedFrom(),
+                searchQuery.publishedTo());
+        List<AggregationOperation> categoryFilter = categoryFacet && searchQuery.category() != null
+                ? List.of(Aggregation.match(buildCriteria(new PodcastSearchQuery(
+                        null, searchQuery.category(), null, null, null, null, null, null))))
+                : List.of();
+        List<AggregationOperation> statusFilter = statusFacet && (searchQuery.flagged() != null || searchQuery.podcastStatus() != null)
+                ? List.of(Aggregation.match(buildCriteria(new PodcastSearchQuery(
+                        null, null, searchQuery.flagged(), searchQuery.podcastStatus(), null, null, null, null))))
+                : List.of();
+
+        FacetOperation facet = Aggregation
+                .facet(branch(categoryFilter, statusFilter,
+                        Aggregation.skip((long) page * size),
+                        Aggregation.limit(size)))
+                .as("content")
+                .and(branch(categoryFilter, statusFilter,
+                        Aggregation.count().as("count")))
+                .as("total");
+        if (categoryFacet) {
+            facet = facet.and(branch(List.of(), statusFilter,
+                            Aggregation.group("category").count().as("count"),
+                            Aggregation.sort(FACET_ORDER),
+                            Aggregation.limit(MAX_FACET_VALUES)))
+                    .as("categories");
+        }
+        if (statusFacet) {
+            // Flagged podcasts are listed under FLAGGED whatever their status, as in the admin filter
+            facet = facet.and(branch(categoryFilter, List.of(),
+                            Aggregation.project().and(ConditionalOperators
+                                    .when(Criteria.where("flagged").is(true))
+                                    .then(PodcastStatus.FLAGGED.name())
+                                    .otherwiseValueOf("podcastStatus")).as("status"),
+                            Aggregation.group("status").count().as("count"),
+                            Aggregation.sort(FACET_ORDER)))
+                    .as("statuses");
+        }
+
+        List<AggregationOperation> pipeline = new ArrayList<>();
+        pipeline.add(Aggregation.match(and(podcastCriteria(shared))));
+        pipeline.add(Aggregation.sort(Sort.by(Sort.Direction.DESC, sortField, "_id")));
+        pipeline.addAll(episodeFilter(shared));
+        pipeline.add(facet);
+        Aggregation aggregation = Aggregation.newAggregation(pipeline)
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+        Document result = mongoTemplate.aggregate(aggregation, Podcast.class, Document.class).getUniqueMappedResult();
+        if (result == null) {
+            result = new Document();
+        }
+
+        List<Podcast> content = documents(result, "content").stream()
+                .map(document -> mongoTemplate.getConverter().read(Podcast.class, document))
+                .toList();
+        long total = documents(result, "total").stream()
+                .findFirst()
+                .map(document -> ((Number) document.get("count")).longValue())
+                .orElse(0L);
+
+        return SearchPage.<Podcast>builder()
+                .content(content)
+                .page(page)
+                .size(size)
+                .totalElements(total)
+                .totalPages((int) ((total + size - 1) / size))
+                .categories(categoryFacet ? facetCounts(result, "categories") : null)
+                .statuses(statusFacet ? facetCounts(result, "statuses") : null)
+                .build();
+    }
+
+    public Criteria buildCriteria(PodcastSearchQuery searchQuery) {
+        List<Criteria> criteriaList = podcastCriteria(searchQuery);
+
+        if (hasEpisodeStatusFilter(searchQuery)) {
+            criteriaList.add(Criteria.where("_id").in(findPodcastIdsWithEpisodes(
+                    Criteria.where("episodeStatus").is(searchQuery.episodeStatus()))));
+        }
+
+        if (searchQuery.hasKeyword()) {
+            List<String> episodeMatches = findPodcastIdsWithEpisodes(textCriteria(searchQuery.keyword()));
+            criteriaList.add(keywordCriteria(searchQuery.keyword(), Criteria.where("_id").in(episodeMatches)));
+        }
+
+        return and(criteriaList);
+    }
+
+    /**
+     * Conditions on the podcast document itself; episode status (other than published) and keyword
+     * matches on episodes are left to the caller.
+     */
+    private List<Criteria> podcastCriteria(PodcastSearchQuery searchQuery) {
+        List<Criteria> criteriaList = new ArrayList<>();
+
+        if (searchQuery.userId() != null) {
+            criteriaList.add(Criteria.where("userId").is(searchQuery.userId()));
+        }
+
+        if (searchQuery.category() != null) {
+            criteriaList.add(Criteria.where("category").is(searchQuery.category()));
+        }
+
+        if (searchQuery.flagged() != null) {
+            criteriaList.add(Criteria.where("flagged").is(searchQuery.flagged()));
+        }
+
+        if (searchQuery.podcastStatus() != null) {
+            criteriaList.add(Criteria.where("podcastStatus").is(searchQuery.podcastStatus()));
+        }
+
+        if (searchQuery.publishedFrom() != null || searchQuery.publishedTo() != null) {
+            Criteria dateCriteria = Criteria.where("publishedAt");
+            if (searchQuery.publishedFrom() != null) dateCriteria.gte(searchQuery.publishedFrom());
+            if (searchQuery.publishedTo() != null) dateCriteria.lte(searchQuery.publishedTo());
+            criteriaList.add(dateCriteria);
+        }
+
+        if (searchQuery.episodeStatus() == EpisodeStatus.PUBLISHED) {
+            // Podcasts not yet backfilled by the aggregate repair pass until it reaches them
+            criteriaList.add(new Criteria().orOperator(
+                    Criteria.where("publishedEpisodeCount").gt(0),
+                    Criteria.where("publishedEpisodeCount").exists(false)
+            ));
+        }
+
+        return criteriaList;
+    }
+
+    /**
+     * Stages applying the episode conditions in the pipeline: each podcast looks up at most one
+     * matching episode through the podcastId index, and podcasts without one are dropped.
+     */
+    private List<AggregationOperation> episodeFilter(PodcastSearchQuery searchQuery) {
+        List<AggregationOperation> lookups = new ArrayList<>();
+        List<Criteria> conditions = new ArrayList<>();
+
+        if (hasEpisodeStatusFilter(searchQuery)) {
+            lookups.add(lookupEpisode(
+                    Criteria.where("episodeStatus").is(searchQuery.episodeStatus().name()), STATUS_EPISODES));
+            conditions.add(Criteria.where(STATUS_EPISODES + ".0").exists(true));
+        }
+
+        if (searchQuery.hasKeyword()) {
+            lookups.add(lookupEpisode(textCriteria(searchQuery.keyword()), KEYWORD_EPISODES));
+            conditions.add(keywordCriteria(searchQuery.keyword(), Criteria.where(KEYWORD_EPISODES + ".0").exists(true)));
+        }
+
+        if (lookups.isEmpty()) {
+            return List.of();
+        }
+
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(Aggregation.addFields()
+                .addFieldWithValue(EPISODE_KEY, ConvertOperators.valueOf("_id").convertToString())
+                .build());
+        stages.addAll(lookups);
+        stages.add(Aggregation.match(and(conditions)));
+        stages.add(UnsetOperation.unset(EPISODE_KEY, STATUS_EPISODES, KEYWORD_EPISODES));
+        return stages;
+    }
+
+    private AggregationOperation lookupEpisode(Criteria episodeCriteria, String as) {
+        return Aggregation.lookup()
+                .from(mongoTemplate.getCollectionName(Episode.class))
+                .localField(EPISODE_KEY)
+                .foreignField("podcastId")
+                .pipeline(
+                        Aggregation.match(episodeCriteria),
+                        Aggregation.limit(1),
+                        Aggregation.project("_id"))
+                .as(as);
+    }
+
+    private static boolean hasEpisodeStatusFilter(PodcastSearchQuery searchQuery) {
+        return searchQuery.episodeStatus() != null && searchQuery.episodeStatus() != EpisodeStatus.PUBLISHED;
+    }
+
+    /**
+     * Keyword on the podcast's own text, or on its episodes as given by {@code episodeMatch}.
+     */
+    private static Criteria keywordCriteria(String keyword, Criteria episodeMatch) {
+        return new Criteria().orOperator(
+                Criteria.where("title").regex(keyword, "i"),
+                Criteria.where("description").regex(keyword, "i"),
+                episodeMatch
+        );
+    }
+
+    private static Criteria textCriteria(String keyword) {
+        return new Criteria().orOperator(
+                Criteria.where("title").regex(keyword, "i"),
+                Criteria.where("description").regex(keyword, "i")
+        );
+    }
+
+    private static Criteria and(List<Criteria> criteriaList) {
+        if (criteriaList.isEmpty()) {
+            return new Criteria();
+        }
+        return new Criteria().andOperator(criteriaList.toArray(new Criteria[0]));
+    }
+
+    private static AggregationOperation[] branch(List<AggregationOperation> categoryFilter,
+                                                 List<AggregationOperation> statusFilter,
+                                                 AggregationOperation... operations) {
+        List<AggregationOperation> branch = new ArrayList<>(categoryFilter);
+        branch.addAll(statusFilter);
+        branch.addAll(List.of(operations));
+        return branch.toArray(new AggregationOperation[0]);
+    }
+
+    private static List<Document> documents(Document result, String field) {
+        List<Document> documents = result.getList(field, Document.class);
+        return documents == null ? List.of() : documents;
+    }
+
+    private static List<FacetCount> facetCounts(Document result, String field) {
+        return documents(result, field).stream()
+                .filter(document -> document.get("_id") != null)
+                .map(document -> FacetCount.builder()
+                        .value(document.get("_id").toString())
+                        .count(((Number) document.get("count")).longValue())
+                        .build())
+                .toList();
+    }
+
+    private List<String> findPodcastIdsWithEpisodes(Criteria episodeCriteria) {
+        return mongoTemplate.findDistinct(new Query(episodeCriteria), "podcastId", Episode.class, String.class);
+    }
+}
@@ -0,0 +1,307 @@
+package dev.berlinbruno.PodPirateBackendApplication.search;
+
+import dev.berlinbruno.PodPirateBackendApplication.model.Episode;
+import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
+import dev.berlinbruno.PodPirateBackendApplication.types.EpisodeStatus;
+import dev.berlinbruno.PodPirateBackendApplication.types.PodcastStatus;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over podcasts and their episodes, ranked with BM25.
+ * <p>
+ * Text postings map each analyzed term to the podcasts containing it and the term frequency.
+ * Filter postings (user, category, podcast status, episode status) are kept as ID sets so the
+ * structured filters of a search are applied as set intersections before any scoring happens.
+ * Safe for concurrent readers; writers take an exclusive lock per podcast update.
+ */
+public class PodcastSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 2;
+    private static final int MAX_PREFIX_EXPANSIONS = 50;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final NavigableMap<String, Map<String, Integer>> postings = new TreeMap<>();
+    private final Map<String, IndexedPodcast> documents = new HashMap<>();
+    private final Map<String, Set<String>> byUser = new HashMap<>();
+    private final Map<String, Set<String>> byCategory = new HashMap<>();
+    private final Map<PodcastStatus, Set<String>> byStatus = new EnumMap<>(PodcastStatus.class);
+    private final Map<EpisodeStatus, Set<String>> byEpisodeStatus = new EnumMap<>(EpisodeStatus.class);
+    private long totalLength;
+
+    public record Hit(String podcastId, double score, Date publishedAt) {
+    }
+
+    private record IndexedPodcast(
+            String userId,
+            String category,
+            boolean flagged,
+            PodcastStatus status,
+            Set<EpisodeStatus> episodeStatuses,
+            Date publishedAt,
+            Map<String, Integer> termFrequencies,
+            int length
+    ) {
+    }
+
+    // ==================== WRITES ====================
+
+    /**
+     * Adds or replaces a podcast together with its episodes (only title, description and status are read).
+     */
+    public void index(Podcast podcast, List<Episode> episodes) {
+        IndexedPodcast document = toDocument(podcast, episodes);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(podcast.getId());
+
+            documents.put(podcast.getId(), document);
+            totalLength += document.length();
+            document.termFrequencies().forEach((term, tf) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(podcast.getId(), tf));
+
+            addToSet(byUser, document.userId(), podcast.getId());
+            addToSet(byCategory, document.category(), podcast.getId());
+            addToSet(byStatus, document.status(), podcast.getId());
+            document.episodeStatuses().forEach(status -> addToSet(byEpisodeStatus, status, podcast.getId()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String podcastId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(podcastId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            byUser.clear();
+            byCategory.clear();
+            byStatus.clear();
+            byEpisodeStatus.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(String podcastId) {
+        IndexedPodcast existing = documents.remove(podcastId);
+        if (existing == null) {
+            return;
+        }
+
+        totalLength -= existing.length();
+        existing.termFrequencies().keySet().forEach(term -> {
+            Map<String, Integer> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(podcastId);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        });
+
+        removeFromSet(byUser, existing.userId(), podcastId);
+        removeFromSet(byCategory, existing.category(), podcastId);
+        removeFromSet(byStatus, existing.status(), podcastId);
+        existing.episodeStatuses().forEach(status -> removeFromSet(byEpisodeStatus, status, podcastId));
+    }
+
+    // ==================== SEARCH ====================
+
+    /**
+     * Returns every podcast matching at least one query term and all structured filters,
+     * best BM25 score first (ties broken by most recently published).
+     * The last query term is also matched as a prefix so partially typed words still hit; a document
+     * matching several expansions of it is scored by its best expansion only.
+     */
+    public List<Hit> search(PodcastSearchQuery query) {
+        List<String> terms = TextAnalyzer.analyze(query.keyword()).stream().distinct().toList();
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Set<String> allowed = intersectFilters(query);
+            if (allowed != null && allowed.isEmpty()) {
+                return List.of();
+            }
+
+            double averageLength = documents.isEmpty() ? 1.0 : (double) totalLength / documents.size();
+            Map<String, Double> scores = new HashMap<>();
+
+            for (int i = 0; i < terms.size(); i++) {
+                boolean isLast = i == terms.size() - 1;
+                Map<String, Double> termScores = new HashMap<>();
+                for (Map<String, Integer> termPostings : matchingPostings(terms.get(i), isLast)) {
+                    scoreTerm(termPostings, allowed, query, averageLength, termScores);
+                }
+                termScores.forEach((podcastId, score) -> scores.merge(podcastId, score, Double::sum));
+            }
+
+            List<Hit> hits = new ArrayList<>(scores.size());
+            scores.forEach((id, score) -> hits.add(new Hit(id, score, documents.get(id).publishedAt())));
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                    .thenComparing(Hit::publishedAt, Comparator.nullsLast(Comparator.<Date>reverseOrder())));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Map<String, Integer>> matchingPostings(String term, boolean allowPrefix) {
+        List<Map<String, Integer>> result = new ArrayList<>();
+        Map<String, Integer> exact = postings.get(term);
+        if (exact != null) {
+            result.add(exact);
+        }
+        if (allowPrefix) {
+            postings.subMap(term, false, term + Character.MAX_VALUE, false).values().stream()
+                    .limit(MAX_PREFIX_EXPANSIONS)
+                    .forEach(result::add);
+        }
+        return result;
+    }
+
+    private void scoreTerm(Map<String, Integer> termPostings, Set<String> allowed, PodcastSearchQuery query,
+                           double averageLength, Map<String, Double> termScores) {
+        int n = documents.size();
+        int df = termPostings.size();
+        double idf = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+
+        // Walk whichever side of the intersection is smaller.
+        Iterable<String> candidates = (allowed != null && allowed.size() < termPostings.size())
+                ? allowed
+                : termPostings.keySet();
+
+        for (String podcastId : candidates) {
+            Integer tf = termPostings.get(podcastId);
+            if (tf == null || (allowed != null && !allowed.contains(podcastId))) {
+                continue;
+            }
+            IndexedPodcast document = documents.get(podcastId);
+            if (!matchesDocumentFilters(document, query)) {
+                continue;
+            }
+            double norm = K1 * (1 - B + B * document.length() / averageLength);
+            double score = idf * (tf * (K1 + 1)) / (tf + norm);
+            termScores.merge(podcastId, score, Math::max);
+        }
+    }
+
+    /**
+     * Intersects the filter posting lists named by the query, smallest first.
+     * Returns null when the query has no set-backed filters.
+     */
+    private Set<String> intersectFilters(PodcastSearchQuery query) {
+        List<Set<String>> sets = new ArrayList<>();
+        if (query.userId() != null) sets.add(byUser.getOrDefault(query.userId(), Set.of()));
+        if (query.category() != null) sets.add(byCategory.getOrDefault(query.category(), Set.of()));
+        if (query.podcastStatus() != null) sets.add(byStatus.getOrDefault(query.podcastStatus(), Set.of()));
+        if (query.episodeStatus() != null) sets.add(byEpisodeStatus.getOrDefault(query.episodeStatus(), Set.of()));
+
+        if (sets.isEmpty()) {
+            return null;
+        }
+
+        sets.sort(Comparator.comparingInt(Set::size));
+        Set<String> result = new HashSet<>(sets.get(0));
+        for (int i = 1; i < sets.size() && !result.isEmpty(); i++) {
+            result.retainAll(sets.get(i));
+        }
+        return result;
+    }
+
+    private boolean matchesDocumentFilters(IndexedPodcast document, PodcastSearchQuery query) {
+        if (query.flagged() != null && document.flagged() != query.flagged()) {
+            return false;
+        }
+        Date publishedAt = document.publishedAt();
+        if (query.publishedFrom() != null && (publishedAt == null || publishedAt.before(query.publishedFrom()))) {
+            return false;
+        }
+        return query.publishedTo() == null || (publishedAt != null && !publishedAt.after(query.publishedTo()));
+    }
+
+    // ==================== DOCUMENT BUILDING ====================
+
+    private IndexedPodcast toDocument(Podcast podcast, List<Episode> episodes) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+
+        length += addTerms(frequencies, podcast.getTitle(), TITLE_WEIGHT);
+        length += addTerms(frequencies, podcast.getDescription(), 1);
+
+        Set<EpisodeStatus> episodeStatuses = EnumSet.noneOf(EpisodeStatus.class);
+        if (episodes != null) {
+            for (Episode episode : episodes) {
+                length += addTerms(frequencies, episode.getTitle(), 1);
+                length += addTerms(frequencies, episode.getDescription(), 1);
+                if (episode.getEpisodeStatus() != null) {
+                    episodeStatuses.add(episode.getEpisodeStatus());
+                }
+            }
+        }
+
+        return new IndexedPodcast(
+                podcast.getUserId(),
+                podcast.getCategory(),
+                podcast.isFlagged(),
+                podcast.getPodcastStatus(),
+                episodeStatuses,
+                podcast.getPublishedAt(),
+                frequencies,
+                length
+        );
+    }
+
+    private int addTerms(Map<String, Integer> frequencies, String text, int weight) {
+        List<String> terms = TextAnalyzer.analyze(text);
+        terms.forEach(term -> frequencies.merge(term, weight, Integer::sum));
+        return terms.size() * weight;
+    }
+
+    private static <K> void addToSet(Map<K, Set<String>> index, K key, String podcastId) {
+        if (key != null) {
+            index.computeIfAbsent(key, k -> new HashSet<>()).add(podcastId);
+        }
+    }
+
+    private static <K> void removeFromSet(Map<K, Set<String>> index, K key, String podcastId) {
+        if (key == null) {
+            return;
+        }
+        Set<String> ids = index.get(key);
+        if (ids != null) {
+            ids.remove(podcastId);
+            if (ids.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+}
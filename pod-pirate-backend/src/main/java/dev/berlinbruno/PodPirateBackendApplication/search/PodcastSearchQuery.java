@@ -0,0 +1,25 @@
+package dev.berlinbruno.PodPirateBackendApplication.search;
+
+import dev.berlinbruno.PodPirateBackendApplication.types.EpisodeStatus;
+import dev.berlinbruno.PodPirateBackendApplication.types.PodcastStatus;
+
+import java.util.Date;
+
+/**
+ * Filter set accepted by {@link PodcastSearchStrategy}. Every field is optional; null means "no filter".
+ */
+public record PodcastSearchQuery(
+        String userId,
+        String category,
+        Boolean flagged,
+        PodcastStatus podcastStatus,
+        EpisodeStatus episodeStatus,
+        String keyword,
+        Date publishedFrom,
+        Date publishedTo
+) {
+
+    public boolean hasKeyword() {
+        return keyword != null && !keyword.isBlank();
+    }
+}
@@ -0,0 +1,14 @@
+package dev.berlinbruno.PodPirateBackendApplication.search;
+
+import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
+import org.springframework.data.domain.Page;
+
+/**
+ * Pluggable podcast search backend used by LookupService.searchPodcasts.
+ * Selected with the {@code search.strategy} property ({@code mongo} by default, or {@code inverted-index}).
+ */
+public interface PodcastSearchStrategy {
+
+    Page<Podcast> search(PodcastSearchQuery query, int page, int size);
+
+}
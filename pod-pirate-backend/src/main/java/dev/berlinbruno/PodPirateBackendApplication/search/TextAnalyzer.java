@@ -0,0 +1,104 @@
+package dev.berlinbruno.PodPirateBackendApplication.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Turns free text into index terms: splits on anything that is not a letter or digit,
+ * lowercases, drops common English stop words and applies a light suffix-stripping stemmer
+ * so that "podcasts", "podcasting" and "podcast" share a term.
+ */
+public final class TextAnalyzer {
+
+    private static final int MIN_TERM_LENGTH = 2;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "into", "is", "it",
+            "of", "on", "or", "that", "the", "this", "to", "was", "with"
+    );
+
+    private TextAnalyzer() {
+    }
+
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (!current.isEmpty()) {
+                addTerm(terms, current.toString());
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) {
+            addTerm(terms, current.toString());
+        }
+        return terms;
+    }
+
+    private static void addTerm(List<String> terms, String token) {
+        String lower = token.toLowerCase(Locale.ROOT);
+        if (lower.length() < MIN_TERM_LENGTH || STOP_WORDS.contains(lower)) {
+            return;
+        }
+        terms.add(stem(lower));
+    }
+
+    /**
+     * Porter-style step 1 only (plurals, -ed, -ing, -ly). Good enough for titles and
+     * short descriptions, and cheap enough to run on every indexed token.
+     */
+    static String stem(String term) {
+        if (term.length() <= 3 || !Character.isLetter(term.charAt(term.length() - 1))) {
+            return term;
+        }
+
+        String stem = term;
+        if (stem.endsWith("sses")) {
+            stem = stem.substring(0, stem.length() - 2);
+        } else if (stem.endsWith("ies")) {
+            stem = stem.substring(0, stem.length() - 2);
+        } else if (stem.endsWith("s") && !stem.endsWith("ss") && !stem.endsWith("us")) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+
+        if (stem.endsWith("ing") && hasVowel(stem, stem.length() - 3)) {
+            stem = undouble(stem.substring(0, stem.length() - 3));
+        } else if (stem.endsWith("ed") && hasVowel(stem, stem.length() - 2)) {
+            stem = undouble(stem.substring(0, stem.length() - 2));
+        } else if (stem.endsWith("ly") && stem.length() > 4) {
+            stem = stem.substring(0, stem.length() - 2);
+        }
+
+        if (stem.endsWith("y") && stem.length() > 2 && hasVowel(stem, stem.length() - 1)) {
+            stem = stem.substring(0, stem.length() - 1) + "i";
+        }
+        return stem;
+    }
+
+    private static boolean hasVowel(String term, int end) {
+        for (int i = 0; i < end; i++) {
+            if ("aeiou".indexOf(term.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String undouble(String stem) {
+        int n = stem.length();
+        if (n >= 2 && stem.charAt(n - 1) == stem.charAt(n - 2)
+                && "lsz".indexOf(stem.charAt(n - 1)) < 0) {
+            return stem.substring(0, n - 1);
+        }
+        return stem;
+    }
+}
@@ -1,5 +1,7 @@
 package dev.berlinbruno.PodPirateBackendApplication.service;
 
+import dev.berlinbruno.PodPirateBackendApplication.dto.CursorPage;
+import dev.berlinbruno.PodPirateBackendApplication.dto.SearchPage;
 import dev.berlinbruno.PodPirateBackendApplication.dto.admin.AdminPodcastDetailResponse;
 import dev.berlinbruno.PodPirateBackendApplication.dto.admin.AdminPodcastResponse;
 import dev.berlinbruno.PodPirateBackendApplication.dto.admin.AdminUserDetailResponse;
@@ -26,6 +28,12 @@ public interface AdminService {
      */
     Page<AdminUserResponse> getAllUsers(String q, AccountRoles roles, AccountStatus status, int page, int size);
 
+    /**
+     * Keyset-paginated variant of {@link #getAllUsers}, newest registered first.
+     */
+    CursorPage<AdminUserResponse> scrollUsers(String q, AccountRoles roles, AccountStatus status,
+                                              String cursor, int size, boolean includeTotal);
+
     /**
      * Gets detailed information about a specific user.
      */
@@ -53,6 +61,18 @@ public interface AdminService {
      */
     Page<AdminPodcastResponse> getAllPodcasts(String query, PodcastStatus status, int page, int size);
 
+    /**
+     * Searches all podcasts, newest created first, returning the page together with the total and the number
+     * of matches per category and per status. Without a status filter flagged podcasts are included.
+     */
+    SearchPage<AdminPodcastResponse> searchPodcasts(String query, String category, PodcastStatus status, int page, int size);
+
+    /**
+     * Keyset-paginated variant of {@link #getAllPodcasts}, newest created first.
+     */
+    CursorPage<AdminPodcastResponse> scrollPodcasts(String query, PodcastStatus status,
+                                                    String cursor, int size, boolean includeTotal);
+
     /**
      * Gets detailed information about a specific podcast for admin review.
      */
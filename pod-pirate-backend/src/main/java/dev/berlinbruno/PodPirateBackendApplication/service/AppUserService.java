@@ -5,6 +5,7 @@ import dev.berlinbruno.PodPirateBackendApplication.dto.appuser.UpdateUserRequest
 import dev.berlinbruno.PodPirateBackendApplication.dto.appuser.UserProfileResponse;
 import dev.berlinbruno.PodPirateBackendApplication.dto.creator.CreatorPublicResponse;
 import dev.berlinbruno.PodPirateBackendApplication.dto.media.ImageUploadResponse;
+import dev.berlinbruno.PodPirateBackendApplication.service.CatalogVersionService.CatalogVersion;
 import dev.berlinbruno.PodPirateBackendApplication.types.ImageExtension;
 
 /**
@@ -43,8 +44,9 @@ public interface AppUserService {
     // ==================== PUBLIC CREATOR PROFILES ====================
 
     /**
-     * Retrieves public profile information for a podcast creator.
+     * Retrieves public profile information for a podcast creator, cached per {@code version} of the
+     * profile. A null version bypasses the cache.
      */
-    CreatorPublicResponse getCreatorPublicProfile(String userId);
+    CreatorPublicResponse getCreatorPublicProfile(String userId, CatalogVersion version);
 
 }
@@ -0,0 +1,21 @@
+package dev.berlinbruno.PodPirateBackendApplication.service;
+
+import java.util.Collection;
+
+/**
+ * Service interface for removing media blobs from storage in bulk.
+ * Deletes are recorded in a durable queue first, executed in parallel batches in the background,
+ * and retried with backoff until they succeed.
+ */
+public interface BlobDeletionService {
+
+    /**
+     * Queues the given blob paths for deletion and starts deleting them. Null or blank paths are ignored.
+     */
+    void deleteAll(Collection<String> filePaths);
+
+    /**
+     * Retries queued deletes that are due and returns how many were picked up.
+     */
+    int retryPending();
+}
@@ -0,0 +1,25 @@
+package dev.berlinbruno.PodPirateBackendApplication.service;
+
+/**
+ * Cheap version lookups for public catalog resources, used to answer conditional requests
+ * without loading, mapping and signing the full representation.
+ */
+public interface CatalogVersionService {
+
+    /**
+     * Version of a published podcast's public representation and its episodes, optionally including
+     * its creator's profile. Returns null when the podcast is missing or not published.
+     */
+    CatalogVersion getPodcastVersion(String podcastId, boolean includeCreator);
+
+    /**
+     * Version of a creator's public profile. Returns null when the user does not exist.
+     */
+    CatalogVersion getCreatorVersion(String userId);
+
+    /**
+     * Strong entity tag and last modification time (epoch millis, -1 when unknown) of a representation.
+     */
+    record CatalogVersion(String etag, long lastModified) {
+    }
+}
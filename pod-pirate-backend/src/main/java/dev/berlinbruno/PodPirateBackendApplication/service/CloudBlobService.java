@@ -1,5 +1,9 @@
 package dev.berlinbruno.PodPirateBackendApplication.service;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 public interface CloudBlobService {
 
     String generateSignedUrlForDownload(String filePath);
@@ -10,4 +14,41 @@ public interface CloudBlobService {
 
     void deleteFile(String filePath);
 
+    /**
+     * Deletes several blobs, ignoring ones that no longer exist.
+     * Returns the paths that could not be deleted with the reason; an empty map means all succeeded.
+     */
+    default Map<String, String> deleteFiles(List<String> filePaths) {
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (String filePath : filePaths) {
+            try {
+                deleteFile(filePath);
+            } catch (RuntimeException e) {
+                failures.put(filePath, String.valueOf(e.getMessage()));
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Opens an upload written in sequential chunks, so large files never have to be held whole.
+     * The blob only becomes visible on commit.
+     */
+    BlobUpload openUpload(String filePath, String contentType);
+
+    /**
+     * An upload in progress. Chunks are appended in order; the caller may reuse the chunk array once
+     * {@link #write} returns.
+     */
+    interface BlobUpload {
+
+        void write(byte[] chunk, int length);
+
+        void commit();
+
+        /**
+         * Discards the chunks written so far.
+         */
+        void abort();
+    }
 }
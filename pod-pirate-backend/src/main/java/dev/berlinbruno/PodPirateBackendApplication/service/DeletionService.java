@@ -1,6 +1,7 @@
 package dev.berlinbruno.PodPirateBackendApplication.service;
 
 import dev.berlinbruno.PodPirateBackendApplication.model.AppUser;
+import dev.berlinbruno.PodPirateBackendApplication.model.Episode;
 import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
 
 /**
@@ -23,6 +24,6 @@ public interface DeletionService {
     /**
      * Deletes a specific episode from a podcast and its media files.
      */
-    void deleteEpisode(Podcast podcast, int episodeIndex);
+    void deleteEpisode(Podcast podcast, Episode episode);
 
 }
@@ -1,12 +1,12 @@
 package dev.berlinbruno.PodPirateBackendApplication.service;
 
 import dev.berlinbruno.PodPirateBackendApplication.types.VerificationType;
-import jakarta.mail.MessagingException;
-
-import java.io.UnsupportedEncodingException;
 
 public interface EmailService {
-    void sendEmailWithRetry(String to, String token, VerificationType type);
 
-    void sendTokenByEmail(String to, String token, VerificationType type) throws MessagingException, UnsupportedEncodingException;
+    /**
+     * Stores the email in the outbox and wakes the dispatcher. Delivery happens in the background,
+     * is retried with backoff and survives restarts.
+     */
+    void queueEmail(String to, String token, VerificationType type);
 }
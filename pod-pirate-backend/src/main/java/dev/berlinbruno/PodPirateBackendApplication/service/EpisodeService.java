@@ -3,11 +3,14 @@ package dev.berlinbruno.PodPirateBackendApplication.service;
 import dev.berlinbruno.PodPirateBackendApplication.dto.episode.*;
 import dev.berlinbruno.PodPirateBackendApplication.dto.media.AudioUploadResponse;
 import dev.berlinbruno.PodPirateBackendApplication.dto.media.ImageUploadResponse;
+import dev.berlinbruno.PodPirateBackendApplication.dto.media.MediaUploadResponse;
+import dev.berlinbruno.PodPirateBackendApplication.service.CatalogVersionService.CatalogVersion;
 import dev.berlinbruno.PodPirateBackendApplication.types.AudioExtension;
 import dev.berlinbruno.PodPirateBackendApplication.types.AudioType;
 import dev.berlinbruno.PodPirateBackendApplication.types.ImageExtension;
 import dev.berlinbruno.PodPirateBackendApplication.types.ImageType;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -19,15 +22,22 @@ public interface EpisodeService {
     // ==================== PUBLIC EPISODE DISCOVERY ====================
 
     /**
-     * Retrieves all published episodes for a podcast.
+     * Retrieves all published episodes for a podcast, cached per {@code version} of the podcast. A null
+     * version bypasses the cache.
      */
-    List<EpisodePublicDetailResponse> getAllPublishedEpisodes(String podcastId);
+    List<EpisodePublicDetailResponse> getAllPublishedEpisodes(String podcastId, CatalogVersion version);
 
     /**
      * Gets detailed information about a published episode.
      */
     EpisodePublicDetailResponse getPublishedEpisodeDetails(String podcastId, Long episodeId);
 
+    /**
+     * Gets the published episode at a zero-based position among the podcast's published episodes in
+     * episode-number order, which is how public episode IDs were assigned before they became stable.
+     */
+    EpisodePublicDetailResponse getPublishedEpisodeByLegacyPosition(String podcastId, int position);
+
     // ==================== USER EPISODE MANAGEMENT ====================
 
     /**
@@ -75,4 +85,16 @@ public interface EpisodeService {
      */
     AudioUploadResponse generateEpisodeAudioUploadUrl(String id, String podcastId, Long episodeId, AudioType audioType, AudioExtension extension);
 
+    /**
+     * Streams an episode image through the backend to storage and sets it as the episode's image.
+     */
+    MediaUploadResponse uploadEpisodeImage(String userId, String podcastId, Long episodeId, ImageExtension extension,
+                                           String contentType, long contentLength, InputStream body);
+
+    /**
+     * Streams episode audio through the backend to storage and sets it as the episode's audio.
+     */
+    MediaUploadResponse uploadEpisodeAudio(String userId, String podcastId, Long episodeId, AudioExtension extension,
+                                           String contentType, long contentLength, InputStream body);
+
 }
@@ -0,0 +1,40 @@
+package dev.berlinbruno.PodPirateBackendApplication.service;
+
+import dev.berlinbruno.PodPirateBackendApplication.dto.playback.PlaybackEventRequest;
+import dev.berlinbruno.PodPirateBackendApplication.dto.stats.CreatorListenerStatsResponse;
+import dev.berlinbruno.PodPirateBackendApplication.dto.stats.PodcastListenerStatsResponse;
+import dev.berlinbruno.PodPirateBackendApplication.types.StatsInterval;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service interface for unique-listener statistics.
+ * Keeps HyperLogLog sketches of listeners per episode, podcast and creator and day.
+ */
+public interface ListenerStatsService {
+
+    /**
+     * Adds the listener to the sketches of the episodes in {@code events}. Sketches are held in memory
+     * and merged into the listener_sketches collection with the next flush.
+     */
+    void recordListeners(String listenerId, List<PlaybackEventRequest> events);
+
+    /**
+     * Gets listener statistics of a podcast owned by the user. Null dates default to the configured range ending today.
+     */
+    PodcastListenerStatsResponse getPodcastStats(String userId, String podcastId,
+                                                 LocalDate from, LocalDate to, StatsInterval interval);
+
+    /**
+     * Gets listener statistics of any podcast (admin).
+     */
+    PodcastListenerStatsResponse getPodcastStatsForAdmin(String podcastId,
+                                                         LocalDate from, LocalDate to, StatsInterval interval);
+
+    /**
+     * Gets the distinct listeners across all podcasts of a creator (admin).
+     */
+    CreatorListenerStatsResponse getCreatorStatsForAdmin(String userId,
+                                                         LocalDate from, LocalDate to, StatsInterval interval);
+}
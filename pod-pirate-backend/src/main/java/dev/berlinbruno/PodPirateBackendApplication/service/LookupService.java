@@ -1,13 +1,21 @@
 package dev.berlinbruno.PodPirateBackendApplication.service;
 
+import dev.berlinbruno.PodPirateBackendApplication.dto.CursorPage;
+import dev.berlinbruno.PodPirateBackendApplication.dto.SearchPage;
 import dev.berlinbruno.PodPirateBackendApplication.model.AppUser;
 import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
 import dev.berlinbruno.PodPirateBackendApplication.types.AccountRoles;
 import dev.berlinbruno.PodPirateBackendApplication.types.EpisodeStatus;
+import dev.berlinbruno.PodPirateBackendApplication.types.PodcastFacet;
 import dev.berlinbruno.PodPirateBackendApplication.types.PodcastStatus;
 import org.springframework.data.domain.Page;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Service interface for entity lookups and retrieval operations.
@@ -16,6 +24,9 @@ import java.util.Date;
  */
 public interface LookupService {
 
+    String SORT_PUBLISHED_AT = "publishedAt";
+    String SORT_CREATED_AT = "createdAt";
+
     // ==================== ENTITY RETRIEVAL ====================
 
     /**
@@ -42,6 +53,18 @@ public interface LookupService {
      */
     AppUser getByEmail(String email);
 
+    /**
+     * Resolves public creator info (id, username, bio) for many users with a single query.
+     * Results are memoized for the rest of the current request; unknown IDs are absent from the map.
+     */
+    Map<String, AppUser> getCreatorsByIds(Collection<String> userIds);
+
+    /**
+     * Retrieves many published podcasts with a single query, in the order of {@code podcastIds}.
+     * IDs of missing or unpublished podcasts are skipped.
+     */
+    List<Podcast> getPublishedPodcastsByIds(List<String> podcastIds);
+
     // ==================== SEARCH OPERATIONS ====================
 
     /**
@@ -61,6 +84,24 @@ public interface LookupService {
             int size
     );
 
+    /**
+     * Podcast search returning the page, the total and the counts of the requested facets from one aggregation,
+     * ordered by {@code sortField} (publishedAt or createdAt) then id, newest first. A facet's own filter does not
+     * narrow its counts, so every value stays selectable.
+     */
+    SearchPage<Podcast> searchPodcastsWithFacets(
+            String userId,
+            String category,
+            Boolean flagged,
+            PodcastStatus podcastStatus,
+            EpisodeStatus episodeStatus,
+            String keyword,
+            Set<PodcastFacet> facets,
+            String sortField,
+            int page,
+            int size
+    );
+
     /**
      * Searches users with comprehensive filtering options.
      * Used by admin operations for user management.
@@ -76,4 +117,71 @@ public interface LookupService {
             int size
     );
 
+    // ==================== KEYSET PAGINATION ====================
+
+    /**
+     * Keyset-paginated podcast search ordered by {@code sortField} (publishedAt or createdAt) then id, newest first.
+     * Pass the previous slice's nextCursor to continue; the total is only counted when requested.
+     */
+    CursorPage<Podcast> scrollPodcasts(
+            String userId,
+            String category,
+            Boolean flagged,
+            PodcastStatus podcastStatus,
+            EpisodeStatus episodeStatus,
+            String keyword,
+            String sortField,
+            String cursor,
+            int size,
+            boolean includeTotal
+    );
+
+    /**
+     * Keyset-paginated user search ordered by createdAt then id, newest first.
+     */
+    CursorPage<AppUser> scrollUsers(
+            AccountRoles roles,
+            Boolean isLocked,
+            Boolean isEmailVerified,
+            String keyword,
+            String cursor,
+            int size,
+            boolean includeTotal
+    );
+
+    // ==================== STREAMING ====================
+
+    /**
+     * Streams the IDs of published podcasts, optionally only those modified at or after {@code updatedSince}.
+     * Only the ID is read, through a database cursor; the caller must close the stream.
+     */
+    Stream<String> streamPublishedPodcastIds(Date updatedSince);
+
+    /**
+     * Streams the distinct IDs of users with published podcasts, optionally only users with a published
+     * podcast modified at or after {@code updatedSince}. Deduplicated by the database; the caller must
+     * close the stream.
+     */
+    Stream<String> streamPublishedCreatorIds(Date updatedSince);
+
+    // ==================== AGGREGATES ====================
+
+    /**
+     * Podcast and episode totals for many users with a single aggregation over their podcasts.
+     * Users without podcasts are absent from the map.
+     */
+    Map<String, CreatorTotals> getCreatorTotals(Collection<String> userIds);
+
+    /**
+     * The user's most recently created podcasts, projected to id, title, totalEpisodeCount and createdAt.
+     */
+    List<Podcast> getRecentPodcastSummaries(String userId, int limit);
+
+    /**
+     * Number of podcasts a user owns (any status) and the episodes across them.
+     */
+    record CreatorTotals(long podcastCount, long episodeCount) {
+
+        public static final CreatorTotals NONE = new CreatorTotals(0, 0);
+    }
 }
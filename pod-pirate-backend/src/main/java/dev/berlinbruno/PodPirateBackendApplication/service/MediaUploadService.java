@@ -0,0 +1,26 @@
+package dev.berlinbruno.PodPirateBackendApplication.service;
+
+import dev.berlinbruno.PodPirateBackendApplication.dto.media.MediaUploadResponse;
+
+import java.io.InputStream;
+
+/**
+ * Pipes media request bodies to blob storage in fixed-size chunks from a bounded buffer pool,
+ * computing the size and SHA-256 checksum on the way.
+ */
+public interface MediaUploadService {
+
+    /**
+     * Streams an audio file to {@code blobPath}. {@code contentLength} is -1 when unknown.
+     * @throws InvalidResourceException if the body exceeds the maximum audio size
+     * @throws ResourceUnavailableException if no upload buffer frees up in time
+     */
+    MediaUploadResponse uploadAudio(String blobPath, String contentType, long contentLength, InputStream body);
+
+    /**
+     * Streams an image file to {@code blobPath}. {@code contentLength} is -1 when unknown.
+     * @throws InvalidResourceException if the body exceeds the maximum image size
+     * @throws ResourceUnavailableException if no upload buffer frees up in time
+     */
+    MediaUploadResponse uploadImage(String blobPath, String contentType, long contentLength, InputStream body);
+}
@@ -0,0 +1,23 @@
+package dev.berlinbruno.PodPirateBackendApplication.service;
+
+import dev.berlinbruno.PodPirateBackendApplication.dto.playback.PlaybackEventRequest;
+
+import java.util.List;
+
+/**
+ * Service interface for playback statistics.
+ * Counts play and heartbeat events and ranks podcasts by recent listening.
+ */
+public interface PlaybackService {
+
+    /**
+     * Counts playback events in memory; they reach the play_stats collection with the next flush.
+     */
+    void recordEvents(List<PlaybackEventRequest> events);
+
+    /**
+     * Returns the IDs of the podcasts with the highest decayed play score, best first,
+     * optionally only those of one category.
+     */
+    List<String> getTrendingPodcastIds(String category, int limit);
+}
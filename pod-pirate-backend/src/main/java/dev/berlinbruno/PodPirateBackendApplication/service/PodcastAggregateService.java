@@ -0,0 +1,53 @@
+package dev.berlinbruno.PodPirateBackendApplication.service;
+
+import dev.berlinbruno.PodPirateBackendApplication.model.Episode;
+import dev.berlinbruno.PodPirateBackendApplication.types.EpisodeStatus;
+
+import java.util.Collection;
+
+/**
+ * Maintains the episode aggregates stored on podcast documents (episode counts, last publish date,
+ * total duration), so podcast listings never have to read the episode collection.
+ */
+public interface PodcastAggregateService {
+
+    /**
+     * Adds a newly inserted episode to its podcast's aggregates.
+     */
+    void episodeCreated(Episode episode);
+
+    /**
+     * Applies the difference between an episode's state before a change and its saved state.
+     */
+    void episodeChanged(EpisodeState before, Episode after);
+
+    /**
+     * Removes a deleted episode from its podcast's aggregates.
+     */
+    void episodeDeleted(Episode episode);
+
+    /**
+     * Recomputes the aggregates of the given podcasts from the episode collection.
+     * Returns the number of podcasts whose stored values were corrected.
+     */
+    long recompute(Collection<String> podcastIds);
+
+    /**
+     * Recomputes the aggregates of every migrated podcast in batches; podcasts whose embedded episodes
+     * have not been moved to the episode collection yet are skipped.
+     * Returns the number of podcasts whose stored values were corrected.
+     */
+    long recomputeAll();
+
+    /**
+     * The parts of an episode that contribute to its podcast's aggregates, captured before a change.
+     */
+    record EpisodeState(boolean published, long durationSeconds) {
+
+        public static EpisodeState of(Episode episode) {
+            return new EpisodeState(
+                    episode.getEpisodeStatus() == EpisodeStatus.PUBLISHED,
+                    episode.getDurationSeconds() != null ? episode.getDurationSeconds() : 0);
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package dev.berlinbruno.PodPirateBackendApplication.service;
 
+import dev.berlinbruno.PodPirateBackendApplication.dto.CursorPage;
+import dev.berlinbruno.PodPirateBackendApplication.dto.SearchPage;
 import dev.berlinbruno.PodPirateBackendApplication.dto.media.ImageUploadResponse;
 import dev.berlinbruno.PodPirateBackendApplication.dto.podcast.*;
+import dev.berlinbruno.PodPirateBackendApplication.service.CatalogVersionService.CatalogVersion;
 import dev.berlinbruno.PodPirateBackendApplication.types.ImageExtension;
 import dev.berlinbruno.PodPirateBackendApplication.types.ImageType;
 import dev.berlinbruno.PodPirateBackendApplication.types.PodcastStatus;
 import org.springframework.data.domain.Page;
 
+import java.util.Date;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Service interface for podcast operations.
@@ -22,6 +27,12 @@ public interface PodcastService {
      */
     Page<PodcastResponse> getAllPodcastsForUser(String id, String q, PodcastStatus status, int page, int size);
 
+    /**
+     * Keyset-paginated variant of {@link #getAllPodcastsForUser}, newest created first.
+     */
+    CursorPage<PodcastResponse> scrollPodcastsForUser(String id, String q, PodcastStatus status,
+                                                      String cursor, int size, boolean includeTotal);
+
     /**
      * Gets detailed information about a user's podcast.
      */
@@ -65,9 +76,22 @@ public interface PodcastService {
     Page<PodcastPublicResponse> getAllPublishedPodcasts(String query, String category, int page, int size);
 
     /**
-     * Gets detailed information about a published podcast.
+     * Searches published podcasts, newest published first, returning the page together with the total and
+     * the number of matches per category.
+     */
+    SearchPage<PodcastPublicResponse> searchPublishedPodcasts(String query, String category, int page, int size);
+
+    /**
+     * Keyset-paginated variant of {@link #getAllPublishedPodcasts}, newest published first.
      */
-    PodcastPublicDetailResponse getPublishedPodcastDetailsById(String podcastId);
+    CursorPage<PodcastPublicResponse> scrollPublishedPodcasts(String query, String category,
+                                                              String cursor, int size, boolean includeTotal);
+
+    /**
+     * Gets detailed information about a published podcast, cached per {@code version} of the podcast and
+     * its creator. A null version bypasses the cache.
+     */
+    PodcastPublicDetailResponse getPublishedPodcastDetailsById(String podcastId, CatalogVersion version);
 
     /**
      * Retrieves all published podcasts by a specific creator.
@@ -75,13 +99,21 @@ public interface PodcastService {
     Page<PodcastPublicResponse> getPublishedPodcastsByCreator(String id, int page, int size);
 
     /**
-     * Retrieves all published podcast IDs.
+     * Retrieves the published podcasts with the most recent listening, best first,
+     * optionally only those of one category.
+     */
+    List<PodcastPublicResponse> getTrendingPodcasts(String category, int size);
+
+    /**
+     * Streams published podcast IDs, optionally only those modified since {@code updatedSince}.
+     * The caller must close the stream.
      */
-    List<String> getAllPublishedPodcastIds();
+    Stream<String> streamPublishedPodcastIds(Date updatedSince);
 
     /**
-     * Retrieves all creator IDs who have published podcasts.
+     * Streams the distinct IDs of creators with published podcasts, optionally only those with a
+     * podcast modified since {@code updatedSince}. The caller must close the stream.
      */
-    List<String> getAllCreatorIdsWithPublishedPodcasts();
+    Stream<String> streamCreatorIdsWithPublishedPodcasts(Date updatedSince);
 
 }
@@ -0,0 +1,35 @@
+package dev.berlinbruno.PodPirateBackendApplication.service;
+
+/**
+ * Keeps a precomputed, segmented XML sitemap of public podcast and creator pages in memory.
+ */
+public interface SitemapService {
+
+    /**
+     * Sitemap index listing every segment, located under {@code segmentBaseUrl} as {@code <name>.xml}.
+     * @throws ResourceUnavailableException (with a retry delay) if the first build has not completed yet
+     */
+    SitemapDocument getIndex(String segmentBaseUrl);
+
+    /**
+     * A single sitemap segment by name (e.g. {@code podcasts-0}).
+     * @throws NotFoundException if no segment has that name
+     */
+    SitemapDocument getSegment(String name);
+
+    /**
+     * Rebuilds every segment from the database.
+     */
+    void rebuild();
+
+    /**
+     * Regenerates the segments touched by catalog changes since the last run and returns how many were regenerated.
+     */
+    int refreshChangedSegments();
+
+    /**
+     * Rendered XML with a strong entity tag and its last modification time (epoch millis).
+     */
+    record SitemapDocument(byte[] content, String etag, long lastModified) {
+    }
+}
@@ -0,0 +1,14 @@
+package dev.berlinbruno.PodPirateBackendApplication.service;
+
+/**
+ * Service interface for checking whether an access token has been revoked.
+ * Tokens carry the user's security version at issue time; lock, sign-out and password reset bump it.
+ */
+public interface TokenRevocationService {
+
+    /**
+     * Checks whether a token issued at the given security version is no longer valid for the user.
+     * Deleted users count as revoked.
+     */
+    boolean isRevoked(String userId, long tokenVersion);
+}
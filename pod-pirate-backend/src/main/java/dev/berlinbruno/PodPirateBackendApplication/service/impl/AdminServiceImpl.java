@@ -1,44 +1,62 @@
 package dev.berlinbruno.PodPirateBackendApplication.service.impl;
 
+import dev.berlinbruno.PodPirateBackendApplication.dto.CursorPage;
 import dev.berlinbruno.PodPirateBackendApplication.dto.GeneralResponse;
+import dev.berlinbruno.PodPirateBackendApplication.dto.SearchPage;
 import dev.berlinbruno.PodPirateBackendApplication.dto.admin.AdminPodcastDetailResponse;
 import dev.berlinbruno.PodPirateBackendApplication.dto.admin.AdminPodcastResponse;
 import dev.berlinbruno.PodPirateBackendApplication.dto.admin.AdminUserDetailResponse;
 import dev.berlinbruno.PodPirateBackendApplication.dto.admin.AdminUserResponse;
 import dev.berlinbruno.PodPirateBackendApplication.dto.episode.EpisodeDetailResponse;
+import dev.berlinbruno.PodPirateBackendApplication.event.EpisodesChangedEvent;
+import dev.berlinbruno.PodPirateBackendApplication.event.PodcastChangedEvent;
 import dev.berlinbruno.PodPirateBackendApplication.exception.ConflictException;
+import dev.berlinbruno.PodPirateBackendApplication.exception.NotFoundException;
 import dev.berlinbruno.PodPirateBackendApplication.model.AppUser;
 import dev.berlinbruno.PodPirateBackendApplication.model.Episode;
 import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
 import dev.berlinbruno.PodPirateBackendApplication.repository.AppUserRepository;
-import dev.berlinbruno.PodPirateBackendApplication.repository.PodcastRepository;
+import dev.berlinbruno.PodPirateBackendApplication.repository.EpisodeRepository;
 import dev.berlinbruno.PodPirateBackendApplication.service.AdminService;
 import dev.berlinbruno.PodPirateBackendApplication.service.DeletionService;
 import dev.berlinbruno.PodPirateBackendApplication.service.LookupService;
+import dev.berlinbruno.PodPirateBackendApplication.service.LookupService.CreatorTotals;
+import dev.berlinbruno.PodPirateBackendApplication.service.PodcastAggregateService;
 import dev.berlinbruno.PodPirateBackendApplication.types.*;
+import dev.berlinbruno.PodPirateBackendApplication.utils.PodcastSizeTag;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
-import java.util.Date;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.IntStream;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
+@Timed(value = "app.service", histogram = true)
 @RequiredArgsConstructor
 public class AdminServiceImpl implements AdminService {
 
+    private static final int RECENT_PODCAST_LIMIT = 5;
+
     private final AppUserRepository appUserRepository;
-    private final PodcastRepository podcastRepository;
+    private final EpisodeRepository episodeRepository;
     private final DeletionService deletionService;
     private final LookupService lookupService;
     private final MediaServiceImpl mediaServiceImpl;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PodcastAggregateService podcastAggregateService;
+    private final MongoTemplate mongoTemplate;
 
     // ==================== USER MANAGEMENT ====================
 
@@ -48,14 +66,31 @@ public class AdminServiceImpl implements AdminService {
         Boolean isEmailVerified = determineEmailVerifiedStatus(status);
 
         Page<AppUser> appUsers = lookupService.searchUsers(roles, isLocked, isEmailVerified, q, null, null, page, size);
-        return appUsers.map(this::mapToAdminUserResponse);
+        Map<String, CreatorTotals> totals = lookupService.getCreatorTotals(
+                appUsers.getContent().stream().map(AppUser::getId).toList());
+        return appUsers.map(appUser -> mapToAdminUserResponse(appUser, totals));
+    }
+
+    @Override
+    public CursorPage<AdminUserResponse> scrollUsers(String q, AccountRoles roles, AccountStatus status,
+                                                     String cursor, int size, boolean includeTotal) {
+        Boolean isLocked = determineLockedStatus(status);
+        Boolean isEmailVerified = determineEmailVerifiedStatus(status);
+
+        CursorPage<AppUser> appUsers = lookupService.scrollUsers(
+                roles, isLocked, isEmailVerified, q, cursor, size, includeTotal);
+        Map<String, CreatorTotals> totals = lookupService.getCreatorTotals(
+                appUsers.getContent().stream().map(AppUser::getId).toList());
+        return appUsers.map(appUser -> mapToAdminUserResponse(appUser, totals));
     }
 
     @Override
     public AdminUserDetailResponse getUserDetailById(String userId) {
         AppUser appUser = lookupService.getById(userId);
-        List<Podcast> userPodcasts = podcastRepository.findAllByUserId(userId);
-        return mapToAdminUserDetailResponse(appUser, userPodcasts);
+        CreatorTotals totals = lookupService.getCreatorTotals(List.of(userId))
+                .getOrDefault(userId, CreatorTotals.NONE);
+        List<Podcast> recentPodcasts = lookupService.getRecentPodcastSummaries(userId, RECENT_PODCAST_LIMIT);
+        return mapToAdminUserDetailResponse(appUser, totals, recentPodcasts);
     }
 
     @Override
@@ -90,7 +125,38 @@ public class AdminServiceImpl implements AdminService {
 
         Page<Podcast> podcasts = lookupService.searchPodcasts(
                 null, null, isFlagged, podcastStatus, null, query, null, null, page, size);
-        return podcasts.map(this::mapToAdminPodcastResponse);
+        Map<String, AppUser> creators = lookupService.getCreatorsByIds(
+                podcasts.getContent().stream().map(Podcast::getUserId).distinct().toList());
+        return podcasts.map(podcast -> mapToAdminPodcastResponse(podcast, creators));
+    }
+
+    @Override
+    public SearchPage<AdminPodcastResponse> searchPodcasts(String query, String category, PodcastStatus status,
+                                                           int page, int size) {
+        // Unlike the plain listing, no status filter means every podcast so the FLAGGED count matches the rows
+        Boolean isFlagged = status == null ? null : status == PodcastStatus.FLAGGED;
+        PodcastStatus podcastStatus = status == PodcastStatus.FLAGGED ? null : status;
+
+        SearchPage<Podcast> podcasts = lookupService.searchPodcastsWithFacets(
+                null, category, isFlagged, podcastStatus, null, query,
+                Set.of(PodcastFacet.CATEGORY, PodcastFacet.STATUS), LookupService.SORT_CREATED_AT, page, size);
+        Map<String, AppUser> creators = lookupService.getCreatorsByIds(
+                podcasts.getContent().stream().map(Podcast::getUserId).distinct().toList());
+        return podcasts.map(podcast -> mapToAdminPodcastResponse(podcast, creators));
+    }
+
+    @Override
+    public CursorPage<AdminPodcastResponse> scrollPodcasts(String query, PodcastStatus status,
+                                                           String cursor, int size, boolean includeTotal) {
+        boolean isFlagged = (status == PodcastStatus.FLAGGED);
+        PodcastStatus podcastStatus = isFlagged ? null : status;
+
+        CursorPage<Podcast> podcasts = lookupService.scrollPodcasts(
+                null, null, isFlagged, podcastStatus, null, query,
+                LookupService.SORT_CREATED_AT, cursor, size, includeTotal);
+        Map<String, AppUser> creators = lookupService.getCreatorsByIds(
+                podcasts.getContent().stream().map(Podcast::getUserId).distinct().toList());
+        return podcasts.map(podcast -> mapToAdminPodcastResponse(podcast, creators));
     }
 
     @Override
@@ -104,14 +170,16 @@ public class AdminServiceImpl implements AdminService {
         Podcast podcast = lookupService.getPodcastById(podcastId);
         validatePodcastNotFlagged(podcast, true);
 
-        podcast.setFlagged(true);
-        podcast.setPodcastStatus(podcast.getPodcastStatus() == PodcastStatus.PUBLISHED
-                ? PodcastStatus.ARCHIVED
-                : podcast.getPodcastStatus());
-        podcast.setPublishedAt(null);
+        Update update = new Update()
+                .set("flagged", true)
+                .set("publishedAt", null);
+        if (podcast.getPodcastStatus() == PodcastStatus.PUBLISHED) {
+            update.set("podcastStatus", PodcastStatus.ARCHIVED);
+        }
 
+        updatePodcast(podcastId, update);
         archivePublishedEpisodes(podcast);
-        podcastRepository.save(podcast);
+        eventPublisher.publishEvent(PodcastChangedEvent.of(podcast));
     }
 
     @Override
@@ -119,8 +187,8 @@ public class AdminServiceImpl implements AdminService {
         Podcast podcast = lookupService.getPodcastById(podcastId);
         validatePodcastNotFlagged(podcast, false);
 
-        podcast.setFlagged(false);
-        podcastRepository.save(podcast);
+        updatePodcast(podcastId, new Update().set("flagged", false));
+        eventPublisher.publishEvent(PodcastChangedEvent.of(podcast));
     }
 
     @Override
@@ -134,21 +202,19 @@ public class AdminServiceImpl implements AdminService {
 
     @Override
     public List<EpisodeDetailResponse> getPodcastEpisodes(String podcastId) {
-        Podcast podcast = lookupService.getPodcastById(podcastId);
-
-        if (podcast.getEpisodes() == null || podcast.getEpisodes().isEmpty()) {
-            return Collections.emptyList();
-        }
+        lookupService.getPodcastById(podcastId);
 
-        return mapEpisodesToDetailResponse(podcast.getEpisodes());
+        List<Episode> episodes = episodeRepository.findAllByPodcastIdOrderByEpisodeNumberAsc(podcastId);
+        PodcastSizeTag.record(episodes.size());
+        return mapEpisodesToDetailResponse(episodes);
     }
 
     @Override
     @Transactional
     public void deleteEpisode(String podcastId, Long episodeId) {
         Podcast podcast = lookupService.getPodcastById(podcastId);
-        int episodeIndex = validateEpisodeIndex(podcast, episodeId.intValue());
-        deletionService.deleteEpisode(podcast, episodeIndex);
+        Episode episode = getEpisodeOrThrow(podcastId, episodeId);
+        deletionService.deleteEpisode(podcast, episode);
     }
 
     // ==================== VALIDATION HELPERS ====================
@@ -189,14 +255,10 @@ public class AdminServiceImpl implements AdminService {
         }
     }
 
-    private int validateEpisodeIndex(Podcast podcast, int episodeIndex) {
-        if (podcast.getEpisodes() == null ||
-            episodeIndex < 0 ||
-            episodeIndex >= podcast.getEpisodes().size()) {
-            throw new dev.berlinbruno.PodPirateBackendApplication.exception.NotFoundException(
-                    buildGeneralResponse(HttpStatus.NOT_FOUND, AppMessage.EPISODE_NOT_FOUND));
-        }
-        return episodeIndex;
+    private Episode getEpisodeOrThrow(String podcastId, Long episodeId) {
+        return episodeRepository.findByPodcastIdAndEpisodeNumber(podcastId, episodeId)
+                .orElseThrow(() -> new NotFoundException(
+                        buildGeneralResponse(HttpStatus.NOT_FOUND, AppMessage.EPISODE_NOT_FOUND)));
     }
 
     private ConflictException buildConflictException(AppMessage message) {
@@ -209,37 +271,25 @@ public class AdminServiceImpl implements AdminService {
 
     // ==================== BUSINESS LOGIC HELPERS ====================
 
-    private void archivePublishedEpisodes(Podcast podcast) {
-        if (podcast.getEpisodes() != null) {
-            podcast.getEpisodes().stream()
-                    .filter(episode -> episode.getEpisodeStatus() == EpisodeStatus.PUBLISHED)
-                    .forEach(episode -> {
-                        episode.setEpisodeStatus(EpisodeStatus.ARCHIVED);
-                        episode.setPublishedAt(null);
-                    });
-        }
-    }
-
-    private int calculateEpisodeCount(List<Episode> episodes) {
-        return episodes != null ? episodes.size() : 0;
+    /**
+     * Writes only the moderated fields, leaving the episode aggregates maintained with {@code $inc} untouched.
+     */
+    private void updatePodcast(String podcastId, Update update) {
+        update.currentDate("lastModifiedAt");
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(podcastId)), update, Podcast.class);
     }
 
-    private Date findLastPublishedEpisodeDate(List<Episode> episodes) {
-        return episodes.stream()
-                .filter(e -> e.getEpisodeStatus() == EpisodeStatus.PUBLISHED)
-                .map(Episode::getPublishedAt)
-                .max(Date::compareTo)
-                .orElse(null);
-    }
-
-    private List<Episode> getEpisodesOrEmpty(Podcast podcast) {
-        return Optional.ofNullable(podcast.getEpisodes()).orElse(Collections.emptyList());
+    private void archivePublishedEpisodes(Podcast podcast) {
+        if (episodeRepository.archivePublishedByPodcastId(podcast.getId()) > 0) {
+            podcastAggregateService.recompute(List.of(podcast.getId()));
+            eventPublisher.publishEvent(new EpisodesChangedEvent(podcast.getId()));
+        }
     }
 
     // ==================== MAPPER METHODS - USER ====================
 
-    private AdminUserResponse mapToAdminUserResponse(AppUser appUser) {
-        int podcastCount = (int) podcastRepository.countByUserId(appUser.getId());
+    private AdminUserResponse mapToAdminUserResponse(AppUser appUser, Map<String, CreatorTotals> totals) {
+        CreatorTotals creatorTotals = totals.getOrDefault(appUser.getId(), CreatorTotals.NONE);
 
         return AdminUserResponse.builder()
                 .userId(appUser.getId())
@@ -249,19 +299,15 @@ public class AdminServiceImpl implements AdminService {
                 .isLocked(appUser.isLocked())
                 .isEmailVerified(appUser.isEmailVerified())
                 .roles(appUser.getRoles())
-                .podcastCount(podcastCount)
+                .podcastCount(creatorTotals.podcastCount())
+                .totalEpisodeCount(creatorTotals.episodeCount())
                 .createdDate(appUser.getCreatedAt())
                 .lastLoginDate(appUser.getLastLoginAt())
                 .build();
     }
 
-    private AdminUserDetailResponse mapToAdminUserDetailResponse(AppUser appUser, List<Podcast> userPodcasts) {
-        int totalEpisodeCount = userPodcasts.stream()
-                .mapToInt(podcast -> calculateEpisodeCount(podcast.getEpisodes()))
-                .sum();
-
-        List<AdminUserDetailResponse.PodcastSummary> recentPodcasts = mapRecentPodcasts(userPodcasts);
-        int podcastCount = (int) podcastRepository.countByUserId(appUser.getId());
+    private AdminUserDetailResponse mapToAdminUserDetailResponse(AppUser appUser, CreatorTotals totals,
+                                                                 List<Podcast> recentPodcasts) {
 
         return AdminUserDetailResponse.builder()
                 .userId(appUser.getId())
@@ -272,22 +318,21 @@ public class AdminServiceImpl implements AdminService {
                 .isLocked(appUser.isLocked())
                 .isEmailVerified(appUser.isEmailVerified())
                 .roles(appUser.getRoles())
-                .podcastCount(podcastCount)
-                .totalEpisodeCount(totalEpisodeCount)
+                .podcastCount(totals.podcastCount())
+                .totalEpisodeCount(totals.episodeCount())
                 .createdDate(appUser.getCreatedAt())
                 .updatedDate(appUser.getLastModifiedAt())
                 .lastLoginDate(appUser.getLastLoginAt())
-                .recentPodcasts(recentPodcasts)
+                .recentPodcasts(mapRecentPodcasts(recentPodcasts))
                 .build();
     }
 
     private List<AdminUserDetailResponse.PodcastSummary> mapRecentPodcasts(List<Podcast> podcasts) {
         return podcasts.stream()
-                .limit(5)
                 .map(podcast -> AdminUserDetailResponse.PodcastSummary.builder()
                         .podcastId(podcast.getId())
                         .title(podcast.getTitle())
-                        .episodeCount(calculateEpisodeCount(podcast.getEpisodes()))
+                        .episodeCount(podcast.getTotalEpisodeCount())
                         .createdDate(podcast.getCreatedAt())
                         .build())
                 .toList();
@@ -295,9 +340,8 @@ public class AdminServiceImpl implements AdminService {
 
     // ==================== MAPPER METHODS - PODCAST ====================
 
-    private AdminPodcastResponse mapToAdminPodcastResponse(Podcast podcast) {
-        AppUser creator = lookupService.getById(podcast.getUserId());
-        List<Episode> episodes = getEpisodesOrEmpty(podcast);
+    private AdminPodcastResponse mapToAdminPodcastResponse(Podcast podcast, Map<String, AppUser> creators) {
+        AppUser creator = creators.get(podcast.getUserId());
 
         return AdminPodcastResponse.builder()
                 .podcastId(podcast.getId())
@@ -307,17 +351,17 @@ public class AdminServiceImpl implements AdminService {
                 .podcastStatus(podcast.getPodcastStatus())
                 .isFlagged(podcast.isFlagged())
                 .creatorId(podcast.getUserId())
-                .creatorName(creator.getGenericUsername())
-                .episodeCount(episodes.size())
+                .creatorName(creator != null ? creator.getGenericUsername() : null)
+                .episodeCount(podcast.getTotalEpisodeCount())
                 .createdDate(podcast.getCreatedAt())
                 .publishedDate(podcast.getPublishedAt())
-                .lastEpisodeDate(findLastPublishedEpisodeDate(episodes))
+                .lastEpisodeDate(podcast.getLastEpisodePublishedAt())
                 .build();
     }
 
     private AdminPodcastDetailResponse mapToAdminPodcastDetailResponse(Podcast podcast) {
         AppUser creator = lookupService.getById(podcast.getUserId());
-        List<Episode> episodes = getEpisodesOrEmpty(podcast);
+        PodcastSizeTag.record(podcast.getTotalEpisodeCount());
 
         return AdminPodcastDetailResponse.builder()
                 .podcastId(podcast.getId())
@@ -331,25 +375,25 @@ public class AdminServiceImpl implements AdminService {
                 .creatorName(creator.getGenericUsername())
                 .creatorEmail(creator.getEmail())
                 .podcastStatus(podcast.getPodcastStatus())
-                .episodeCount(episodes.size())
+                .episodeCount(podcast.getTotalEpisodeCount())
                 .createdDate(podcast.getCreatedAt())
                 .updatedDate(podcast.getLastModifiedAt())
                 .publishedDate(podcast.getPublishedAt())
-                .lastEpisodeDate(findLastPublishedEpisodeDate(episodes))
+                .lastEpisodeDate(podcast.getLastEpisodePublishedAt())
                 .build();
     }
 
     // ==================== MAPPER METHODS - EPISODE ====================
 
     private List<EpisodeDetailResponse> mapEpisodesToDetailResponse(List<Episode> episodes) {
-        return IntStream.range(0, episodes.size())
-                .mapToObj(i -> mapEpisodeToDetailResponse(episodes.get(i), i))
+        return episodes.stream()
+                .map(this::mapEpisodeToDetailResponse)
                 .toList();
     }
 
-    private EpisodeDetailResponse mapEpisodeToDetailResponse(Episode episode, int index) {
+    private EpisodeDetailResponse mapEpisodeToDetailResponse(Episode episode) {
         return EpisodeDetailResponse.builder()
-                .episodeId(index)
+                .episodeId(episode.getEpisodeNumber())
                 .title(episode.getTitle())
                 .description(episode.getDescription())
                 .coverUrl(mediaServiceImpl.getDownloadUrl(episode.getImageUrl()))
@@ -1,21 +1,26 @@
 package dev.berlinbruno.PodPirateBackendApplication.service.impl;
 
+import dev.berlinbruno.PodPirateBackendApplication.cache.PublicCatalogCaches;
 import dev.berlinbruno.PodPirateBackendApplication.dto.GeneralResponse;
 import dev.berlinbruno.PodPirateBackendApplication.dto.appuser.RemoveUserRequest;
 import dev.berlinbruno.PodPirateBackendApplication.dto.appuser.UpdateUserRequest;
 import dev.berlinbruno.PodPirateBackendApplication.dto.appuser.UserProfileResponse;
 import dev.berlinbruno.PodPirateBackendApplication.dto.creator.CreatorPublicResponse;
 import dev.berlinbruno.PodPirateBackendApplication.dto.media.ImageUploadResponse;
+import dev.berlinbruno.PodPirateBackendApplication.event.CreatorChangedEvent;
 import dev.berlinbruno.PodPirateBackendApplication.exception.AlreadyExistsException;
 import dev.berlinbruno.PodPirateBackendApplication.model.AppUser;
 import dev.berlinbruno.PodPirateBackendApplication.repository.AppUserRepository;
 import dev.berlinbruno.PodPirateBackendApplication.repository.PodcastRepository;
 import dev.berlinbruno.PodPirateBackendApplication.service.*;
+import dev.berlinbruno.PodPirateBackendApplication.service.CatalogVersionService.CatalogVersion;
 import dev.berlinbruno.PodPirateBackendApplication.types.AppMessage;
 import dev.berlinbruno.PodPirateBackendApplication.types.ImageExtension;
 import dev.berlinbruno.PodPirateBackendApplication.types.PodcastStatus;
 import dev.berlinbruno.PodPirateBackendApplication.types.TokenType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +36,7 @@ public class AppUserServiceImpl implements AppUserService {
     private final PodcastRepository podcastRepository;
     private final AppUserRepository appUserRepository;
     private final AuthValidationService authValidationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ==================== USER PROFILE MANAGEMENT ====================
 
@@ -59,6 +65,7 @@ public class AppUserServiceImpl implements AppUserService {
 
         applyProfileUpdates(appUser, updateRequest);
         appUserRepository.save(appUser);
+        eventPublisher.publishEvent(new CreatorChangedEvent(appUser.getId()));
 
         return mapToUserProfileResponse(appUser);
     }
@@ -70,6 +77,7 @@ public class AppUserServiceImpl implements AppUserService {
 
         applyProfileRemovals(appUser, removeRequest);
         appUserRepository.save(appUser);
+        eventPublisher.publishEvent(new CreatorChangedEvent(appUser.getId()));
 
         return mapToUserProfileResponse(appUser);
     }
@@ -85,7 +93,9 @@ public class AppUserServiceImpl implements AppUserService {
     // ==================== PUBLIC CREATOR PROFILES ====================
 
     @Override
-    public CreatorPublicResponse getCreatorPublicProfile(String userId) {
+    @Cacheable(cacheNames = PublicCatalogCaches.CREATOR, condition = "#version != null",
+            key = "T(dev.berlinbruno.PodPirateBackendApplication.cache.PublicCatalogCaches).versionedKey(#userId, #version)")
+    public CreatorPublicResponse getCreatorPublicProfile(String userId, CatalogVersion version) {
         AppUser appUser = lookupService.getById(userId);
         return mapToCreatorPublicResponse(appUser);
     }
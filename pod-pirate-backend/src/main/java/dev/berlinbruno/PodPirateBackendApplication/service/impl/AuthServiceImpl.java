@@ -98,6 +98,7 @@ public class AuthServiceImpl implements AuthService {
         authenticateUser(user.getEmail(), signoutRequest.getPassword());
 
         user.unVerifyEmail();
+        user.revokeTokens();
         appUserRepository.save(user);
     }
 
@@ -115,7 +116,7 @@ public class AuthServiceImpl implements AuthService {
     public void sendVerificationToken(String email, VerificationType type) {
         AppUser user = lookupService.getByEmail(email);
         String verificationToken = jwtUtils.generateVerificationToken(user);
-        emailService.sendEmailWithRetry(user.getEmail(), verificationToken, type);
+        emailService.queueEmail(user.getEmail(), verificationToken, type);
     }
 
     // ==================== PASSWORD MANAGEMENT ====================
@@ -241,12 +242,13 @@ public class AuthServiceImpl implements AuthService {
 
     private void updateUserPassword(AppUser user, String newPassword) {
         user.setPassword(passwordEncoder.encode(newPassword));
+        user.revokeTokens();
         appUserRepository.save(user);
     }
 
     private void sendVerificationEmail(AppUser user) {
         String verificationToken = jwtUtils.generateVerificationToken(user);
-        emailService.sendEmailWithRetry(user.getEmail(), verificationToken, VerificationType.EMAIL);
+        emailService.queueEmail(user.getEmail(), verificationToken, VerificationType.EMAIL);
     }
 
     private Date getCurrentUtcDate() {
@@ -1,65 +1,98 @@
 package dev.berlinbruno.PodPirateBackendApplication.service.impl;
 
 import com.azure.storage.blob.BlobClient;
+import com.azure.core.http.rest.Response;
+import com.azure.core.util.Context;
 import com.azure.storage.blob.BlobContainerClient;
-import com.azure.storage.blob.BlobServiceClient;
-import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.blob.batch.BlobBatch;
+import com.azure.storage.blob.batch.BlobBatchClient;
+import com.azure.storage.blob.models.BlobHttpHeaders;
+import com.azure.storage.blob.models.DeleteSnapshotsOptionType;
 import com.azure.storage.blob.sas.BlobSasPermission;
 import com.azure.storage.blob.sas.BlobServiceSasSignatureValues;
+import com.azure.storage.blob.specialized.BlockBlobClient;
+import com.azure.storage.common.StorageSharedKeyCredential;
+import com.azure.storage.common.Utility;
+import dev.berlinbruno.PodPirateBackendApplication.cache.SignedUrlCache;
 import dev.berlinbruno.PodPirateBackendApplication.dto.GeneralResponse;
 import dev.berlinbruno.PodPirateBackendApplication.exception.NotFoundException;
+import dev.berlinbruno.PodPirateBackendApplication.properties.AzureBlobClientProperties;
 import dev.berlinbruno.PodPirateBackendApplication.service.CloudBlobService;
 import dev.berlinbruno.PodPirateBackendApplication.types.AppMessage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.provider", havingValue = "azure", matchIfMissing = true)
 public class AzureBlobServiceImpl implements CloudBlobService {
 
     private static final BlobSasPermission READ_PERMISSION = BlobSasPermission.parse("r");
     private static final BlobSasPermission WRITE_PERMISSION = BlobSasPermission.parse("w");
 
-    @Value("${azure.storage.connection-string}")
-    private String connectionString;
+    private static final int MAX_BATCH_SIZE = 256;
 
-    @Value("${azure.storage.container-name}")
-    private String containerName;
+    private final BlobContainerClient blobContainerClient;
+    private final BlobBatchClient blobBatchClient;
+    private final AzureBlobClientProperties clientProperties;
+    private final MeterRegistry meterRegistry;
+    private final StorageSharedKeyCredential sharedKeyCredential;
+    private final SignedUrlCache signedUrlCache;
 
-    @Value("${azure.signed-url.expiry.read:1}") // Default 1 day
-    private int readExpiryDays;
+    private final Map<String, BlobClient> blobClients = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
 
     @Value("${azure.signed-url.expiry.write:30}") // Default 30 minutes
     private int writeExpiryMinutes;
 
-    private BlobServiceClient getBlobServiceClient() {
-        verifyString(connectionString);
-        return new BlobServiceClientBuilder().connectionString(connectionString).buildClient();
-    }
-
-    private BlobContainerClient getBlobContainerClient() {
-        verifyString(containerName);
-        return getBlobServiceClient().getBlobContainerClient(containerName);
+    @PostConstruct
+    void registerPoolMetrics() {
+        Gauge.builder("blob.client.pool.in-flight", inFlight, AtomicInteger::get)
+                .description("Blob operations currently holding a pooled connection")
+                .register(meterRegistry);
+        Gauge.builder("blob.client.pool.max", clientProperties, AzureBlobClientProperties::maxConnections)
+                .description("Configured size of the shared blob HTTP connection pool")
+                .register(meterRegistry);
+        Gauge.builder("blob.client.handles.cached", blobClients, Map::size)
+                .description("Cached BlobClient handles")
+                .register(meterRegistry);
     }
 
     @Override
     public String generateSignedUrlForUpload(String filePath) {
         verifyString(filePath);
-        return generateSignedUrl(filePath, WRITE_PERMISSION, OffsetDateTime.now().plusMinutes(writeExpiryMinutes));
+        return timedLocally("sign-upload", () ->
+                generateSignedUrl(filePath, WRITE_PERMISSION, OffsetDateTime.now().plusMinutes(writeExpiryMinutes)));
     }
 
     @Override
     public void verifyFileUpload(String filePath) {
         verifyString(filePath);
 
-        BlobClient blobClient = getBlobContainerClient().getBlobClient(filePath);
-        if (!blobClient.exists()) {
+        boolean exists = timed("exists", () -> getBlobClient(filePath).exists());
+        if (!exists) {
             throw new NotFoundException(
                     new GeneralResponse(
                             HttpStatus.NOT_FOUND,
@@ -71,28 +104,176 @@ public class AzureBlobServiceImpl implements CloudBlobService {
         }
     }
 
+    /**
+     * Served from the bucketed URL cache; a miss signs locally with the account key.
+     */
     @Override
     public String generateSignedUrlForDownload(String filePath) {
-        return generateSignedUrl(filePath, READ_PERMISSION, OffsetDateTime.now().plusDays(readExpiryDays));
+        return signedUrlCache.get(filePath, expiry ->
+                timedLocally("sign-download", () -> signDownloadUrl(filePath, expiry.atOffset(ZoneOffset.UTC))));
     }
 
     @Override
     public void deleteFile(String filePath) {
         verifyString(filePath);
-        BlobClient blobClient = getBlobContainerClient().getBlobClient(filePath);
-        if (blobClient.exists()) {
-            blobClient.delete();
+        timed("delete", () -> {
+            BlobClient blobClient = getBlobClient(filePath);
+            boolean deleted = blobClient.deleteIfExists();
+            blobClients.remove(filePath);
+            return deleted;
+        });
+    }
+
+    /**
+     * Deletes blobs with storage batch requests of up to 256 deletes each, so a whole batch costs
+     * one round trip. Missing blobs count as deleted.
+     */
+    @Override
+    public Map<String, String> deleteFiles(List<String> filePaths) {
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (int from = 0; from < filePaths.size(); from += MAX_BATCH_SIZE) {
+            List<String> chunk = filePaths.subList(from, Math.min(from + MAX_BATCH_SIZE, filePaths.size()));
+            try {
+                failures.putAll(timed("delete-batch", () -> deleteBatch(chunk)));
+            } catch (RuntimeException e) {
+                chunk.forEach(filePath -> failures.put(filePath, String.valueOf(e.getMessage())));
+            }
         }
+        return failures;
+    }
+
+    /**
+     * Stages every chunk as a block and commits the block list at the end. Uncommitted blocks of an
+     * aborted upload are discarded by the storage service, so abort has nothing to clean up.
+     */
+    @Override
+    public BlobUpload openUpload(String filePath, String contentType) {
+        verifyString(filePath);
+        BlockBlobClient blockBlobClient = getBlobClient(filePath).getBlockBlobClient();
+        List<String> blockIds = new ArrayList<>();
+
+        return new BlobUpload() {
+            @Override
+            public void write(byte[] chunk, int length) {
+                // Block IDs must all have the same length before encoding
+                String blockId = Base64.getEncoder().encodeToString(
+                        String.format("%08d", blockIds.size()).getBytes(StandardCharsets.US_ASCII));
+                timed("stage-block", () -> {
+                    blockBlobClient.stageBlock(blockId, new ByteArrayInputStream(chunk, 0, length), length);
+                    return null;
+                });
+                blockIds.add(blockId);
+            }
+
+            @Override
+            public void commit() {
+                BlobHttpHeaders headers = new BlobHttpHeaders().setContentType(contentType);
+                timed("commit-blocks", () ->
+                        blockBlobClient.commitBlockListWithResponse(blockIds, headers, null, null, null, null, Context.NONE));
+            }
+
+            @Override
+            public void abort() {
+                blockIds.clear();
+            }
+        };
+    }
+
+    private Map<String, String> deleteBatch(List<String> filePaths) {
+        String containerName = blobContainerClient.getBlobContainerName();
+        BlobBatch batch = blobBatchClient.getBlobBatch();
+        Map<String, Response<Void>> responses = new LinkedHashMap<>();
+        for (String filePath : filePaths) {
+            verifyString(filePath);
+            responses.put(filePath, batch.deleteBlob(containerName, filePath, DeleteSnapshotsOptionType.INCLUDE, null));
+        }
+
+        blobBatchClient.submitBatchWithResponse(batch, false, null, Context.NONE);
+
+        Map<String, String> failures = new LinkedHashMap<>();
+        responses.forEach((filePath, response) -> {
+            int status = response.getStatusCode();
+            if (status != HttpStatus.ACCEPTED.value() && status != HttpStatus.NOT_FOUND.value()) {
+                failures.put(filePath, "Batch delete returned status " + status);
+            }
+            blobClients.remove(filePath);
+        });
+        return failures;
     }
 
     private String generateSignedUrl(String blobName, BlobSasPermission permission, OffsetDateTime expiryTime) {
-        BlobClient blobClient = getBlobContainerClient().getBlobClient(blobName);
+        BlobClient blobClient = getBlobClient(blobName);
         BlobServiceSasSignatureValues sasValues = new BlobServiceSasSignatureValues(expiryTime, permission);
         String sasToken = blobClient.generateSas(sasValues);
 
         return blobClient.getBlobUrl() + "?" + sasToken;
     }
 
+    /**
+     * Signs with the cached account key instead of a per-blob BlobClient. The SDK only offers this through
+     * the deprecated generateSasQueryParameters; the resulting SAS is the same one BlobClient.generateSas builds.
+     */
+    @SuppressWarnings("deprecation")
+    private String signDownloadUrl(String blobName, OffsetDateTime expiryTime) {
+        String sasToken = new BlobServiceSasSignatureValues(expiryTime, READ_PERMISSION)
+                .setContainerName(blobContainerClient.getBlobContainerName())
+                .setBlobName(blobName)
+                .generateSasQueryParameters(sharedKeyCredential)
+                .encode();
+        return blobContainerClient.getBlobContainerUrl() + "/" + Utility.urlEncode(blobName) + "?" + sasToken;
+    }
+
+    /**
+     * Returns a cached handle for the blob. Handles are cheap but not free to build (URL encoding,
+     * pipeline wiring), and the same cover/audio paths are signed on nearly every listing page.
+     * The cache is bounded; when full it is simply reset rather than tracking recency.
+     */
+    private BlobClient getBlobClient(String blobName) {
+        BlobClient cached = blobClients.get(blobName);
+        if (cached != null) {
+            return cached;
+        }
+        if (blobClients.size() >= clientProperties.blobHandleCacheSize()) {
+            blobClients.clear();
+        }
+        return blobClients.computeIfAbsent(blobName, blobContainerClient::getBlobClient);
+    }
+
+    /**
+     * Times an operation that calls the storage service and counts it as holding a pooled connection.
+     */
+    private <T> T timed(String operation, Supplier<T> action) {
+        inFlight.incrementAndGet();
+        try {
+            return timedLocally(operation, action);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Times an operation that runs locally, such as SAS signing, without counting it as in flight.
+     */
+    private <T> T timedLocally(String operation, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            outcome = "error";
+            meterRegistry.counter("blob.client.errors",
+                    "operation", operation, "exception", e.getClass().getSimpleName()).increment();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("blob.client.operation")
+                    .description("Latency of Azure Blob Storage operations")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
     private void verifyString(String string) {
         if (string == null || string.isEmpty()) {
             throw new IllegalArgumentException("String must not be null or empty for deletion.");
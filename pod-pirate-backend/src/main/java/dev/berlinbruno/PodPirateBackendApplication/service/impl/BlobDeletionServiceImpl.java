@@ -0,0 +1,277 @@
+package dev.berlinbruno.PodPirateBackendApplication.service.impl;
+
+import dev.berlinbruno.PodPirateBackendApplication.model.BlobDeletion;
+import dev.berlinbruno.PodPirateBackendApplication.properties.DeletionProperties;
+import dev.berlinbruno.PodPirateBackendApplication.repository.BlobDeletionRepository;
+import dev.berlinbruno.PodPirateBackendApplication.service.BlobDeletionService;
+import dev.berlinbruno.PodPirateBackendApplication.service.CloudBlobService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deletes blobs through a durable queue and a bounded pool of workers.
+ * <p>
+ * Paths are upserted into {@link BlobDeletion} with a lease before any storage call is made, then
+ * split into batches that run in parallel (at most {@code deletion.parallelism} at a time; when all
+ * workers and the hand-off queue are busy the caller runs the batch itself). Succeeded entries are
+ * removed; failed ones get an exponential backoff and are picked up by {@link #retryPending()}, as
+ * are entries whose lease ran out because the process stopped mid-way. Deleting a blob twice is
+ * harmless, so two instances retrying the same entry is tolerated rather than locked against.
+ * <p>
+ * With virtual threads enabled each batch gets its own virtual thread; a semaphore keeps the same
+ * parallelism bound and makes the submitter wait when all permits are taken.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BlobDeletionServiceImpl implements BlobDeletionService {
+
+    private final CloudBlobService cloudBlobService;
+    private final BlobDeletionRepository blobDeletionRepository;
+    private final MongoTemplate mongoTemplate;
+    private final DeletionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong queued = new AtomicLong();
+    private final AtomicLong dead = new AtomicLong();
+
+    private ExecutorService executor;
+    private Semaphore virtualThreadPermits;
+    private Counter deletedCounter;
+    private Counter failedCounter;
+    private Timer batchTimer;
+
+    @PostConstruct
+    void start() {
+        int parallelism = properties.parallelism();
+        if (Threading.VIRTUAL.isActive(environment)) {
+            executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("blob-delete-", 0).factory());
+            virtualThreadPermits = new Semaphore(parallelism);
+        } else {
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                    parallelism, parallelism, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(parallelism * 4),
+                    new CustomizableThreadFactory("blob-delete-"),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+            pool.allowCoreThreadTimeOut(true);
+            executor = pool;
+        }
+
+        deletedCounter = Counter.builder("blob.deletion.deleted")
+                .description("Blobs deleted from storage")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("blob.deletion.failed")
+                .description("Blob delete attempts that failed and were scheduled for retry")
+                .register(meterRegistry);
+        batchTimer = Timer.builder("blob.deletion.batch")
+                .description("Latency of one blob delete batch")
+                .register(meterRegistry);
+        Gauge.builder("blob.deletion.in-flight", inFlight, AtomicInteger::get)
+                .description("Blobs currently being deleted")
+                .register(meterRegistry);
+        Gauge.builder("blob.deletion.queued", queued, AtomicLong::get)
+                .description("Blobs waiting in the retry queue as of the last retry run")
+                .register(meterRegistry);
+        Gauge.builder("blob.deletion.dead", dead, AtomicLong::get)
+                .description("Blobs that exhausted their retry attempts")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        // Anything not finished stays queued and is retried after restart.
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void deleteAll(Collection<String> filePaths) {
+        List<String> paths = filePaths.stream()
+                .filter(path -> path != null && !path.isBlank())
+                .distinct()
+                .toList();
+        if (paths.isEmpty()) {
+            return;
+        }
+
+        Date now = new Date();
+        List<BlobDeletion> entries = enqueue(paths, now);
+        submit(entries, "delete");
+    }
+
+    @Override
+    @Scheduled(
+            initialDelayString = "${deletion.retry-interval-seconds:60}",
+            fixedDelayString = "${deletion.retry-interval-seconds:60}",
+            timeUnit = TimeUnit.SECONDS)
+    public int retryPending() {
+        Date now = new Date();
+        List<BlobDeletion> due = blobDeletionRepository
+                .findByAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                        properties.maxAttempts(), now, PageRequest.of(0, properties.retryBatchSize()));
+
+        if (!due.isEmpty()) {
+            mongoTemplate.updateMulti(
+                    new Query(Criteria.where("_id").in(due.stream().map(BlobDeletion::getPath).toList())),
+                    new Update().set("nextAttemptAt", leaseUntil(now)),
+                    BlobDeletion.class);
+            submit(due, "retry");
+        }
+
+        queued.set(blobDeletionRepository.countByAttemptsLessThan(properties.maxAttempts()));
+        dead.set(blobDeletionRepository.countByAttemptsGreaterThanEqual(properties.maxAttempts()));
+        return due.size();
+    }
+
+    // ==================== QUEUE ====================
+
+    private List<BlobDeletion> enqueue(List<String> paths, Date now) {
+        Date lease = leaseUntil(now);
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, BlobDeletion.class);
+        List<BlobDeletion> entries = new ArrayList<>(paths.size());
+        for (String path : paths) {
+            ops.upsert(
+                    new Query(Criteria.where("_id").is(path)),
+                    new Update()
+                            .setOnInsert("attempts", 0)
+                            .setOnInsert("createdAt", now)
+                            .set("nextAttemptAt", lease));
+            entries.add(BlobDeletion.builder().path(path).attempts(0).build());
+        }
+        ops.execute();
+        return entries;
+    }
+
+    /**
+     * Counts the failed attempt with {@code $inc}, so a path re-enqueued while already queued (whose
+     * in-memory entry starts at 0) still moves towards the retry cap. The backoff uses the attempts
+     * known here, which can only make it shorter for such a path.
+     */
+    private void recordFailures(Map<String, String> failures, Map<String, Integer> attemptsByPath) {
+        Date now = new Date();
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, BlobDeletion.class);
+        failures.forEach((path, error) -> {
+            int attempts = attemptsByPath.getOrDefault(path, 0) + 1;
+            if (attempts >= properties.maxAttempts()) {
+                log.error("Giving up on deleting blob {} after {} attempts: {}", path, attempts, error);
+            }
+            ops.updateOne(
+                    new Query(Criteria.where("_id").is(path)),
+                    new Update()
+                            .inc("attempts", 1)
+                            .set("lastError", error)
+                            .set("nextAttemptAt", new Date(now.getTime() + backoffMillis(attempts))));
+        });
+        ops.execute();
+    }
+
+    private Date leaseUntil(Date now) {
+        return new Date(now.getTime() + TimeUnit.SECONDS.toMillis(properties.retryBackoffSeconds()));
+    }
+
+    private long backoffMillis(int attempts) {
+        long seconds = properties.retryBackoffSeconds() << Math.min(attempts - 1, 20);
+        return TimeUnit.SECONDS.toMillis(Math.min(seconds, properties.maxRetryBackoffSeconds()));
+    }
+
+    // ==================== EXECUTION ====================
+
+    private void submit(List<BlobDeletion> entries, String reason) {
+        long start = System.nanoTime();
+        int total = entries.size();
+        int batches = (total + properties.batchSize() - 1) / properties.batchSize();
+        AtomicInteger remainingBatches = new AtomicInteger(batches);
+        AtomicInteger deleted = new AtomicInteger();
+
+        for (int from = 0; from < total; from += properties.batchSize()) {
+            List<BlobDeletion> batch = entries.subList(from, Math.min(from + properties.batchSize(), total));
+            dispatch(() -> {
+                deleted.addAndGet(deleteBatch(batch));
+                if (remainingBatches.decrementAndGet() == 0) {
+                    long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    log.info("Blob {} finished: {}/{} deleted in {} batches, {} ms ({} blobs/s)",
+                            reason, deleted.get(), total, batches, millis,
+                            millis == 0 ? deleted.get() : deleted.get() * 1000L / millis);
+                }
+            });
+        }
+    }
+
+    private void dispatch(Runnable task) {
+        if (virtualThreadPermits == null) {
+            executor.execute(task);
+            return;
+        }
+
+        virtualThreadPermits.acquireUninterruptibly();
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    virtualThreadPermits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            virtualThreadPermits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Deletes one batch and settles its queue entries. Returns the number of blobs deleted.
+     * Any failure leaves the entries queued, so the retry run picks them up.
+     */
+    private int deleteBatch(List<BlobDeletion> batch) {
+        List<String> paths = batch.stream().map(BlobDeletion::getPath).toList();
+        inFlight.addAndGet(paths.size());
+        try {
+            Map<String, String> failures = batchTimer.record(() -> cloudBlobService.deleteFiles(paths));
+
+            List<String> succeeded = paths.stream().filter(path -> !failures.containsKey(path)).toList();
+            if (!succeeded.isEmpty()) {
+                blobDeletionRepository.deleteAllById(succeeded);
+            }
+            if (!failures.isEmpty()) {
+                Map<String, Integer> attemptsByPath = new HashMap<>();
+                batch.forEach(entry -> attemptsByPath.put(entry.getPath(), entry.getAttempts()));
+                recordFailures(failures, attemptsByPath);
+                log.warn("Failed to delete {} of {} blobs; scheduled for retry", failures.size(), paths.size());
+            }
+
+            deletedCounter.increment(succeeded.size());
+            failedCounter.increment(failures.size());
+            return succeeded.size();
+        } catch (RuntimeException e) {
+            failedCounter.increment(paths.size());
+            log.error("Blob delete batch of {} failed; left queued for retry", paths.size(), e);
+            return 0;
+        } finally {
+            inFlight.addAndGet(-paths.size());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package dev.berlinbruno.PodPirateBackendApplication.service.impl;
+
+import dev.berlinbruno.PodPirateBackendApplication.cache.SignedUrlCache;
+import dev.berlinbruno.PodPirateBackendApplication.model.AppUser;
+import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
+import dev.berlinbruno.PodPirateBackendApplication.repository.PodcastRepository;
+import dev.berlinbruno.PodPirateBackendApplication.service.CatalogVersionService;
+import dev.berlinbruno.PodPirateBackendApplication.types.PodcastStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+
+/**
+ * Builds versions from {@code lastModifiedAt} timestamps read with projected point lookups.
+ * <p>
+ * A podcast's lastModifiedAt moves on every podcast save and, through PodcastAggregateService, on
+ * every episode change. Responses embed signed download URLs, so every tag also carries the current
+ * signed-URL bucket: the tag changes exactly when the embedded URLs do, and a client that keeps
+ * revalidating is handed fresh URLs before the ones it holds expire. For the same reason a known
+ * Last-Modified is never earlier than the start of the current bucket, so clients revalidating with
+ * If-Modified-Since alone are not kept on URLs that are about to expire.
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogVersionServiceImpl implements CatalogVersionService {
+
+    // Bump when a public response shape changes, so cached bodies are not revalidated against it
+    private static final String REPRESENTATION_VERSION = "1";
+
+    private final MongoTemplate mongoTemplate;
+    private final PodcastRepository podcastRepository;
+    private final SignedUrlCache signedUrlCache;
+
+    @Override
+    public CatalogVersion getPodcastVersion(String podcastId, boolean includeCreator) {
+        Query query = new Query(Criteria.where("_id").is(podcastId).and("podcastStatus").is(PodcastStatus.PUBLISHED));
+        query.fields().include("lastModifiedAt", "userId");
+        Podcast podcast = mongoTemplate.findOne(query, Podcast.class);
+        if (podcast == null) {
+            return null;
+        }
+
+        long podcastModified = millis(podcast.getLastModifiedAt());
+        if (!includeCreator) {
+            return version("p", podcastModified, podcastModified);
+        }
+
+        AppUser creator = findCreatorVersion(podcast.getUserId());
+        long creatorModified = creator != null ? millis(creator.getLastModifiedAt()) : -1;
+        return version("p", Math.max(podcastModified, creatorModified), podcastModified, creatorModified);
+    }
+
+    @Override
+    public CatalogVersion getCreatorVersion(String userId) {
+        AppUser creator = findCreatorVersion(userId);
+        if (creator == null) {
+            return null;
+        }
+
+        // The profile shows the number of published podcasts, which changes without a user save
+        long publishedPodcasts = podcastRepository.countByUserIdAndPodcastStatus(userId, PodcastStatus.PUBLISHED);
+        long creatorModified = millis(creator.getLastModifiedAt());
+        return version("c", creatorModified, creatorModified, publishedPodcasts);
+    }
+
+    private AppUser findCreatorVersion(String userId) {
+        Query query = new Query(Criteria.where("_id").is(userId));
+        query.fields().include("lastModifiedAt");
+        return mongoTemplate.findOne(query, AppUser.class);
+    }
+
+    private CatalogVersion version(String kind, long lastModified, long... parts) {
+        long bucket = signedUrlCache.currentBucket();
+        StringBuilder tag = new StringBuilder("\"").append(kind).append(REPRESENTATION_VERSION);
+        for (long part : parts) {
+            tag.append('-').append(Long.toString(part, 36));
+        }
+        tag.append('-').append(Long.toString(bucket, 36)).append('"');
+        // Unknown stays unknown: a bucket start alone would let If-Modified-Since hide untracked changes
+        long effectiveModified = lastModified < 0 ? -1 : Math.max(lastModified, signedUrlCache.bucketStart(bucket));
+        return new CatalogVersion(tag.toString(), effectiveModified);
+    }
+
+    private long millis(Date date) {
+        return date != null ? date.getTime() : -1;
+    }
+}
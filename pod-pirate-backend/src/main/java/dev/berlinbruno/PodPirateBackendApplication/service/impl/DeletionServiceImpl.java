@@ -1,61 +1,104 @@
 package dev.berlinbruno.PodPirateBackendApplication.service.impl;
 
+import dev.berlinbruno.PodPirateBackendApplication.event.CreatorChangedEvent;
+import dev.berlinbruno.PodPirateBackendApplication.event.EpisodesChangedEvent;
+import dev.berlinbruno.PodPirateBackendApplication.event.PodcastChangedEvent;
 import dev.berlinbruno.PodPirateBackendApplication.model.AppUser;
 import dev.berlinbruno.PodPirateBackendApplication.model.Episode;
 import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
 import dev.berlinbruno.PodPirateBackendApplication.repository.AppUserRepository;
+import dev.berlinbruno.PodPirateBackendApplication.repository.EpisodeRepository;
 import dev.berlinbruno.PodPirateBackendApplication.repository.PodcastRepository;
+import dev.berlinbruno.PodPirateBackendApplication.service.BlobDeletionService;
 import dev.berlinbruno.PodPirateBackendApplication.service.DeletionService;
+import dev.berlinbruno.PodPirateBackendApplication.service.PodcastAggregateService;
 import dev.berlinbruno.PodPirateBackendApplication.types.PodcastStatus;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Deletes database records first, each collection in a single bulk operation, and then hands all
+ * media paths to {@link BlobDeletionService}, which removes them in parallel batches and retries
+ * failures from a durable queue. Records disappear immediately; storage catches up shortly after.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class DeletionServiceImpl implements DeletionService {
     private final PodcastRepository podcastRepository;
-    private final MediaServiceImpl mediaServiceImpl;
+    private final EpisodeRepository episodeRepository;
     private final AppUserRepository appUserRepository;
+    private final BlobDeletionService blobDeletionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PodcastAggregateService podcastAggregateService;
 
     public void deleteUser(AppUser user) {
 
         List<Podcast> podcasts = podcastRepository.findAllByUserId(user.getId());
-        podcasts.forEach(this::deletePodcast);
+        List<String> podcastIds = podcasts.stream().map(Podcast::getId).toList();
 
-        mediaServiceImpl.deleteIfExists(user.getProfileUrl());
+        List<String> blobs = new ArrayList<>();
+        blobs.add(user.getProfileUrl());
+        if (!podcastIds.isEmpty()) {
+            podcasts.forEach(podcast -> addPodcastMedia(blobs, podcast));
+            episodeRepository.findMediaByPodcastIdIn(podcastIds).forEach(episode -> addEpisodeMedia(blobs, episode));
+
+            long episodes = episodeRepository.deleteByPodcastIdIn(podcastIds);
+            podcastRepository.deleteAllById(podcastIds);
+            log.info("Deleted {} podcasts and {} episodes of user {}", podcastIds.size(), episodes, user.getId());
+        }
 
         appUserRepository.deleteById(user.getId());
+
+        podcastIds.forEach(podcastId -> eventPublisher.publishEvent(new EpisodesChangedEvent(podcastId)));
+        podcasts.forEach(podcast -> eventPublisher.publishEvent(PodcastChangedEvent.of(podcast)));
+        eventPublisher.publishEvent(new CreatorChangedEvent(user.getId()));
+        blobDeletionService.deleteAll(blobs);
     }
 
     public void deletePodcast(Podcast podcast) {
 
-        List<Episode> episodes = podcast.getEpisodes();
-        if (episodes != null) {
-            for (int i = episodes.size() - 1; i >= 0; i--) {
-                deleteEpisode(podcast, i);
-            }
-        }
-
-        mediaServiceImpl.deleteIfExists(podcast.getCoverUrl());
-        mediaServiceImpl.deleteIfExists(podcast.getBannerUrl());
+        List<String> blobs = new ArrayList<>();
+        addPodcastMedia(blobs, podcast);
+        episodeRepository.findMediaByPodcastId(podcast.getId()).forEach(episode -> addEpisodeMedia(blobs, episode));
 
+        episodeRepository.deleteByPodcastId(podcast.getId());
         podcastRepository.deleteById(podcast.getId());
+        eventPublisher.publishEvent(PodcastChangedEvent.of(podcast));
+
+        blobDeletionService.deleteAll(blobs);
     }
 
-    public void deleteEpisode(Podcast podcast, int episodeIndex) {
+    public void deleteEpisode(Podcast podcast, Episode episode) {
 
-        Episode episode = podcast.getEpisodes().get(episodeIndex);
+        episodeRepository.deleteById(episode.getId());
+        podcastAggregateService.episodeDeleted(episode);
 
-        mediaServiceImpl.deleteIfExists(episode.getAudioUrl());
-        mediaServiceImpl.deleteIfExists(episode.getImageUrl());
+        if (!episodeRepository.existsByPodcastId(podcast.getId())) {
+            // Targeted update: a save of the loaded podcast would overwrite the aggregates just updated
+            PodcastStatus status = podcast.getPodcastStatus() == PodcastStatus.ARCHIVED ? PodcastStatus.ARCHIVED : PodcastStatus.DRAFT;
+            podcastRepository.updatePodcastStatus(podcast.getId(), status.name());
+        }
 
-        podcast.getEpisodes().remove(episodeIndex);
+        eventPublisher.publishEvent(new EpisodesChangedEvent(podcast.getId()));
 
-        if (podcast.getEpisodes().isEmpty())
-            podcast.setPodcastStatus(podcast.getPodcastStatus() == PodcastStatus.ARCHIVED ? PodcastStatus.ARCHIVED : PodcastStatus.DRAFT);
+        List<String> blobs = new ArrayList<>(2);
+        addEpisodeMedia(blobs, episode);
+        blobDeletionService.deleteAll(blobs);
+    }
+
+    private void addPodcastMedia(List<String> blobs, Podcast podcast) {
+        blobs.add(podcast.getCoverUrl());
+        blobs.add(podcast.getBannerUrl());
+    }
 
-        podcastRepository.save(podcast);
+    private void addEpisodeMedia(List<String> blobs, Episode episode) {
+        blobs.add(episode.getAudioUrl());
+        blobs.add(episode.getImageUrl());
     }
 }
@@ -1,38 +1,138 @@
 package dev.berlinbruno.PodPirateBackendApplication.service.impl;
 
+import dev.berlinbruno.PodPirateBackendApplication.model.EmailOutbox;
+import dev.berlinbruno.PodPirateBackendApplication.properties.EmailOutboxProperties;
 import dev.berlinbruno.PodPirateBackendApplication.properties.FrontendProperties;
+import dev.berlinbruno.PodPirateBackendApplication.properties.JwtProperties;
+import dev.berlinbruno.PodPirateBackendApplication.repository.EmailOutboxRepository;
 import dev.berlinbruno.PodPirateBackendApplication.service.EmailService;
 import dev.berlinbruno.PodPirateBackendApplication.types.VerificationType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
 import jakarta.mail.internet.MimeMessage;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
 import java.io.UnsupportedEncodingException;
-import java.util.concurrent.CompletableFuture;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Sends verification emails through the {@link EmailOutbox} collection.
+ * <p>
+ * Requests only insert an outbox entry and wake the dispatcher. The dispatcher runs on a single
+ * platform thread (Jakarta Mail does its socket I/O inside synchronized methods, so it must not run
+ * on virtual threads), claims due entries in batches and sends them over one SMTP connection that
+ * is kept open between batches and closed after {@code email.outbox.connection-idle-seconds}.
+ * Sends are paced to {@code email.outbox.max-per-second}. Failed sends are retried with exponential
+ * backoff; entries that run out of attempts, are rejected permanently by the server or whose token
+ * expired stay in the collection as dead letters.
+ * <p>
+ * Delivery is at least once: an instance that stops between sending and removing an entry sends it
+ * again once the claim lease runs out.
+ */
 @Slf4j
 @Service
 public class EmailServiceImpl implements EmailService {
 
-    private final JavaMailSender mailSender;
+    private static final String SENDER_NAME = "Pod Pirate";
+
+    private final JavaMailSenderImpl mailSender;
     private final FrontendProperties frontend;
     private final String fromEmail;
+    private final MeterRegistry meterRegistry;
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final MongoTemplate mongoTemplate;
+    private final EmailOutboxProperties properties;
+    private final JwtProperties jwtProperties;
+
+    private final AtomicBoolean wakeRequested = new AtomicBoolean();
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong dead = new AtomicLong();
+
+    private ScheduledExecutorService dispatcher;
+    private Counter retriedCounter;
+    private Counter deadCounter;
+    private Timer deliveryTimer;
+
+    // Only touched by the dispatcher thread
+    private Transport transport;
+    private long transportLastUsedNanos;
+    private long nextSendNanos;
 
     public EmailServiceImpl(
-            JavaMailSender mailSender,
+            JavaMailSenderImpl mailSender,
             FrontendProperties frontend,
-            @org.springframework.beans.factory.annotation.Value("${spring.mail.username}") String fromEmail
+            @Value("${spring.mail.username}") String fromEmail,
+            MeterRegistry meterRegistry,
+            EmailOutboxRepository emailOutboxRepository,
+            MongoTemplate mongoTemplate,
+            EmailOutboxProperties properties,
+            JwtProperties jwtProperties
     ) {
         this.mailSender = mailSender;
         this.frontend = frontend;
         this.fromEmail = fromEmail;
+        this.meterRegistry = meterRegistry;
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.properties = properties;
+        this.jwtProperties = jwtProperties;
+    }
+
+    @PostConstruct
+    void start() {
+        retriedCounter = Counter.builder("email.outbox.retried")
+                .description("Email sends that failed and were scheduled for retry")
+                .register(meterRegistry);
+        deadCounter = Counter.builder("email.outbox.dead-lettered")
+                .description("Emails given up on")
+                .register(meterRegistry);
+        deliveryTimer = Timer.builder("email.outbox.delivery")
+                .description("Time from queueing an email to the SMTP server accepting it")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("email.outbox.pending", pending, AtomicLong::get)
+                .description("Emails waiting in the outbox as of the last dispatcher run")
+                .register(meterRegistry);
+        Gauge.builder("email.outbox.dead", dead, AtomicLong::get)
+                .description("Emails kept in the outbox as dead letters")
+                .register(meterRegistry);
+
+        dispatcher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("email-outbox-"));
+        dispatcher.scheduleWithFixedDelay(
+                this::drain, properties.pollIntervalMillis(), properties.pollIntervalMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        // Unsent entries stay in the outbox and are picked up after restart.
+        dispatcher.shutdown();
+        if (dispatcher.awaitTermination(10, TimeUnit.SECONDS)) {
+            closeTransport();
+        }
     }
 
     private String getEmailVerificationHtml(String jwtToken) {
@@ -86,46 +186,219 @@ public class EmailServiceImpl implements EmailService {
                 + "</html>";
     }
 
-    @Async
-    @Retryable(
-            retryFor = MessagingException.class,
-            maxAttempts = 4,
-            backoff = @Backoff(delay = 3000)
-    )
-    public void sendEmailWithRetry(String to, String jwtToken, VerificationType type) {
+    // ==================== OUTBOX ====================
+
+    @Override
+    public void queueEmail(String to, String token, VerificationType type) {
+        Date now = new Date();
+        emailOutboxRepository.insert(EmailOutbox.builder()
+                .recipient(to)
+                .token(token)
+                .type(type)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .expiresAt(new Date(now.getTime() + TimeUnit.MINUTES.toMillis(jwtProperties.verificationTokenExpiration())))
+                .createdAt(now)
+                .build());
+        wake();
+    }
+
+    private void wake() {
+        // Coalesces wake-ups from a burst of registrations into one extra run.
+        if (!dispatcher.isShutdown() && wakeRequested.compareAndSet(false, true)) {
+            dispatcher.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        wakeRequested.set(false);
         try {
-            sendTokenByEmail(to, jwtToken, type);
-            CompletableFuture.completedFuture(1);
-        } catch (MessagingException e) {
-            CompletableFuture.completedFuture(handleMessagingException(e));
-        } catch (UnsupportedEncodingException e) {
-            CompletableFuture.completedFuture(handleUnsupportedEncodingException(e));
+            closeTransportIfIdle();
+            while (dispatchPending() == properties.batchSize() && !dispatcher.isShutdown()) {
+                // Keep going while full batches are waiting; pacing happens per send.
+            }
+        } catch (RuntimeException e) {
+            // Must not escape, or the scheduled run is cancelled for good.
+            log.error("Email outbox dispatch failed; retrying on the next run", e);
+        }
+    }
+
+    /**
+     * Claims one batch of due entries, sends them and settles each entry right after its send.
+     * Returns the number of entries claimed.
+     */
+    int dispatchPending() {
+        Date now = new Date();
+        List<EmailOutbox> claimed = claimBatch(now);
+
+        for (EmailOutbox entry : claimed) {
+            if (entry.getExpiresAt() != null && entry.getExpiresAt().before(new Date())) {
+                deadLetter(entry, "Token expired before the email could be delivered");
+                continue;
+            }
+            try {
+                send(entry);
+                emailOutboxRepository.deleteById(entry.getId());
+                deliveryTimer.record(System.currentTimeMillis() - entry.getCreatedAt().getTime(), TimeUnit.MILLISECONDS);
+            } catch (SendFailedException e) {
+                if (e.getInvalidAddresses() != null && e.getInvalidAddresses().length > 0) {
+                    deadLetter(entry, "Rejected recipient: " + e.getMessage());
+                } else {
+                    scheduleRetry(entry, e);
+                }
+            } catch (MessagingException | UnsupportedEncodingException e) {
+                closeTransport(); // the connection may be broken; reconnect for the next send
+                scheduleRetry(entry, e);
+            }
+        }
+
+        pending.set(emailOutboxRepository.countByAttemptsLessThan(properties.maxAttempts()));
+        dead.set(emailOutboxRepository.countByAttemptsGreaterThanEqual(properties.maxAttempts()));
+        return claimed.size();
+    }
+
+    /**
+     * Marks due entries with a claim ID and a lease in one update, so an entry is only picked up by
+     * the instance whose update matched it first.
+     */
+    private List<EmailOutbox> claimBatch(Date now) {
+        List<String> dueIds = emailOutboxRepository
+                .findByAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                        properties.maxAttempts(), now, PageRequest.of(0, properties.batchSize()))
+                .stream()
+                .map(EmailOutbox::getId)
+                .toList();
+        if (dueIds.isEmpty()) {
+            return List.of();
+        }
+
+        String claim = UUID.randomUUID().toString();
+        mongoTemplate.updateMulti(
+                new Query(Criteria.where("_id").in(dueIds).and("nextAttemptAt").lte(now)),
+                new Update()
+                        .set("claim", claim)
+                        .set("nextAttemptAt", new Date(now.getTime() + TimeUnit.SECONDS.toMillis(properties.leaseSeconds()))),
+                EmailOutbox.class);
+        return emailOutboxRepository.findByClaim(claim);
+    }
+
+    private void scheduleRetry(EmailOutbox entry, Exception e) {
+        int attempts = entry.getAttempts() + 1;
+        if (attempts >= properties.maxAttempts()) {
+            deadLetter(entry, e.getMessage());
+            return;
+        }
+
+        log.warn("Failed to send {} email to {} (attempt {}): {}", entry.getType(), entry.getRecipient(), attempts, e.getMessage());
+        retriedCounter.increment();
+        mongoTemplate.updateFirst(
+                new Query(Criteria.where("_id").is(entry.getId())),
+                new Update()
+                        .set("attempts", attempts)
+                        .set("lastError", e.getMessage())
+                        .set("nextAttemptAt", new Date(System.currentTimeMillis() + backoffMillis(attempts)))
+                        .unset("claim"),
+                EmailOutbox.class);
+    }
+
+    private void deadLetter(EmailOutbox entry, String error) {
+        log.error("Giving up on {} email to {}: {}", entry.getType(), entry.getRecipient(), error);
+        deadCounter.increment();
+        mongoTemplate.updateFirst(
+                new Query(Criteria.where("_id").is(entry.getId())),
+                new Update()
+                        .set("attempts", properties.maxAttempts())
+                        .set("lastError", error)
+                        .unset("claim"),
+                EmailOutbox.class);
+    }
+
+    private long backoffMillis(int attempts) {
+        long seconds = properties.retryBackoffSeconds() << Math.min(attempts - 1, 20);
+        return TimeUnit.SECONDS.toMillis(Math.min(seconds, properties.maxRetryBackoffSeconds()));
+    }
+
+    // ==================== SMTP ====================
+
+    private void send(EmailOutbox entry) throws MessagingException, UnsupportedEncodingException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            MimeMessage message = buildMessage(entry.getRecipient(), entry.getToken(), entry.getType());
+            awaitRatePermit();
+            Transport connected = connectedTransport();
+            message.saveChanges();
+            connected.sendMessage(message, message.getAllRecipients());
+            transportLastUsedNanos = System.nanoTime();
+            outcome = "success";
+            log.info("Email has been sent successfully to {}", entry.getRecipient());
+        } finally {
+            sample.stop(Timer.builder("email.send")
+                    .description("Outcome and latency of verification email sends")
+                    .tag("type", entry.getType().name())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
     }
 
-    @Recover
-    public int handleMessagingException(MessagingException e) {
-        log.error("Maximum attempt reached, failed to send email");
-        log.error("Error message: {}", e.getMessage());
-        return -1;
+    private void awaitRatePermit() {
+        long interval = TimeUnit.SECONDS.toNanos(1) / properties.maxPerSecond();
+        long now = System.nanoTime();
+        long wait = nextSendNanos - now;
+        if (wait > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        nextSendNanos = Math.max(now, nextSendNanos) + interval;
     }
 
-    @Recover
-    public int handleUnsupportedEncodingException(UnsupportedEncodingException e) {
-        log.error("Maximum attempt reached , failed to send email");
-        log.error("Error message : {}", e.getMessage());
-        return -1;
+    /**
+     * Returns the kept-alive connection, reconnecting when the server dropped it.
+     */
+    private Transport connectedTransport() throws MessagingException {
+        if (transport != null && transport.isConnected()) {
+            return transport;
+        }
+        closeTransport();
+
+        String username = mailSender.getUsername();
+        String password = mailSender.getPassword();
+        Transport created = mailSender.getSession()
+                .getTransport(mailSender.getProtocol() != null ? mailSender.getProtocol() : "smtp");
+        created.connect(mailSender.getHost(), mailSender.getPort(),
+                "".equals(username) ? null : username,
+                "".equals(password) ? null : password);
+        transport = created;
+        return transport;
     }
 
-    public void sendTokenByEmail(String to, String jwtToken, VerificationType type) throws MessagingException, UnsupportedEncodingException {
-        log.info("Trying to send email to {}", to);
+    private void closeTransportIfIdle() {
+        long idle = System.nanoTime() - transportLastUsedNanos;
+        if (transport != null && idle > TimeUnit.SECONDS.toNanos(properties.connectionIdleSeconds())) {
+            closeTransport();
+        }
+    }
 
-        String senderName = "Pod Pirate";
+    private void closeTransport() {
+        if (transport == null) {
+            return;
+        }
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Failed to close SMTP connection cleanly: {}", e.getMessage());
+        }
+        transport = null;
+    }
 
+    private MimeMessage buildMessage(String to, String jwtToken, VerificationType type) throws MessagingException, UnsupportedEncodingException {
         MimeMessage message = mailSender.createMimeMessage();
         MimeMessageHelper helper = new MimeMessageHelper(message, true);
 
-        helper.setFrom(fromEmail, senderName);
+        helper.setFrom(fromEmail, SENDER_NAME);
         helper.setTo(to);
 
         String subject;
@@ -149,9 +422,9 @@ public class EmailServiceImpl implements EmailService {
 
         helper.setSubject(subject);
         helper.setText(htmlContent, true);
-
-        mailSender.send(message);
-        log.info("Email has been sent successfully to {}", to);
+        if (message.getSentDate() == null) {
+            message.setSentDate(new Date());
+        }
+        return message;
     }
-
 }
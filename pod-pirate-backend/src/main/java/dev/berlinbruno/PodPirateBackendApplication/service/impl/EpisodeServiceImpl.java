@@ -1,5 +1,6 @@
 package dev.berlinbruno.PodPirateBackendApplication.service.impl;
 
+import dev.berlinbruno.PodPirateBackendApplication.cache.PublicCatalogCaches;
 import dev.berlinbruno.PodPirateBackendApplication.dto.GeneralResponse;
 import dev.berlinbruno.PodPirateBackendApplication.dto.episode.CreateEpisodeRequest;
 import dev.berlinbruno.PodPirateBackendApplication.dto.episode.EpisodeDetailResponse;
@@ -7,58 +8,93 @@ import dev.berlinbruno.PodPirateBackendApplication.dto.episode.EpisodePublicDeta
 import dev.berlinbruno.PodPirateBackendApplication.dto.episode.UpdateEpisodeRequest;
 import dev.berlinbruno.PodPirateBackendApplication.dto.media.AudioUploadResponse;
 import dev.berlinbruno.PodPirateBackendApplication.dto.media.ImageUploadResponse;
+import dev.berlinbruno.PodPirateBackendApplication.dto.media.MediaUploadResponse;
+import dev.berlinbruno.PodPirateBackendApplication.event.EpisodesChangedEvent;
 import dev.berlinbruno.PodPirateBackendApplication.exception.ForbiddenException;
 import dev.berlinbruno.PodPirateBackendApplication.exception.NotFoundException;
 import dev.berlinbruno.PodPirateBackendApplication.model.Episode;
 import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
-import dev.berlinbruno.PodPirateBackendApplication.repository.PodcastRepository;
+import dev.berlinbruno.PodPirateBackendApplication.repository.EpisodeRepository;
 import dev.berlinbruno.PodPirateBackendApplication.service.*;
+import dev.berlinbruno.PodPirateBackendApplication.service.CatalogVersionService.CatalogVersion;
+import dev.berlinbruno.PodPirateBackendApplication.service.PodcastAggregateService.EpisodeState;
 import dev.berlinbruno.PodPirateBackendApplication.types.*;
+import dev.berlinbruno.PodPirateBackendApplication.utils.PodcastSizeTag;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.io.InputStream;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.Consumer;
-import java.util.stream.IntStream;
 
 @Service
+@Timed(value = "app.service", histogram = true)
 @RequiredArgsConstructor
 public class EpisodeServiceImpl implements EpisodeService {
 
     private final CloudBlobService cloudBlobService;
-    private final PodcastRepository podcastRepository;
+    private final EpisodeRepository episodeRepository;
+    private final MongoTemplate mongoTemplate;
     private final LookupService lookupService;
     private final MediaServiceImpl mediaServiceImpl;
     private final AuthValidationService authValidationService;
     private final DeletionService deletionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PodcastAggregateService podcastAggregateService;
+    private final MediaUploadService mediaUploadService;
 
     // ==================== PUBLIC EPISODE DISCOVERY ====================
 
     @Override
-    public List<EpisodePublicDetailResponse> getAllPublishedEpisodes(String podcastId) {
-        Podcast podcast = lookupService.getPublishedPodcastById(podcastId);
-        List<Episode> publishedEpisodes = filterPublishedEpisodes(podcast.getEpisodes());
+    @Cacheable(cacheNames = PublicCatalogCaches.EPISODES, condition = "#version != null",
+            key = "T(dev.berlinbruno.PodPirateBackendApplication.cache.PublicCatalogCaches).versionedKey(#podcastId, #version)")
+    public List<EpisodePublicDetailResponse> getAllPublishedEpisodes(String podcastId, CatalogVersion version) {
+        lookupService.getPublishedPodcastById(podcastId);
+        List<Episode> publishedEpisodes = episodeRepository
+                .findAllByPodcastIdAndEpisodeStatusOrderByPublishedAtAsc(podcastId, EpisodeStatus.PUBLISHED);
         validateEpisodesExist(publishedEpisodes);
+        PodcastSizeTag.record(publishedEpisodes.size());
 
         return mapEpisodesToPublicResponse(publishedEpisodes);
     }
 
     @Override
     public EpisodePublicDetailResponse getPublishedEpisodeDetails(String podcastId, Long episodeId) {
-        Podcast podcast = lookupService.getPodcastById(podcastId);
-        List<Episode> publishedEpisodes = filterPublishedEpisodes(podcast.getEpisodes());
-        validateEpisodesExist(publishedEpisodes);
+        lookupService.getPodcastById(podcastId);
+        Episode episode = episodeRepository
+                .findByPodcastIdAndEpisodeNumberAndEpisodeStatus(podcastId, episodeId, EpisodeStatus.PUBLISHED)
+                .orElseThrow(() -> buildNotFoundException(AppMessage.EPISODE_NOT_FOUND));
 
-        int index = validateAndGetEpisodeIndex(episodeId, publishedEpisodes.size());
-        Episode episode = publishedEpisodes.get(index);
+        return mapEpisodeToPublicDetailResponse(episode);
+    }
 
-        return mapEpisodeToPublicDetailResponse(episode, episodeId);
+    @Override
+    public EpisodePublicDetailResponse getPublishedEpisodeByLegacyPosition(String podcastId, int position) {
+        lookupService.getPublishedPodcastById(podcastId);
+        // Migration numbered embedded episodes in array order, so episode-number order is the old list order
+        Episode episode = episodeRepository
+                .findByPodcastIdAndEpisodeStatus(podcastId, EpisodeStatus.PUBLISHED,
+                        PageRequest.of(position, 1, Sort.by(Sort.Direction.ASC, "episodeNumber")))
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> buildNotFoundException(AppMessage.EPISODE_NOT_FOUND));
+
+        return mapEpisodeToPublicDetailResponse(episode);
     }
 
     // ==================== USER EPISODE MANAGEMENT ====================
@@ -68,8 +104,9 @@ public class EpisodeServiceImpl implements EpisodeService {
         Podcast podcast = lookupService.getPodcastById(podcastId);
         authValidationService.validateOwnership(podcast, userId);
 
-        List<Episode> episodes = podcast.getEpisodes();
+        List<Episode> episodes = episodeRepository.findAllByPodcastIdOrderByEpisodeNumberAsc(podcastId);
         validateEpisodesExist(episodes);
+        PodcastSizeTag.record(episodes.size());
 
         return mapEpisodesToDetailResponse(episodes);
     }
@@ -79,14 +116,11 @@ public class EpisodeServiceImpl implements EpisodeService {
         Podcast podcast = lookupService.getPodcastById(podcastId);
         authValidationService.validateOwnership(podcast, userId);
 
-        List<Episode> episodes = getOrInitializeEpisodes(podcast);
-        Episode newEpisode = buildNewEpisode(createRequest);
-
-        episodes.add(newEpisode);
-        podcast.setEpisodes(episodes);
-        podcastRepository.save(podcast);
+        Episode newEpisode = insertWithNextEpisodeNumber(buildNewEpisode(podcastId, createRequest));
+        podcastAggregateService.episodeCreated(newEpisode);
+        publishEpisodesChanged(podcastId);
 
-        return mapEpisodeToDetailResponse(newEpisode, episodes.size() - 1);
+        return mapEpisodeToDetailResponse(newEpisode);
     }
 
     @Override
@@ -94,13 +128,8 @@ public class EpisodeServiceImpl implements EpisodeService {
         Podcast podcast = lookupService.getPodcastById(podcastId);
         authValidationService.validateOwnership(podcast, userId);
 
-        List<Episode> episodes = podcast.getEpisodes();
-        validateEpisodesExist(episodes);
-
-        int index = validateAndGetEpisodeIndex(episodeId, episodes.size());
-        Episode episode = episodes.get(index);
-
-        return mapEpisodeToDetailResponse(episode, index);
+        Episode episode = getEpisodeOrThrow(podcastId, episodeId);
+        return mapEpisodeToDetailResponse(episode);
     }
 
     @Override
@@ -133,23 +162,54 @@ public class EpisodeServiceImpl implements EpisodeService {
                 .build();
     }
 
+    @Override
+    public MediaUploadResponse uploadEpisodeImage(String userId, String podcastId, Long episodeId,
+                                                  ImageExtension extension, String contentType,
+                                                  long contentLength, InputStream body) {
+        Podcast podcast = lookupService.getPodcastById(podcastId);
+        authValidationService.validateOwnership(podcast, userId);
+        getEpisodeOrThrow(podcastId, episodeId);
+
+        String blobPath = buildEpisodeImageBlobPath(podcastId, episodeId, extension);
+        MediaUploadResponse uploaded = mediaUploadService.uploadImage(blobPath, contentType, contentLength, body);
+
+        UpdateEpisodeRequest updateRequest = new UpdateEpisodeRequest();
+        updateRequest.setImageUrl(blobPath);
+        return finalizeUpload(userId, podcastId, episodeId, updateRequest, uploaded);
+    }
+
+    @Override
+    public MediaUploadResponse uploadEpisodeAudio(String userId, String podcastId, Long episodeId,
+                                                  AudioExtension extension, String contentType,
+                                                  long contentLength, InputStream body) {
+        Podcast podcast = lookupService.getPodcastById(podcastId);
+        authValidationService.validateOwnership(podcast, userId);
+        getEpisodeOrThrow(podcastId, episodeId);
+
+        String blobPath = buildEpisodeAudioBlobPath(podcastId, episodeId, extension);
+        MediaUploadResponse uploaded = mediaUploadService.uploadAudio(blobPath, contentType, contentLength, body);
+
+        UpdateEpisodeRequest updateRequest = new UpdateEpisodeRequest();
+        updateRequest.setAudioUrl(blobPath);
+        return finalizeUpload(userId, podcastId, episodeId, updateRequest, uploaded);
+    }
+
     @Override
     public EpisodeDetailResponse updateUserEpisode(String userId, String podcastId, Long episodeId,
                                                    UpdateEpisodeRequest updateRequest) {
         Podcast podcast = lookupService.getPodcastById(podcastId);
         authValidationService.validateOwnership(podcast, userId);
 
-        List<Episode> episodes = podcast.getEpisodes();
-        validateEpisodesExist(episodes);
-
-        int index = validateAndGetEpisodeIndex(episodeId, episodes.size());
-        Episode episode = episodes.get(index);
+        Episode episode = getEpisodeOrThrow(podcastId, episodeId);
+        EpisodeState before = EpisodeState.of(episode);
 
         applyEpisodeUpdates(episode, updateRequest);
         episode.setUpdatedAt(getCurrentUtcDate());
 
-        podcastRepository.save(podcast);
-        return mapEpisodeToDetailResponse(episode, index);
+        Episode updated = episodeRepository.save(episode);
+        podcastAggregateService.episodeChanged(before, updated);
+        publishEpisodesChanged(podcastId);
+        return mapEpisodeToDetailResponse(updated);
     }
 
     @Override
@@ -157,19 +217,18 @@ public class EpisodeServiceImpl implements EpisodeService {
         Podcast podcast = lookupService.getPodcastById(podcastId);
         authValidationService.validateOwnership(podcast, userId);
 
-        List<Episode> episodes = podcast.getEpisodes();
-        validateEpisodesExist(episodes);
-
-        int index = validateAndGetEpisodeIndex(episodeId, episodes.size());
-        Episode episode = episodes.get(index);
+        Episode episode = getEpisodeOrThrow(podcastId, episodeId);
 
         validateEpisodeCanBePublished(episode);
+        EpisodeState before = EpisodeState.of(episode);
 
         episode.setEpisodeStatus(EpisodeStatus.PUBLISHED);
         episode.setPublishedAt(getCurrentUtcDate());
 
-        podcastRepository.save(podcast);
-        return mapEpisodeToDetailResponse(episode, index);
+        Episode updated = episodeRepository.save(episode);
+        podcastAggregateService.episodeChanged(before, updated);
+        publishEpisodesChanged(podcastId);
+        return mapEpisodeToDetailResponse(updated);
     }
 
     @Override
@@ -177,17 +236,16 @@ public class EpisodeServiceImpl implements EpisodeService {
         Podcast podcast = lookupService.getPodcastById(podcastId);
         authValidationService.validateOwnership(podcast, userId);
 
-        List<Episode> episodes = podcast.getEpisodes();
-        validateEpisodesExist(episodes);
-
-        int index = validateAndGetEpisodeIndex(episodeId, episodes.size());
-        Episode episode = episodes.get(index);
+        Episode episode = getEpisodeOrThrow(podcastId, episodeId);
+        EpisodeState before = EpisodeState.of(episode);
 
         episode.setEpisodeStatus(EpisodeStatus.ARCHIVED);
         episode.setPublishedAt(null);
 
-        podcastRepository.save(podcast);
-        return mapEpisodeToDetailResponse(episode, index);
+        Episode updated = episodeRepository.save(episode);
+        podcastAggregateService.episodeChanged(before, updated);
+        publishEpisodesChanged(podcastId);
+        return mapEpisodeToDetailResponse(updated);
     }
 
     @Override
@@ -195,11 +253,8 @@ public class EpisodeServiceImpl implements EpisodeService {
         Podcast podcast = lookupService.getPodcastById(podcastId);
         authValidationService.validateOwnership(podcast, userId);
 
-        List<Episode> episodes = podcast.getEpisodes();
-        validateEpisodesExist(episodes);
-
-        int index = validateAndGetEpisodeIndex(episodeId, episodes.size());
-        deletionService.deleteEpisode(podcast, index);
+        Episode episode = getEpisodeOrThrow(podcastId, episodeId);
+        deletionService.deleteEpisode(podcast, episode);
     }
 
     // ==================== VALIDATION HELPERS ====================
@@ -210,12 +265,9 @@ public class EpisodeServiceImpl implements EpisodeService {
         }
     }
 
-    private int validateAndGetEpisodeIndex(Long episodeId, int episodesSize) {
-        int index = episodeId.intValue();
-        if (index < 0 || index >= episodesSize) {
-            throw buildNotFoundException(AppMessage.EPISODE_NOT_FOUND);
-        }
-        return index;
+    private Episode getEpisodeOrThrow(String podcastId, Long episodeId) {
+        return episodeRepository.findByPodcastIdAndEpisodeNumber(podcastId, episodeId)
+                .orElseThrow(() -> buildNotFoundException(AppMessage.EPISODE_NOT_FOUND));
     }
 
     private void validateEpisodeCanBePublished(Episode episode) {
@@ -239,23 +291,48 @@ public class EpisodeServiceImpl implements EpisodeService {
 
     // ==================== BUSINESS LOGIC HELPERS ====================
 
-    private List<Episode> filterPublishedEpisodes(List<Episode> episodes) {
-        return episodes.stream()
-                .filter(e -> e.getEpisodeStatus() == EpisodeStatus.PUBLISHED)
-                .toList();
+    /**
+     * Inserts the episode under the next number of its podcast, taken atomically from the counter on
+     * the podcast document. Podcast edits are targeted updates, so nothing writes the counter back.
+     */
+    private Episode insertWithNextEpisodeNumber(Episode episode) {
+        episode.setEpisodeNumber(allocateEpisodeNumber(episode.getPodcastId()));
+        return episodeRepository.insert(episode);
+    }
+
+    private long allocateEpisodeNumber(String podcastId) {
+        Podcast previous = mongoTemplate.findAndModify(
+                new Query(Criteria.where("_id").is(podcastId)),
+                new Update().inc("nextEpisodeNumber", 1),
+                FindAndModifyOptions.options().returnNew(false),
+                Podcast.class);
+        if (previous == null) {
+            throw buildNotFoundException(AppMessage.PODCAST_NOT_FOUND);
+        }
+        return previous.getNextEpisodeNumber();
     }
 
-    private List<Episode> getOrInitializeEpisodes(Podcast podcast) {
-        List<Episode> episodes = podcast.getEpisodes();
-        if (episodes == null) {
-            episodes = new ArrayList<>();
-            podcast.setEpisodes(episodes);
+    /**
+     * Points the episode at the uploaded blob, replacing the previous file, or removes the blob if that fails.
+     */
+    private MediaUploadResponse finalizeUpload(String userId, String podcastId, Long episodeId,
+                                               UpdateEpisodeRequest updateRequest, MediaUploadResponse uploaded) {
+        try {
+            updateUserEpisode(userId, podcastId, episodeId, updateRequest);
+        } catch (RuntimeException e) {
+            mediaServiceImpl.deleteIfExists(uploaded.getBlobPath());
+            throw e;
         }
-        return episodes;
+        return uploaded;
     }
 
-    private Episode buildNewEpisode(CreateEpisodeRequest request) {
+    private void publishEpisodesChanged(String podcastId) {
+        eventPublisher.publishEvent(new EpisodesChangedEvent(podcastId));
+    }
+
+    private Episode buildNewEpisode(String podcastId, CreateEpisodeRequest request) {
         Episode episode = new Episode();
+        episode.setPodcastId(podcastId);
         episode.setTitle(request.getTitle());
         episode.setDescription(request.getDescription());
         episode.setDurationSeconds(request.getDurationSeconds());
@@ -304,14 +381,14 @@ public class EpisodeServiceImpl implements EpisodeService {
     // ==================== MAPPER METHODS - PUBLIC ====================
 
     private List<EpisodePublicDetailResponse> mapEpisodesToPublicResponse(List<Episode> episodes) {
-        return IntStream.range(0, episodes.size())
-                .mapToObj(i -> mapEpisodeToPublicDetailResponse(episodes.get(i), (long) i))
+        return episodes.stream()
+                .map(this::mapEpisodeToPublicDetailResponse)
                 .toList();
     }
 
-    private EpisodePublicDetailResponse mapEpisodeToPublicDetailResponse(Episode episode, Long index) {
+    private EpisodePublicDetailResponse mapEpisodeToPublicDetailResponse(Episode episode) {
         return EpisodePublicDetailResponse.builder()
-                .episodeId(index)
+                .episodeId(episode.getEpisodeNumber())
                 .title(episode.getTitle())
                 .description(episode.getDescription())
                 .coverUrl(mediaServiceImpl.getDownloadUrl(episode.getImageUrl()))
@@ -324,14 +401,14 @@ public class EpisodeServiceImpl implements EpisodeService {
     // ==================== MAPPER METHODS - USER ====================
 
     private List<EpisodeDetailResponse> mapEpisodesToDetailResponse(List<Episode> episodes) {
-        return IntStream.range(0, episodes.size())
-                .mapToObj(i -> mapEpisodeToDetailResponse(episodes.get(i), i))
+        return episodes.stream()
+                .map(this::mapEpisodeToDetailResponse)
                 .toList();
     }
 
-    private EpisodeDetailResponse mapEpisodeToDetailResponse(Episode episode, int index) {
+    private EpisodeDetailResponse mapEpisodeToDetailResponse(Episode episode) {
         return EpisodeDetailResponse.builder()
-                .episodeId(index)
+                .episodeId(episode.getEpisodeNumber())
                 .title(episode.getTitle())
                 .description(episode.getDescription())
                 .coverUrl(mediaServiceImpl.getDownloadUrl(episode.getImageUrl()))
@@ -344,4 +421,3 @@ public class EpisodeServiceImpl implements EpisodeService {
                 .build();
     }
 }
-
@@ -0,0 +1,465 @@
+package dev.berlinbruno.PodPirateBackendApplication.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.bulk.BulkWriteError;
+import dev.berlinbruno.PodPirateBackendApplication.dto.GeneralResponse;
+import dev.berlinbruno.PodPirateBackendApplication.dto.playback.PlaybackEventRequest;
+import dev.berlinbruno.PodPirateBackendApplication.dto.stats.CreatorListenerStatsResponse;
+import dev.berlinbruno.PodPirateBackendApplication.dto.stats.EpisodeListenerStats;
+import dev.berlinbruno.PodPirateBackendApplication.dto.stats.ListenerStatsPoint;
+import dev.berlinbruno.PodPirateBackendApplication.dto.stats.PodcastListenerStatsResponse;
+import dev.berlinbruno.PodPirateBackendApplication.exception.InvalidResourceException;
+import dev.berlinbruno.PodPirateBackendApplication.model.ListenerSketch;
+import dev.berlinbruno.PodPirateBackendApplication.model.PlayStat;
+import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
+import dev.berlinbruno.PodPirateBackendApplication.properties.ListenerStatsProperties;
+import dev.berlinbruno.PodPirateBackendApplication.service.AuthValidationService;
+import dev.berlinbruno.PodPirateBackendApplication.service.ListenerStatsService;
+import dev.berlinbruno.PodPirateBackendApplication.service.LookupService;
+import dev.berlinbruno.PodPirateBackendApplication.types.AppMessage;
+import dev.berlinbruno.PodPirateBackendApplication.types.SketchScope;
+import dev.berlinbruno.PodPirateBackendApplication.types.StatsInterval;
+import dev.berlinbruno.PodPirateBackendApplication.utils.HyperLogLog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Unique-listener statistics from HyperLogLog sketches.
+ * <p>
+ * Ingest only adds the listener's hash to an in-memory sketch per (episode, day), which is lock-free.
+ * {@link #flush()} derives the podcast and creator sketches of the day by merging the episode sketches,
+ * then merges all of them into the stored daily sketches. Stored sketches carry a version, and a write
+ * only applies when the version is unchanged, so merges from several nodes never overwrite each other;
+ * conflicting writes are re-read and retried.
+ * <p>
+ * Ranges are answered by merging the stored daily sketches, so weekly and monthly totals never touch
+ * raw events. Listens not yet flushed are not included.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ListenerStatsServiceImpl implements ListenerStatsService {
+
+    private static final int LOOKUP_BATCH_SIZE = 1000;
+    // Podcast owners never change, so resolved owners are kept
+    private static final int OWNER_CACHE_SIZE = 10_000;
+
+    private final MongoTemplate mongoTemplate;
+    private final LookupService lookupService;
+    private final AuthValidationService authValidationService;
+    private final ListenerStatsProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<EpisodeDay, HyperLogLog> sketches = new ConcurrentHashMap<>();
+    private final LongAdder droppedListens = new LongAdder();
+    private final Cache<String, String> podcastOwners = Caffeine.newBuilder()
+            .maximumSize(OWNER_CACHE_SIZE)
+            .build();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // Merges that could not be stored yet; guarded by flushLock
+    private final Map<String, PendingSketch> pendingWrites = new HashMap<>();
+
+    private record EpisodeDay(String podcastId, long episodeNumber, LocalDate day) {
+    }
+
+    private record SketchTarget(String id, SketchScope scope, String ownerId, Long episodeNumber, LocalDate day) {
+
+        static SketchTarget episode(String podcastId, long episodeNumber, LocalDate day) {
+            return new SketchTarget(SketchScope.EPISODE + ":" + podcastId + ":" + episodeNumber + ":" + day,
+                    SketchScope.EPISODE, podcastId, episodeNumber, day);
+        }
+
+        static SketchTarget of(SketchScope scope, String ownerId, LocalDate day) {
+            return new SketchTarget(scope + ":" + ownerId + ":" + day, scope, ownerId, null, day);
+        }
+    }
+
+    private record PendingSketch(SketchTarget target, HyperLogLog sketch) {
+    }
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("listener.sketches.tracked", sketches, Map::size)
+                .description("Episode listener sketches waiting for the next flush")
+                .register(meterRegistry);
+        FunctionCounter.builder("listener.listens.dropped", droppedListens, LongAdder::sum)
+                .description("Listens not added to sketches because listener-stats.max-tracked-sketches was reached")
+                .register(meterRegistry);
+    }
+
+    // ==================== INGEST ====================
+
+    @Override
+    public void recordListeners(String listenerId, List<PlaybackEventRequest> events) {
+        long hash = HyperLogLog.hash(listenerId);
+        LocalDate day = today();
+        for (PlaybackEventRequest event : events) {
+            EpisodeDay key = new EpisodeDay(event.getPodcastId().toLowerCase(Locale.ROOT), event.getEpisodeId(), day);
+            HyperLogLog sketch = sketches.get(key);
+            if (sketch == null) {
+                if (sketches.size() >= properties.maxTrackedSketches()) {
+                    droppedListens.increment();
+                    continue;
+                }
+                sketch = sketches.computeIfAbsent(key, k -> new HyperLogLog());
+            }
+            sketch.add(hash);
+        }
+    }
+
+    // ==================== FLUSH ====================
+
+    /**
+     * Merges the sketches gathered since the last run into the stored daily sketches.
+     * A listen added to a sketch while it is being removed may be missed.
+     *
+     * @return number of stored sketches written
+     */
+    @Scheduled(
+            initialDelayString = "${listener-stats.flush-interval-millis:60000}",
+            fixedDelayString = "${listener-stats.flush-interval-millis:60000}")
+    public int flush() {
+        flushLock.lock();
+        try {
+            Map<EpisodeDay, HyperLogLog> drained = new HashMap<>();
+            for (EpisodeDay key : sketches.keySet()) {
+                HyperLogLog sketch = sketches.remove(key);
+                if (sketch != null) {
+                    drained.put(key, sketch);
+                }
+            }
+            if (drained.isEmpty() && pendingWrites.isEmpty()) {
+                return 0;
+            }
+
+            Map<String, PendingSketch> writes = new HashMap<>(pendingWrites);
+            pendingWrites.clear();
+            Map<String, String> owners = resolveOwners(drained.keySet().stream()
+                    .map(EpisodeDay::podcastId)
+                    .collect(Collectors.toSet()));
+            drained.forEach((key, sketch) -> {
+                String ownerId = owners.get(key.podcastId());
+                // Listens for podcasts that do not exist are not stored, so made-up IDs add no sketches
+                if (ownerId == null) {
+                    return;
+                }
+                addTo(writes, SketchTarget.episode(key.podcastId(), key.episodeNumber(), key.day()), sketch);
+                addTo(writes, SketchTarget.of(SketchScope.PODCAST, key.podcastId(), key.day()), sketch);
+                addTo(writes, SketchTarget.of(SketchScope.CREATOR, ownerId, key.day()), sketch);
+            });
+            return store(writes.values());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void addTo(Map<String, PendingSketch> writes, SketchTarget target, HyperLogLog sketch) {
+        writes.computeIfAbsent(target.id(), id -> new PendingSketch(target, new HyperLogLog()))
+                .sketch()
+                .merge(sketch);
+    }
+
+    /**
+     * Merges each pending sketch into its stored copy with a version-checked upsert. Writes that lost
+     * a race with another node fail (no document matches the version, and the upsert hits the
+     * existing ID) and are retried against the new version.
+     */
+    private int store(Collection<PendingSketch> pending) {
+        List<PendingSketch> remaining = new ArrayList<>(pending);
+        int written = 0;
+        for (int attempt = 1; attempt <= properties.maxWriteAttempts() && !remaining.isEmpty(); attempt++) {
+            Map<String, ListenerSketch> stored = loadStored(remaining);
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ListenerSketch.class);
+            for (PendingSketch write : remaining) {
+                bulk.upsert(versionedQuery(write, stored.get(write.target().id())),
+                        mergeUpdate(write, stored.get(write.target().id())));
+            }
+
+            try {
+                bulk.execute();
+                written += remaining.size();
+                remaining = List.of();
+            } catch (BulkOperationException e) {
+                Set<Integer> failed = e.getErrors().stream()
+                        .map(BulkWriteError::getIndex)
+                        .collect(Collectors.toSet());
+                List<PendingSketch> conflicts = new ArrayList<>(failed.size());
+                for (int i = 0; i < remaining.size(); i++) {
+                    if (failed.contains(i)) {
+                        conflicts.add(remaining.get(i));
+                    }
+                }
+                written += remaining.size() - conflicts.size();
+                remaining = conflicts;
+            } catch (RuntimeException e) {
+                log.warn("Failed to store {} listener sketches, retrying with the next flush", remaining.size(), e);
+                break;
+            }
+        }
+
+        for (PendingSketch write : remaining) {
+            if (pendingWrites.size() >= properties.maxTrackedSketches()) {
+                log.warn("Dropping {} unsaved listener sketches, too many writes are pending", remaining.size());
+                break;
+            }
+            pendingWrites.put(write.target().id(), write);
+        }
+        return written;
+    }
+
+    private Map<String, ListenerSketch> loadStored(List<PendingSketch> writes) {
+        Map<String, ListenerSketch> stored = new HashMap<>();
+        for (int from = 0; from < writes.size(); from += LOOKUP_BATCH_SIZE) {
+            List<String> ids = writes.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, writes.size())).stream()
+                    .map(write -> write.target().id())
+                    .toList();
+            Query query = new Query(Criteria.where("_id").in(ids));
+            query.fields().include("registers", "version");
+            mongoTemplate.find(query, ListenerSketch.class).forEach(sketch -> stored.put(sketch.getId(), sketch));
+        }
+        return stored;
+    }
+
+    private Query versionedQuery(PendingSketch write, ListenerSketch stored) {
+        // A missing document is created with version 0 from the query, then incremented
+        long version = stored == null ? 0 : stored.getVersion();
+        return new Query(Criteria.where("_id").is(write.target().id()).and("version").is(version));
+    }
+
+    private Update mergeUpdate(PendingSketch write, ListenerSketch stored) {
+        HyperLogLog merged = stored == null ? new HyperLogLog() : HyperLogLog.fromBytes(stored.getRegisters());
+        merged.merge(write.sketch());
+
+        SketchTarget target = write.target();
+        Update update = new Update()
+                .set("registers", merged.toBytes())
+                .inc("version", 1)
+                .setOnInsert("scope", target.scope())
+                .setOnInsert("ownerId", target.ownerId())
+                .setOnInsert("day", toDate(target.day()));
+        if (target.episodeNumber() != null) {
+            update.setOnInsert("episodeNumber", target.episodeNumber());
+        }
+        return update;
+    }
+
+    /**
+     * Creator of each podcast, from the cache or one projected {@code $in} query per batch.
+     * Podcasts that no longer exist are absent.
+     */
+    private Map<String, String> resolveOwners(Set<String> podcastIds) {
+        Map<String, String> owners = new HashMap<>(podcastOwners.getAllPresent(podcastIds));
+        List<String> missing = podcastIds.stream()
+                .filter(podcastId -> !owners.containsKey(podcastId))
+                .toList();
+        for (int from = 0; from < missing.size(); from += LOOKUP_BATCH_SIZE) {
+            Query query = new Query(Criteria.where("_id").in(missing.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, missing.size()))));
+            query.fields().include("userId");
+            for (Podcast podcast : mongoTemplate.find(query, Podcast.class)) {
+                owners.put(podcast.getId(), podcast.getUserId());
+                podcastOwners.put(podcast.getId(), podcast.getUserId());
+            }
+        }
+        return owners;
+    }
+
+    // ==================== STATISTICS ====================
+
+    @Override
+    public PodcastListenerStatsResponse getPodcastStats(String userId, String podcastId,
+                                                        LocalDate from, LocalDate to, StatsInterval interval) {
+        Podcast podcast = lookupService.getPodcastById(podcastId);
+        authValidationService.validateOwnership(podcast, userId);
+        return buildPodcastStats(podcast.getId(), from, to, interval);
+    }
+
+    @Override
+    public PodcastListenerStatsResponse getPodcastStatsForAdmin(String podcastId,
+                                                                LocalDate from, LocalDate to, StatsInterval interval) {
+        Podcast podcast = lookupService.getPodcastById(podcastId);
+        return buildPodcastStats(podcast.getId(), from, to, interval);
+    }
+
+    @Override
+    public CreatorListenerStatsResponse getCreatorStatsForAdmin(String userId,
+                                                                LocalDate from, LocalDate to, StatsInterval interval) {
+        String creatorId = lookupService.getById(userId).getId();
+        LocalDate end = to != null ? to : today();
+        LocalDate start = from != null ? from : end.minusDays(properties.defaultRangeDays() - 1);
+        validateRange(start, end);
+
+        HyperLogLog total = new HyperLogLog();
+        Map<LocalDate, HyperLogLog> periods = new TreeMap<>();
+        for (ListenerSketch sketch : findSketches(SketchScope.CREATOR, creatorId, start, end)) {
+            addToPeriod(periods, total, sketch, interval);
+        }
+
+        return CreatorListenerStatsResponse.builder()
+                .userId(creatorId)
+                .from(start)
+                .to(end)
+                .interval(interval)
+                .uniqueListeners(total.estimate())
+                .series(toSeries(periods))
+                .build();
+    }
+
+    private PodcastListenerStatsResponse buildPodcastStats(String podcastId, LocalDate from, LocalDate to,
+                                                           StatsInterval interval) {
+        LocalDate end = to != null ? to : today();
+        LocalDate start = from != null ? from : end.minusDays(properties.defaultRangeDays() - 1);
+        validateRange(start, end);
+
+        HyperLogLog total = new HyperLogLog();
+        Map<LocalDate, HyperLogLog> periods = new TreeMap<>();
+        for (ListenerSketch sketch : findSketches(SketchScope.PODCAST, podcastId, start, end)) {
+            addToPeriod(periods, total, sketch, interval);
+        }
+
+        Map<Long, HyperLogLog> episodeSketches = new TreeMap<>();
+        for (ListenerSketch sketch : findSketches(SketchScope.EPISODE, podcastId, start, end)) {
+            episodeSketches.computeIfAbsent(sketch.getEpisodeNumber(), n -> new HyperLogLog())
+                    .merge(HyperLogLog.fromBytes(sketch.getRegisters()));
+        }
+        Map<Long, Document> playTotals = sumPlays(podcastId, start, end);
+
+        Set<Long> episodeNumbers = new TreeSet<>(episodeSketches.keySet());
+        episodeNumbers.addAll(playTotals.keySet());
+        List<EpisodeListenerStats> episodes = new ArrayList<>(episodeNumbers.size());
+        long plays = 0;
+        long listenSeconds = 0;
+        for (Long episodeNumber : episodeNumbers) {
+            HyperLogLog sketch = episodeSketches.get(episodeNumber);
+            Document totals = playTotals.getOrDefault(episodeNumber, new Document());
+            EpisodeListenerStats stats = EpisodeListenerStats.builder()
+                    .episodeId(episodeNumber)
+                    .uniqueListeners(sketch == null ? 0 : sketch.estimate())
+                    .plays(longValue(totals, "plays"))
+                    .listenSeconds(longValue(totals, "listenSeconds"))
+                    .build();
+            plays += stats.getPlays();
+            listenSeconds += stats.getListenSeconds();
+            episodes.add(stats);
+        }
+
+        return PodcastListenerStatsResponse.builder()
+                .podcastId(podcastId)
+                .from(start)
+                .to(end)
+                .interval(interval)
+                .uniqueListeners(total.estimate())
+                .plays(plays)
+                .listenSeconds(listenSeconds)
+                .series(toSeries(periods))
+                .episodes(episodes)
+                .build();
+    }
+
+    private List<ListenerSketch> findSketches(SketchScope scope, String ownerId, LocalDate from, LocalDate to) {
+        Query query = new Query(Criteria.where("scope").is(scope)
+                .and("ownerId").is(ownerId)
+                .and("day").gte(toDate(from)).lte(toDate(to)));
+        query.fields().include("episodeNumber", "day", "registers");
+        return mongoTemplate.find(query, ListenerSketch.class);
+    }
+
+    /**
+     * Play counts and listening time per episode from play_stats, summed over the range.
+     */
+    private Map<Long, Document> sumPlays(String podcastId, LocalDate from, LocalDate to) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("podcastId").is(podcastId)
+                        .and("bucketStart").gte(toDate(from)).lt(toDate(to.plusDays(1)))),
+                Aggregation.group("episodeNumber")
+                        .sum("plays").as("plays")
+                        .sum("listenSeconds").as("listenSeconds"));
+        Map<Long, Document> totals = new HashMap<>();
+        for (Document document : mongoTemplate.aggregate(aggregation, PlayStat.class, Document.class)) {
+            if (document.get("_id") instanceof Number episodeNumber) {
+                totals.put(episodeNumber.longValue(), document);
+            }
+        }
+        return totals;
+    }
+
+    private void addToPeriod(Map<LocalDate, HyperLogLog> periods, HyperLogLog total,
+                             ListenerSketch stored, StatsInterval interval) {
+        HyperLogLog sketch = HyperLogLog.fromBytes(stored.getRegisters());
+        LocalDate day = stored.getDay().toInstant().atZone(ZoneOffset.UTC).toLocalDate();
+        periods.computeIfAbsent(periodStart(day, interval), d -> new HyperLogLog()).merge(sketch);
+        total.merge(sketch);
+    }
+
+    private List<ListenerStatsPoint> toSeries(Map<LocalDate, HyperLogLog> periods) {
+        return periods.entrySet().stream()
+                .map(entry -> ListenerStatsPoint.builder()
+                        .periodStart(entry.getKey())
+                        .uniqueListeners(entry.getValue().estimate())
+                        .build())
+                .toList();
+    }
+
+    // ==================== HELPER METHODS ====================
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= properties.maxRangeDays()) {
+            throw new InvalidResourceException(
+                    new GeneralResponse(
+                            HttpStatus.BAD_REQUEST,
+                            AppMessage.STATS_RANGE_INVALID.getCode(),
+                            AppMessage.STATS_RANGE_INVALID.getMessage(),
+                            AppMessage.STATS_RANGE_INVALID.getDetail()
+                    )
+            );
+        }
+    }
+
+    private static LocalDate periodStart(LocalDate day, StatsInterval interval) {
+        return switch (interval) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now(ZoneOffset.UTC);
+    }
+
+    private static Date toDate(LocalDate day) {
+        return Date.from(day.atStartOfDay(ZoneOffset.UTC).toInstant());
+    }
+
+    private static long longValue(Document document, String key) {
+        Object value = document.get(key);
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+}
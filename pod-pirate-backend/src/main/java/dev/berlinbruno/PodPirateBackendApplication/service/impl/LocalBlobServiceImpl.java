@@ -0,0 +1,298 @@
+package dev.berlinbruno.PodPirateBackendApplication.service.impl;
+
+import dev.berlinbruno.PodPirateBackendApplication.cache.SignedUrlCache;
+import dev.berlinbruno.PodPirateBackendApplication.dto.GeneralResponse;
+import dev.berlinbruno.PodPirateBackendApplication.exception.ForbiddenException;
+import dev.berlinbruno.PodPirateBackendApplication.exception.InvalidResourceException;
+import dev.berlinbruno.PodPirateBackendApplication.exception.NotFoundException;
+import dev.berlinbruno.PodPirateBackendApplication.properties.LocalBlobStorageProperties;
+import dev.berlinbruno.PodPirateBackendApplication.service.CloudBlobService;
+import dev.berlinbruno.PodPirateBackendApplication.types.AppMessage;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Stores blobs as files below a local root directory instead of Azure, for on-prem deployments and
+ * single-box load tests. Signed URLs point back at this backend ({@code /api/public/blobs/...}) and
+ * carry an HMAC-SHA256 signature over the permission, expiry and path, mirroring SAS tokens.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.provider", havingValue = "local")
+public class LocalBlobServiceImpl implements CloudBlobService {
+
+    public static final String READ_PERMISSION = "r";
+    public static final String WRITE_PERMISSION = "w";
+
+    private static final String BLOB_PATH = "api/public/blobs/";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final long TRANSFER_CHUNK_BYTES = 1024 * 1024;
+
+    private final LocalBlobStorageProperties properties;
+    private final SignedUrlCache signedUrlCache;
+
+    @Value("${azure.signed-url.expiry.write:30}") // Default 30 minutes
+    private int writeExpiryMinutes;
+
+    private Path root;
+    private SecretKeySpec signingKey;
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Path.of(properties.rootDirectory()).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+
+        byte[] key;
+        if (properties.signingKey().isBlank()) {
+            key = new byte[32];
+            new SecureRandom().nextBytes(key);
+            log.warn("storage.local.signing-key is not set; signed URLs will stop working after a restart");
+        } else {
+            key = properties.signingKey().getBytes(StandardCharsets.UTF_8);
+        }
+        signingKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+        log.info("Serving blobs from local directory {}", root);
+    }
+
+    @Override
+    public String generateSignedUrlForUpload(String filePath) {
+        verifyString(filePath);
+        return generateSignedUrl(filePath, WRITE_PERMISSION, Instant.now().plus(Duration.ofMinutes(writeExpiryMinutes)));
+    }
+
+    @Override
+    public void verifyFileUpload(String filePath) {
+        verifyString(filePath);
+        if (!Files.isRegularFile(resolve(filePath))) {
+            throw new NotFoundException(
+                    new GeneralResponse(
+                            HttpStatus.NOT_FOUND,
+                            AppMessage.FILE_UPLOAD_INCOMPLETE.getCode(),
+                            AppMessage.FILE_UPLOAD_INCOMPLETE.getMessage(),
+                            AppMessage.FILE_UPLOAD_INCOMPLETE.getDetail()
+                    )
+            );
+        }
+    }
+
+    @Override
+    public String generateSignedUrlForDownload(String filePath) {
+        return signedUrlCache.get(filePath, expiry -> generateSignedUrl(filePath, READ_PERMISSION, expiry));
+    }
+
+    @Override
+    public void deleteFile(String filePath) {
+        verifyString(filePath);
+        try {
+            Files.deleteIfExists(resolve(filePath));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes chunks to a temporary file beside the target and moves it into place on commit.
+     */
+    @Override
+    public BlobUpload openUpload(String filePath, String contentType) {
+        verifyString(filePath);
+        Path target = resolve(filePath);
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+            FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE);
+
+            return new BlobUpload() {
+                @Override
+                public void write(byte[] chunk, int length) {
+                    ByteBuffer buffer = ByteBuffer.wrap(chunk, 0, length);
+                    try {
+                        while (buffer.hasRemaining()) {
+                            out.write(buffer);
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+
+                @Override
+                public void commit() {
+                    try {
+                        out.close();
+                        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+
+                @Override
+                public void abort() {
+                    try {
+                        out.close();
+                        Files.deleteIfExists(temp);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ==================== SIGNED ACCESS ====================
+
+    /**
+     * Checks a download URL's signature and returns the file it grants access to.
+     * @throws ForbiddenException if the signature is invalid or expired
+     * @throws NotFoundException if the file does not exist
+     */
+    public Path authorizeRead(String filePath, String permission, long expiresAt, String signature) {
+        verifySignature(filePath, READ_PERMISSION, permission, expiresAt, signature);
+        Path file = resolve(filePath);
+        if (!Files.isRegularFile(file)) {
+            throw new NotFoundException(
+                    new GeneralResponse(
+                            HttpStatus.NOT_FOUND,
+                            AppMessage.FILE_NOT_FOUND.getCode(),
+                            AppMessage.FILE_NOT_FOUND.getMessage(),
+                            AppMessage.FILE_NOT_FOUND.getDetail()
+                    )
+            );
+        }
+        return file;
+    }
+
+    /**
+     * Checks an upload URL's signature and streams the body into the file. The body is written to a
+     * temporary file next to the target with FileChannel.transferFrom and moved into place when complete,
+     * so readers never see a partial upload. {@code contentLength} is -1 when unknown.
+     * @throws ForbiddenException if the signature is invalid or expired
+     * @throws InvalidResourceException if the body exceeds the maximum upload size
+     */
+    public void write(String filePath, String permission, long expiresAt, String signature,
+                      long contentLength, InputStream body) throws IOException {
+        verifySignature(filePath, WRITE_PERMISSION, permission, expiresAt, signature);
+        long maxBytes = properties.maxUploadSizeMb() * 1024 * 1024;
+        if (contentLength > maxBytes) {
+            throw tooLarge();
+        }
+
+        Path target = resolve(filePath);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            try (ReadableByteChannel in = Channels.newChannel(body);
+                 FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long position = 0;
+                long transferred;
+                while ((transferred = out.transferFrom(in, position, TRANSFER_CHUNK_BYTES)) > 0) {
+                    position += transferred;
+                    if (position > maxBytes) {
+                        throw tooLarge();
+                    }
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // ==================== HELPER METHODS ====================
+
+    private String generateSignedUrl(String filePath, String permission, Instant expiryTime) {
+        long expiresAt = expiryTime.getEpochSecond();
+        return properties.baseUrl() + BLOB_PATH + UriUtils.encodePath(filePath, StandardCharsets.UTF_8)
+                + "?sp=" + permission
+                + "&se=" + expiresAt
+                + "&sig=" + sign(filePath, permission, expiresAt);
+    }
+
+    private void verifySignature(String filePath, String requiredPermission, String permission,
+                                 long expiresAt, String signature) {
+        boolean valid = requiredPermission.equals(permission)
+                && Instant.now().getEpochSecond() <= expiresAt
+                && signature != null
+                && MessageDigest.isEqual(
+                        sign(filePath, permission, expiresAt).getBytes(StandardCharsets.US_ASCII),
+                        signature.getBytes(StandardCharsets.US_ASCII));
+        if (!valid) {
+            throw new ForbiddenException(
+                    new GeneralResponse(
+                            HttpStatus.FORBIDDEN,
+                            AppMessage.SIGNED_URL_INVALID.getCode(),
+                            AppMessage.SIGNED_URL_INVALID.getMessage(),
+                            AppMessage.SIGNED_URL_INVALID.getDetail()
+                    )
+            );
+        }
+    }
+
+    private String sign(String filePath, String permission, long expiresAt) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            byte[] digest = mac.doFinal((permission + "\n" + expiresAt + "\n" + filePath).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+
+    /**
+     * Resolves a blob path below the root, rejecting paths that would escape it.
+     */
+    private Path resolve(String filePath) {
+        Path resolved = root.resolve(filePath).normalize();
+        if (!resolved.startsWith(root) || resolved.equals(root)) {
+            throw new IllegalArgumentException("Blob path must stay within the storage root: " + filePath);
+        }
+        return resolved;
+    }
+
+    private InvalidResourceException tooLarge() {
+        return new InvalidResourceException(
+                new GeneralResponse(
+                        HttpStatus.PAYLOAD_TOO_LARGE,
+                        AppMessage.FILE_TOO_LARGE.getCode(),
+                        AppMessage.FILE_TOO_LARGE.getMessage(),
+                        AppMessage.FILE_TOO_LARGE.getDetail()
+                )
+        );
+    }
+
+    private void verifyString(String string) {
+        if (string == null || string.isEmpty()) {
+            throw new IllegalArgumentException("String must not be null or empty for deletion.");
+        }
+    }
+}
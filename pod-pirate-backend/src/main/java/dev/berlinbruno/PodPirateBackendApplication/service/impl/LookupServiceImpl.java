@@ -1,18 +1,27 @@
 package dev.berlinbruno.PodPirateBackendApplication.service.impl;
 
+import dev.berlinbruno.PodPirateBackendApplication.dto.CursorPage;
 import dev.berlinbruno.PodPirateBackendApplication.dto.GeneralResponse;
+import dev.berlinbruno.PodPirateBackendApplication.dto.SearchPage;
 import dev.berlinbruno.PodPirateBackendApplication.exception.NotFoundException;
 import dev.berlinbruno.PodPirateBackendApplication.model.AppUser;
 import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
 import dev.berlinbruno.PodPirateBackendApplication.repository.AppUserRepository;
 import dev.berlinbruno.PodPirateBackendApplication.repository.PodcastRepository;
+import dev.berlinbruno.PodPirateBackendApplication.search.MongoPodcastSearchStrategy;
+import dev.berlinbruno.PodPirateBackendApplication.search.PodcastSearchQuery;
+import dev.berlinbruno.PodPirateBackendApplication.search.PodcastSearchStrategy;
 import dev.berlinbruno.PodPirateBackendApplication.service.LookupService;
 import dev.berlinbruno.PodPirateBackendApplication.types.AccountRoles;
 import dev.berlinbruno.PodPirateBackendApplication.types.AppMessage;
 import dev.berlinbruno.PodPirateBackendApplication.types.EpisodeStatus;
+import dev.berlinbruno.PodPirateBackendApplication.types.PodcastFacet;
 import dev.berlinbruno.PodPirateBackendApplication.types.PodcastStatus;
+import dev.berlinbruno.PodPirateBackendApplication.utils.CursorCodec;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -20,23 +29,41 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Component
+@Timed(value = "app.service", histogram = true)
 @RequiredArgsConstructor
 public class LookupServiceImpl implements LookupService {
 
+    private static final String CREATOR_CACHE_ATTRIBUTE = LookupServiceImpl.class.getName() + ".creators";
+    private static final int ID_STREAM_BATCH_SIZE = 1000;
+
     private final AppUserRepository appUserRepository;
     private final PodcastRepository podcastRepository;
     private final MongoTemplate mongoTemplate;
+    private final PodcastSearchStrategy podcastSearchStrategy;
+    private final MongoPodcastSearchStrategy mongoPodcastSearchStrategy;
 
     @Override
     public Podcast getPodcastById(String podcastId) {
@@ -87,6 +114,67 @@ public class LookupServiceImpl implements LookupService {
                 )));
     }
 
+    @Override
+    public Map<String, AppUser> getCreatorsByIds(Collection<String> userIds) {
+        Map<String, AppUser> cache = getRequestCreatorCache();
+
+        Set<String> missing = userIds.stream()
+                .filter(id -> id != null && !cache.containsKey(id))
+                .collect(Collectors.toSet());
+
+        if (!missing.isEmpty()) {
+            Query query = new Query(Criteria.where("_id").in(missing));
+            query.fields().include("username", "bio");
+            mongoTemplate.find(query, AppUser.class)
+                    .forEach(user -> cache.put(user.getId(), user));
+        }
+
+        Map<String, AppUser> result = new HashMap<>();
+        for (String userId : userIds) {
+            AppUser user = cache.get(userId);
+            if (user != null) {
+                result.put(userId, user);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Podcast> getPublishedPodcastsByIds(List<String> podcastIds) {
+        if (podcastIds.isEmpty()) {
+            return List.of();
+        }
+        Query query = new Query(Criteria.where("_id").in(podcastIds)
+                .and("podcastStatus").is(PodcastStatus.PUBLISHED));
+        Map<String, Podcast> podcasts = mongoTemplate.find(query, Podcast.class).stream()
+                .collect(Collectors.toMap(Podcast::getId, podcast -> podcast));
+        return podcastIds.stream()
+                .map(podcasts::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Creator lookups are memoized on the current HTTP request so that a page mapper and any
+     * follow-up detail mapper share one round trip. Outside a request nothing is cached.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, AppUser> getRequestCreatorCache() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new HashMap<>();
+        }
+
+        Map<String, AppUser> cache = (Map<String, AppUser>) attributes.getAttribute(
+                CREATOR_CACHE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cache == null) {
+            cache = new HashMap<>();
+            attributes.setAttribute(CREATOR_CACHE_ATTRIBUTE, cache, RequestAttributes.SCOPE_REQUEST);
+        }
+        return cache;
+    }
+
+    @Override
     public Page<Podcast> searchPodcasts(
             String userId,
             String category,
@@ -99,80 +187,258 @@ public class LookupServiceImpl implements LookupService {
             int page,
             int size
     ) {
+        PodcastSearchQuery query = new PodcastSearchQuery(
+                userId, category, flagged, podcastStatus, episodeStatus, keyword, publishedFrom, publishedTo);
+        return podcastSearchStrategy.search(query, page, size);
+    }
 
-        List<Criteria> criteriaList = new ArrayList<>();
-
-        if (userId != null) {
-            criteriaList.add(Criteria.where("userId").is(userId));
+    @Override
+    public SearchPage<Podcast> searchPodcastsWithFacets(
+            String userId,
+            String category,
+            Boolean flagged,
+            PodcastStatus podcastStatus,
+            EpisodeStatus episodeStatus,
+            String keyword,
+            Set<PodcastFacet> facets,
+            String sortField,
+            int page,
+            int size
+    ) {
+        if (!SORT_PUBLISHED_AT.equals(sortField) && !SORT_CREATED_AT.equals(sortField)) {
+            throw new IllegalArgumentException("Unsupported podcast sort field: " + sortField);
         }
+        PodcastSearchQuery searchQuery = new PodcastSearchQuery(
+                userId, category, flagged, podcastStatus, episodeStatus, keyword, null, null);
+        return mongoPodcastSearchStrategy.searchWithFacets(searchQuery, facets, sortField, page, size);
+    }
 
-        if (category != null) {
-            criteriaList.add(Criteria.where("category").is(category));
-        }
+    @Override
+    public Page<AppUser> searchUsers(
+            AccountRoles roles,
+            Boolean isLocked,
+            Boolean isEmailVerified,
+            String keyword,
+            Date joinedFrom,
+            Date joinedTo,
+            int page,
+            int size
+    ) {
+        Criteria criteria = buildUserCriteria(roles, isLocked, isEmailVerified, keyword, joinedFrom, joinedTo);
+        Query query = new Query(criteria);
 
-        if (flagged != null) {
-            criteriaList.add(Criteria.where("flagged").is(flagged));
-        }
+        query.with(PageRequest.of(
+                page,
+                size,
+                Sort.by(Sort.Direction.DESC, "createdAt")
+        ));
 
-        if (podcastStatus != null) {
-            criteriaList.add(Criteria.where("podcastStatus").is(podcastStatus));
-        }
+        List<AppUser> appUsers = mongoTemplate.find(query, AppUser.class);
 
-        if (publishedFrom != null || publishedTo != null) {
-            Criteria dateCriteria = Criteria.where("publishedAt");
-            if (publishedFrom != null) dateCriteria.gte(publishedFrom);
-            if (publishedTo != null) dateCriteria.lte(publishedTo);
-            criteriaList.add(dateCriteria);
-        }
+        long count = mongoTemplate.count(
+                Query.of(query).limit(-1).skip(-1),
+                AppUser.class
+        );
 
-        if (episodeStatus != null) {
-            criteriaList.add(
-                    Criteria.where("episodes")
-                            .elemMatch(Criteria.where("episodeStatus").is(episodeStatus))
-            );
+        return new PageImpl<>(appUsers, PageRequest.of(page, size), count);
+    }
+
+    // ==================== KEYSET PAGINATION ====================
+
+    @Override
+    public CursorPage<Podcast> scrollPodcasts(
+            String userId,
+            String category,
+            Boolean flagged,
+            PodcastStatus podcastStatus,
+            EpisodeStatus episodeStatus,
+            String keyword,
+            String sortField,
+            String cursor,
+            int size,
+            boolean includeTotal
+    ) {
+        PodcastSearchQuery searchQuery = new PodcastSearchQuery(
+                userId, category, flagged, podcastStatus, episodeStatus, keyword, null, null);
+        Criteria criteria = mongoPodcastSearchStrategy.buildCriteria(searchQuery);
+
+        Function<Podcast, Date> sortKey = switch (sortField) {
+            case SORT_PUBLISHED_AT -> Podcast::getPublishedAt;
+            case SORT_CREATED_AT -> Podcast::getCreatedAt;
+            default -> throw new IllegalArgumentException("Unsupported podcast sort field: " + sortField);
+        };
+
+        return scroll(criteria, sortField, cursor, size, includeTotal, Podcast.class, sortKey, Podcast::getId);
+    }
+
+    @Override
+    public CursorPage<AppUser> scrollUsers(
+            AccountRoles roles,
+            Boolean isLocked,
+            Boolean isEmailVerified,
+            String keyword,
+            String cursor,
+            int size,
+            boolean includeTotal
+    ) {
+        Criteria criteria = buildUserCriteria(roles, isLocked, isEmailVerified, keyword, null, null);
+        return scroll(criteria, SORT_CREATED_AT, cursor, size, includeTotal,
+                AppUser.class, AppUser::getCreatedAt, AppUser::getId);
+    }
+
+    /**
+     * Runs a keyset query ordered by (sortField desc, _id desc). Instead of skipping rows, the cursor
+     * restarts the index scan right after the last returned item, so every slice costs one seek
+     * regardless of depth. One extra row is fetched to learn whether another slice exists.
+     */
+    private <T> CursorPage<T> scroll(
+            Criteria filter,
+            String sortField,
+            String cursor,
+            int size,
+            boolean includeTotal,
+            Class<T> type,
+            Function<T, Date> sortKey,
+            Function<T, String> idKey
+    ) {
+        CursorCodec.Cursor after = CursorCodec.decode(cursor);
+        Criteria criteria = after == null
+                ? filter
+                : new Criteria().andOperator(filter, keysetCriteria(sortField, after));
+
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, sortField).and(Sort.by(Sort.Direction.DESC, "_id")))
+                .limit(size + 1);
+
+        List<T> results = mongoTemplate.find(query, type);
+        boolean hasNext = results.size() > size;
+        List<T> content = hasNext ? results.subList(0, size) : results;
+
+        String nextCursor = null;
+        if (hasNext) {
+            T last = content.get(content.size() - 1);
+            nextCursor = CursorCodec.encode(sortKey.apply(last), idKey.apply(last));
         }
 
-        if (keyword != null && !keyword.isBlank()) {
-            criteriaList.add(
-                    new Criteria().orOperator(
-                            Criteria.where("title").regex(keyword, "i"),
-                            Criteria.where("description").regex(keyword, "i"),
-                            Criteria.where("episodes.title").regex(keyword, "i"),
-                            Criteria.where("episodes.description").regex(keyword, "i")
-                    )
+        return CursorPage.<T>builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .totalElements(includeTotal ? countTotal(filter, type) : null)
+                .build();
+    }
+
+    private Criteria keysetCriteria(String sortField, CursorCodec.Cursor after) {
+        if (after.sortValue() == null) {
+            // Null sort keys sort last in descending order; only ties on null remain.
+            return new Criteria().andOperator(
+                    Criteria.where(sortField).is(null),
+                    Criteria.where("_id").lt(after.id())
             );
         }
-
-        Criteria finalCriteria = new Criteria().andOperator(
-                criteriaList.toArray(new Criteria[0])
+        return new Criteria().orOperator(
+                Criteria.where(sortField).lt(after.sortValue()),
+                new Criteria().andOperator(
+                        Criteria.where(sortField).is(after.sortValue()),
+                        Criteria.where("_id").lt(after.id())
+                ),
+                Criteria.where(sortField).is(null)
         );
+    }
 
-        Query query = new Query(finalCriteria)
-                .with(PageRequest.of(
-                        page,
-                        size,
-                        Sort.by(Sort.Direction.DESC, "publishedAt")
-                ));
+    // ==================== STREAMING ====================
 
-        List<Podcast> podcasts = mongoTemplate.find(query, Podcast.class);
-        long count = mongoTemplate.count(
-                Query.of(query).limit(-1).skip(-1),
-                Podcast.class
-        );
+    @Override
+    public Stream<String> streamPublishedPodcastIds(Date updatedSince) {
+        Query query = new Query(publishedSince(updatedSince));
+        query.fields().include("_id");
+        query.cursorBatchSize(ID_STREAM_BATCH_SIZE);
 
-        return new PageImpl<>(podcasts, PageRequest.of(page, size), count);
+        return mongoTemplate.stream(query, Document.class, mongoTemplate.getCollectionName(Podcast.class))
+                .map(document -> document.get("_id").toString());
     }
 
     @Override
-    public Page<AppUser> searchUsers(
+    public Stream<String> streamPublishedCreatorIds(Date updatedSince) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                        Aggregation.match(publishedSince(updatedSince)),
+                        Aggregation.group("userId"))
+                .withOptions(AggregationOptions.builder()
+                        .allowDiskUse(true)
+                        .cursorBatchSize(ID_STREAM_BATCH_SIZE)
+                        .build());
+
+        return mongoTemplate.aggregateStream(aggregation, Podcast.class, Document.class)
+                .map(document -> document.getString("_id"))
+                .filter(Objects::nonNull);
+    }
+
+    // ==================== AGGREGATES ====================
+
+    @Override
+    public Map<String, CreatorTotals> getCreatorTotals(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        // Episode counts come from the aggregates kept on each podcast, so the episodes collection is not read.
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("userId").in(userIds)),
+                Aggregation.group("userId")
+                        .count().as("podcastCount")
+                        .sum("totalEpisodeCount").as("episodeCount"));
+
+        return mongoTemplate.aggregate(aggregation, Podcast.class, Document.class).getMappedResults().stream()
+                .collect(Collectors.toMap(
+                        document -> document.getString("_id"),
+                        document -> new CreatorTotals(
+                                longValue(document, "podcastCount"),
+                                longValue(document, "episodeCount"))));
+    }
+
+    @Override
+    public List<Podcast> getRecentPodcastSummaries(String userId, int limit) {
+        Query query = new Query(Criteria.where("userId").is(userId))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt", "_id"))
+                .limit(limit);
+        query.fields().include("title", "totalEpisodeCount", "createdAt");
+        return mongoTemplate.find(query, Podcast.class);
+    }
+
+    private static long longValue(Document document, String key) {
+        Object value = document.get(key);
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    /**
+     * Served by the status_modified index, which also covers the projected fields.
+     */
+    private Criteria publishedSince(Date updatedSince) {
+        Criteria criteria = Criteria.where("podcastStatus").is(PodcastStatus.PUBLISHED);
+        if (updatedSince != null) {
+            criteria.and("lastModifiedAt").gte(updatedSince);
+        }
+        return criteria;
+    }
+
+    /**
+     * Unfiltered totals come from collection metadata; filtered totals need a real count.
+     */
+    private long countTotal(Criteria filter, Class<?> type) {
+        Query countQuery = new Query(filter);
+        if (countQuery.getQueryObject().isEmpty()) {
+            return mongoTemplate.estimatedCount(type);
+        }
+        return mongoTemplate.count(countQuery, type);
+    }
+
+    private Criteria buildUserCriteria(
             AccountRoles roles,
             Boolean isLocked,
             Boolean isEmailVerified,
             String keyword,
             Date joinedFrom,
-            Date joinedTo,
-            int page,
-            int size
+            Date joinedTo
     ) {
         List<Criteria> criteriaList = new ArrayList<>();
 
@@ -203,28 +469,10 @@ public class LookupServiceImpl implements LookupService {
             criteriaList.add(dateCriteria);
         }
 
-        Query query = new Query();
-
-        if (!criteriaList.isEmpty()) {
-            query.addCriteria(
-                    new Criteria().andOperator(criteriaList.toArray(new Criteria[0]))
-            );
+        if (criteriaList.isEmpty()) {
+            return new Criteria();
         }
-
-        query.with(PageRequest.of(
-                page,
-                size,
-                Sort.by(Sort.Direction.DESC, "createdAt")
-        ));
-
-        List<AppUser> appUsers = mongoTemplate.find(query, AppUser.class);
-
-        long count = mongoTemplate.count(
-                Query.of(query).limit(-1).skip(-1),
-                AppUser.class
-        );
-
-        return new PageImpl<>(appUsers, PageRequest.of(page, size), count);
+        return new Criteria().andOperator(criteriaList.toArray(new Criteria[0]));
     }
 
 }
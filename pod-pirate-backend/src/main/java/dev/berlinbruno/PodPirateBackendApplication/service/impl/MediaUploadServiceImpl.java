@@ -0,0 +1,160 @@
+package dev.berlinbruno.PodPirateBackendApplication.service.impl;
+
+import dev.berlinbruno.PodPirateBackendApplication.dto.GeneralResponse;
+import dev.berlinbruno.PodPirateBackendApplication.dto.media.MediaUploadResponse;
+import dev.berlinbruno.PodPirateBackendApplication.exception.InvalidResourceException;
+import dev.berlinbruno.PodPirateBackendApplication.exception.ResourceUnavailableException;
+import dev.berlinbruno.PodPirateBackendApplication.properties.MediaUploadProperties;
+import dev.berlinbruno.PodPirateBackendApplication.service.CloudBlobService;
+import dev.berlinbruno.PodPirateBackendApplication.service.CloudBlobService.BlobUpload;
+import dev.berlinbruno.PodPirateBackendApplication.service.MediaUploadService;
+import dev.berlinbruno.PodPirateBackendApplication.types.AppMessage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Each upload borrows one chunk buffer from a pool capped at {@code media.upload.max-concurrent-uploads},
+ * fills it from the request body, hashes it and hands it to the blob store, then reuses it for the next
+ * chunk. Heap spent on uploads is therefore bounded by the pool, whatever the file sizes and however
+ * many clients are uploading; nothing is spooled to temp disk.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MediaUploadServiceImpl implements MediaUploadService {
+
+    private static final long BYTES_PER_MB = 1024 * 1024;
+
+    private final CloudBlobService cloudBlobService;
+    private final MediaUploadProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Queue<byte[]> freeBuffers = new ConcurrentLinkedQueue<>();
+    private Semaphore bufferPermits;
+
+    @PostConstruct
+    void init() {
+        bufferPermits = new Semaphore(properties.maxConcurrentUploads(), true);
+        Gauge.builder("media.upload.active", bufferPermits,
+                        permits -> properties.maxConcurrentUploads() - permits.availablePermits())
+                .description("Proxied media uploads currently holding a chunk buffer")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public MediaUploadResponse uploadAudio(String blobPath, String contentType, long contentLength, InputStream body) {
+        return upload(blobPath, contentType, contentLength, properties.maxAudioSizeMb() * BYTES_PER_MB, body);
+    }
+
+    @Override
+    public MediaUploadResponse uploadImage(String blobPath, String contentType, long contentLength, InputStream body) {
+        return upload(blobPath, contentType, contentLength, properties.maxImageSizeMb() * BYTES_PER_MB, body);
+    }
+
+    // ==================== STREAMING ====================
+
+    private MediaUploadResponse upload(String blobPath, String contentType, long contentLength, long maxBytes,
+                                       InputStream body) {
+        if (contentLength > maxBytes) {
+            throw tooLarge();
+        }
+
+        byte[] buffer = acquireBuffer();
+        try {
+            MessageDigest digest = sha256();
+            BlobUpload upload = cloudBlobService.openUpload(blobPath, contentType);
+            long total = 0;
+            try {
+                int read;
+                while ((read = body.readNBytes(buffer, 0, buffer.length)) > 0) {
+                    total += read;
+                    if (total > maxBytes) {
+                        throw tooLarge();
+                    }
+                    digest.update(buffer, 0, read);
+                    upload.write(buffer, read);
+                }
+                upload.commit();
+            } catch (IOException e) {
+                upload.abort();
+                throw new UncheckedIOException(e);
+            } catch (RuntimeException e) {
+                upload.abort();
+                throw e;
+            }
+
+            log.info("Streamed {} bytes to {}", total, blobPath);
+            return MediaUploadResponse.builder()
+                    .blobPath(blobPath)
+                    .sizeBytes(total)
+                    .sha256(HexFormat.of().formatHex(digest.digest()))
+                    .build();
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    // ==================== BUFFER POOL ====================
+
+    private byte[] acquireBuffer() {
+        boolean acquired;
+        try {
+            acquired = bufferPermits.tryAcquire(properties.acquireTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            throw new ResourceUnavailableException(
+                    new GeneralResponse(
+                            HttpStatus.SERVICE_UNAVAILABLE,
+                            AppMessage.UPLOAD_CAPACITY_EXHAUSTED.getCode(),
+                            AppMessage.UPLOAD_CAPACITY_EXHAUSTED.getMessage(),
+                            AppMessage.UPLOAD_CAPACITY_EXHAUSTED.getDetail()
+                    )
+            );
+        }
+        byte[] buffer = freeBuffers.poll();
+        return buffer != null ? buffer : new byte[properties.chunkSizeKb() * 1024];
+    }
+
+    private void releaseBuffer(byte[] buffer) {
+        freeBuffers.offer(buffer);
+        bufferPermits.release();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private InvalidResourceException tooLarge() {
+        return new InvalidResourceException(
+                new GeneralResponse(
+                        HttpStatus.PAYLOAD_TOO_LARGE,
+                        AppMessage.FILE_TOO_LARGE.getCode(),
+                        AppMessage.FILE_TOO_LARGE.getMessage(),
+                        AppMessage.FILE_TOO_LARGE.getDetail()
+                )
+        );
+    }
+}
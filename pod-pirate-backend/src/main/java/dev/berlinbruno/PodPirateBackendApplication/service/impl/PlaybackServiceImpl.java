@@ -0,0 +1,485 @@
+package dev.berlinbruno.PodPirateBackendApplication.service.impl;
+
+import dev.berlinbruno.PodPirateBackendApplication.dto.playback.PlaybackEventRequest;
+import dev.berlinbruno.PodPirateBackendApplication.event.PodcastChangedEvent;
+import dev.berlinbruno.PodPirateBackendApplication.model.PlayStat;
+import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
+import dev.berlinbruno.PodPirateBackendApplication.properties.PlaybackProperties;
+import dev.berlinbruno.PodPirateBackendApplication.service.PlaybackService;
+import dev.berlinbruno.PodPirateBackendApplication.types.PlaybackEventType;
+import dev.berlinbruno.PodPirateBackendApplication.types.PodcastStatus;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Playback counters and trending rankings.
+ * <p>
+ * Events are only counted on ingest: each (podcast, episode, time bucket) has a pair of
+ * {@link LongAdder}s, which spread concurrent increments over striped cells, so the ingest path
+ * takes no lock and does no I/O. {@link #flush()} drains the counters every few seconds into one
+ * unordered bulk write of {@code $inc} upserts against play_stats, so the database sees one write
+ * per active episode and bucket per flush, however many events arrived. Counts for podcasts that
+ * do not exist or are not published are dropped at the flush, so made-up IDs never reach play_stats.
+ * <p>
+ * Trending uses forward decay: an event at time t adds {@code weight * e^(λ(t - landmark))} to its
+ * podcast's score, which orders podcasts exactly like exponentially decayed counts without ever
+ * touching the scores of podcasts nobody listens to. Because scores only grow, the new top list is
+ * the best of the previous top list and the podcasts that received events, so each flush re-ranks
+ * only a few entries. Scores are rescaled to a new landmark before the exponent gets large.
+ * <p>
+ * Scores start from the play_stats history of the last {@code playback.seed-days} and are rebuilt
+ * from it periodically, which also folds in the events flushed by other nodes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlaybackServiceImpl implements PlaybackService {
+
+    // Scores are rescaled once the growth factor reaches e^32, long before doubles overflow
+    private static final double REBASE_EXPONENT = 32;
+    // Decayed scores below this (in plays) are forgotten when rescaling
+    private static final double MIN_DECAYED_SCORE = 1e-3;
+    // Marks podcasts that are missing or not published; their events are dropped
+    private static final String UNLISTED = "";
+    // Marks published podcasts without a category; ranked overall only
+    private static final String UNCATEGORIZED = "\0";
+    private static final int LOOKUP_BATCH_SIZE = 1000;
+    private static final int CURSOR_BATCH_SIZE = 2000;
+
+    private final MongoTemplate mongoTemplate;
+    private final PlaybackProperties properties;
+    private final TaskExecutor taskExecutor;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<EpisodeBucket, Counters> counters = new ConcurrentHashMap<>();
+    private final Set<String> changedPodcastIds = ConcurrentHashMap.newKeySet();
+    private final LongAdder droppedEvents = new LongAdder();
+    private final LongAdder unlistedEvents = new LongAdder();
+    private final ReentrantLock rankingLock = new ReentrantLock();
+
+    // Guarded by rankingLock
+    private final Map<String, Double> scores = new HashMap<>();
+    private final Map<String, String> categories = new HashMap<>();
+    private long landmarkMillis = System.currentTimeMillis();
+
+    private volatile Rankings rankings = Rankings.EMPTY;
+
+    private record EpisodeBucket(String podcastId, long episodeNumber, long bucketStart) {
+    }
+
+    private static final class Counters {
+        private final LongAdder plays = new LongAdder();
+        private final LongAdder heartbeats = new LongAdder();
+    }
+
+    private record Delta(EpisodeBucket key, long plays, long heartbeats) {
+    }
+
+    private record Rankings(List<String> overall, Map<String, List<String>> byCategory) {
+        private static final Rankings EMPTY = new Rankings(List.of(), Map.of());
+    }
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("playback.tracked.episodes", counters, Map::size)
+                .description("Episode counters waiting for the next playback flush")
+                .register(meterRegistry);
+        FunctionCounter.builder("playback.events.dropped", droppedEvents, LongAdder::sum)
+                .description("Playback events dropped because playback.max-tracked-episodes was reached")
+                .register(meterRegistry);
+        FunctionCounter.builder("playback.events.unlisted", unlistedEvents, LongAdder::sum)
+                .description("Playback events dropped because their podcast is missing or not published")
+                .register(meterRegistry);
+    }
+
+    // ==================== INGEST ====================
+
+    @Override
+    public void recordEvents(List<PlaybackEventRequest> events) {
+        long bucketStart = bucketStart(System.currentTimeMillis());
+        for (PlaybackEventRequest event : events) {
+            EpisodeBucket key = new EpisodeBucket(
+                    event.getPodcastId().toLowerCase(Locale.ROOT), event.getEpisodeId(), bucketStart);
+            Counters episodeCounters = counters.get(key);
+            if (episodeCounters == null) {
+                if (counters.size() >= properties.maxTrackedEpisodes()) {
+                    droppedEvents.increment();
+                    continue;
+                }
+                episodeCounters = counters.computeIfAbsent(key, k -> new Counters());
+            }
+            if (event.getType() == PlaybackEventType.PLAY) {
+                episodeCounters.plays.increment();
+            } else {
+                episodeCounters.heartbeats.increment();
+            }
+        }
+    }
+
+    // ==================== FLUSH ====================
+
+    /**
+     * Writes the counts gathered since the last run to play_stats and updates the rankings.
+     * Counters without events since the last run are removed; an increment racing with that removal
+     * may be lost, which only happens to an episode resuming right at a flush.
+     *
+     * @return number of play_stats documents written
+     */
+    @Scheduled(
+            initialDelayString = "${playback.flush-interval-millis:5000}",
+            fixedDelayString = "${playback.flush-interval-millis:5000}")
+    public int flush() {
+        rankingLock.lock();
+        try {
+            long currentBucket = bucketStart(System.currentTimeMillis());
+            List<Delta> deltas = new ArrayList<>();
+            for (Map.Entry<EpisodeBucket, Counters> entry : counters.entrySet()) {
+                EpisodeBucket key = entry.getKey();
+                Counters episodeCounters = entry.getValue();
+                // Past buckets receive no new events, so they are drained once and dropped
+                if (key.bucketStart() < currentBucket) {
+                    counters.remove(key, episodeCounters);
+                }
+                long plays = episodeCounters.plays.sumThenReset();
+                long heartbeats = episodeCounters.heartbeats.sumThenReset();
+                if (plays == 0 && heartbeats == 0) {
+                    counters.remove(key, episodeCounters);
+                } else {
+                    deltas.add(new Delta(key, plays, heartbeats));
+                }
+            }
+
+            List<Delta> listed;
+            try {
+                listed = dropUnlisted(deltas);
+                if (!listed.isEmpty()) {
+                    writeStats(listed);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to flush {} playback counters, retrying with the next flush", deltas.size(), e);
+                deltas.forEach(this::restore);
+                return 0;
+            }
+            if (listed.isEmpty()) {
+                applyPodcastChanges();
+                return 0;
+            }
+            applyDeltas(listed);
+            return listed.size();
+        } finally {
+            rankingLock.unlock();
+        }
+    }
+
+    /**
+     * Drops the counts of podcasts that are missing or not published. Their IDs are only remembered
+     * while they hold a score, so made-up IDs do not accumulate in memory either.
+     */
+    private List<Delta> dropUnlisted(List<Delta> deltas) {
+        resolveCategories(deltas.stream()
+                .map(delta -> delta.key().podcastId())
+                .filter(podcastId -> !categories.containsKey(podcastId))
+                .distinct()
+                .toList());
+
+        List<Delta> listed = new ArrayList<>(deltas.size());
+        Set<String> unlisted = new HashSet<>();
+        for (Delta delta : deltas) {
+            String podcastId = delta.key().podcastId();
+            if (isListed(podcastId)) {
+                listed.add(delta);
+            } else {
+                unlistedEvents.add(delta.plays() + delta.heartbeats());
+                unlisted.add(podcastId);
+            }
+        }
+        unlisted.stream().filter(podcastId -> !scores.containsKey(podcastId)).forEach(categories::remove);
+        return listed;
+    }
+
+    private void writeStats(List<Delta> deltas) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PlayStat.class);
+        for (Delta delta : deltas) {
+            EpisodeBucket key = delta.key();
+            Query query = new Query(Criteria.where("podcastId").is(key.podcastId())
+                    .and("episodeNumber").is(key.episodeNumber())
+                    .and("bucketStart").is(new Date(key.bucketStart())));
+            Update update = new Update()
+                    .inc("plays", delta.plays())
+                    .inc("heartbeats", delta.heartbeats())
+                    .inc("listenSeconds", delta.heartbeats() * properties.heartbeatSeconds());
+            bulk.upsert(query, update);
+        }
+        bulk.execute();
+    }
+
+    private void restore(Delta delta) {
+        Counters episodeCounters = counters.computeIfAbsent(delta.key(), k -> new Counters());
+        episodeCounters.plays.add(delta.plays());
+        episodeCounters.heartbeats.add(delta.heartbeats());
+    }
+
+    @EventListener
+    public void onPodcastChanged(PodcastChangedEvent event) {
+        // Category or publication state may have changed; resolved again with the next flush
+        changedPodcastIds.add(event.podcastId());
+    }
+
+    // ==================== RANKINGS ====================
+
+    @Override
+    public List<String> getTrendingPodcastIds(String category, int limit) {
+        Rankings current = rankings;
+        List<String> ranking = category == null
+                ? current.overall()
+                : current.byCategory().getOrDefault(category.toLowerCase(Locale.ROOT), List.of());
+        return ranking.subList(0, Math.min(limit, ranking.size()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedInBackground() {
+        taskExecutor.execute(this::rebuildRankings);
+    }
+
+    /**
+     * Recomputes every score from the play_stats history, replacing the incrementally maintained ones.
+     */
+    @Scheduled(cron = "${playback.rebuild-cron:0 */15 * * * *}")
+    public void rebuildRankings() {
+        rankingLock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            long since = now - Duration.ofDays(properties.seedDays()).toMillis();
+            long halfBucket = bucketMillis() / 2;
+
+            Map<String, Double> rebuilt = new HashMap<>();
+            try (Stream<Document> buckets = streamPodcastBuckets(new Date(since))) {
+                buckets.forEach(document -> {
+                    Document id = document.get("_id", Document.class);
+                    long eventTime = id.getDate("bucketStart").getTime() + halfBucket;
+                    double weight = longValue(document, "plays")
+                            + longValue(document, "heartbeats") * properties.heartbeatWeight();
+                    rebuilt.merge(id.getString("podcastId"), weight * growth(eventTime, now), Double::sum);
+                });
+            } catch (RuntimeException e) {
+                log.warn("Failed to rebuild trending scores from play_stats", e);
+                return;
+            }
+
+            // Unflushed counts are not in play_stats yet and are added by the next flush
+            scores.clear();
+            scores.putAll(rebuilt);
+            landmarkMillis = now;
+            categories.clear();
+            changedPodcastIds.clear();
+            resolveCategories(scores.keySet());
+            publishFullRankings();
+            log.info("Rebuilt trending scores for {} podcasts from {} days of play_stats",
+                    scores.size(), properties.seedDays());
+        } finally {
+            rankingLock.unlock();
+        }
+    }
+
+    private Stream<Document> streamPodcastBuckets(Date since) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                        Aggregation.match(Criteria.where("bucketStart").gte(since)),
+                        Aggregation.group("podcastId", "bucketStart")
+                                .sum("plays").as("plays")
+                                .sum("heartbeats").as("heartbeats"))
+                .withOptions(AggregationOptions.builder()
+                        .allowDiskUse(true)
+                        .cursorBatchSize(CURSOR_BATCH_SIZE)
+                        .build());
+        return mongoTemplate.aggregateStream(aggregation, PlayStat.class, Document.class);
+    }
+
+    private void applyDeltas(List<Delta> deltas) {
+        long now = System.currentTimeMillis();
+        rebaseIfNeeded(now);
+
+        double growth = growth(now, landmarkMillis);
+        Set<String> touched = new HashSet<>();
+        for (Delta delta : deltas) {
+            String podcastId = delta.key().podcastId();
+            double weight = delta.plays() + delta.heartbeats() * properties.heartbeatWeight();
+            scores.merge(podcastId, weight * growth, Double::sum);
+            touched.add(podcastId);
+        }
+
+        if (!applyPodcastChanges()) {
+            publishIncrementalRankings(touched);
+        }
+    }
+
+    /**
+     * Re-reads the category of changed podcasts that are being scored.
+     *
+     * @return whether the rankings were rebuilt
+     */
+    private boolean applyPodcastChanges() {
+        if (changedPodcastIds.isEmpty()) {
+            return false;
+        }
+        List<String> changed = new ArrayList<>();
+        for (Iterator<String> it = changedPodcastIds.iterator(); it.hasNext(); ) {
+            String podcastId = it.next();
+            it.remove();
+            if (categories.remove(podcastId) != null) {
+                changed.add(podcastId);
+            }
+        }
+        if (changed.isEmpty()) {
+            return false;
+        }
+        // A podcast leaving a list lets one from outside the kept top entries move up, so rank from scratch
+        resolveCategories(changed);
+        publishFullRankings();
+        return true;
+    }
+
+    private void publishIncrementalRankings(Set<String> touched) {
+        Rankings previous = rankings;
+        int size = properties.rankingSize();
+
+        List<String> overall = top(Stream.concat(previous.overall().stream(), touched.stream()), size);
+
+        Map<String, List<String>> byCategory = new HashMap<>(previous.byCategory());
+        Map<String, List<String>> touchedByCategory = new HashMap<>();
+        for (String podcastId : touched) {
+            String category = categories.get(podcastId);
+            if (hasCategory(category)) {
+                touchedByCategory.computeIfAbsent(category, c -> new ArrayList<>()).add(podcastId);
+            }
+        }
+        touchedByCategory.forEach((category, podcastIds) -> byCategory.put(category, top(
+                Stream.concat(previous.byCategory().getOrDefault(category, List.of()).stream(), podcastIds.stream()),
+                size)));
+
+        rankings = new Rankings(overall, Map.copyOf(byCategory));
+    }
+
+    private void publishFullRankings() {
+        int size = properties.rankingSize();
+        Map<String, List<String>> idsByCategory = new HashMap<>();
+        for (String podcastId : scores.keySet()) {
+            String category = categories.get(podcastId);
+            if (hasCategory(category)) {
+                idsByCategory.computeIfAbsent(category, c -> new ArrayList<>()).add(podcastId);
+            }
+        }
+
+        Map<String, List<String>> byCategory = new HashMap<>();
+        idsByCategory.forEach((category, podcastIds) -> byCategory.put(category, top(podcastIds.stream(), size)));
+        rankings = new Rankings(top(scores.keySet().stream(), size), Map.copyOf(byCategory));
+    }
+
+    /**
+     * Best {@code size} distinct listed podcasts among the candidates, highest score first.
+     */
+    private List<String> top(Stream<String> candidates, int size) {
+        return candidates
+                .distinct()
+                .filter(this::isListed)
+                .sorted(Comparator.comparingDouble((String podcastId) -> scores.getOrDefault(podcastId, 0.0))
+                        .reversed()
+                        .thenComparing(Comparator.naturalOrder()))
+                .limit(size)
+                .toList();
+    }
+
+    /**
+     * Loads the category of published podcasts with projected {@code $in} queries; other IDs are
+     * remembered as unlisted.
+     */
+    private void resolveCategories(Collection<String> podcastIds) {
+        List<String> ids = new ArrayList<>(podcastIds);
+        for (int from = 0; from < ids.size(); from += LOOKUP_BATCH_SIZE) {
+            List<String> batch = ids.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, ids.size()));
+            Map<String, String> resolved = new HashMap<>();
+            batch.forEach(podcastId -> resolved.put(podcastId, UNLISTED));
+
+            Query query = new Query(Criteria.where("_id").in(batch)
+                    .and("podcastStatus").is(PodcastStatus.PUBLISHED));
+            query.fields().include("category");
+            mongoTemplate.find(query, Podcast.class).forEach(podcast ->
+                    resolved.put(podcast.getId(), podcast.getCategory() == null ? UNCATEGORIZED : podcast.getCategory()));
+            // Only stored once the lookup succeeded, so a failed query never marks a podcast unlisted
+            categories.putAll(resolved);
+        }
+    }
+
+    private boolean isListed(String podcastId) {
+        String category = categories.get(podcastId);
+        return category != null && !category.equals(UNLISTED);
+    }
+
+    private static boolean hasCategory(String category) {
+        return category != null && !category.equals(UNLISTED) && !category.equals(UNCATEGORIZED);
+    }
+
+    /**
+     * Moves the landmark to {@code now} once the growth factor gets large. Scaling every score by the
+     * same factor keeps the order, so the published rankings stay valid.
+     */
+    private void rebaseIfNeeded(long now) {
+        if (lambda() * (now - landmarkMillis) < REBASE_EXPONENT) {
+            return;
+        }
+        double factor = growth(landmarkMillis, now);
+        scores.replaceAll((podcastId, score) -> score * factor);
+        scores.values().removeIf(score -> score < MIN_DECAYED_SCORE);
+        categories.keySet().retainAll(scores.keySet());
+        landmarkMillis = now;
+    }
+
+    // ==================== HELPER METHODS ====================
+
+    /**
+     * Forward-decay weight of an event at {@code eventTime} relative to {@code landmark}.
+     */
+    private double growth(long eventTime, long landmark) {
+        return Math.exp(lambda() * (eventTime - landmark));
+    }
+
+    private double lambda() {
+        return Math.log(2) / Duration.ofHours(properties.halfLifeHours()).toMillis();
+    }
+
+    private long bucketMillis() {
+        return Duration.ofMinutes(properties.bucketMinutes()).toMillis();
+    }
+
+    private long bucketStart(long timeMillis) {
+        return timeMillis - Math.floorMod(timeMillis, bucketMillis());
+    }
+
+    private static long longValue(Document document, String key) {
+        Object value = document.get(key);
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+}
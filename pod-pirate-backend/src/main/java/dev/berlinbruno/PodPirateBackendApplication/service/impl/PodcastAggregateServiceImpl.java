@@ -0,0 +1,215 @@
+package dev.berlinbruno.PodPirateBackendApplication.service.impl;
+
+import dev.berlinbruno.PodPirateBackendApplication.model.Episode;
+import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
+import dev.berlinbruno.PodPirateBackendApplication.properties.PodcastAggregateProperties;
+import dev.berlinbruno.PodPirateBackendApplication.service.PodcastAggregateService;
+import dev.berlinbruno.PodPirateBackendApplication.types.EpisodeStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Keeps podcast episode aggregates current with single-document {@code $inc}/{@code $max} updates
+ * issued right after each episode write. Only unpublishing or deleting the latest published episode
+ * needs a read: the new last publish date is looked up through the (podcastId, episodeStatus,
+ * publishedAt) index.
+ * <p>
+ * Podcast edits only write the fields they change, so they never roll these values back. Episode
+ * writes that fail between the episode and the podcast update can still leave them off, so
+ * {@link #recomputeAll()} rebuilds them from the episode collection after startup and on a schedule,
+ * one aggregation and one unordered bulk write per batch of podcasts.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PodcastAggregateServiceImpl implements PodcastAggregateService {
+
+    private static final String TOTAL_COUNT = "totalEpisodeCount";
+    private static final String PUBLISHED_COUNT = "publishedEpisodeCount";
+    private static final String LAST_PUBLISHED_AT = "lastEpisodePublishedAt";
+    private static final String TOTAL_DURATION = "totalDurationSeconds";
+
+    private final MongoTemplate mongoTemplate;
+    private final PodcastAggregateProperties properties;
+    private final TaskExecutor taskExecutor;
+
+    // ==================== INCREMENTAL UPDATES ====================
+
+    @Override
+    public void episodeCreated(Episode episode) {
+        EpisodeState state = EpisodeState.of(episode);
+        Update update = new Update()
+                .inc(TOTAL_COUNT, 1)
+                .inc(TOTAL_DURATION, state.durationSeconds());
+        if (state.published()) {
+            update.inc(PUBLISHED_COUNT, 1);
+            if (episode.getPublishedAt() != null) {
+                update.max(LAST_PUBLISHED_AT, episode.getPublishedAt());
+            }
+        }
+        updatePodcast(episode.getPodcastId(), update);
+    }
+
+    @Override
+    public void episodeChanged(EpisodeState before, Episode after) {
+        EpisodeState state = EpisodeState.of(after);
+        Update update = new Update();
+        boolean unpublished = before.published() && !state.published();
+
+        if (state.durationSeconds() != before.durationSeconds()) {
+            update.inc(TOTAL_DURATION, state.durationSeconds() - before.durationSeconds());
+        }
+        if (!before.published() && state.published()) {
+            update.inc(PUBLISHED_COUNT, 1);
+            if (after.getPublishedAt() != null) {
+                update.max(LAST_PUBLISHED_AT, after.getPublishedAt());
+            }
+        }
+        if (unpublished) {
+            update.inc(PUBLISHED_COUNT, -1);
+        }
+
+        // Always written, so content-only edits still move the podcast's lastModifiedAt
+        updatePodcast(after.getPodcastId(), update);
+        if (unpublished) {
+            refreshLastPublishedAt(after.getPodcastId());
+        }
+    }
+
+    @Override
+    public void episodeDeleted(Episode episode) {
+        EpisodeState state = EpisodeState.of(episode);
+        Update update = new Update()
+                .inc(TOTAL_COUNT, -1)
+                .inc(TOTAL_DURATION, -state.durationSeconds());
+        if (state.published()) {
+            update.inc(PUBLISHED_COUNT, -1);
+        }
+        updatePodcast(episode.getPodcastId(), update);
+
+        if (state.published()) {
+            refreshLastPublishedAt(episode.getPodcastId());
+        }
+    }
+
+    /**
+     * Also moves lastModifiedAt, which versions the podcast's public representation (including its
+     * episodes) for conditional requests.
+     */
+    private void updatePodcast(String podcastId, Update update) {
+        update.currentDate("lastModifiedAt");
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(podcastId)), update, Podcast.class);
+    }
+
+    private void refreshLastPublishedAt(String podcastId) {
+        Query latest = new Query(Criteria.where("podcastId").is(podcastId)
+                .and("episodeStatus").is(EpisodeStatus.PUBLISHED))
+                .with(Sort.by(Sort.Direction.DESC, "publishedAt"))
+                .limit(1);
+        latest.fields().include("publishedAt");
+
+        Episode episode = mongoTemplate.findOne(latest, Episode.class);
+        updatePodcast(podcastId, new Update().set(LAST_PUBLISHED_AT, episode != null ? episode.getPublishedAt() : null));
+    }
+
+    // ==================== REPAIR ====================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void repairInBackground() {
+        if (properties.repairOnStartup()) {
+            taskExecutor.execute(this::recomputeAll);
+        }
+    }
+
+    @Override
+    public long recompute(Collection<String> podcastIds) {
+        List<String> ids = podcastIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("podcastId").in(ids)),
+                Aggregation.group("podcastId")
+                        .count().as("totalCount")
+                        .sum(ConditionalOperators
+                                .when(Criteria.where("episodeStatus").is(EpisodeStatus.PUBLISHED.name()))
+                                .then(1)
+                                .otherwise(0)).as("publishedCount")
+                        .max("publishedAt").as("lastPublishedAt")
+                        .sum("durationSeconds").as("totalDuration")
+        );
+
+        Map<String, Document> rows = new HashMap<>();
+        mongoTemplate.aggregate(aggregation, Episode.class, Document.class)
+                .forEach(row -> rows.put(row.getString("_id"), row));
+
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Podcast.class);
+        for (String id : ids) {
+            Document row = rows.getOrDefault(id, new Document());
+            ops.updateOne(
+                    new Query(Criteria.where("_id").is(id)),
+                    new Update()
+                            .set(TOTAL_COUNT, longValue(row, "totalCount"))
+                            .set(PUBLISHED_COUNT, longValue(row, "publishedCount"))
+                            .set(LAST_PUBLISHED_AT, row.getDate("lastPublishedAt"))
+                            .set(TOTAL_DURATION, longValue(row, "totalDuration")));
+        }
+        return ops.execute().getModifiedCount();
+    }
+
+    @Override
+    @Scheduled(cron = "${podcast.aggregates.repair-cron:0 30 3 * * *}")
+    public long recomputeAll() {
+        long start = System.currentTimeMillis();
+        long podcasts = 0;
+        long corrected = 0;
+
+        // Podcasts still carrying embedded episodes have none in the episode collection yet;
+        // EmbeddedEpisodeMigration recomputes them right after moving their episodes
+        Query query = new Query(Criteria.where("episodes").exists(false));
+        query.fields().include("_id");
+        query.cursorBatchSize(properties.repairBatchSize());
+
+        try (Stream<Document> stream = mongoTemplate.stream(query, Document.class, mongoTemplate.getCollectionName(Podcast.class))) {
+            Iterator<Document> iterator = stream.iterator();
+            List<String> batch = new ArrayList<>(properties.repairBatchSize());
+            while (iterator.hasNext()) {
+                batch.add(iterator.next().get("_id").toString());
+                if (batch.size() >= properties.repairBatchSize() || !iterator.hasNext()) {
+                    corrected += recompute(batch);
+                    podcasts += batch.size();
+                    batch.clear();
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Podcast aggregate repair stopped after {} podcasts", podcasts, e);
+            return corrected;
+        }
+
+        log.info("Podcast aggregate repair checked {} podcasts and corrected {} in {} ms",
+                podcasts, corrected, System.currentTimeMillis() - start);
+        return corrected;
+    }
+
+    private long longValue(Document row, String key) {
+        return row.get(key) instanceof Number number ? number.longValue() : 0;
+    }
+}
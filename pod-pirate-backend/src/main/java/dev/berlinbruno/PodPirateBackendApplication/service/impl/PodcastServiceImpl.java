@@ -1,42 +1,63 @@
 package dev.berlinbruno.PodPirateBackendApplication.service.impl;
 
+import dev.berlinbruno.PodPirateBackendApplication.cache.PublicCatalogCaches;
+import dev.berlinbruno.PodPirateBackendApplication.dto.CursorPage;
 import dev.berlinbruno.PodPirateBackendApplication.dto.GeneralResponse;
+import dev.berlinbruno.PodPirateBackendApplication.dto.SearchPage;
 import dev.berlinbruno.PodPirateBackendApplication.dto.media.ImageUploadResponse;
 import dev.berlinbruno.PodPirateBackendApplication.dto.podcast.*;
+import dev.berlinbruno.PodPirateBackendApplication.event.PodcastChangedEvent;
 import dev.berlinbruno.PodPirateBackendApplication.exception.ForbiddenException;
+import dev.berlinbruno.PodPirateBackendApplication.exception.NotFoundException;
 import dev.berlinbruno.PodPirateBackendApplication.model.AppUser;
-import dev.berlinbruno.PodPirateBackendApplication.model.Episode;
 import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
+import dev.berlinbruno.PodPirateBackendApplication.repository.EpisodeRepository;
 import dev.berlinbruno.PodPirateBackendApplication.repository.PodcastRepository;
 import dev.berlinbruno.PodPirateBackendApplication.service.*;
+import dev.berlinbruno.PodPirateBackendApplication.service.CatalogVersionService.CatalogVersion;
 import dev.berlinbruno.PodPirateBackendApplication.types.*;
+import dev.berlinbruno.PodPirateBackendApplication.utils.PodcastSizeTag;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
-import java.util.Collections;
 import java.util.Date;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
+@Timed(value = "app.service", histogram = true)
 @RequiredArgsConstructor
 public class PodcastServiceImpl implements PodcastService {
 
     private final PodcastRepository podcastRepository;
+    private final EpisodeRepository episodeRepository;
     private final CloudBlobService cloudBlobService;
     private final LookupService lookupService;
     private final MediaService mediaService;
     private final AuthValidationService authValidationService;
     private final DeletionService deletionService;
+    private final PlaybackService playbackService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MongoTemplate mongoTemplate;
 
     // ==================== USER PODCAST MANAGEMENT ====================
 
@@ -50,13 +71,25 @@ public class PodcastServiceImpl implements PodcastService {
         return podcasts.map(this::mapToPodcastResponse);
     }
 
+    @Override
+    public CursorPage<PodcastResponse> scrollPodcastsForUser(String userId, String q, PodcastStatus status,
+                                                             String cursor, int size, boolean includeTotal) {
+        boolean isFlagged = (status == PodcastStatus.FLAGGED);
+        PodcastStatus podcastStatus = isFlagged ? null : status;
+
+        CursorPage<Podcast> podcasts = lookupService.scrollPodcasts(
+                userId, null, isFlagged, podcastStatus, null, q,
+                LookupService.SORT_CREATED_AT, cursor, size, includeTotal);
+        return podcasts.map(this::mapToPodcastResponse);
+    }
+
     @Override
     @Transactional
     public PodcastDetailResponse createUserPodcast(String userId, CreatePodcastRequest createRequest) {
         AppUser appUser = lookupService.getById(userId);
 
         Podcast podcast = buildNewPodcast(appUser.getId(), createRequest);
-        Podcast saved = podcastRepository.save(podcast);
+        Podcast saved = podcastRepository.insert(podcast);
 
         return mapToPodcastDetailResponse(saved);
     }
@@ -89,8 +122,8 @@ public class PodcastServiceImpl implements PodcastService {
         Podcast podcast = lookupService.getPodcastById(podcastId);
         authValidationService.validateOwnership(podcast, userId);
 
-        applyPodcastUpdates(podcast, updateRequest);
-        Podcast updated = podcastRepository.save(podcast);
+        Podcast updated = updatePodcast(podcastId, buildPodcastUpdate(podcast, updateRequest));
+        eventPublisher.publishEvent(PodcastChangedEvent.of(updated, podcast.getCategory()));
 
         return mapToPodcastDetailResponse(updated);
     }
@@ -103,10 +136,10 @@ public class PodcastServiceImpl implements PodcastService {
 
         validatePodcastCanBePublished(podcast);
 
-        podcast.setPodcastStatus(PodcastStatus.PUBLISHED);
-        podcast.setPublishedAt(getCurrentUtcDate());
-
-        Podcast updated = podcastRepository.save(podcast);
+        Podcast updated = updatePodcast(podcastId, new Update()
+                .set("podcastStatus", PodcastStatus.PUBLISHED)
+                .set("publishedAt", getCurrentUtcDate()));
+        eventPublisher.publishEvent(PodcastChangedEvent.of(updated));
         return mapToPodcastDetailResponse(updated);
     }
 
@@ -116,10 +149,10 @@ public class PodcastServiceImpl implements PodcastService {
         Podcast podcast = lookupService.getPodcastById(podcastId);
         authValidationService.validateOwnership(podcast, userId);
 
-        podcast.setPodcastStatus(PodcastStatus.ARCHIVED);
-        podcast.setPublishedAt(null);
-
-        Podcast updated = podcastRepository.save(podcast);
+        Podcast updated = updatePodcast(podcastId, new Update()
+                .set("podcastStatus", PodcastStatus.ARCHIVED)
+                .set("publishedAt", null));
+        eventPublisher.publishEvent(PodcastChangedEvent.of(updated));
         return mapToPodcastDetailResponse(updated);
     }
 
@@ -134,17 +167,42 @@ public class PodcastServiceImpl implements PodcastService {
     // ==================== PUBLIC PODCAST DISCOVERY ====================
 
     @Override
+    @Cacheable(cacheNames = PublicCatalogCaches.PODCASTS,
+            key = "T(dev.berlinbruno.PodPirateBackendApplication.cache.PublicCatalogCaches).listingKey(#query, #category, #page, #size)")
     public Page<PodcastPublicResponse> getAllPublishedPodcasts(String query, String category, int page, int size) {
         Page<Podcast> podcasts = lookupService.searchPodcasts(
                 null, category, null, PodcastStatus.PUBLISHED, EpisodeStatus.PUBLISHED,
                 query, null, null, page, size);
-        return podcasts.map(this::mapToPodcastPublicResponse);
+        Map<String, AppUser> creators = loadCreators(podcasts);
+        return podcasts.map(podcast -> mapToPodcastPublicResponse(podcast, creators));
     }
 
     @Override
-    public PodcastPublicDetailResponse getPublishedPodcastDetailsById(String podcastId) {
+    public SearchPage<PodcastPublicResponse> searchPublishedPodcasts(String query, String category, int page, int size) {
+        SearchPage<Podcast> podcasts = lookupService.searchPodcastsWithFacets(
+                null, category, null, PodcastStatus.PUBLISHED, EpisodeStatus.PUBLISHED, query,
+                Set.of(PodcastFacet.CATEGORY), LookupService.SORT_PUBLISHED_AT, page, size);
+        Map<String, AppUser> creators = loadCreators(podcasts.getContent());
+        return podcasts.map(podcast -> mapToPodcastPublicResponse(podcast, creators));
+    }
+
+    @Override
+    public CursorPage<PodcastPublicResponse> scrollPublishedPodcasts(String query, String category,
+                                                                     String cursor, int size, boolean includeTotal) {
+        CursorPage<Podcast> podcasts = lookupService.scrollPodcasts(
+                null, category, null, PodcastStatus.PUBLISHED, EpisodeStatus.PUBLISHED, query,
+                LookupService.SORT_PUBLISHED_AT, cursor, size, includeTotal);
+        Map<String, AppUser> creators = loadCreators(podcasts.getContent());
+        return podcasts.map(podcast -> mapToPodcastPublicResponse(podcast, creators));
+    }
+
+    @Override
+    @Cacheable(cacheNames = PublicCatalogCaches.PODCAST, condition = "#version != null",
+            key = "T(dev.berlinbruno.PodPirateBackendApplication.cache.PublicCatalogCaches).versionedKey(#podcastId, #version)")
+    public PodcastPublicDetailResponse getPublishedPodcastDetailsById(String podcastId, CatalogVersion version) {
         Podcast podcast = lookupService.getPublishedPodcastById(podcastId);
-        return mapToPodcastPublicDetailResponse(podcast);
+        Map<String, AppUser> creators = lookupService.getCreatorsByIds(List.of(podcast.getUserId()));
+        return mapToPodcastPublicDetailResponse(podcast, creators);
     }
 
     @Override
@@ -152,24 +210,28 @@ public class PodcastServiceImpl implements PodcastService {
         Page<Podcast> podcasts = lookupService.searchPodcasts(
                 userId, null, null, PodcastStatus.PUBLISHED, EpisodeStatus.PUBLISHED,
                 null, null, null, page, size);
-        return podcasts.map(this::mapToPodcastPublicResponse);
+        Map<String, AppUser> creators = loadCreators(podcasts);
+        return podcasts.map(podcast -> mapToPodcastPublicResponse(podcast, creators));
     }
 
     @Override
-    public List<String> getAllPublishedPodcastIds() {
-        List<Podcast> podcasts = podcastRepository.findAllIdsByPodcastStatus(PodcastStatus.PUBLISHED);
+    public List<PodcastPublicResponse> getTrendingPodcasts(String category, int size) {
+        List<String> podcastIds = playbackService.getTrendingPodcastIds(category, size);
+        List<Podcast> podcasts = lookupService.getPublishedPodcastsByIds(podcastIds);
+        Map<String, AppUser> creators = loadCreators(podcasts);
         return podcasts.stream()
-                .map(Podcast::getId)
+                .map(podcast -> mapToPodcastPublicResponse(podcast, creators))
                 .toList();
     }
 
     @Override
-    public List<String> getAllCreatorIdsWithPublishedPodcasts() {
-        List<Podcast> podcasts = podcastRepository.findAllUserIdsByPodcastStatus(PodcastStatus.PUBLISHED);
-        return podcasts.stream()
-                .map(Podcast::getUserId)
-                .distinct()
-                .toList();
+    public Stream<String> streamPublishedPodcastIds(Date updatedSince) {
+        return lookupService.streamPublishedPodcastIds(updatedSince);
+    }
+
+    @Override
+    public Stream<String> streamCreatorIdsWithPublishedPodcasts(Date updatedSince) {
+        return lookupService.streamPublishedCreatorIds(updatedSince);
     }
 
     // ==================== VALIDATION HELPERS ====================
@@ -191,10 +253,15 @@ public class PodcastServiceImpl implements PodcastService {
     }
 
     private boolean hasPublishedEpisodes(Podcast podcast) {
-        return podcast.getEpisodes() != null &&
-               !podcast.getEpisodes().isEmpty() &&
-               podcast.getEpisodes().stream()
-                       .anyMatch(episode -> episode.getEpisodeStatus() == EpisodeStatus.PUBLISHED);
+        return episodeRepository.existsByPodcastIdAndEpisodeStatus(podcast.getId(), EpisodeStatus.PUBLISHED);
+    }
+
+    private AppUser getCreatorOrThrow(Map<String, AppUser> creators, String userId) {
+        AppUser creator = creators.get(userId);
+        if (creator == null) {
+            throw new NotFoundException(buildGeneralResponse(HttpStatus.NOT_FOUND, AppMessage.USER_NOT_FOUND));
+        }
+        return creator;
     }
 
     private ForbiddenException buildForbiddenException(AppMessage message) {
@@ -217,19 +284,38 @@ public class PodcastServiceImpl implements PodcastService {
                 .build();
     }
 
-    private void applyPodcastUpdates(Podcast podcast, UpdatePodcastRequest updateRequest) {
+    private Update buildPodcastUpdate(Podcast podcast, UpdatePodcastRequest updateRequest) {
+        Update update = new Update();
         if (updateRequest.getTitle() != null) {
-            podcast.setTitle(updateRequest.getTitle());
+            update.set("title", updateRequest.getTitle());
         }
         if (updateRequest.getDescription() != null) {
-            podcast.setDescription(updateRequest.getDescription());
+            update.set("description", updateRequest.getDescription());
         }
         if (updateRequest.getCategory() != null) {
-            podcast.setCategory(updateRequest.getCategory().toLowerCase());
+            update.set("category", updateRequest.getCategory().toLowerCase());
         }
 
-        updateMediaUrlIfPresent(updateRequest.getCoverUrl(), podcast.getCoverUrl(), podcast::setCoverUrl);
-        updateMediaUrlIfPresent(updateRequest.getBannerUrl(), podcast.getBannerUrl(), podcast::setBannerUrl);
+        updateMediaUrlIfPresent(updateRequest.getCoverUrl(), podcast.getCoverUrl(), url -> update.set("coverUrl", url));
+        updateMediaUrlIfPresent(updateRequest.getBannerUrl(), podcast.getBannerUrl(), url -> update.set("bannerUrl", url));
+        return update;
+    }
+
+    /**
+     * Writes only the edited fields and returns the updated podcast. Whole-document saves would write
+     * back stale copies of the episode aggregates and counter, which are maintained with {@code $inc}.
+     */
+    private Podcast updatePodcast(String podcastId, Update update) {
+        update.currentDate("lastModifiedAt");
+        Podcast updated = mongoTemplate.findAndModify(
+                new Query(Criteria.where("_id").is(podcastId)),
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                Podcast.class);
+        if (updated == null) {
+            throw new NotFoundException(buildGeneralResponse(HttpStatus.NOT_FOUND, AppMessage.PODCAST_NOT_FOUND));
+        }
+        return updated;
     }
 
     private void updateMediaUrlIfPresent(String newUrl, String currentUrl, Consumer<String> setter) {
@@ -249,29 +335,21 @@ public class PodcastServiceImpl implements PodcastService {
         return Date.from(OffsetDateTime.now(ZoneOffset.UTC).toInstant());
     }
 
-    private List<Episode> getEpisodesOrEmpty(Podcast podcast) {
-        return Optional.ofNullable(podcast.getEpisodes()).orElse(Collections.emptyList());
-    }
-
-    private long countPublishedEpisodes(List<Episode> episodes) {
-        return episodes.stream()
-                .filter(e -> e.getEpisodeStatus() == EpisodeStatus.PUBLISHED)
-                .count();
+    private Map<String, AppUser> loadCreators(Page<Podcast> podcasts) {
+        return loadCreators(podcasts.getContent());
     }
 
-    private Date findLastPublishedEpisodeDate(List<Episode> episodes) {
-        return episodes.stream()
-                .filter(e -> e.getEpisodeStatus() == EpisodeStatus.PUBLISHED)
-                .map(Episode::getPublishedAt)
-                .max(Date::compareTo)
-                .orElse(null);
+    private Map<String, AppUser> loadCreators(List<Podcast> podcasts) {
+        List<String> userIds = podcasts.stream()
+                .map(Podcast::getUserId)
+                .distinct()
+                .toList();
+        return lookupService.getCreatorsByIds(userIds);
     }
 
     // ==================== MAPPER METHODS - USER ====================
 
     private PodcastResponse mapToPodcastResponse(Podcast podcast) {
-        List<Episode> episodes = getEpisodesOrEmpty(podcast);
-
         return PodcastResponse.builder()
                 .podcastId(podcast.getId())
                 .title(podcast.getTitle())
@@ -279,14 +357,14 @@ public class PodcastServiceImpl implements PodcastService {
                 .coverUrl(mediaService.getDownloadUrl(podcast.getCoverUrl()))
                 .podcastStatus(podcast.getPodcastStatus())
                 .isFlagged(podcast.isFlagged())
-                .episodeCount(episodes.size())
+                .episodeCount(podcast.getTotalEpisodeCount())
                 .publishedDate(podcast.getPublishedAt())
-                .lastEpisodeDate(findLastPublishedEpisodeDate(episodes))
+                .lastEpisodeDate(podcast.getLastEpisodePublishedAt())
                 .build();
     }
 
     private PodcastDetailResponse mapToPodcastDetailResponse(Podcast podcast) {
-        List<Episode> episodes = getEpisodesOrEmpty(podcast);
+        PodcastSizeTag.record(podcast.getTotalEpisodeCount());
 
         return PodcastDetailResponse.builder()
                 .podcastId(podcast.getId())
@@ -296,20 +374,19 @@ public class PodcastServiceImpl implements PodcastService {
                 .podcastStatus(podcast.getPodcastStatus())
                 .coverUrl(mediaService.getDownloadUrl(podcast.getCoverUrl()))
                 .bannerUrl(mediaService.getDownloadUrl(podcast.getBannerUrl()))
-                .episodeCount(episodes.size())
+                .episodeCount(podcast.getTotalEpisodeCount())
                 .createdDate(podcast.getCreatedAt())
                 .updatedDate(podcast.getLastModifiedAt())
                 .publishedDate(podcast.getPublishedAt())
-                .lastEpisodeDate(findLastPublishedEpisodeDate(episodes))
+                .lastEpisodeDate(podcast.getLastEpisodePublishedAt())
                 .isFlagged(podcast.isFlagged())
                 .build();
     }
 
     // ==================== MAPPER METHODS - PUBLIC ====================
 
-    private PodcastPublicResponse mapToPodcastPublicResponse(Podcast podcast) {
-        AppUser creator = lookupService.getById(podcast.getUserId());
-        List<Episode> episodes = getEpisodesOrEmpty(podcast);
+    private PodcastPublicResponse mapToPodcastPublicResponse(Podcast podcast, Map<String, AppUser> creators) {
+        AppUser creator = getCreatorOrThrow(creators, podcast.getUserId());
 
         return PodcastPublicResponse.builder()
                 .podcastId(podcast.getId())
@@ -320,15 +397,15 @@ public class PodcastServiceImpl implements PodcastService {
                 .category(podcast.getCategory())
                 .coverUrl(mediaService.getDownloadUrl(podcast.getCoverUrl()))
                 .bannerUrl(mediaService.getDownloadUrl(podcast.getBannerUrl()))
-                .episodeCount(countPublishedEpisodes(episodes))
+                .episodeCount(podcast.getPublishedEpisodeCount())
                 .publishedDate(podcast.getPublishedAt())
-                .lastEpisodeDate(findLastPublishedEpisodeDate(episodes))
+                .lastEpisodeDate(podcast.getLastEpisodePublishedAt())
                 .build();
     }
 
-    private PodcastPublicDetailResponse mapToPodcastPublicDetailResponse(Podcast podcast) {
-        AppUser creator = lookupService.getById(podcast.getUserId());
-        List<Episode> episodes = getEpisodesOrEmpty(podcast);
+    private PodcastPublicDetailResponse mapToPodcastPublicDetailResponse(Podcast podcast, Map<String, AppUser> creators) {
+        AppUser creator = getCreatorOrThrow(creators, podcast.getUserId());
+        PodcastSizeTag.record(podcast.getPublishedEpisodeCount());
 
         return PodcastPublicDetailResponse.builder()
                 .podcastId(podcast.getId())
@@ -340,9 +417,9 @@ public class PodcastServiceImpl implements PodcastService {
                 .category(podcast.getCategory())
                 .coverUrl(mediaService.getDownloadUrl(podcast.getCoverUrl()))
                 .bannerUrl(mediaService.getDownloadUrl(podcast.getBannerUrl()))
-                .episodeCount(countPublishedEpisodes(episodes))
+                .episodeCount(podcast.getPublishedEpisodeCount())
                 .publishedDate(podcast.getPublishedAt())
-                .lastEpisodeDate(findLastPublishedEpisodeDate(episodes))
+                .lastEpisodeDate(podcast.getLastEpisodePublishedAt())
                 .build();
     }
 }
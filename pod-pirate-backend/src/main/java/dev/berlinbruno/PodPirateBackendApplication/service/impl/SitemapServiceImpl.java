@@ -0,0 +1,435 @@
+package dev.berlinbruno.PodPirateBackendApplication.service.impl;
+
+import dev.berlinbruno.PodPirateBackendApplication.dto.GeneralResponse;
+import dev.berlinbruno.PodPirateBackendApplication.event.CreatorChangedEvent;
+import dev.berlinbruno.PodPirateBackendApplication.event.EpisodesChangedEvent;
+import dev.berlinbruno.PodPirateBackendApplication.event.PodcastChangedEvent;
+import dev.berlinbruno.PodPirateBackendApplication.exception.NotFoundException;
+import dev.berlinbruno.PodPirateBackendApplication.exception.ResourceUnavailableException;
+import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
+import dev.berlinbruno.PodPirateBackendApplication.properties.FrontendProperties;
+import dev.berlinbruno.PodPirateBackendApplication.properties.SitemapProperties;
+import dev.berlinbruno.PodPirateBackendApplication.service.SitemapService;
+import dev.berlinbruno.PodPirateBackendApplication.types.AppMessage;
+import dev.berlinbruno.PodPirateBackendApplication.types.PodcastStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Sitemap built from the podcast collection alone.
+ * <p>
+ * Podcast URLs carry the podcast's lastModifiedAt (moved by every podcast and episode change) or its
+ * last episode publication, whichever is later; creator URLs carry the latest change of any of the
+ * creator's published podcasts. Episode documents are never read, so a full build is one pass over
+ * the podcasts.
+ * <p>
+ * Each family (podcasts, creators) is split into segments of at most {@code sitemap.segment-size}
+ * URLs by ID range. Catalog events mark the IDs they touch; {@link #refreshChangedSegments()}
+ * regenerates only the segments containing them, splitting a segment that outgrew the limit and
+ * dropping one that became empty. New IDs sort after existing ones, so growth lands in the last
+ * segment. Segments are kept rendered, with an ETag, so serving one is a memory read.
+ * <p>
+ * Events only cover changes made through this node; the periodic full rebuild picks up the rest.
+ * Requests never build: until the first build completes the index answers 503 with Retry-After.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SitemapServiceImpl implements SitemapService {
+
+    private static final String XML_HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n";
+    private static final String NAMESPACE = "http://www.sitemaps.org/schemas/sitemap/0.9";
+    // Sorts before every ID, so the first segment of a family always covers the lowest IDs
+    private static final String FIRST_SEGMENT_START = "";
+    private static final int CURSOR_BATCH_SIZE = 2000;
+    private static final Duration BUILD_RETRY_AFTER = Duration.ofSeconds(30);
+
+    private final MongoTemplate mongoTemplate;
+    private final SitemapProperties properties;
+    private final FrontendProperties frontendProperties;
+    private final TaskExecutor taskExecutor;
+
+    private final Set<String> changedPodcastIds = ConcurrentHashMap.newKeySet();
+    private final Set<String> changedCreatorIds = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock buildLock = new ReentrantLock();
+
+    private volatile Family podcasts;
+    private volatile Family creators;
+    private volatile Map<String, Segment> segmentsByName = Map.of();
+
+    private record Entry(String id, Date lastModified) {
+    }
+
+    private record Segment(String name, byte[] xml, String etag, long lastModified) {
+    }
+
+    /**
+     * Segments of one family keyed by the first ID of their range. Replaced, never mutated, once published.
+     */
+    private record Family(String name, NavigableMap<String, Segment> segments, int nextNumber) {
+    }
+
+    @FunctionalInterface
+    private interface EntryLoader {
+        Stream<Entry> load(String fromId, String toId);
+    }
+
+    // ==================== LIFECYCLE ====================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildInBackground() {
+        if (properties.enabled()) {
+            taskExecutor.execute(this::rebuild);
+        }
+    }
+
+    @Override
+    @Scheduled(cron = "${sitemap.rebuild-cron:0 0 * * * *}")
+    public void rebuild() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        buildLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            // Changes arriving from here on are refreshed again afterwards, which is harmless
+            changedPodcastIds.clear();
+            changedCreatorIds.clear();
+
+            podcasts = buildFamily("podcasts", this::loadPodcastEntries, properties.podcastPath());
+            creators = buildFamily("creators", this::loadCreatorEntries, properties.creatorPath());
+            publishNames();
+
+            log.info("Sitemap built: {} podcast and {} creator segments in {} ms",
+                    podcasts.segments().size(), creators.segments().size(), System.currentTimeMillis() - start);
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    @Override
+    @Scheduled(
+            initialDelayString = "${sitemap.refresh-delay-millis:5000}",
+            fixedDelayString = "${sitemap.refresh-delay-millis:5000}")
+    public int refreshChangedSegments() {
+        if (podcasts == null || (changedPodcastIds.isEmpty() && changedCreatorIds.isEmpty())) {
+            return 0;
+        }
+
+        // A running rebuild covers these changes or leaves them marked for the next run
+        if (!buildLock.tryLock()) {
+            return 0;
+        }
+        try {
+            int refreshed = 0;
+            Set<String> podcastStarts = drainToSegmentStarts(changedPodcastIds, podcasts);
+            for (String startId : podcastStarts) {
+                podcasts = regenerate(podcasts, startId, this::loadPodcastEntries, properties.podcastPath());
+                refreshed++;
+            }
+            Set<String> creatorStarts = drainToSegmentStarts(changedCreatorIds, creators);
+            for (String startId : creatorStarts) {
+                creators = regenerate(creators, startId, this::loadCreatorEntries, properties.creatorPath());
+                refreshed++;
+            }
+            publishNames();
+
+            log.debug("Sitemap refreshed {} segments", refreshed);
+            return refreshed;
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    // ==================== EVENTS ====================
+
+    @EventListener
+    public void onPodcastChanged(PodcastChangedEvent event) {
+        changedPodcastIds.add(event.podcastId());
+        if (event.userId() != null) {
+            changedCreatorIds.add(event.userId());
+        }
+    }
+
+    @EventListener
+    public void onEpisodesChanged(EpisodesChangedEvent event) {
+        // Episode changes move the podcast's lastmod; the creator's follows on the next full build
+        changedPodcastIds.add(event.podcastId());
+    }
+
+    @EventListener
+    public void onCreatorChanged(CreatorChangedEvent event) {
+        changedCreatorIds.add(event.userId());
+    }
+
+    // ==================== SERVING ====================
+
+    @Override
+    public SitemapDocument getIndex(String segmentBaseUrl) {
+        if (!properties.enabled()) {
+            throw sitemapNotFound();
+        }
+        Family podcastFamily = podcasts;
+        Family creatorFamily = creators;
+        if (podcastFamily == null || creatorFamily == null) {
+            throw sitemapNotBuilt();
+        }
+
+        StringBuilder xml = new StringBuilder(XML_HEADER)
+                .append("<sitemapindex xmlns=\"").append(NAMESPACE).append("\">\n");
+        long lastModified = -1;
+        for (Family family : List.of(podcastFamily, creatorFamily)) {
+            for (Segment segment : family.segments().values()) {
+                xml.append("<sitemap><loc>").append(escape(segmentBaseUrl + "/" + segment.name() + ".xml")).append("</loc>");
+                if (segment.lastModified() > 0) {
+                    xml.append("<lastmod>").append(formatDate(new Date(segment.lastModified()))).append("</lastmod>");
+                }
+                xml.append("</sitemap>\n");
+                lastModified = Math.max(lastModified, segment.lastModified());
+            }
+        }
+        xml.append("</sitemapindex>\n");
+
+        byte[] content = xml.toString().getBytes(StandardCharsets.UTF_8);
+        return new SitemapDocument(content, etag(content), lastModified);
+    }
+
+    @Override
+    public SitemapDocument getSegment(String name) {
+        Segment segment = segmentsByName.get(name);
+        if (segment == null) {
+            throw sitemapNotFound();
+        }
+        return new SitemapDocument(segment.xml(), segment.etag(), segment.lastModified());
+    }
+
+    private NotFoundException sitemapNotFound() {
+        AppMessage message = AppMessage.SITEMAP_NOT_FOUND;
+        return new NotFoundException(new GeneralResponse(
+                HttpStatus.NOT_FOUND, message.getCode(), message.getMessage(), message.getDetail()));
+    }
+
+    private ResourceUnavailableException sitemapNotBuilt() {
+        AppMessage message = AppMessage.SITEMAP_NOT_BUILT;
+        return new ResourceUnavailableException(new GeneralResponse(
+                HttpStatus.SERVICE_UNAVAILABLE, message.getCode(), message.getMessage(), message.getDetail()),
+                BUILD_RETRY_AFTER);
+    }
+
+    // ==================== SEGMENTS ====================
+
+    private Family buildFamily(String name, EntryLoader loader, String path) {
+        NavigableMap<String, Segment> segments = new TreeMap<>();
+        int number = 0;
+
+        try (Stream<Entry> entries = loader.load(null, null)) {
+            List<Entry> chunk = new ArrayList<>();
+            Iterator<Entry> iterator = entries.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == properties.segmentSize() || !iterator.hasNext()) {
+                    String startId = number == 0 ? FIRST_SEGMENT_START : chunk.get(0).id();
+                    segments.put(startId, render(name + "-" + number++, chunk, path));
+                    chunk = new ArrayList<>();
+                }
+            }
+        }
+
+        if (segments.isEmpty()) {
+            segments.put(FIRST_SEGMENT_START, render(name + "-" + number++, List.of(), path));
+        }
+        return new Family(name, Collections.unmodifiableNavigableMap(segments), number);
+    }
+
+    /**
+     * Reloads one segment's ID range. An overfull result is split into new segments; an empty one
+     * is dropped so its range falls to the previous segment (the first segment is always kept).
+     */
+    private Family regenerate(Family family, String startId, EntryLoader loader, String path) {
+        Segment current = family.segments().get(startId);
+        if (current == null) {
+            return family;
+        }
+
+        String endId = family.segments().higherKey(startId);
+        List<Entry> entries;
+        try (Stream<Entry> stream = loader.load(startId, endId)) {
+            entries = stream.toList();
+        }
+
+        NavigableMap<String, Segment> segments = new TreeMap<>(family.segments());
+        int nextNumber = family.nextNumber();
+
+        if (entries.isEmpty() && !FIRST_SEGMENT_START.equals(startId)) {
+            segments.remove(startId);
+        } else {
+            int size = properties.segmentSize();
+            segments.put(startId, render(current.name(), entries.subList(0, Math.min(size, entries.size())), path));
+            for (int from = size; from < entries.size(); from += size) {
+                List<Entry> chunk = entries.subList(from, Math.min(from + size, entries.size()));
+                String chunkStart = chunk.get(0).id();
+                segments.put(chunkStart, render(family.name() + "-" + nextNumber++, chunk, path));
+            }
+        }
+
+        return new Family(family.name(), Collections.unmodifiableNavigableMap(segments), nextNumber);
+    }
+
+    private Set<String> drainToSegmentStarts(Set<String> changedIds, Family family) {
+        Set<String> starts = new TreeSet<>();
+        for (Iterator<String> iterator = changedIds.iterator(); iterator.hasNext(); ) {
+            String id = iterator.next();
+            iterator.remove();
+            starts.add(family.segments().floorKey(id));
+        }
+        return starts;
+    }
+
+    private void publishNames() {
+        Map<String, Segment> names = new HashMap<>();
+        for (Family family : List.of(podcasts, creators)) {
+            family.segments().values().forEach(segment -> names.put(segment.name(), segment));
+        }
+        segmentsByName = Map.copyOf(names);
+    }
+
+    // ==================== LOADING ====================
+
+    /**
+     * Published podcasts with IDs in [fromId, toId), in ID order. Null bounds are open.
+     */
+    private Stream<Entry> loadPodcastEntries(String fromId, String toId) {
+        Criteria criteria = Criteria.where("podcastStatus").is(PodcastStatus.PUBLISHED.name());
+        Criteria idRange = idRange("_id", fromId, toId, true);
+        if (idRange != null) {
+            criteria = new Criteria().andOperator(criteria, idRange);
+        }
+
+        Query query = new Query(criteria).with(Sort.by(Sort.Direction.ASC, "_id"));
+        query.fields().include("lastModifiedAt", "lastEpisodePublishedAt");
+        query.cursorBatchSize(CURSOR_BATCH_SIZE);
+
+        return mongoTemplate.stream(query, Document.class, mongoTemplate.getCollectionName(Podcast.class))
+                .map(document -> new Entry(document.get("_id").toString(), latest(
+                        document.getDate("lastModifiedAt"), document.getDate("lastEpisodePublishedAt"))));
+    }
+
+    /**
+     * Creators with published podcasts and IDs in [fromId, toId), grouped by the database, in ID order.
+     */
+    private Stream<Entry> loadCreatorEntries(String fromId, String toId) {
+        Criteria criteria = Criteria.where("podcastStatus").is(PodcastStatus.PUBLISHED.name());
+        Criteria idRange = idRange("userId", fromId, toId, false);
+        if (idRange != null) {
+            criteria = new Criteria().andOperator(criteria, idRange);
+        }
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                        Aggregation.match(criteria),
+                        Aggregation.group("userId").max("lastModifiedAt").as("lastModifiedAt"),
+                        Aggregation.sort(Sort.Direction.ASC, "_id"))
+                .withOptions(AggregationOptions.builder()
+                        .allowDiskUse(true)
+                        .cursorBatchSize(CURSOR_BATCH_SIZE)
+                        .build());
+
+        return mongoTemplate.aggregateStream(aggregation, mongoTemplate.getCollectionName(Podcast.class), Document.class)
+                .filter(document -> document.get("_id") != null)
+                .map(document -> new Entry(document.get("_id").toString(), document.getDate("lastModifiedAt")));
+    }
+
+    private Criteria idRange(String field, String fromId, String toId, boolean objectIds) {
+        boolean hasFrom = fromId != null && !fromId.isEmpty();
+        if (!hasFrom && toId == null) {
+            return null;
+        }
+
+        Function<String, Object> value = id -> objectIds && ObjectId.isValid(id) ? new ObjectId(id) : id;
+        Criteria range = Criteria.where(field);
+        if (hasFrom) {
+            range.gte(value.apply(fromId));
+        }
+        if (toId != null) {
+            range.lt(value.apply(toId));
+        }
+        return range;
+    }
+
+    // ==================== RENDERING ====================
+
+    private Segment render(String name, List<Entry> entries, String path) {
+        String prefix = frontendProperties.baseUrl() + path;
+        StringBuilder xml = new StringBuilder(128 + entries.size() * 128)
+                .append(XML_HEADER)
+                .append("<urlset xmlns=\"").append(NAMESPACE).append("\">\n");
+
+        long lastModified = -1;
+        for (Entry entry : entries) {
+            xml.append("<url><loc>").append(escape(prefix + entry.id())).append("</loc>");
+            if (entry.lastModified() != null) {
+                xml.append("<lastmod>").append(formatDate(entry.lastModified())).append("</lastmod>");
+                lastModified = Math.max(lastModified, entry.lastModified().getTime());
+            }
+            xml.append("</url>\n");
+        }
+        xml.append("</urlset>\n");
+
+        byte[] content = xml.toString().getBytes(StandardCharsets.UTF_8);
+        return new Segment(name, content, etag(content), lastModified);
+    }
+
+    private String etag(byte[] content) {
+        return "\"" + DigestUtils.md5DigestAsHex(content) + "\"";
+    }
+
+    private String formatDate(Date date) {
+        return date.toInstant().truncatedTo(ChronoUnit.SECONDS).toString();
+    }
+
+    private Date latest(Date first, Date second) {
+        if (first == null) return second;
+        if (second == null) return first;
+        return first.after(second) ? first : second;
+    }
+
+    private String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> escaped.append("&amp;");
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '"' -> escaped.append("&quot;");
+                case '\'' -> escaped.append("&apos;");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,90 @@
+package dev.berlinbruno.PodPirateBackendApplication.service.impl;
+
+import dev.berlinbruno.PodPirateBackendApplication.model.AppUser;
+import dev.berlinbruno.PodPirateBackendApplication.properties.TokenRevocationProperties;
+import dev.berlinbruno.PodPirateBackendApplication.service.TokenRevocationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Version-based token revocation backed by a bounded, short-lived cache.
+ * <p>
+ * On a miss only the user's {@code securityVersion} is read from Mongo. Saves and deletes made by
+ * this instance update the cache immediately; changes made by other instances are picked up once the
+ * entry expires. A token newer than the cached version forces a reload, so freshly issued tokens are
+ * never rejected by a stale entry.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationServiceImpl extends AbstractMongoEventListener<AppUser> implements TokenRevocationService {
+
+    private static final long DELETED = -1;
+
+    private final MongoTemplate mongoTemplate;
+    private final TokenRevocationProperties properties;
+
+    private final Map<String, CachedVersion> versions = new ConcurrentHashMap<>();
+
+    private record CachedVersion(long version, long expiresAt) {
+    }
+
+    @Override
+    public boolean isRevoked(String userId, long tokenVersion) {
+        long now = System.nanoTime();
+        CachedVersion cached = versions.get(userId);
+        if (cached == null || cached.expiresAt() - now <= 0
+                || (cached.version() != DELETED && tokenVersion > cached.version())) {
+            cached = cache(userId, loadVersion(userId), now);
+        }
+        return cached.version() == DELETED || cached.version() != tokenVersion;
+    }
+
+    // ==================== CACHE MAINTENANCE ====================
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<AppUser> event) {
+        AppUser user = event.getSource();
+        if (user.getId() != null) {
+            cache(user.getId(), user.getSecurityVersion(), System.nanoTime());
+        }
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<AppUser> event) {
+        Object id = event.getSource().get("_id");
+        if (id != null) {
+            cache(id.toString(), DELETED, System.nanoTime());
+        }
+    }
+
+    private long loadVersion(String userId) {
+        Query query = new Query(Criteria.where("_id").is(userId));
+        query.fields().include("securityVersion");
+        AppUser user = mongoTemplate.findOne(query, AppUser.class);
+        return user == null ? DELETED : user.getSecurityVersion();
+    }
+
+    private CachedVersion cache(String userId, long version, long now) {
+        if (versions.size() >= properties.cacheSize() && !versions.containsKey(userId)) {
+            // Entries are cheap to reload; dropping everything keeps memory bounded without LRU bookkeeping.
+            log.debug("Token revocation cache reached {} entries, clearing", versions.size());
+            versions.clear();
+        }
+        CachedVersion entry = new CachedVersion(version,
+                now + TimeUnit.SECONDS.toNanos(properties.cacheTtlSeconds()));
+        versions.put(userId, entry);
+        return entry;
+    }
+}
@@ -45,7 +45,7 @@ public enum AppMessage {
     EPISODE_CREATED("EPISODE_CREATED", "Episode creation successful", "A new episode has been successfully added to the podcast."),
     EPISODE_UPDATED("EPISODE_UPDATED", "Episode update successful", "The episode has been successfully updated."),
     EPISODE_DELETED("EPISODE_DELETED", "Episode successfully deleted", "The episode has been successfully removed from the podcast."),
-    EPISODE_NOT_FOUND("EPISODE_NOT_FOUND", "Episode not found in the podcast", "No episode exists at the given index"),
+    EPISODE_NOT_FOUND("EPISODE_NOT_FOUND", "Episode not found in the podcast", "No episode exists with the given ID"),
     EPISODE_FORBIDDEN_TO_PUBLISH("EPISODE_FORBIDDEN_TO_PUBLISH", "You don't have permission to publish this episode", "Episode publishing is restricted due to content violations or account status"),
     EPISODE_MISSING_ASSETS("EPISODE_MISSING_ASSETS", "Episode is missing required assets", "Please ensure all necessary assets are uploaded before publishing"),
     EPISODE_MISSING_AUDIO("EPISODE_MISSING_AUDIO", "Episode audio is missing", "Please upload an audio file before publishing the episode."),
@@ -68,11 +68,24 @@ public enum AppMessage {
 
     // File Upload Messages
     FILE_UPLOAD_INCOMPLETE("FILE_UPLOAD_INCOMPLETE", "The file upload appears to be incomplete or the file is not available yet", "Please try again later or re-upload the file"),
+    FILE_NOT_FOUND("FILE_NOT_FOUND", "File not found", "The file does not exist or has been deleted"),
+    FILE_TOO_LARGE("FILE_TOO_LARGE", "The file exceeds the maximum upload size", "Please upload a smaller file"),
+    FILE_RANGE_NOT_SATISFIABLE("FILE_RANGE_NOT_SATISFIABLE", "The requested range is outside the file", "Request a range within the file size"),
+    UPLOAD_CAPACITY_EXHAUSTED("UPLOAD_CAPACITY_EXHAUSTED", "Too many uploads are in progress", "Please retry the upload in a moment"),
+    SIGNED_URL_INVALID("SIGNED_URL_INVALID", "The signed URL is invalid or has expired", "Request a new URL for this file"),
+
+    // Statistics Messages
+    STATS_RANGE_INVALID("STATS_RANGE_INVALID", "The statistics date range is invalid", "Use a start date on or before the end date and a range within the allowed number of days"),
+
+    // Sitemap Messages
+    SITEMAP_NOT_FOUND("SITEMAP_NOT_FOUND", "Sitemap not found", "Fetch the sitemap index for the current list of sitemaps"),
+    SITEMAP_NOT_BUILT("SITEMAP_NOT_BUILT", "The sitemap is still being built", "Retry after the delay given in the Retry-After header"),
 
     // Token and Security Messages
     TOKEN_EXPIRED("TOKEN_EXPIRED", "The provided token has expired", "Please obtain a new token by re-authenticating or contact support if the issue persists"),
     TOKEN_INVALID("TOKEN_INVALID", "The provided token is invalid or malformed", "Ensure you are using a valid token. Re-authenticate or contact support if the issue persists"),
     INVALID_REQUEST("INVALID_REQUEST", "Invalid request parameters", "Please check your request parameters and try again"),
+    INVALID_CURSOR("INVALID_CURSOR", "The pagination cursor is invalid", "Restart pagination without a cursor"),
     INTERNAL_SERVER_ERROR("INTERNAL_SERVER_ERROR", "An unexpected error occurred", "Please try again later or contact support if the issue persists"),
     MISSING_REQUEST_PARAMETER("MISSING_REQUEST_PARAMETER", "A required request parameter is missing", "Please ensure all required parameters are included in your request");
 
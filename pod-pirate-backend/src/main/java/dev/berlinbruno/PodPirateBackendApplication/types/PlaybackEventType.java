@@ -0,0 +1,6 @@
+package dev.berlinbruno.PodPirateBackendApplication.types;
+
+public enum PlaybackEventType {
+    PLAY,
+    HEARTBEAT
+}
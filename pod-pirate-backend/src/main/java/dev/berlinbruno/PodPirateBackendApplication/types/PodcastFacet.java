@@ -0,0 +1,6 @@
+package dev.berlinbruno.PodPirateBackendApplication.types;
+
+public enum PodcastFacet {
+    CATEGORY,
+    STATUS
+}
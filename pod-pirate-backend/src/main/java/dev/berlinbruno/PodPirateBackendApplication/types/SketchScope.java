@@ -0,0 +1,7 @@
+package dev.berlinbruno.PodPirateBackendApplication.types;
+
+public enum SketchScope {
+    EPISODE,
+    PODCAST,
+    CREATOR
+}
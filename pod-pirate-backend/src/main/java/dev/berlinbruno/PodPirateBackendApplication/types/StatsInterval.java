@@ -0,0 +1,7 @@
+package dev.berlinbruno.PodPirateBackendApplication.types;
+
+public enum StatsInterval {
+    DAY,
+    WEEK,
+    MONTH
+}
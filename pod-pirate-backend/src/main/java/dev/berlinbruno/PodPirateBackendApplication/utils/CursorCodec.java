@@ -0,0 +1,59 @@
+package dev.berlinbruno.PodPirateBackendApplication.utils;
+
+import dev.berlinbruno.PodPirateBackendApplication.dto.GeneralResponse;
+import dev.berlinbruno.PodPirateBackendApplication.exception.InvalidResourceException;
+import dev.berlinbruno.PodPirateBackendApplication.types.AppMessage;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Encodes and decodes opaque keyset pagination cursors.
+ * A cursor captures the sort key and id of the last item of a slice as {@code <epochMillis>:<id>},
+ * Base64url encoded so clients treat it as an opaque token.
+ * <p>
+ * Cursors are not signed: decoding only checks that they are well formed. An edited cursor can only
+ * move the start of a slice, since the listing's own filters still apply to every page.
+ */
+public final class CursorCodec {
+
+    public record Cursor(Date sortValue, String id) {
+    }
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Date sortValue, String id) {
+        String raw = (sortValue != null ? sortValue.getTime() : "") + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            if (separator < 0 || separator == raw.length() - 1) {
+                throw invalidCursor();
+            }
+            String millis = raw.substring(0, separator);
+            Date sortValue = millis.isEmpty() ? null : new Date(Long.parseLong(millis));
+            return new Cursor(sortValue, raw.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor();
+        }
+    }
+
+    private static InvalidResourceException invalidCursor() {
+        return new InvalidResourceException(new GeneralResponse(
+                HttpStatus.BAD_REQUEST,
+                AppMessage.INVALID_CURSOR.getCode(),
+                AppMessage.INVALID_CURSOR.getMessage(),
+                AppMessage.INVALID_CURSOR.getDetail()
+        ));
+    }
+}
@@ -0,0 +1,70 @@
+package dev.berlinbruno.PodPirateBackendApplication.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Writes a stream of IDs to the response as it is read from the database, so memory use does not
+ * grow with the number of IDs. The output is either newline-delimited JSON (one string per line)
+ * or a single JSON array, chosen from the request's Accept header.
+ */
+public final class IdStreams {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int FLUSH_EVERY = 1000;
+
+    private IdStreams() {
+    }
+
+    /**
+     * NDJSON when the client explicitly accepts {@code application/x-ndjson}, otherwise a JSON array.
+     */
+    public static MediaType negotiate(String accept) {
+        if (accept != null) {
+            List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+            if (accepted.stream().anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype)) {
+                return MediaType.APPLICATION_NDJSON;
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * The database cursor is opened only when the body is written and closed when writing ends,
+     * including when the client disconnects.
+     */
+    public static StreamingResponseBody body(MediaType mediaType, Supplier<Stream<String>> ids) {
+        boolean ndjson = MediaType.APPLICATION_NDJSON.equalsTypeAndSubtype(mediaType);
+        return out -> {
+            try (Stream<String> stream = ids.get(); JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+                generator.setRootValueSeparator(new SerializedString(ndjson ? "\n" : ""));
+                if (!ndjson) {
+                    generator.writeStartArray();
+                }
+
+                int written = 0;
+                Iterator<String> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    generator.writeString(iterator.next());
+                    if (++written % FLUSH_EVERY == 0) {
+                        generator.flush();
+                    }
+                }
+
+                if (ndjson && written > 0) {
+                    generator.writeRaw('\n');
+                } else if (!ndjson) {
+                    generator.writeEndArray();
+                }
+            }
+        };
+    }
+}
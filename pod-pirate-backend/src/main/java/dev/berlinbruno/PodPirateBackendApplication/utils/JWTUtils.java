@@ -1,5 +1,7 @@
 package dev.berlinbruno.PodPirateBackendApplication.utils;
 
+import dev.berlinbruno.PodPirateBackendApplication.model.AppUser;
+import dev.berlinbruno.PodPirateBackendApplication.model.JwtPrincipal;
 import dev.berlinbruno.PodPirateBackendApplication.properties.JwtProperties;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
@@ -9,8 +11,11 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.function.Function;
 
 /**
@@ -21,6 +26,10 @@ import java.util.function.Function;
 @Component
 public class JWTUtils {
 
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_ROLES = "roles";
+    private static final String CLAIM_SECURITY_VERSION = "sv";
+
     private final long accessTokenExpirationMillis;
     private final long refreshTokenExpirationMillis;
     private final long verificationTokenExpirationMillis;
@@ -46,15 +55,19 @@ public class JWTUtils {
 
 
     /**
-     * Generates a JWT access token for the specified user details.
-     * The token includes the username, issued at timestamp, and expiration time.
+     * Generates a JWT access token for the specified user.
+     * The token includes the username, user ID, roles, security version, issued at timestamp, and expiration time,
+     * so requests can be authenticated from the token alone.
      *
-     * @param userDetails The details of the user for whom the token is generated.
+     * @param user The user for whom the token is generated.
      * @return A JWT token as a string.
      */
-    public String generateToken(UserDetails userDetails) {
+    public String generateToken(AppUser user) {
         return Jwts.builder()
-                .subject(userDetails.getUsername())
+                .subject(user.getUsername())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_ROLES, user.getRoles())
+                .claim(CLAIM_SECURITY_VERSION, user.getSecurityVersion())
                 .issuedAt(new Date(System.currentTimeMillis())) // Set the issue date to the current time
                 .expiration(new Date(System.currentTimeMillis() + accessTokenExpirationMillis)) // Set the expiration date (24 hours)
                 .signWith(key) // Sign the token with the predefined secret key
@@ -65,12 +78,13 @@ public class JWTUtils {
      * Generates a refresh token with additional claims for the specified user details.
      * The token includes custom claims, issued at timestamp, and expiration time.
      *
-     * @param userDetails The details of the user for whom the token is generated.
+     * @param user The user for whom the token is generated.
      * @return A JWT refresh token as a string.
      */
-    public String generateRefreshToken(UserDetails userDetails) {
+    public String generateRefreshToken(AppUser user) {
         return Jwts.builder()
-                .subject("#refresh" + userDetails.getUsername()) // Set the username as the subject of the token
+                .subject("#refresh" + user.getUsername()) // Set the username as the subject of the token
+                .claim(CLAIM_SECURITY_VERSION, user.getSecurityVersion())
                 .issuedAt(new Date(System.currentTimeMillis())) // Set the issue date to the current time
                 .expiration(new Date(System.currentTimeMillis() + refreshTokenExpirationMillis)) // Set the expiration date (24 hours)
                 .signWith(key) // Sign the token with the predefined secret key
@@ -103,6 +117,37 @@ public class JWTUtils {
         return extractClaims(token, Claims::getSubject); // Extract the subject (username) from the token
     }
 
+    /**
+     * Verifies the signature and expiry of a token and returns its claims.
+     *
+     * @param token The JWT token.
+     * @return The verified claims.
+     */
+    public Claims parseClaims(String token) {
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * Builds the authenticated principal from verified access token claims.
+     *
+     * @param claims Claims returned by {@link #parseClaims(String)}.
+     * @return The principal, or null if the claims are not from an access token carrying user claims.
+     */
+    public JwtPrincipal toPrincipal(Claims claims) {
+        String subject = claims.getSubject();
+        String userId = claims.get(CLAIM_USER_ID, String.class);
+        Long securityVersion = claims.get(CLAIM_SECURITY_VERSION, Long.class);
+        if (subject == null || subject.startsWith("#") || userId == null || securityVersion == null) {
+            return null;
+        }
+
+        Collection<?> roles = claims.get(CLAIM_ROLES, Collection.class);
+        Set<String> roleNames = roles == null ? Set.of() : roles.stream()
+                .map(String::valueOf)
+                .collect(Collectors.toUnmodifiableSet());
+        return new JwtPrincipal(userId, subject, roleNames, securityVersion);
+    }
+
     /**
      * Extracts specific claims from a JWT token using a provided function.
      * This function can be used to extract any claim, such as the expiration date or custom claims.
@@ -114,26 +159,32 @@ public class JWTUtils {
      */
     private <T> T extractClaims(String token, Function<Claims, T> claimsTFunction) {
         // Parse the token and apply the claimsExtractor function to retrieve the desired claim
-        return claimsTFunction.apply(Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload());
+        return claimsTFunction.apply(parseClaims(token));
     }
 
     /**
-     * Validates a JWT token by checking its username and expiration.
-     * The token is considered valid if the username matches and the token is not expired.
+     * Validates a JWT token by checking its username, expiration and security version.
+     * The token is considered valid if the username matches, the token is not expired and,
+     * for application users, it was issued at the user's current security version.
      *
      * @param token       The JWT token.
      * @param userDetails The user details to compare against.
      * @return True if the token is valid, false otherwise.
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token); // Extract the username from the token
-        // Check if the extracted username matches and if the token is not expired
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        final Claims claims = parseClaims(token);
+        // Check if the extracted username matches, the token is not expired and has not been revoked
+        return claims.getSubject().equals(userDetails.getUsername())
+                && !claims.getExpiration().before(new Date())
+                && matchesSecurityVersion(claims, userDetails);
     }
 
     public Boolean isRefreshTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token).substring(8);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        final Claims claims = parseClaims(token);
+        final String username = claims.getSubject().substring(8);
+        return username.equals(userDetails.getUsername())
+                && !claims.getExpiration().before(new Date())
+                && matchesSecurityVersion(claims, userDetails);
     }
 
     public Boolean isVerificationTokenValid(String token, UserDetails userDetails) {
@@ -141,6 +192,14 @@ public class JWTUtils {
         return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
     }
 
+    private boolean matchesSecurityVersion(Claims claims, UserDetails userDetails) {
+        if (!(userDetails instanceof AppUser user)) {
+            return true;
+        }
+        Long securityVersion = claims.get(CLAIM_SECURITY_VERSION, Long.class);
+        return securityVersion != null && securityVersion == user.getSecurityVersion();
+    }
+
     /**
      * Checks if a JWT token has expired.
      * The token is considered expired if its expiration date is before the current time.
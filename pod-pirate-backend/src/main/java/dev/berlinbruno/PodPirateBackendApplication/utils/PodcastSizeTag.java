@@ -0,0 +1,36 @@
+package dev.berlinbruno.PodPirateBackendApplication.utils;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Buckets a podcast's episode count into a low-cardinality metric tag and attaches it to the current
+ * request, so request timings can be split by how large the podcast being served is.
+ */
+public final class PodcastSizeTag {
+
+    public static final String TAG = "podcast.size";
+    public static final String ATTRIBUTE = PodcastSizeTag.class.getName() + ".bucket";
+    public static final String NONE = "none";
+
+    private PodcastSizeTag() {
+    }
+
+    public static String bucket(long episodeCount) {
+        if (episodeCount <= 0) return "0";
+        if (episodeCount <= 10) return "1-10";
+        if (episodeCount <= 100) return "11-100";
+        if (episodeCount <= 1000) return "101-1000";
+        return "1000+";
+    }
+
+    /**
+     * Records the size of the podcast handled by the current request; a no-op outside requests.
+     */
+    public static void record(long episodeCount) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(ATTRIBUTE, bucket(episodeCount), RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package dev.berlinbruno.PodPirateBackendApplication.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SerializedResponseCacheTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "gzip",
+            "GZip",
+            "x-gzip",
+            "gzip, deflate, br",
+            "br;q=1.0, gzip;q=0.8",
+            "gzip;q=0.001",
+            " gzip ; q=1.0 ",
+            "gzip;level=1",
+            "*",
+            "br, *;q=0.5"
+    })
+    void acceptsGzip(String acceptEncoding) {
+        assertTrue(SerializedResponseCache.acceptsGzip(acceptEncoding), acceptEncoding);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "identity",
+            "deflate, br",
+            "gzip;q=0",
+            "gzip; q=0.000",
+            "x-gzip;q=0",
+            "*;q=0",
+            "gzip;q=0, *",
+            "*, gzip;q=0",
+            "gzip;q=abc",
+            "gzip;q="
+    })
+    void rejectsGzip(String acceptEncoding) {
+        assertFalse(SerializedResponseCache.acceptsGzip(acceptEncoding), acceptEncoding);
+    }
+
+    @Test
+    void missingHeaderMeansIdentity() {
+        assertFalse(SerializedResponseCache.acceptsGzip(null));
+    }
+}
@@ -0,0 +1,99 @@
+package dev.berlinbruno.PodPirateBackendApplication.cache;
+
+import dev.berlinbruno.PodPirateBackendApplication.properties.SignedUrlProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SignedUrlCacheTest {
+
+    private static final long BUCKET_MINUTES = 60;
+    private static final long BUCKET_MILLIS = Duration.ofMinutes(BUCKET_MINUTES).toMillis();
+    private static final Duration READ_LIFETIME = Duration.ofDays(1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private SignedUrlCache cache;
+    private List<Instant> signedExpiries;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new SignedUrlCache(new SignedUrlProperties(BUCKET_MINUTES, 100), meterRegistry, 1);
+        signedExpiries = new ArrayList<>();
+    }
+
+    @Test
+    void expiryIsEndOfBucketPlusReadLifetime() {
+        long before = cache.currentBucket();
+        cache.get("podcasts/a.mp3", this::sign);
+        long after = cache.currentBucket();
+
+        Instant expiry = signedExpiries.get(0);
+        assertTrue(expiry.equals(expiryOf(before)) || expiry.equals(expiryOf(after)), expiry.toString());
+        assertEquals(0, expiry.toEpochMilli() % BUCKET_MILLIS);
+        assertFalse(expiry.isBefore(Instant.now().plus(READ_LIFETIME)));
+    }
+
+    @Test
+    void sameBlobWithinBucketIsSignedOnce() {
+        String first = cache.get("podcasts/a.mp3", this::sign);
+        String second = cache.get("podcasts/a.mp3", this::sign);
+
+        if (signedExpiries.size() == 1) {
+            assertSame(first, second);
+        } else {
+            // The bucket rolled over between the two calls
+            assertEquals(2, signedExpiries.size());
+            assertNotEquals(signedExpiries.get(0), signedExpiries.get(1));
+        }
+    }
+
+    @Test
+    void differentBlobsAreSignedSeparately() {
+        String a = cache.get("podcasts/a.mp3", this::sign);
+        String b = cache.get("podcasts/b.mp3", this::sign);
+
+        assertNotEquals(a, b);
+        assertEquals(2, signedExpiries.size());
+    }
+
+    @Test
+    void currentBucketCountsBucketsSinceEpoch() {
+        long expected = System.currentTimeMillis() / BUCKET_MILLIS;
+
+        assertTrue(Math.abs(cache.currentBucket() - expected) <= 1);
+    }
+
+    @Test
+    void bucketStartIsWhenSignedUrlsLastChanged() {
+        long bucket = cache.currentBucket();
+
+        assertEquals(bucket * BUCKET_MILLIS, cache.bucketStart(bucket));
+        assertEquals(expiryOf(bucket).minus(READ_LIFETIME).toEpochMilli(), cache.bucketStart(bucket + 1));
+    }
+
+    @Test
+    void registersCacheGauges() {
+        cache.get("podcasts/a.mp3", this::sign);
+        cache.get("podcasts/a.mp3", this::sign);
+
+        assertEquals(1.0, meterRegistry.get("cache.size").tag("cache", "signed-urls").gauge().value());
+        assertTrue(meterRegistry.get("cache.hit.ratio").tag("cache", "signed-urls").gauge().value() > 0);
+    }
+
+    private String sign(Instant expiry) {
+        signedExpiries.add(expiry);
+        return "https://blobs.example/" + signedExpiries.size() + "?se=" + expiry.toEpochMilli();
+    }
+
+    private static Instant expiryOf(long bucket) {
+        return Instant.ofEpochMilli((bucket + 1) * BUCKET_MILLIS).plus(READ_LIFETIME);
+    }
+}
@@ -0,0 +1,140 @@
+package dev.berlinbruno.PodPirateBackendApplication.controller;
+
+import dev.berlinbruno.PodPirateBackendApplication.exception.InvalidResourceException;
+import dev.berlinbruno.PodPirateBackendApplication.service.impl.LocalBlobServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class LocalBlobControllerTest {
+
+    private static final String CONTENT = "0123456789";
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private LocalBlobController controller;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.writeString(directory.resolve("episode.mp3"), CONTENT);
+        LocalBlobServiceImpl localBlobService = mock(LocalBlobServiceImpl.class);
+        when(localBlobService.authorizeRead(anyString(), anyString(), anyLong(), anyString()))
+                .thenAnswer(invocation -> file);
+        controller = new LocalBlobController(localBlobService);
+    }
+
+    @Test
+    void servesWholeFileWithoutRange() throws IOException {
+        MockHttpServletResponse response = download(null);
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(CONTENT, body(response));
+    }
+
+    @Test
+    void servesClosedRange() throws IOException {
+        MockHttpServletResponse response = download("bytes=2-5");
+
+        assertEquals(HttpStatus.PARTIAL_CONTENT.value(), response.getStatus());
+        assertEquals("bytes 2-5/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(4, response.getContentLengthLong());
+        assertEquals("2345", body(response));
+    }
+
+    @Test
+    void servesOpenEndedRangeToTheEndOfTheFile() throws IOException {
+        MockHttpServletResponse response = download("bytes=7-");
+
+        assertEquals(HttpStatus.PARTIAL_CONTENT.value(), response.getStatus());
+        assertEquals("bytes 7-9/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals("789", body(response));
+    }
+
+    @Test
+    void servesSuffixRange() throws IOException {
+        MockHttpServletResponse response = download("bytes=-3");
+
+        assertEquals(HttpStatus.PARTIAL_CONTENT.value(), response.getStatus());
+        assertEquals("bytes 7-9/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals("789", body(response));
+    }
+
+    @Test
+    void clampsRangeEndToTheFileLength() throws IOException {
+        MockHttpServletResponse response = download("bytes=8-100");
+
+        assertEquals(HttpStatus.PARTIAL_CONTENT.value(), response.getStatus());
+        assertEquals("bytes 8-9/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals("89", body(response));
+    }
+
+    @Test
+    void answersMultipleRangesWithTheWholeFile() throws IOException {
+        MockHttpServletResponse response = download("bytes=0-1,4-5");
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(CONTENT, body(response));
+    }
+
+    @Test
+    void rejectsRangeStartingAtOrPastTheEnd() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        InvalidResourceException error = assertThrows(InvalidResourceException.class,
+                () -> download("bytes=10-", response));
+
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, error.getErrorResponse().getHttpStatus());
+        assertEquals("bytes */10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void rejectsEveryRangeOnAnEmptyFile() throws IOException {
+        Files.write(file, new byte[0]);
+
+        for (String range : new String[]{"bytes=0-", "bytes=-5"}) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            InvalidResourceException error = assertThrows(InvalidResourceException.class,
+                    () -> download(range, response), range);
+
+            assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, error.getErrorResponse().getHttpStatus());
+            assertEquals("bytes */0", response.getHeader(HttpHeaders.CONTENT_RANGE), range);
+        }
+    }
+
+    private MockHttpServletResponse download(String range) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        download(range, response);
+        return response;
+    }
+
+    private void download(String range, MockHttpServletResponse response) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/public/blobs/episode.mp3");
+        if (range != null) {
+            request.addHeader(HttpHeaders.RANGE, range);
+        }
+        controller.download("/episode.mp3", "r", Long.MAX_VALUE, "sig", request, response);
+    }
+
+    private static String body(MockHttpServletResponse response) {
+        return new String(response.getContentAsByteArray(), StandardCharsets.UTF_8);
+    }
+}
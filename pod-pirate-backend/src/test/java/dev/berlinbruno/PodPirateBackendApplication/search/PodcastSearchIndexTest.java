@@ -0,0 +1,155 @@
+package dev.berlinbruno.PodPirateBackendApplication.search;
+
+import dev.berlinbruno.PodPirateBackendApplication.model.Episode;
+import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
+import dev.berlinbruno.PodPirateBackendApplication.search.PodcastSearchIndex.Hit;
+import dev.berlinbruno.PodPirateBackendApplication.types.EpisodeStatus;
+import dev.berlinbruno.PodPirateBackendApplication.types.PodcastStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PodcastSearchIndexTest {
+
+    private PodcastSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PodcastSearchIndex();
+        index(podcast("jvm", "Java Performance", "Tuning the garbage collector and the JIT compiler", "technology",
+                PodcastStatus.PUBLISHED, 3), episode("Java flight recorder", EpisodeStatus.PUBLISHED));
+        index(podcast("kitchen", "Cast Iron Kitchen", "Weeknight cooking, with a little java on the side", "food",
+                PodcastStatus.PUBLISHED, 2), episode("Seasoning a skillet", EpisodeStatus.DRAFT));
+        index(podcast("draft", "Rust in Production", "Memory safety stories from teams shipping Rust", "technology",
+                PodcastStatus.DRAFT, 1));
+    }
+
+    @Test
+    void ranksTitleMatchesAboveDescriptionMatches() {
+        assertEquals(List.of("jvm", "kitchen"), ids(query("java")));
+    }
+
+    @Test
+    void scoresDocumentsMatchingMoreTermsHigher() {
+        assertTrue(scoreOf("kitchen", "java cooking") > scoreOf("kitchen", "cooking"));
+    }
+
+    @Test
+    void matchesInflectedForms() {
+        assertEquals(List.of("kitchen"), ids(query("cooked")));
+        assertEquals(List.of("kitchen"), ids(query("skillets")));
+    }
+
+    @Test
+    void matchesOnlyTheLastTermAsPrefix() {
+        assertEquals(List.of("jvm"), ids(query("perf")));
+        assertEquals(List.of("kitchen"), ids(query("perf kitch")));
+    }
+
+    @Test
+    void scoresPrefixByBestExpansionOnly() {
+        index(podcast("tools", "Build Tools", "progress bars, programs and proguard", "technology",
+                PodcastStatus.PUBLISHED, 1));
+
+        double best = Math.max(scoreOf("tools", "progress"),
+                Math.max(scoreOf("tools", "programs"), scoreOf("tools", "proguard")));
+        assertEquals(best, scoreOf("tools", "prog"), 1e-9);
+    }
+
+    @Test
+    void appliesStructuredFilters() {
+        assertEquals(List.of("jvm"), ids(new PodcastSearchQuery(
+                null, "technology", null, PodcastStatus.PUBLISHED, null, "java rust", null, null)));
+        assertEquals(List.of("draft"), ids(new PodcastSearchQuery(
+                "user-draft", null, null, null, null, "rust", null, null)));
+        assertEquals(List.of("jvm"), ids(new PodcastSearchQuery(
+                null, null, false, null, EpisodeStatus.PUBLISHED, "java", null, null)));
+        assertEquals(List.of(), ids(new PodcastSearchQuery(
+                null, "music", null, null, null, "java", null, null)));
+    }
+
+    @Test
+    void filtersByPublicationDate() {
+        assertEquals(List.of("jvm"), ids(new PodcastSearchQuery(
+                null, null, null, null, null, "java", daysAgo(4), daysAgo(3))));
+        assertEquals(List.of("kitchen"), ids(new PodcastSearchQuery(
+                null, null, null, null, null, "java", daysAgo(2), null)));
+    }
+
+    @Test
+    void breaksScoreTiesByMostRecentPublication() {
+        index.clear();
+        index(podcast("older", "Daily News", "Headlines every weekday morning", "news", PodcastStatus.PUBLISHED, 5));
+        index(podcast("newer", "Daily News", "Headlines every weekday morning", "news", PodcastStatus.PUBLISHED, 1));
+
+        assertEquals(List.of("newer", "older"), ids(query("news")));
+    }
+
+    @Test
+    void reindexingReplacesTermsAndRemoveDropsThePodcast() {
+        index(podcast("kitchen", "Sourdough Hour", "Bread, starters and ovens", "food", PodcastStatus.PUBLISHED, 2));
+
+        assertEquals(List.of("jvm"), ids(query("java")));
+        assertEquals(List.of("kitchen"), ids(query("sourdough")));
+
+        index.remove("kitchen");
+
+        assertEquals(List.of(), ids(query("sourdough")));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void queryWithoutTermsMatchesNothing() {
+        assertEquals(List.of(), ids(query("the of and")));
+        assertEquals(List.of(), ids(query(null)));
+    }
+
+    private void index(Podcast podcast, Episode... episodes) {
+        index.index(podcast, List.of(episodes));
+    }
+
+    private double scoreOf(String podcastId, String keyword) {
+        return index.search(query(keyword)).stream()
+                .filter(hit -> hit.podcastId().equals(podcastId))
+                .findFirst()
+                .orElseThrow()
+                .score();
+    }
+
+    private List<String> ids(PodcastSearchQuery query) {
+        return index.search(query).stream().map(Hit::podcastId).toList();
+    }
+
+    private static PodcastSearchQuery query(String keyword) {
+        return new PodcastSearchQuery(null, null, null, null, null, keyword, null, null);
+    }
+
+    private static Podcast podcast(String id, String title, String description, String category,
+                                   PodcastStatus status, int publishedDaysAgo) {
+        return Podcast.builder()
+                .id(id)
+                .userId("user-" + id)
+                .title(title)
+                .description(description)
+                .category(category)
+                .podcastStatus(status)
+                .publishedAt(daysAgo(publishedDaysAgo))
+                .build();
+    }
+
+    private static Episode episode(String title, EpisodeStatus status) {
+        Episode episode = new Episode();
+        episode.setTitle(title);
+        episode.setDescription(title + " in detail");
+        episode.setEpisodeStatus(status);
+        return episode;
+    }
+
+    private static Date daysAgo(int days) {
+        return new Date(1_700_000_000_000L - days * 86_400_000L);
+    }
+}
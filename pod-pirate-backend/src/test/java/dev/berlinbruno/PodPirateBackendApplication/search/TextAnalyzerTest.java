@@ -0,0 +1,61 @@
+package dev.berlinbruno.PodPirateBackendApplication.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextAnalyzerTest {
+
+    @Test
+    void splitsLowercasesAndDropsStopWords() {
+        assertEquals(List.of("best", "podcast", "developer", "2024"),
+                TextAnalyzer.analyze("The Best Podcasts, for Developers! (2024)"));
+    }
+
+    @Test
+    void dropsSingleCharacterTokens() {
+        assertEquals(List.of("episode", "part"), TextAnalyzer.analyze("Episode 1 - part b"));
+    }
+
+    @Test
+    void keepsRepeatedTermsForTermFrequency() {
+        assertEquals(List.of("java", "java", "jvm"), TextAnalyzer.analyze("java, Java & JVM"));
+    }
+
+    @Test
+    void emptyTextHasNoTerms() {
+        assertTrue(TextAnalyzer.analyze(null).isEmpty());
+        assertTrue(TextAnalyzer.analyze("").isEmpty());
+        assertTrue(TextAnalyzer.analyze(" -- ").isEmpty());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "podcasts, podcast",
+            "podcasting, podcast",
+            "classes, class",
+            "ponies, poni",
+            "running, run",
+            "stopped, stop",
+            "falling, fall",
+            "quickly, quick",
+            "happy, happi",
+            "status, status",
+            "sing, sing",
+            "bus, bus",
+            "mp3s, mp3"
+    })
+    void stemsPluralsAndCommonSuffixes(String term, String stem) {
+        assertEquals(stem, TextAnalyzer.stem(term));
+    }
+
+    @Test
+    void inflectionsShareATerm() {
+        assertEquals(TextAnalyzer.analyze("podcast"), TextAnalyzer.analyze("Podcasting"));
+        assertEquals(TextAnalyzer.analyze("interview"), TextAnalyzer.analyze("interviews"));
+    }
+}
@@ -0,0 +1,229 @@
+package dev.berlinbruno.PodPirateBackendApplication.service.impl;
+
+import dev.berlinbruno.PodPirateBackendApplication.dto.playback.PlaybackEventRequest;
+import dev.berlinbruno.PodPirateBackendApplication.model.PlayStat;
+import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
+import dev.berlinbruno.PodPirateBackendApplication.properties.PlaybackProperties;
+import dev.berlinbruno.PodPirateBackendApplication.types.PlaybackEventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PlaybackServiceImplTest {
+
+    private static final String JAVA = "65a1f0c2e4b0a1b2c3d4e5f1";
+    private static final String ROCK = "65a1f0c2e4b0a1b2c3d4e5f2";
+    private static final String NEWS = "65a1f0c2e4b0a1b2c3d4e5f3";
+    private static final String DRAFT = "65a1f0c2e4b0a1b2c3d4e5f4";
+    private static final String UNKNOWN = "65a1f0c2e4b0a1b2c3d4e5f9";
+
+    // Published podcasts by ID, with their category (which may be null)
+    private final Map<String, String> published = new HashMap<>(Map.of(
+            JAVA, "technology", ROCK, "music", NEWS, "technology"));
+    private final List<Document> history = new ArrayList<>();
+
+    private MongoTemplate mongoTemplate;
+    private BulkOperations bulk;
+    private SimpleMeterRegistry meterRegistry;
+    private PlaybackServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        bulk = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PlayStat.class)).thenReturn(bulk);
+        when(mongoTemplate.find(any(Query.class), eq(Podcast.class))).thenAnswer(invocation -> {
+            Document id = invocation.getArgument(0, Query.class).getQueryObject().get("_id", Document.class);
+            List<Podcast> podcasts = new ArrayList<>();
+            for (Object podcastId : id.getList("$in", Object.class)) {
+                if (published.containsKey(podcastId.toString())) {
+                    podcasts.add(Podcast.builder().id(podcastId.toString())
+                            .category(published.get(podcastId.toString())).build());
+                }
+            }
+            return podcasts;
+        });
+        when(mongoTemplate.aggregateStream(any(Aggregation.class), eq(PlayStat.class), eq(Document.class)))
+                .thenAnswer(invocation -> history.stream());
+
+        meterRegistry = new SimpleMeterRegistry();
+        service = playback(100);
+    }
+
+    @Test
+    void flushWritesOneUpsertPerEpisodeBucket() {
+        service.recordEvents(List.of(play(JAVA, 1), play(JAVA, 1), heartbeat(JAVA, 1), play(JAVA, 2)));
+
+        assertEquals(2, service.flush());
+
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulk, times(2)).upsert(any(Query.class), updates.capture());
+        verify(bulk).execute();
+        Document increments = updates.getAllValues().stream()
+                .map(update -> update.getUpdateObject().get("$inc", Document.class))
+                .filter(inc -> ((Number) inc.get("plays")).longValue() == 2)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(1L, ((Number) increments.get("heartbeats")).longValue());
+        assertEquals(30L, ((Number) increments.get("listenSeconds")).longValue());
+
+        assertEquals(0, service.flush());
+    }
+
+    @Test
+    void failedWriteIsRetriedWithTheNextFlush() {
+        doThrow(new IllegalStateException("write failed")).doReturn(null).when(bulk).execute();
+        service.recordEvents(List.of(play(JAVA, 1), play(JAVA, 1)));
+
+        assertEquals(0, service.flush());
+        service.recordEvents(List.of(play(JAVA, 1)));
+        assertEquals(1, service.flush());
+
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulk, times(2)).upsert(any(Query.class), updates.capture());
+        Document increments = updates.getValue().getUpdateObject().get("$inc", Document.class);
+        assertEquals(3L, ((Number) increments.get("plays")).longValue());
+        assertEquals(List.of(JAVA), service.getTrendingPodcastIds(null, 10));
+    }
+
+    @Test
+    void olderPlaysDecayWithTheHalfLife() {
+        long now = System.currentTimeMillis();
+        // 10 plays three half-lives ago weigh about 1.25 plays now
+        history.add(bucket(ROCK, now - Duration.ofDays(3).toMillis(), 10, 0));
+        history.add(bucket(JAVA, now - Duration.ofHours(1).toMillis(), 2, 0));
+
+        service.rebuildRankings();
+        assertEquals(List.of(JAVA, ROCK), service.getTrendingPodcastIds(null, 10));
+
+        history.clear();
+        history.add(bucket(ROCK, now - Duration.ofDays(2).toMillis(), 10, 0));
+        history.add(bucket(JAVA, now - Duration.ofHours(1).toMillis(), 2, 0));
+
+        service.rebuildRankings();
+        assertEquals(List.of(ROCK, JAVA), service.getTrendingPodcastIds(null, 10));
+    }
+
+    @Test
+    void flushedEventsAddToRebuiltScores() {
+        history.add(bucket(ROCK, System.currentTimeMillis() - Duration.ofDays(3).toMillis(), 10, 0));
+        service.rebuildRankings();
+        assertEquals(List.of(ROCK), service.getTrendingPodcastIds(null, 10));
+
+        service.recordEvents(List.of(play(JAVA, 1), play(JAVA, 2)));
+        service.flush();
+
+        assertEquals(List.of(JAVA, ROCK), service.getTrendingPodcastIds(null, 10));
+    }
+
+    @Test
+    void heartbeatsCountLessThanPlays() {
+        service.recordEvents(List.of(play(ROCK, 1),
+                heartbeat(JAVA, 1), heartbeat(JAVA, 1), heartbeat(JAVA, 1), heartbeat(JAVA, 1), heartbeat(JAVA, 1)));
+        service.flush();
+
+        assertEquals(List.of(ROCK, JAVA), service.getTrendingPodcastIds(null, 10));
+    }
+
+    @Test
+    void rankingsArePerCategory() {
+        service.recordEvents(List.of(play(NEWS, 1), play(JAVA, 1), play(JAVA, 2), play(ROCK, 1)));
+        service.flush();
+
+        assertEquals(List.of(JAVA, NEWS), service.getTrendingPodcastIds("Technology", 10));
+        assertEquals(List.of(ROCK), service.getTrendingPodcastIds("music", 10));
+        assertEquals(List.of(JAVA), service.getTrendingPodcastIds(null, 1));
+        assertEquals(List.of(), service.getTrendingPodcastIds("comedy", 10));
+    }
+
+    @Test
+    void eventsForMissingOrUnpublishedPodcastsAreNotWritten() {
+        service.recordEvents(List.of(play(UNKNOWN, 1), play(DRAFT, 1), heartbeat(DRAFT, 1), play(JAVA, 1)));
+
+        assertEquals(1, service.flush());
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        verify(bulk).upsert(queries.capture(), any(Update.class));
+        assertEquals(JAVA, queries.getValue().getQueryObject().get("podcastId"));
+        assertEquals(List.of(JAVA), service.getTrendingPodcastIds(null, 10));
+        assertEquals(3.0, meterRegistry.get("playback.events.unlisted").functionCounter().count());
+
+        service.recordEvents(List.of(play(UNKNOWN, 1)));
+        assertEquals(0, service.flush());
+        verify(bulk, times(1)).execute();
+    }
+
+    @Test
+    void podcastIsCountedOncePublished() {
+        service.recordEvents(List.of(play(DRAFT, 1)));
+        assertEquals(0, service.flush());
+
+        published.put(DRAFT, "music");
+        service.recordEvents(List.of(play(DRAFT, 1)));
+
+        assertEquals(1, service.flush());
+        assertEquals(List.of(DRAFT), service.getTrendingPodcastIds("music", 10));
+    }
+
+    @Test
+    void uncategorizedPodcastsAreRankedOverallOnly() {
+        published.put(DRAFT, null);
+        service.recordEvents(List.of(play(DRAFT, 1), play(DRAFT, 2), play(JAVA, 1)));
+
+        assertEquals(3, service.flush());
+        assertEquals(List.of(DRAFT, JAVA), service.getTrendingPodcastIds(null, 10));
+        assertEquals(List.of(JAVA), service.getTrendingPodcastIds("technology", 10));
+    }
+
+    @Test
+    void eventsBeyondTrackedEpisodeLimitAreDropped() {
+        service = playback(2);
+
+        service.recordEvents(List.of(play(JAVA, 1), play(JAVA, 2), play(JAVA, 3), play(JAVA, 1)));
+
+        assertEquals(1.0, meterRegistry.get("playback.events.dropped").functionCounter().count());
+        assertEquals(2.0, meterRegistry.get("playback.tracked.episodes").gauge().value());
+    }
+
+    private PlaybackServiceImpl playback(int maxTrackedEpisodes) {
+        meterRegistry.clear();
+        PlaybackServiceImpl playback = new PlaybackServiceImpl(mongoTemplate,
+                new PlaybackProperties(60, maxTrackedEpisodes, 30, 24, 0.1, 100, 7),
+                new SyncTaskExecutor(), meterRegistry);
+        playback.init();
+        return playback;
+    }
+
+    private static Document bucket(String podcastId, long bucketStart, long plays, long heartbeats) {
+        return new Document("_id", new Document("podcastId", podcastId).append("bucketStart", new Date(bucketStart)))
+                .append("plays", plays)
+                .append("heartbeats", heartbeats);
+    }
+
+    private static PlaybackEventRequest play(String podcastId, long episodeId) {
+        return event(podcastId, episodeId, PlaybackEventType.PLAY);
+    }
+
+    private static PlaybackEventRequest heartbeat(String podcastId, long episodeId) {
+        return event(podcastId, episodeId, PlaybackEventType.HEARTBEAT);
+    }
+
+    private static PlaybackEventRequest event(String podcastId, long episodeId, PlaybackEventType type) {
+        return PlaybackEventRequest.builder().podcastId(podcastId).episodeId(episodeId).type(type).build();
+    }
+}
@@ -0,0 +1,220 @@
+package dev.berlinbruno.PodPirateBackendApplication.service.impl;
+
+import dev.berlinbruno.PodPirateBackendApplication.event.PodcastChangedEvent;
+import dev.berlinbruno.PodPirateBackendApplication.exception.NotFoundException;
+import dev.berlinbruno.PodPirateBackendApplication.exception.ResourceUnavailableException;
+import dev.berlinbruno.PodPirateBackendApplication.model.Podcast;
+import dev.berlinbruno.PodPirateBackendApplication.properties.FrontendProperties;
+import dev.berlinbruno.PodPirateBackendApplication.properties.SitemapProperties;
+import dev.berlinbruno.PodPirateBackendApplication.service.SitemapService.SitemapDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SitemapServiceImplTest {
+
+    private static final String BASE_URL = "https://pods.example/";
+
+    // Published podcasts (ID -> lastModifiedAt) and creators (user ID -> latest change)
+    private final NavigableMap<String, Date> podcasts = new TreeMap<>();
+    private final NavigableMap<String, Date> creators = new TreeMap<>();
+
+    private MongoTemplate mongoTemplate;
+    private SitemapServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.getCollectionName(Podcast.class)).thenReturn("podcast");
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), anyString())).thenAnswer(invocation -> {
+            Document range = findRange(invocation.getArgument(0, Query.class).getQueryObject(), "_id");
+            return entries(podcasts, range, "lastModifiedAt");
+        });
+        when(mongoTemplate.aggregateStream(any(Aggregation.class), anyString(), eq(Document.class))).thenAnswer(invocation -> {
+            Document match = invocation.getArgument(0, Aggregation.class)
+                    .toPipeline(Aggregation.DEFAULT_CONTEXT).get(0).get("$match", Document.class);
+            return entries(creators, findRange(match, "userId"), "lastModifiedAt");
+        });
+
+        service = sitemap(true);
+        for (int i = 0; i < 5; i++) {
+            podcasts.put(id(i), new Date(1_700_000_000_000L + i * 1000L));
+        }
+        creators.put("creator-a", new Date(1_700_000_000_000L));
+    }
+
+    @Test
+    void splitsFamiliesIntoSegmentsOfConfiguredSize() {
+        service.rebuild();
+
+        assertEquals(List.of(id(0), id(1)), urls(service.getSegment("podcasts-0")));
+        assertEquals(List.of(id(2), id(3)), urls(service.getSegment("podcasts-1")));
+        assertEquals(List.of(id(4)), urls(service.getSegment("podcasts-2")));
+        assertEquals(List.of("creator-a"), urls(service.getSegment("creators-0")));
+
+        String index = text(service.getIndex("https://api.example/sitemaps"));
+        for (String name : List.of("podcasts-0", "podcasts-1", "podcasts-2", "creators-0")) {
+            assertTrue(index.contains("<loc>https://api.example/sitemaps/" + name + ".xml</loc>"), index);
+        }
+    }
+
+    @Test
+    void emptyCatalogStillHasOneSegmentPerFamily() {
+        podcasts.clear();
+        creators.clear();
+
+        service.rebuild();
+
+        assertEquals(List.of(), urls(service.getSegment("podcasts-0")));
+        assertEquals(List.of(), urls(service.getSegment("creators-0")));
+        assertThrows(NotFoundException.class, () -> service.getSegment("podcasts-1"));
+    }
+
+    @Test
+    void refreshRegeneratesOnlyChangedSegments() {
+        service.rebuild();
+        SitemapDocument first = service.getSegment("podcasts-0");
+        SitemapDocument second = service.getSegment("podcasts-1");
+
+        podcasts.put(id(1), new Date(1_800_000_000_000L));
+        service.onPodcastChanged(new PodcastChangedEvent(id(1), null, Set.of()));
+
+        assertEquals(1, service.refreshChangedSegments());
+        assertNotEquals(first.etag(), service.getSegment("podcasts-0").etag());
+        assertSame(second.content(), service.getSegment("podcasts-1").content());
+        assertEquals(0, service.refreshChangedSegments());
+    }
+
+    @Test
+    void overfullSegmentIsSplit() {
+        service.rebuild();
+
+        podcasts.put(id(5), new Date());
+        podcasts.put(id(6), new Date());
+        service.onPodcastChanged(new PodcastChangedEvent(id(6), null, Set.of()));
+        service.refreshChangedSegments();
+
+        assertEquals(List.of(id(4), id(5)), urls(service.getSegment("podcasts-2")));
+        assertEquals(List.of(id(6)), urls(service.getSegment("podcasts-3")));
+    }
+
+    @Test
+    void emptiedSegmentIsDroppedAndItsRangeFallsToThePreviousOne() {
+        service.rebuild();
+
+        podcasts.remove(id(2));
+        podcasts.remove(id(3));
+        service.onPodcastChanged(new PodcastChangedEvent(id(2), null, Set.of()));
+        service.refreshChangedSegments();
+
+        assertThrows(NotFoundException.class, () -> service.getSegment("podcasts-1"));
+
+        podcasts.put(id(3), new Date());
+        service.onPodcastChanged(new PodcastChangedEvent(id(3), null, Set.of()));
+        service.refreshChangedSegments();
+
+        assertEquals(List.of(id(0), id(1)), urls(service.getSegment("podcasts-0")));
+        assertEquals(List.of(id(3)), urls(service.getSegment("podcasts-3")));
+    }
+
+    @Test
+    void podcastChangeAlsoRefreshesItsCreator() {
+        service.rebuild();
+
+        creators.put("creator-b", new Date());
+        service.onPodcastChanged(new PodcastChangedEvent(id(0), "creator-b", Set.of()));
+        service.refreshChangedSegments();
+
+        assertEquals(List.of("creator-a", "creator-b"), urls(service.getSegment("creators-0")));
+    }
+
+    @Test
+    void indexIsUnavailableUntilTheFirstBuildCompletes() {
+        ResourceUnavailableException unavailable = assertThrows(ResourceUnavailableException.class,
+                () -> service.getIndex("https://api.example/sitemaps"));
+        assertNotNull(unavailable.getRetryAfter());
+        verifyNoInteractions(mongoTemplate);
+
+        service.rebuild();
+
+        assertTrue(text(service.getIndex("https://api.example/sitemaps")).contains("podcasts-2.xml"));
+    }
+
+    @Test
+    void disabledSitemapIsNotFound() {
+        service = sitemap(false);
+
+        assertThrows(NotFoundException.class, () -> service.getIndex("https://api.example/sitemaps"));
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    private SitemapServiceImpl sitemap(boolean enabled) {
+        return new SitemapServiceImpl(mongoTemplate,
+                new SitemapProperties(enabled, 2, "podcasts?podcastId=", "creators?creatorId="),
+                new FrontendProperties(BASE_URL, "verify", "reset", "deleted"),
+                new SyncTaskExecutor());
+    }
+
+    private static Stream<Document> entries(NavigableMap<String, Date> source, Document range, String dateField) {
+        String from = range == null || range.get("$gte") == null ? null : range.get("$gte").toString();
+        String to = range == null || range.get("$lt") == null ? null : range.get("$lt").toString();
+        return source.entrySet().stream()
+                .filter(entry -> from == null || entry.getKey().compareTo(from) >= 0)
+                .filter(entry -> to == null || entry.getKey().compareTo(to) < 0)
+                .map(entry -> new Document("_id", entry.getKey()).append(dateField, entry.getValue()));
+    }
+
+    private static Document findRange(Object criteria, String field) {
+        if (criteria instanceof Document document) {
+            if (document.get(field) instanceof Document range) {
+                return range;
+            }
+            for (Object value : document.values()) {
+                Document range = findRange(value, field);
+                if (range != null) {
+                    return range;
+                }
+            }
+        } else if (criteria instanceof List<?> list) {
+            for (Object value : list) {
+                Document range = findRange(value, field);
+                if (range != null) {
+                    return range;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<String> urls(SitemapDocument document) {
+        List<String> ids = new ArrayList<>();
+        String xml = text(document);
+        for (int at = xml.indexOf("<loc>"); at >= 0; at = xml.indexOf("<loc>", at + 1)) {
+            String loc = xml.substring(at + 5, xml.indexOf("</loc>", at));
+            ids.add(loc.substring(loc.indexOf('=') + 1));
+        }
+        return ids;
+    }
+
+    private static String text(SitemapDocument document) {
+        return new String(document.content(), StandardCharsets.UTF_8);
+    }
+
+    private static String id(int i) {
+        return String.format("%024x", i);
+    }
+}
@@ -0,0 +1,124 @@
+package dev.berlinbruno.PodPirateBackendApplication.service.impl;
+
+import dev.berlinbruno.PodPirateBackendApplication.model.AppUser;
+import dev.berlinbruno.PodPirateBackendApplication.properties.TokenRevocationProperties;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.query.Query;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationServiceImplTest {
+
+    private MongoTemplate mongoTemplate;
+    private TokenRevocationServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        service = new TokenRevocationServiceImpl(mongoTemplate, new TokenRevocationProperties(2, 3600));
+    }
+
+    @Test
+    void tokenAtCurrentVersionIsValid() {
+        storedVersion("u1", 3);
+
+        assertFalse(service.isRevoked("u1", 3));
+        assertTrue(service.isRevoked("u1", 2));
+    }
+
+    @Test
+    void cachedVersionAvoidsRepeatedLookups() {
+        storedVersion("u1", 3);
+
+        service.isRevoked("u1", 3);
+        service.isRevoked("u1", 3);
+        service.isRevoked("u1", 1);
+
+        verify(mongoTemplate, times(1)).findOne(any(Query.class), eq(AppUser.class));
+    }
+
+    @Test
+    void newerTokenForcesReload() {
+        storedVersion("u1", 3);
+        service.isRevoked("u1", 3);
+
+        storedVersion("u1", 4);
+
+        assertFalse(service.isRevoked("u1", 4));
+        assertTrue(service.isRevoked("u1", 3));
+        verify(mongoTemplate, times(2)).findOne(any(Query.class), eq(AppUser.class));
+    }
+
+    @Test
+    void missingUserIsRevoked() {
+        when(mongoTemplate.findOne(any(Query.class), eq(AppUser.class))).thenReturn(null);
+
+        assertTrue(service.isRevoked("gone", 0));
+    }
+
+    @Test
+    void saveEventUpdatesCachedVersion() {
+        storedVersion("u1", 3);
+        service.isRevoked("u1", 3);
+
+        AppUser user = user("u1", 5);
+        service.onAfterSave(new AfterSaveEvent<>(user, new Document(), "app_user"));
+
+        assertTrue(service.isRevoked("u1", 3));
+        verify(mongoTemplate, times(1)).findOne(any(Query.class), eq(AppUser.class));
+    }
+
+    @Test
+    void deleteEventRevokesEveryToken() {
+        storedVersion("u1", 3);
+        service.isRevoked("u1", 3);
+
+        service.onAfterDelete(new AfterDeleteEvent<>(new Document("_id", "u1"), AppUser.class, "app_user"));
+
+        assertTrue(service.isRevoked("u1", 3));
+        assertTrue(service.isRevoked("u1", 4));
+        verify(mongoTemplate, times(1)).findOne(any(Query.class), eq(AppUser.class));
+    }
+
+    @Test
+    void fullCacheIsClearedBeforeAddingNewUser() {
+        storedVersion("u1", 1);
+        service.isRevoked("u1", 1);
+        service.isRevoked("u2", 1);
+        service.isRevoked("u3", 1);
+
+        service.isRevoked("u1", 1);
+
+        verify(mongoTemplate, times(4)).findOne(any(Query.class), eq(AppUser.class));
+    }
+
+    @Test
+    void expiredEntryIsReloaded() {
+        service = new TokenRevocationServiceImpl(mongoTemplate, new TokenRevocationProperties(10, 0));
+        storedVersion("u1", 1);
+
+        service.isRevoked("u1", 1);
+        service.isRevoked("u1", 1);
+
+        verify(mongoTemplate, times(2)).findOne(any(Query.class), eq(AppUser.class));
+    }
+
+    private void storedVersion(String userId, long version) {
+        when(mongoTemplate.findOne(any(Query.class), eq(AppUser.class))).thenReturn(user(userId, version));
+    }
+
+    private static AppUser user(String id, long securityVersion) {
+        AppUser user = new AppUser();
+        user.setId(id);
+        user.setSecurityVersion(securityVersion);
+        return user;
+    }
+}
@@ -0,0 +1,75 @@
+package dev.berlinbruno.PodPirateBackendApplication.utils;
+
+import dev.berlinbruno.PodPirateBackendApplication.exception.InvalidResourceException;
+import dev.berlinbruno.PodPirateBackendApplication.types.AppMessage;
+import dev.berlinbruno.PodPirateBackendApplication.utils.CursorCodec.Cursor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorCodecTest {
+
+    @Test
+    void roundTripsSortValueAndId() {
+        Date publishedAt = new Date(1_700_000_000_123L);
+
+        Cursor cursor = CursorCodec.decode(CursorCodec.encode(publishedAt, "65a1f0c2e4b0a1b2c3d4e5f6"));
+
+        assertEquals(new Cursor(publishedAt, "65a1f0c2e4b0a1b2c3d4e5f6"), cursor);
+    }
+
+    @Test
+    void roundTripsMissingSortValue() {
+        Cursor cursor = CursorCodec.decode(CursorCodec.encode(null, "65a1f0c2e4b0a1b2c3d4e5f6"));
+
+        assertNull(cursor.sortValue());
+        assertEquals("65a1f0c2e4b0a1b2c3d4e5f6", cursor.id());
+    }
+
+    @Test
+    void roundTripsIdContainingSeparator() {
+        Cursor cursor = CursorCodec.decode(CursorCodec.encode(new Date(0), "a:b:\u00fc"));
+
+        assertEquals(new Date(0), cursor.sortValue());
+        assertEquals("a:b:\u00fc", cursor.id());
+    }
+
+    @Test
+    void encodesUrlSafeWithoutPadding() {
+        String cursor = CursorCodec.encode(new Date(1_700_000_000_123L), "??>>id");
+
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"), cursor);
+    }
+
+    @Test
+    void absentCursorStartsFromTheBeginning() {
+        assertNull(CursorCodec.decode(null));
+        assertNull(CursorCodec.decode(" "));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not a cursor!", "MTcwMDAwMDAwMDEyMzppZA+/", "%%%"})
+    void rejectsMalformedEncoding(String cursor) {
+        assertInvalid(cursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1700000000123", "1700000000123:", "abc:65a1f0c2", "17e3:65a1f0c2", "99999999999999999999:id"})
+    void rejectsMalformedContent(String raw) {
+        assertInvalid(Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void assertInvalid(String cursor) {
+        InvalidResourceException exception = assertThrows(InvalidResourceException.class,
+                () -> CursorCodec.decode(cursor));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getErrorResponse().getHttpStatus());
+        assertEquals(AppMessage.INVALID_CURSOR.getCode(), exception.getErrorResponse().getCode());
+    }
+}
@@ -0,0 +1,102 @@
+package dev.berlinbruno.PodPirateBackendApplication.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    // About three standard errors; the hash is deterministic, so the outcome is too
+    private static final double TOLERANCE = 0.05;
+
+    @Test
+    void emptySketchEstimatesZero() {
+        assertEquals(0, new HyperLogLog().estimate());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {100, 1_000, 10_000, 100_000, 1_000_000})
+    void estimateIsWithinToleranceOfCardinality(int cardinality) {
+        HyperLogLog sketch = sketchOf(0, cardinality);
+
+        double error = Math.abs(sketch.estimate() - cardinality) / (double) cardinality;
+        assertTrue(error <= TOLERANCE, "estimate " + sketch.estimate() + " for " + cardinality);
+    }
+
+    @Test
+    void repeatedValuesAreCountedOnce() {
+        HyperLogLog sketch = sketchOf(0, 1_000);
+        for (int i = 0; i < 1_000; i++) {
+            sketch.add(HyperLogLog.hash("listener-" + i));
+        }
+
+        assertArrayEquals(sketchOf(0, 1_000).toBytes(), sketch.toBytes());
+    }
+
+    @Test
+    void mergeEqualsSketchOfUnion() {
+        HyperLogLog first = sketchOf(0, 60_000);
+        HyperLogLog second = sketchOf(40_000, 100_000);
+
+        first.merge(second);
+
+        assertArrayEquals(sketchOf(0, 100_000).toBytes(), first.toBytes());
+        double error = Math.abs(first.estimate() - 100_000) / 100_000.0;
+        assertTrue(error <= TOLERANCE, "merged estimate " + first.estimate());
+    }
+
+    @Test
+    void mergeWithEmptySketchChangesNothing() {
+        HyperLogLog sketch = sketchOf(0, 500);
+
+        sketch.merge(new HyperLogLog());
+
+        assertArrayEquals(sketchOf(0, 500).toBytes(), sketch.toBytes());
+    }
+
+    @Test
+    void sparseSketchRoundTrips() {
+        HyperLogLog sketch = sketchOf(0, 50);
+
+        byte[] bytes = sketch.toBytes();
+
+        assertTrue(bytes.length < 1 + HyperLogLog.REGISTERS, "expected the sparse encoding");
+        HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+        assertArrayEquals(bytes, restored.toBytes());
+        assertEquals(sketch.estimate(), restored.estimate());
+    }
+
+    @Test
+    void denseSketchRoundTrips() {
+        HyperLogLog sketch = sketchOf(0, 100_000);
+
+        byte[] bytes = sketch.toBytes();
+
+        assertEquals(1 + HyperLogLog.REGISTERS, bytes.length);
+        HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+        assertArrayEquals(bytes, restored.toBytes());
+        assertEquals(sketch.estimate(), restored.estimate());
+    }
+
+    @Test
+    void missingBytesGiveEmptySketch() {
+        assertEquals(0, HyperLogLog.fromBytes(null).estimate());
+        assertEquals(0, HyperLogLog.fromBytes(new byte[0]).estimate());
+    }
+
+    @Test
+    void corruptBytesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[]{0, 1, 2}));
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[]{7}));
+    }
+
+    private static HyperLogLog sketchOf(int from, int to) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = from; i < to; i++) {
+            sketch.add(HyperLogLog.hash("listener-" + i));
+        }
+        return sketch;
+    }
+}
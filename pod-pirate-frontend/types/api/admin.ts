@@ -64,6 +64,7 @@ export interface AdminUserResponse {
   isEmailVerified: boolean;
   roles: string[];
   podcastCount: number;
+  totalEpisodeCount: number;
   createdDate: string;
   lastLoginDate: string;
 }